@@ -0,0 +1,16 @@
+package com.ecommerce.inventory.application.dto;
+
+import java.util.List;
+
+public class BatchReserveCommand {
+    private final String orderId;
+    private final List<ReserveCommand> lines;
+
+    public BatchReserveCommand(String orderId, List<ReserveCommand> lines) {
+        this.orderId = orderId;
+        this.lines = lines;
+    }
+
+    public String getOrderId() { return orderId; }
+    public List<ReserveCommand> getLines() { return lines; }
+}
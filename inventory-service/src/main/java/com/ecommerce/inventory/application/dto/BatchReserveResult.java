@@ -0,0 +1,47 @@
+package com.ecommerce.inventory.application.dto;
+
+import java.util.List;
+
+public class BatchReserveResult {
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String INSUFFICIENT_STOCK = "INSUFFICIENT_STOCK";
+    public static final String RELEASED = "RELEASED";
+
+    private final boolean reserved;
+    private final List<LineResult> lines;
+
+    public BatchReserveResult(boolean reserved, List<LineResult> lines) {
+        this.reserved = reserved;
+        this.lines = lines;
+    }
+
+    public boolean isReserved() { return reserved; }
+    public List<LineResult> getLines() { return lines; }
+
+    /**
+     * Outcome of a single order line. When the batch fails every line reports reserved=false;
+     * the reason is set only on the lines that caused the failure.
+     */
+    public static class LineResult {
+        private final String productId;
+        private final int quantity;
+        private final boolean reserved;
+        private final int remainingStock;
+        private final String reason;
+
+        public LineResult(String productId, int quantity, boolean reserved,
+                          int remainingStock, String reason) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.reserved = reserved;
+            this.remainingStock = remainingStock;
+            this.reason = reason;
+        }
+
+        public String getProductId() { return productId; }
+        public int getQuantity() { return quantity; }
+        public boolean isReserved() { return reserved; }
+        public int getRemainingStock() { return remainingStock; }
+        public String getReason() { return reason; }
+    }
+}
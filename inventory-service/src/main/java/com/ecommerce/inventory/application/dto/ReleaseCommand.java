@@ -1,14 +1,22 @@
 package com.ecommerce.inventory.application.dto;
 
 public class ReleaseCommand {
+    private final String orderId;
     private final String productId;
     private final int quantity;
 
     public ReleaseCommand(String productId, int quantity) {
+        this(null, productId, quantity);
+    }
+
+    /** The order ID is null for a release that is not tracked per order. */
+    public ReleaseCommand(String orderId, String productId, int quantity) {
+        this.orderId = orderId;
         this.productId = productId;
         this.quantity = quantity;
     }
 
+    public String getOrderId() { return orderId; }
     public String getProductId() { return productId; }
     public int getQuantity() { return quantity; }
 }
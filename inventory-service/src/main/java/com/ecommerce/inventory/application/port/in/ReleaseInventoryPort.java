@@ -8,9 +8,11 @@ import com.ecommerce.inventory.application.dto.ReleaseCommand;
 public interface ReleaseInventoryPort {
 
     /**
-     * Releases the reserved quantity back to available stock.
+     * Releases the reserved quantity back to available stock. With an order ID the release is
+     * idempotent and also refuses a reservation of the product for that order that lands later.
      *
-     * @param command the release command containing product ID and quantity
+     * @param command the release command containing the optional order ID, product ID and
+     *                quantity
      */
     void release(ReleaseCommand command);
 }
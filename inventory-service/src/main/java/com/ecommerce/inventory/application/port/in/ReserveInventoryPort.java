@@ -1,5 +1,7 @@
 package com.ecommerce.inventory.application.port.in;
 
+import com.ecommerce.inventory.application.dto.BatchReserveCommand;
+import com.ecommerce.inventory.application.dto.BatchReserveResult;
 import com.ecommerce.inventory.application.dto.ReserveCommand;
 import com.ecommerce.inventory.application.dto.ReserveResult;
 
@@ -9,10 +11,21 @@ import com.ecommerce.inventory.application.dto.ReserveResult;
 public interface ReserveInventoryPort {
 
     /**
-     * Reserves the requested quantity from available stock.
+     * Reserves the requested quantity from available stock. With an order ID, reserving a
+     * product the order already holds is a no-op.
      *
-     * @param command the reserve command containing product ID and quantity
+     * @param command the reserve command containing the optional order ID, product ID and
+     *                quantity
      * @return the result indicating success and remaining stock
      */
     ReserveResult reserve(ReserveCommand command);
+
+    /**
+     * Reserves every line of an order atomically: either all lines are reserved or none is.
+     * Products the order already holds count as reserved and are not deducted again.
+     *
+     * @param command the order ID and the lines to reserve
+     * @return the overall outcome plus a result per line, in request order
+     */
+    BatchReserveResult reserveAll(BatchReserveCommand command);
 }
@@ -3,26 +3,43 @@ package com.ecommerce.inventory.application.service;
 import com.ecommerce.inventory.application.dto.ReleaseCommand;
 import com.ecommerce.inventory.application.port.in.ReleaseInventoryPort;
 import com.ecommerce.inventory.domain.model.Inventory;
+import com.ecommerce.inventory.domain.model.Reservation;
 import com.ecommerce.inventory.domain.port.InventoryRepository;
+import com.ecommerce.inventory.domain.port.ReservationRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Use case for releasing previously reserved inventory back to available stock.
+ *
+ * <p>A release that carries an order ID gives back what the order holds of the product, whatever
+ * quantity it names, and only once. A release that arrives before the reservation is recorded,
+ * so the reservation is refused when it lands.
  */
 @Service
 public class ReleaseInventoryUseCase implements ReleaseInventoryPort {
 
     private final InventoryRepository inventoryRepository;
+    private final ReservationRepository reservationRepository;
 
-    public ReleaseInventoryUseCase(InventoryRepository inventoryRepository) {
+    public ReleaseInventoryUseCase(InventoryRepository inventoryRepository,
+                                   ReservationRepository reservationRepository) {
         this.inventoryRepository = inventoryRepository;
+        this.reservationRepository = reservationRepository;
     }
 
     /** {@inheritDoc} */
     @Override
     @Transactional
     public void release(ReleaseCommand command) {
+        if (command.getOrderId() != null) {
+            releaseForOrder(command.getOrderId(), command.getProductId());
+            return;
+        }
         Inventory inventory = inventoryRepository.findByProductId(command.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Inventory not found for product: " + command.getProductId()));
@@ -30,4 +47,25 @@ public class ReleaseInventoryUseCase implements ReleaseInventoryPort {
         inventory.release(command.getQuantity());
         inventoryRepository.save(inventory);
     }
+
+    private void releaseForOrder(String orderId, String productId) {
+        List<Inventory> locked = inventoryRepository.lockByProductIds(
+                Collections.singleton(productId));
+        if (locked.isEmpty()) {
+            throw new IllegalArgumentException("Inventory not found for product: " + productId);
+        }
+        Optional<Reservation> existing = reservationRepository.find(orderId, productId);
+        if (!existing.isPresent()) {
+            reservationRepository.save(Reservation.releasedBeforeReserve(orderId, productId));
+            return;
+        }
+        Reservation reservation = existing.get();
+        if (reservation.isReserved()) {
+            Inventory inventory = locked.get(0);
+            inventory.release(reservation.getQuantity());
+            inventoryRepository.save(inventory);
+            reservation.release();
+            reservationRepository.save(reservation);
+        }
+    }
 }
@@ -1,29 +1,54 @@
 package com.ecommerce.inventory.application.service;
 
+import com.ecommerce.inventory.application.dto.BatchReserveCommand;
+import com.ecommerce.inventory.application.dto.BatchReserveResult;
 import com.ecommerce.inventory.application.dto.ReserveCommand;
 import com.ecommerce.inventory.application.dto.ReserveResult;
 import com.ecommerce.inventory.application.port.in.ReserveInventoryPort;
 import com.ecommerce.inventory.domain.model.Inventory;
+import com.ecommerce.inventory.domain.model.Reservation;
+import com.ecommerce.inventory.domain.model.ReservationReleasedException;
 import com.ecommerce.inventory.domain.port.InventoryRepository;
+import com.ecommerce.inventory.domain.port.ReservationRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
 /**
  * Use case for reserving inventory. Deducts available stock and increases reserved stock.
+ * Multi-line reservations lock all affected rows up front and only write once every line fits,
+ * so an order never holds a partial reservation.
+ *
+ * <p>A reservation that carries an order ID is recorded per order and product while the product
+ * row is locked. Reserving a product the order already holds returns success without deducting
+ * stock again, so an order service replaying its reservations after a crash holds nothing twice.
  */
 @Service
 public class ReserveInventoryUseCase implements ReserveInventoryPort {
 
     private final InventoryRepository inventoryRepository;
+    private final ReservationRepository reservationRepository;
 
-    public ReserveInventoryUseCase(InventoryRepository inventoryRepository) {
+    public ReserveInventoryUseCase(InventoryRepository inventoryRepository,
+                                   ReservationRepository reservationRepository) {
         this.inventoryRepository = inventoryRepository;
+        this.reservationRepository = reservationRepository;
     }
 
     /** {@inheritDoc} */
     @Override
     @Transactional
     public ReserveResult reserve(ReserveCommand command) {
+        if (command.getOrderId() != null) {
+            return reserveForOrder(command);
+        }
         Inventory inventory = inventoryRepository.findByProductId(command.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Inventory not found for product: " + command.getProductId()));
@@ -33,4 +58,135 @@ public class ReserveInventoryUseCase implements ReserveInventoryPort {
 
         return new ReserveResult(true, saved.getAvailableStock());
     }
+
+    /** {@inheritDoc} */
+    @Override
+    @Transactional
+    public BatchReserveResult reserveAll(BatchReserveCommand command) {
+        List<ReserveCommand> lines = command.getLines();
+        Map<String, Inventory> locked = lockInventories(lines);
+        Map<String, Integer> demand = totalDemand(lines);
+        Map<String, Reservation> existing = findReservations(command.getOrderId(), demand);
+        Map<String, String> reasons = failureReasons(demand, locked, existing);
+        boolean reserved = reasons.isEmpty();
+        if (reserved) {
+            reserveMissing(command.getOrderId(), demand, locked, existing);
+        }
+        return new BatchReserveResult(reserved, toLineResults(lines, locked, reasons, reserved));
+    }
+
+    private ReserveResult reserveForOrder(ReserveCommand command) {
+        Inventory inventory = lockInventory(command.getProductId());
+        Optional<Reservation> existing =
+                reservationRepository.find(command.getOrderId(), command.getProductId());
+        if (existing.isPresent() && existing.get().isReserved()) {
+            return new ReserveResult(true, inventory.getAvailableStock());
+        }
+        if (existing.isPresent()) {
+            throw new ReservationReleasedException(command.getOrderId(), command.getProductId());
+        }
+        inventory.reserve(command.getQuantity());
+        Inventory saved = inventoryRepository.save(inventory);
+        reservationRepository.save(Reservation.reserved(
+                command.getOrderId(), command.getProductId(), command.getQuantity()));
+        return new ReserveResult(true, saved.getAvailableStock());
+    }
+
+    private Inventory lockInventory(String productId) {
+        List<Inventory> locked = inventoryRepository.lockByProductIds(
+                Collections.singleton(productId));
+        if (locked.isEmpty()) {
+            throw new IllegalArgumentException("Inventory not found for product: " + productId);
+        }
+        return locked.get(0);
+    }
+
+    /** Locks every product of the batch in ascending product ID order before touching stock. */
+    private Map<String, Inventory> lockInventories(List<ReserveCommand> lines) {
+        TreeSet<String> productIds = new TreeSet<>();
+        for (ReserveCommand line : lines) {
+            productIds.add(line.getProductId());
+        }
+        Map<String, Inventory> locked = new HashMap<>();
+        for (Inventory inventory : inventoryRepository.lockByProductIds(productIds)) {
+            locked.put(inventory.getProductId(), inventory);
+        }
+        return locked;
+    }
+
+    /** Sums quantities per product, so repeated lines of one product are checked together. */
+    private Map<String, Integer> totalDemand(List<ReserveCommand> lines) {
+        Map<String, Integer> demand = new HashMap<>();
+        for (ReserveCommand line : lines) {
+            demand.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+        }
+        return demand;
+    }
+
+    /** Returns the order's existing reservations among the demanded products. */
+    private Map<String, Reservation> findReservations(String orderId, Map<String, Integer> demand) {
+        Map<String, Reservation> existing = new HashMap<>();
+        if (orderId == null) {
+            return existing;
+        }
+        for (String productId : demand.keySet()) {
+            reservationRepository.find(orderId, productId)
+                    .ifPresent(reservation -> existing.put(productId, reservation));
+        }
+        return existing;
+    }
+
+    /** Returns why each product cannot be reserved; a product the order holds already fits. */
+    private Map<String, String> failureReasons(Map<String, Integer> demand,
+                                               Map<String, Inventory> locked,
+                                               Map<String, Reservation> existing) {
+        Map<String, String> reasons = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : demand.entrySet()) {
+            Reservation reservation = existing.get(entry.getKey());
+            String reason = reservation == null
+                    ? failureReason(locked.get(entry.getKey()), entry.getValue())
+                    : reservation.isReserved() ? null : BatchReserveResult.RELEASED;
+            if (reason != null) {
+                reasons.put(entry.getKey(), reason);
+            }
+        }
+        return reasons;
+    }
+
+    private void reserveMissing(String orderId, Map<String, Integer> demand,
+                                Map<String, Inventory> locked, Map<String, Reservation> existing) {
+        for (Map.Entry<String, Integer> entry : demand.entrySet()) {
+            if (existing.containsKey(entry.getKey())) {
+                continue;
+            }
+            Inventory inventory = locked.get(entry.getKey());
+            inventory.reserve(entry.getValue());
+            inventoryRepository.save(inventory);
+            if (orderId != null) {
+                reservationRepository.save(
+                        Reservation.reserved(orderId, entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    private List<BatchReserveResult.LineResult> toLineResults(List<ReserveCommand> lines,
+                                                            Map<String, Inventory> locked,
+                                                            Map<String, String> reasons,
+                                                            boolean reserved) {
+        List<BatchReserveResult.LineResult> results = new ArrayList<>(lines.size());
+        for (ReserveCommand line : lines) {
+            Inventory inventory = locked.get(line.getProductId());
+            results.add(new BatchReserveResult.LineResult(line.getProductId(), line.getQuantity(),
+                    reserved, inventory == null ? 0 : inventory.getAvailableStock(),
+                    reasons.get(line.getProductId())));
+        }
+        return results;
+    }
+
+    private String failureReason(Inventory inventory, int quantity) {
+        if (inventory == null) {
+            return BatchReserveResult.NOT_FOUND;
+        }
+        return inventory.getAvailableStock() < quantity ? BatchReserveResult.INSUFFICIENT_STOCK : null;
+    }
 }
@@ -0,0 +1,64 @@
+package com.ecommerce.inventory.domain.model;
+
+/**
+ * Stock of one product held for one order. Reserving a product the order already holds is a
+ * no-op, so a replayed reservation does not hold the stock twice. A release that arrives before
+ * the reservation leaves a RELEASED record with no quantity, so the late reservation is refused
+ * instead of holding stock that nobody releases any more.
+ */
+public class Reservation {
+    private Long id;
+    private String orderId;
+    private String productId;
+    private int quantity;
+    private ReservationStatus status;
+
+    private Reservation() {}
+
+    /** Creates the reservation of stock that was just deducted for the order. */
+    public static Reservation reserved(String orderId, String productId, int quantity) {
+        return create(orderId, productId, quantity, ReservationStatus.RESERVED);
+    }
+
+    /** Creates the record of a release that arrived before any reservation. */
+    public static Reservation releasedBeforeReserve(String orderId, String productId) {
+        return create(orderId, productId, 0, ReservationStatus.RELEASED);
+    }
+
+    private static Reservation create(String orderId, String productId, int quantity,
+                                      ReservationStatus status) {
+        if (orderId == null || orderId.isEmpty()) {
+            throw new IllegalArgumentException("Order ID cannot be null or empty");
+        }
+        Reservation reservation = new Reservation();
+        reservation.orderId = orderId;
+        reservation.productId = productId;
+        reservation.quantity = quantity;
+        reservation.status = status;
+        return reservation;
+    }
+
+    /** Transitions a held reservation to RELEASED. */
+    public void release() {
+        if (status != ReservationStatus.RESERVED) {
+            throw new IllegalStateException("Cannot release reservation in status: " + status);
+        }
+        this.status = ReservationStatus.RELEASED;
+    }
+
+    /** Reconstitutes a reservation from persisted state. */
+    public static Reservation reconstitute(Long id, String orderId, String productId, int quantity,
+                                           ReservationStatus status) {
+        Reservation reservation = create(orderId, productId, quantity, status);
+        reservation.id = id;
+        return reservation;
+    }
+
+    public boolean isReserved() { return status == ReservationStatus.RESERVED; }
+
+    public Long getId() { return id; }
+    public String getOrderId() { return orderId; }
+    public String getProductId() { return productId; }
+    public int getQuantity() { return quantity; }
+    public ReservationStatus getStatus() { return status; }
+}
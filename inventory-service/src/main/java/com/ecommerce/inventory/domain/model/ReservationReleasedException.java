@@ -0,0 +1,19 @@
+package com.ecommerce.inventory.domain.model;
+
+/**
+ * Domain exception thrown when an order reserves a product whose reservation it already released.
+ */
+public class ReservationReleasedException extends RuntimeException {
+    private final String orderId;
+    private final String productId;
+
+    public ReservationReleasedException(String orderId, String productId) {
+        super(String.format("Reservation of product %s for order %s was already released",
+                productId, orderId));
+        this.orderId = orderId;
+        this.productId = productId;
+    }
+
+    public String getOrderId() { return orderId; }
+    public String getProductId() { return productId; }
+}
@@ -0,0 +1,9 @@
+package com.ecommerce.inventory.domain.model;
+
+/**
+ * State of an order's reservation of a product: RESERVED while the stock is held, RELEASED once
+ * it was given back or released before it was ever reserved.
+ */
+public enum ReservationStatus {
+    RESERVED, RELEASED
+}
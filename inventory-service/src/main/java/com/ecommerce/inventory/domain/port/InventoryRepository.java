@@ -1,6 +1,9 @@
 package com.ecommerce.inventory.domain.port;
 
 import com.ecommerce.inventory.domain.model.Inventory;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,4 +16,11 @@ public interface InventoryRepository {
 
     /** Saves an inventory entity and returns the persisted instance. */
     Inventory save(Inventory inventory);
+
+    /**
+     * Loads and write-locks the inventory rows of the given products until the surrounding
+     * transaction ends. Rows are locked in ascending product ID order, so concurrent callers
+     * locking overlapping products cannot deadlock.
+     */
+    List<Inventory> lockByProductIds(Collection<String> productIds);
 }
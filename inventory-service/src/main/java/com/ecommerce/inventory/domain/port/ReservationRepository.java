@@ -0,0 +1,17 @@
+package com.ecommerce.inventory.domain.port;
+
+import com.ecommerce.inventory.domain.model.Reservation;
+
+import java.util.Optional;
+
+/**
+ * Domain port for persisting and retrieving the reservations of orders.
+ */
+public interface ReservationRepository {
+
+    /** Finds the reservation of a product for an order. */
+    Optional<Reservation> find(String orderId, String productId);
+
+    /** Saves a reservation and returns the persisted instance. */
+    Reservation save(Reservation reservation);
+}
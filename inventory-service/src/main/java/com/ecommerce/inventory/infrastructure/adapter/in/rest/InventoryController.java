@@ -1,15 +1,20 @@
 package com.ecommerce.inventory.infrastructure.adapter.in.rest;
 
+import com.ecommerce.inventory.application.dto.BatchReserveResult;
 import com.ecommerce.inventory.application.dto.ReleaseCommand;
 import com.ecommerce.inventory.application.dto.ReserveCommand;
 import com.ecommerce.inventory.application.dto.ReserveResult;
 import com.ecommerce.inventory.application.port.in.ReleaseInventoryPort;
 import com.ecommerce.inventory.application.port.in.ReserveInventoryPort;
 import com.ecommerce.inventory.domain.model.InsufficientStockException;
+import com.ecommerce.inventory.domain.model.ReservationReleasedException;
+import com.ecommerce.inventory.infrastructure.dto.BatchReserveRequest;
+import com.ecommerce.inventory.infrastructure.dto.BatchReserveResponse;
 import com.ecommerce.inventory.infrastructure.dto.ReleaseRequest;
 import com.ecommerce.inventory.infrastructure.dto.ReleaseResponse;
 import com.ecommerce.inventory.infrastructure.dto.ReserveRequest;
 import com.ecommerce.inventory.infrastructure.dto.ReserveResponse;
+import com.ecommerce.inventory.infrastructure.mapper.InventoryInfraMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,23 +34,43 @@ public class InventoryController {
         this.releaseInventoryPort = releaseInventoryPort;
     }
 
-    /** Reserves inventory stock. Returns 409 if stock is insufficient. */
+    /**
+     * Reserves inventory stock. Returns 409 if stock is insufficient, or if the order named in
+     * the request already released this product.
+     */
     @PostMapping("/reserve")
     public ResponseEntity<?> reserve(@RequestBody ReserveRequest request) {
         try {
-            ReserveResult result = reserveInventoryPort.reserve(
-                    new ReserveCommand(request.getProductId(), request.getQuantity()));
+            ReserveResult result = reserveInventoryPort.reserve(new ReserveCommand(
+                    request.getOrderId(), request.getProductId(), request.getQuantity()));
             return ResponseEntity.ok(new ReserveResponse(result.isReserved(), result.getRemainingStock()));
-        } catch (InsufficientStockException e) {
+        } catch (InsufficientStockException | ReservationReleasedException e) {
             return ResponseEntity.status(409).body(e.getMessage());
         }
     }
 
-    /** Releases previously reserved inventory back to available stock. */
+    /**
+     * Reserves all lines of an order in one transaction. Returns 409 with the per-line results
+     * if any line cannot be reserved; in that case no stock is reserved at all.
+     */
+    @PostMapping("/reserve/batch")
+    public ResponseEntity<BatchReserveResponse> reserveBatch(@RequestBody BatchReserveRequest request) {
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        BatchReserveResult result = reserveInventoryPort.reserveAll(InventoryInfraMapper.toCommand(request));
+        BatchReserveResponse body = InventoryInfraMapper.toResponse(result);
+        return result.isReserved() ? ResponseEntity.ok(body) : ResponseEntity.status(409).body(body);
+    }
+
+    /**
+     * Releases previously reserved inventory back to available stock. With an order ID, repeating
+     * the call releases nothing more.
+     */
     @PostMapping("/release")
     public ResponseEntity<ReleaseResponse> release(@RequestBody ReleaseRequest request) {
-        releaseInventoryPort.release(
-                new ReleaseCommand(request.getProductId(), request.getQuantity()));
+        releaseInventoryPort.release(new ReleaseCommand(
+                request.getOrderId(), request.getProductId(), request.getQuantity()));
         return ResponseEntity.ok(new ReleaseResponse(true));
     }
 }
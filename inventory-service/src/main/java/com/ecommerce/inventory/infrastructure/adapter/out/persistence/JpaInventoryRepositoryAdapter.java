@@ -4,7 +4,10 @@ import com.ecommerce.inventory.domain.model.Inventory;
 import com.ecommerce.inventory.domain.port.InventoryRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class JpaInventoryRepositoryAdapter implements InventoryRepository {
@@ -27,6 +30,13 @@ public class JpaInventoryRepositoryAdapter implements InventoryRepository {
         return toDomain(saved);
     }
 
+    @Override
+    public List<Inventory> lockByProductIds(Collection<String> productIds) {
+        return springDataRepo.findByProductIdInOrderByProductIdAsc(productIds).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
     private InventoryJpaEntity toEntity(Inventory inv) {
         InventoryJpaEntity entity = new InventoryJpaEntity();
         entity.setId(inv.getId());
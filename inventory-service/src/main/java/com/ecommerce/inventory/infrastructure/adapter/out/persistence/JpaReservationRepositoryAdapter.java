@@ -0,0 +1,49 @@
+package com.ecommerce.inventory.infrastructure.adapter.out.persistence;
+
+import com.ecommerce.inventory.domain.model.Reservation;
+import com.ecommerce.inventory.domain.model.ReservationStatus;
+import com.ecommerce.inventory.domain.port.ReservationRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class JpaReservationRepositoryAdapter implements ReservationRepository {
+
+    private final SpringDataReservationRepository springDataRepo;
+
+    public JpaReservationRepositoryAdapter(SpringDataReservationRepository springDataRepo) {
+        this.springDataRepo = springDataRepo;
+    }
+
+    @Override
+    public Optional<Reservation> find(String orderId, String productId) {
+        return springDataRepo.findByOrderIdAndProductId(orderId, productId).map(this::toDomain);
+    }
+
+    @Override
+    public Reservation save(Reservation reservation) {
+        ReservationJpaEntity saved = springDataRepo.save(toEntity(reservation));
+        return toDomain(saved);
+    }
+
+    private ReservationJpaEntity toEntity(Reservation reservation) {
+        ReservationJpaEntity entity = new ReservationJpaEntity();
+        entity.setId(reservation.getId());
+        entity.setOrderId(reservation.getOrderId());
+        entity.setProductId(reservation.getProductId());
+        entity.setQuantity(reservation.getQuantity());
+        entity.setStatus(reservation.getStatus().name());
+        return entity;
+    }
+
+    private Reservation toDomain(ReservationJpaEntity entity) {
+        return Reservation.reconstitute(
+                entity.getId(),
+                entity.getOrderId(),
+                entity.getProductId(),
+                entity.getQuantity(),
+                ReservationStatus.valueOf(entity.getStatus())
+        );
+    }
+}
@@ -1,8 +1,16 @@
 package com.ecommerce.inventory.infrastructure.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataInventoryRepository extends JpaRepository<InventoryJpaEntity, Long> {
     Optional<InventoryJpaEntity> findByProductId(String productId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<InventoryJpaEntity> findByProductIdInOrderByProductIdAsc(Collection<String> productIds);
 }
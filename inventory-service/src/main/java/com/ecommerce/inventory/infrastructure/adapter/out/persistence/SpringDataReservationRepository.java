@@ -0,0 +1,9 @@
+package com.ecommerce.inventory.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SpringDataReservationRepository extends JpaRepository<ReservationJpaEntity, Long> {
+    Optional<ReservationJpaEntity> findByOrderIdAndProductId(String orderId, String productId);
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.inventory.infrastructure.dto;
+
+import java.util.List;
+
+public class BatchReserveRequest {
+    private String orderId;
+    private List<ReserveRequest> items;
+
+    public BatchReserveRequest() {}
+    public String getOrderId() { return orderId; }
+    public void setOrderId(String orderId) { this.orderId = orderId; }
+    public List<ReserveRequest> getItems() { return items; }
+    public void setItems(List<ReserveRequest> items) { this.items = items; }
+}
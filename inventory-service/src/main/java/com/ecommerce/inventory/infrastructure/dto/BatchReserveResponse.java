@@ -0,0 +1,18 @@
+package com.ecommerce.inventory.infrastructure.dto;
+
+import java.util.List;
+
+public class BatchReserveResponse {
+    private boolean reserved;
+    private List<ReserveLineResponse> lines;
+
+    public BatchReserveResponse() {}
+    public BatchReserveResponse(boolean reserved, List<ReserveLineResponse> lines) {
+        this.reserved = reserved;
+        this.lines = lines;
+    }
+    public boolean isReserved() { return reserved; }
+    public void setReserved(boolean reserved) { this.reserved = reserved; }
+    public List<ReserveLineResponse> getLines() { return lines; }
+    public void setLines(List<ReserveLineResponse> lines) { this.lines = lines; }
+}
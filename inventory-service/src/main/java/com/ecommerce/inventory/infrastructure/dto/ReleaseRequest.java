@@ -1,10 +1,13 @@
 package com.ecommerce.inventory.infrastructure.dto;
 
 public class ReleaseRequest {
+    private String orderId;
     private String productId;
     private int quantity;
 
     public ReleaseRequest() {}
+    public String getOrderId() { return orderId; }
+    public void setOrderId(String orderId) { this.orderId = orderId; }
     public String getProductId() { return productId; }
     public void setProductId(String productId) { this.productId = productId; }
     public int getQuantity() { return quantity; }
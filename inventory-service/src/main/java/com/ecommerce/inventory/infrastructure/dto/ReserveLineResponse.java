@@ -0,0 +1,29 @@
+package com.ecommerce.inventory.infrastructure.dto;
+
+public class ReserveLineResponse {
+    private String productId;
+    private int quantity;
+    private boolean reserved;
+    private int remainingStock;
+    private String reason;
+
+    public ReserveLineResponse() {}
+    public ReserveLineResponse(String productId, int quantity, boolean reserved,
+                               int remainingStock, String reason) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.reserved = reserved;
+        this.remainingStock = remainingStock;
+        this.reason = reason;
+    }
+    public String getProductId() { return productId; }
+    public void setProductId(String productId) { this.productId = productId; }
+    public int getQuantity() { return quantity; }
+    public void setQuantity(int quantity) { this.quantity = quantity; }
+    public boolean isReserved() { return reserved; }
+    public void setReserved(boolean reserved) { this.reserved = reserved; }
+    public int getRemainingStock() { return remainingStock; }
+    public void setRemainingStock(int remainingStock) { this.remainingStock = remainingStock; }
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+}
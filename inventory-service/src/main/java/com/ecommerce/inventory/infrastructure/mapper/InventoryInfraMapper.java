@@ -1,10 +1,33 @@
 package com.ecommerce.inventory.infrastructure.mapper;
 
+import com.ecommerce.inventory.application.dto.BatchReserveCommand;
+import com.ecommerce.inventory.application.dto.BatchReserveResult;
 import com.ecommerce.inventory.application.dto.ReserveCommand;
+import com.ecommerce.inventory.infrastructure.dto.BatchReserveRequest;
+import com.ecommerce.inventory.infrastructure.dto.BatchReserveResponse;
+import com.ecommerce.inventory.infrastructure.dto.ReserveLineResponse;
 import com.ecommerce.inventory.infrastructure.dto.ReserveRequest;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class InventoryInfraMapper {
     public static ReserveCommand toCommand(ReserveRequest request) {
         return new ReserveCommand(request.getProductId(), request.getQuantity());
     }
+
+    public static BatchReserveCommand toCommand(BatchReserveRequest request) {
+        List<ReserveCommand> lines = request.getItems().stream()
+                .map(InventoryInfraMapper::toCommand)
+                .collect(Collectors.toList());
+        return new BatchReserveCommand(request.getOrderId(), lines);
+    }
+
+    public static BatchReserveResponse toResponse(BatchReserveResult result) {
+        List<ReserveLineResponse> lines = result.getLines().stream()
+                .map(line -> new ReserveLineResponse(line.getProductId(), line.getQuantity(),
+                        line.isReserved(), line.getRemainingStock(), line.getReason()))
+                .collect(Collectors.toList());
+        return new BatchReserveResponse(result.isReserved(), lines);
+    }
 }
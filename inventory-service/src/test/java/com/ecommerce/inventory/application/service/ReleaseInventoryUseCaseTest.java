@@ -0,0 +1,67 @@
+package com.ecommerce.inventory.application.service;
+
+import com.ecommerce.inventory.application.dto.ReleaseCommand;
+import com.ecommerce.inventory.application.port.in.ReleaseInventoryPort;
+import com.ecommerce.inventory.domain.model.Inventory;
+import com.ecommerce.inventory.domain.model.Reservation;
+import com.ecommerce.inventory.domain.model.ReservationStatus;
+import com.ecommerce.inventory.domain.port.InventoryRepository;
+import com.ecommerce.inventory.domain.port.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReleaseInventoryUseCaseTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private ReleaseInventoryPort releaseInventoryPort;
+
+    @BeforeEach
+    void setUp() {
+        releaseInventoryPort = new ReleaseInventoryUseCase(inventoryRepository,
+                reservationRepository);
+    }
+
+    @Test
+    void should_release_what_order_holds_once() {
+        Inventory inventory = new Inventory(1L, "P001", 45, 5);
+        Reservation reservation = Reservation.reserved("ORD-1", "P001", 5);
+        when(inventoryRepository.lockByProductIds(Collections.singleton("P001")))
+                .thenReturn(Collections.singletonList(inventory));
+        when(reservationRepository.find("ORD-1", "P001")).thenReturn(Optional.of(reservation));
+
+        releaseInventoryPort.release(new ReleaseCommand("ORD-1", "P001", 5));
+        releaseInventoryPort.release(new ReleaseCommand("ORD-1", "P001", 5));
+
+        assertEquals(50, inventory.getAvailableStock());
+        assertEquals(ReservationStatus.RELEASED, reservation.getStatus());
+        verify(inventoryRepository, times(1)).save(inventory);
+    }
+
+    @Test
+    void should_record_release_when_order_holds_nothing_yet() {
+        when(inventoryRepository.lockByProductIds(Collections.singleton("P001")))
+                .thenReturn(Collections.singletonList(new Inventory(1L, "P001", 50, 0)));
+        when(reservationRepository.find("ORD-1", "P001")).thenReturn(Optional.empty());
+
+        releaseInventoryPort.release(new ReleaseCommand("ORD-1", "P001", 5));
+
+        verify(reservationRepository).save(argThat(r -> r.getOrderId().equals("ORD-1")
+                && r.getStatus() == ReservationStatus.RELEASED && r.getQuantity() == 0));
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+    }
+}
@@ -1,17 +1,26 @@
 package com.ecommerce.inventory.application.service;
 
+import com.ecommerce.inventory.application.dto.BatchReserveCommand;
+import com.ecommerce.inventory.application.dto.BatchReserveResult;
 import com.ecommerce.inventory.application.dto.ReserveCommand;
 import com.ecommerce.inventory.application.dto.ReserveResult;
 import com.ecommerce.inventory.application.port.in.ReserveInventoryPort;
 import com.ecommerce.inventory.domain.model.Inventory;
 import com.ecommerce.inventory.domain.model.InsufficientStockException;
+import com.ecommerce.inventory.domain.model.Reservation;
+import com.ecommerce.inventory.domain.model.ReservationReleasedException;
 import com.ecommerce.inventory.domain.port.InventoryRepository;
+import com.ecommerce.inventory.domain.port.ReservationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,11 +32,15 @@ public class ReserveInventoryUseCaseTest {
     @Mock
     private InventoryRepository inventoryRepository;
 
+    @Mock
+    private ReservationRepository reservationRepository;
+
     private ReserveInventoryPort reserveInventoryPort;
 
     @BeforeEach
     void setUp() {
-        reserveInventoryPort = new ReserveInventoryUseCase(inventoryRepository);
+        reserveInventoryPort = new ReserveInventoryUseCase(inventoryRepository,
+                reservationRepository);
     }
 
     @Test
@@ -59,4 +72,134 @@ public class ReserveInventoryUseCaseTest {
         assertThrows(IllegalArgumentException.class,
             () -> reserveInventoryPort.reserve(new ReserveCommand("P999", 1)));
     }
+
+    @Test
+    void should_reserve_all_lines_when_every_line_fits() {
+        when(inventoryRepository.lockByProductIds(anyCollection())).thenReturn(Arrays.asList(
+                new Inventory(1L, "P001", 50, 0), new Inventory(2L, "P002", 10, 0)));
+
+        BatchReserveResult result = reserveInventoryPort.reserveAll(new BatchReserveCommand("ORD-1",
+                Arrays.asList(new ReserveCommand("P002", 3), new ReserveCommand("P001", 2))));
+
+        assertTrue(result.isReserved());
+        assertEquals("P002", result.getLines().get(0).getProductId());
+        assertEquals(7, result.getLines().get(0).getRemainingStock());
+        assertEquals(48, result.getLines().get(1).getRemainingStock());
+        verify(inventoryRepository, times(2)).save(any(Inventory.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_lock_products_in_ascending_order() {
+        when(inventoryRepository.lockByProductIds(anyCollection())).thenAnswer(invocation -> {
+            assertEquals(Arrays.asList("P001", "P002", "P003"),
+                    new ArrayList<>((Collection<String>) invocation.getArgument(0)));
+            return Arrays.asList(new Inventory(1L, "P001", 5, 0),
+                    new Inventory(2L, "P002", 5, 0), new Inventory(3L, "P003", 5, 0));
+        });
+
+        reserveInventoryPort.reserveAll(new BatchReserveCommand("ORD-1", Arrays.asList(
+                new ReserveCommand("P003", 1), new ReserveCommand("P001", 1),
+                new ReserveCommand("P002", 1))));
+
+        verify(inventoryRepository).lockByProductIds(anyCollection());
+    }
+
+    @Test
+    void should_reserve_nothing_when_any_line_is_short() {
+        Inventory p001 = new Inventory(1L, "P001", 50, 0);
+        when(inventoryRepository.lockByProductIds(anyCollection())).thenReturn(Arrays.asList(
+                p001, new Inventory(2L, "P002", 4, 0)));
+
+        BatchReserveResult result = reserveInventoryPort.reserveAll(new BatchReserveCommand("ORD-1",
+                Arrays.asList(new ReserveCommand("P001", 2), new ReserveCommand("P002", 3),
+                        new ReserveCommand("P002", 2), new ReserveCommand("P999", 1))));
+
+        assertFalse(result.isReserved());
+        assertNull(result.getLines().get(0).getReason());
+        assertEquals(BatchReserveResult.INSUFFICIENT_STOCK, result.getLines().get(1).getReason());
+        assertEquals(BatchReserveResult.INSUFFICIENT_STOCK, result.getLines().get(2).getReason());
+        assertEquals(BatchReserveResult.NOT_FOUND, result.getLines().get(3).getReason());
+        assertEquals(50, p001.getAvailableStock());
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+    }
+
+    @Test
+    void should_record_reservation_when_order_id_given() {
+        when(inventoryRepository.lockByProductIds(Collections.singleton("P001")))
+                .thenReturn(Collections.singletonList(new Inventory(1L, "P001", 50, 0)));
+        when(inventoryRepository.save(any(Inventory.class))).thenAnswer(i -> i.getArgument(0));
+
+        ReserveResult result = reserveInventoryPort.reserve(
+                new ReserveCommand("ORD-1", "P001", 2));
+
+        assertEquals(48, result.getRemainingStock());
+        verify(reservationRepository).save(argThat(r -> r.getOrderId().equals("ORD-1")
+                && r.getProductId().equals("P001") && r.getQuantity() == 2 && r.isReserved()));
+    }
+
+    @Test
+    void should_not_deduct_again_when_order_already_holds_product() {
+        when(inventoryRepository.lockByProductIds(Collections.singleton("P001")))
+                .thenReturn(Collections.singletonList(new Inventory(1L, "P001", 48, 2)));
+        when(reservationRepository.find("ORD-1", "P001"))
+                .thenReturn(Optional.of(Reservation.reserved("ORD-1", "P001", 2)));
+
+        ReserveResult result = reserveInventoryPort.reserve(
+                new ReserveCommand("ORD-1", "P001", 2));
+
+        assertTrue(result.isReserved());
+        assertEquals(48, result.getRemainingStock());
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
+    @Test
+    void should_refuse_reservation_when_order_already_released_product() {
+        when(inventoryRepository.lockByProductIds(Collections.singleton("P001")))
+                .thenReturn(Collections.singletonList(new Inventory(1L, "P001", 50, 0)));
+        when(reservationRepository.find("ORD-1", "P001"))
+                .thenReturn(Optional.of(Reservation.releasedBeforeReserve("ORD-1", "P001")));
+
+        assertThrows(ReservationReleasedException.class,
+            () -> reserveInventoryPort.reserve(new ReserveCommand("ORD-1", "P001", 2)));
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+    }
+
+    @Test
+    void should_reserve_only_products_order_does_not_hold_yet_in_batch() {
+        Inventory p001 = new Inventory(1L, "P001", 48, 2);
+        Inventory p002 = new Inventory(2L, "P002", 10, 0);
+        when(inventoryRepository.lockByProductIds(anyCollection()))
+                .thenReturn(Arrays.asList(p001, p002));
+        Reservation held = Reservation.reserved("ORD-1", "P001", 2);
+        when(reservationRepository.find(eq("ORD-1"), anyString())).thenAnswer(invocation ->
+                "P001".equals(invocation.getArgument(1)) ? Optional.of(held) : Optional.empty());
+
+        BatchReserveResult result = reserveInventoryPort.reserveAll(new BatchReserveCommand("ORD-1",
+                Arrays.asList(new ReserveCommand("P001", 2), new ReserveCommand("P002", 3))));
+
+        assertTrue(result.isReserved());
+        assertEquals(48, p001.getAvailableStock());
+        assertEquals(7, p002.getAvailableStock());
+        verify(inventoryRepository, times(1)).save(any(Inventory.class));
+        verify(reservationRepository, times(1)).save(any(Reservation.class));
+    }
+
+    @Test
+    void should_reject_batch_when_order_already_released_a_product() {
+        when(inventoryRepository.lockByProductIds(anyCollection())).thenReturn(Arrays.asList(
+                new Inventory(1L, "P001", 50, 0), new Inventory(2L, "P002", 10, 0)));
+        Reservation released = Reservation.releasedBeforeReserve("ORD-1", "P002");
+        when(reservationRepository.find(eq("ORD-1"), anyString())).thenAnswer(invocation ->
+                "P002".equals(invocation.getArgument(1))
+                        ? Optional.of(released) : Optional.empty());
+
+        BatchReserveResult result = reserveInventoryPort.reserveAll(new BatchReserveCommand("ORD-1",
+                Arrays.asList(new ReserveCommand("P001", 2), new ReserveCommand("P002", 3))));
+
+        assertFalse(result.isReserved());
+        assertEquals(BatchReserveResult.RELEASED, result.getLines().get(1).getReason());
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+    }
 }
@@ -15,6 +15,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @Sql(statements = {
     "DELETE FROM inventory",
+    "DELETE FROM reservations",
     "INSERT INTO inventory (product_id, available_stock, reserved_stock) VALUES ('P001', 50, 0)",
     "INSERT INTO inventory (product_id, available_stock, reserved_stock) VALUES ('P002', 100, 0)",
     "INSERT INTO inventory (product_id, available_stock, reserved_stock) VALUES ('P003', 200, 0)"
@@ -56,4 +57,62 @@ public class InventoryControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.released").value(true));
     }
+
+    @Test
+    void should_reserve_all_lines_in_one_batch() throws Exception {
+        mockMvc.perform(post("/api/inventory/reserve/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderId\":\"ORD-1\",\"items\":["
+                        + "{\"productId\":\"P002\",\"quantity\":5},"
+                        + "{\"productId\":\"P001\",\"quantity\":2}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reserved").value(true))
+                .andExpect(jsonPath("$.lines[0].productId").value("P002"))
+                .andExpect(jsonPath("$.lines[0].remainingStock").value(95))
+                .andExpect(jsonPath("$.lines[1].remainingStock").value(48));
+    }
+
+    @Test
+    void should_return_409_and_reserve_nothing_when_one_line_is_short() throws Exception {
+        mockMvc.perform(post("/api/inventory/reserve/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderId\":\"ORD-2\",\"items\":["
+                        + "{\"productId\":\"P001\",\"quantity\":2},"
+                        + "{\"productId\":\"P003\",\"quantity\":999}]}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.reserved").value(false))
+                .andExpect(jsonPath("$.lines[0].reason").doesNotExist())
+                .andExpect(jsonPath("$.lines[1].reason").value("INSUFFICIENT_STOCK"));
+
+        // Then the line that fitted was not reserved either
+        mockMvc.perform(post("/api/inventory/reserve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productId\":\"P001\",\"quantity\":50}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.remainingStock").value(0));
+    }
+
+    @Test
+    void should_reserve_once_when_order_repeats_reservation() throws Exception {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/inventory/reserve")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"orderId\":\"ORD-3\",\"productId\":\"P001\",\"quantity\":2}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.remainingStock").value(48));
+        }
+    }
+
+    @Test
+    void should_refuse_reservation_that_lands_after_release_of_order() throws Exception {
+        mockMvc.perform(post("/api/inventory/release")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderId\":\"ORD-4\",\"productId\":\"P001\",\"quantity\":2}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/inventory/reserve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderId\":\"ORD-4\",\"productId\":\"P001\",\"quantity\":2}"))
+                .andExpect(status().isConflict());
+    }
 }
@@ -8,6 +8,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -47,4 +49,14 @@ public class JpaInventoryRepositoryIntegrationTest {
         Optional<Inventory> inv = inventoryRepository.findByProductId("P999");
         assertFalse(inv.isPresent());
     }
+
+    @Test
+    void should_lock_inventories_in_product_id_order() {
+        List<Inventory> locked = inventoryRepository.lockByProductIds(
+                Arrays.asList("P002", "P999", "P001"));
+
+        assertEquals(2, locked.size());
+        assertEquals("P001", locked.get(0).getProductId());
+        assertEquals("P002", locked.get(1).getProductId());
+    }
 }
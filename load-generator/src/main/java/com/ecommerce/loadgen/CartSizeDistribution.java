@@ -0,0 +1,56 @@
+package com.ecommerce.loadgen;
+
+import java.util.Random;
+
+/**
+ * Number of lines per order, written as {@code fixed:N}, {@code uniform:MIN-MAX} or
+ * {@code geometric:MEAN-MAX} (geometric with the given mean, capped at MAX).
+ */
+public final class CartSizeDistribution {
+
+    private final String kind;
+    private final int min;
+    private final int max;
+    private final double mean;
+
+    private CartSizeDistribution(String kind, int min, int max, double mean) {
+        if (min < 1 || max < min || (mean != 0 && mean < 1)) {
+            throw new IllegalArgumentException("Invalid " + kind + " cart size: min=" + min
+                    + ", max=" + max + ", mean=" + mean);
+        }
+        this.kind = kind;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    public static CartSizeDistribution parse(String spec) {
+        String[] parts = spec.split("[:\\-]");
+        if ("fixed".equals(parts[0]) && parts.length == 2) {
+            int size = Integer.parseInt(parts[1]);
+            return new CartSizeDistribution("fixed", size, size, 0);
+        }
+        if ("uniform".equals(parts[0]) && parts.length == 3) {
+            return new CartSizeDistribution("uniform", Integer.parseInt(parts[1]),
+                    Integer.parseInt(parts[2]), 0);
+        }
+        if ("geometric".equals(parts[0]) && parts.length == 3) {
+            return new CartSizeDistribution("geometric", 1, Integer.parseInt(parts[2]),
+                    Double.parseDouble(parts[1]));
+        }
+        throw new IllegalArgumentException("Unknown cart size distribution: " + spec);
+    }
+
+    public int sample(Random random) {
+        if ("uniform".equals(kind)) {
+            return min + random.nextInt(max - min + 1);
+        }
+        if ("geometric".equals(kind)) {
+            double p = 1 / mean;
+            int size = p >= 1 ? 1
+                    : 1 + (int) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+            return Math.min(size, max);
+        }
+        return min;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecommerce.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records each response twice, in microseconds:
+ * <ul>
+ *   <li><b>corrected</b>: from the time the request was due under the arrival schedule. A stall
+ *       in the target delays every request scheduled behind it, and that wait is counted, so
+ *       the percentiles are free of coordinated omission;</li>
+ *   <li><b>uncorrected</b>: from the time the request was actually sent, which is what a
+ *       closed-loop client would report.</li>
+ * </ul>
+ * Requests due before {@code measureFromNanos} are the warmup and are not recorded. Writers are
+ * the client's I/O threads; {@link #roll()} is called by the single reporting thread.
+ */
+public final class LatencyRecorder {
+
+    private final long measureFromNanos;
+    private final Recorder corrected = new Recorder(3);
+    private final Recorder uncorrected = new Recorder(3);
+    private final Histogram totalCorrected = new Histogram(3);
+    private final Histogram totalUncorrected = new Histogram(3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final AtomicLong maxSendLagNanos = new AtomicLong();
+    private Histogram intervalCorrected;
+    private Histogram intervalUncorrected;
+
+    public LatencyRecorder(long measureFromNanos) {
+        this.measureFromNanos = measureFromNanos;
+    }
+
+    /** Notes how late the dispatcher sent a request; large values mean the generator lags. */
+    public void sent(long dueNanos, long sentNanos) {
+        if (dueNanos >= measureFromNanos) {
+            maxSendLagNanos.accumulateAndGet(sentNanos - dueNanos, Math::max);
+        }
+    }
+
+    public void record(long dueNanos, long sentNanos, long doneNanos, String outcome) {
+        if (dueNanos < measureFromNanos) {
+            return;
+        }
+        corrected.recordValue(Math.max(0, (doneNanos - dueNanos) / 1000));
+        uncorrected.recordValue(Math.max(0, (doneNanos - sentNanos) / 1000));
+        outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+    }
+
+    /** Closes the current interval, adds it to the totals and returns its corrected latencies. */
+    public Histogram roll() {
+        intervalCorrected = corrected.getIntervalHistogram(intervalCorrected);
+        intervalUncorrected = uncorrected.getIntervalHistogram(intervalUncorrected);
+        totalCorrected.add(intervalCorrected);
+        totalUncorrected.add(intervalUncorrected);
+        return intervalCorrected;
+    }
+
+    public Histogram getTotalCorrected() { return totalCorrected; }
+    public Histogram getTotalUncorrected() { return totalUncorrected; }
+    public long getMaxSendLagNanos() { return maxSendLagNanos.get(); }
+
+    public Map<String, Long> getOutcomes() {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,119 @@
+package com.ecommerce.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Prints the final percentile table and writes, under {@code --out}:
+ * <ul>
+ *   <li>{@code LABEL-corrected.hgrm} and {@code LABEL-uncorrected.hgrm}: the full percentile
+ *       distributions in milliseconds, in the format the HdrHistogram plotter reads;</li>
+ *   <li>{@code summary.csv}: one line per run, so runs with different labels, e.g. the agent and
+ *       no-agent compose setups, line up in one table.</li>
+ * </ul>
+ */
+public final class LatencyReport {
+
+    private static final double[] PERCENTILES = {50, 75, 90, 95, 99, 99.9, 99.99};
+    private static final String CSV_HEADER = "label,profile,arrivals,seconds,requests,rate,"
+            + "errors,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,uncorrected_p99_ms";
+
+    private final LoadOptions options;
+    private final LatencyRecorder recorder;
+    private final double seconds;
+
+    public LatencyReport(LoadOptions options, LatencyRecorder recorder, double seconds) {
+        this.options = options;
+        this.recorder = recorder;
+        this.seconds = seconds;
+    }
+
+    public void print(PrintStream out) {
+        printSummary(out);
+        printPercentiles(out);
+    }
+
+    private void printSummary(PrintStream out) {
+        long requests = recorder.getTotalCorrected().getTotalCount();
+        out.printf(Locale.ROOT, "%n=== %s: %s, %s arrivals, %.0f s ===%n", options.get("label"),
+                options.get("profile"), options.get("arrivals"), seconds);
+        out.printf(Locale.ROOT, "requests %d (%.1f/s), errors %d, max send lag %.2f ms%n",
+                requests, requests / seconds, errors(), recorder.getMaxSendLagNanos() / 1e6);
+        recorder.getOutcomes().forEach((outcome, count) ->
+                out.printf(Locale.ROOT, "  %-28s %d%n", outcome, count));
+    }
+
+    private void printPercentiles(PrintStream out) {
+        Histogram corrected = recorder.getTotalCorrected();
+        Histogram uncorrected = recorder.getTotalUncorrected();
+        out.printf(Locale.ROOT, "%n%10s %16s %16s%n", "percentile", "corrected ms",
+                "uncorrected ms");
+        for (double percentile : PERCENTILES) {
+            out.printf(Locale.ROOT, "%10s %16.3f %16.3f%n", percentile,
+                    millis(corrected.getValueAtPercentile(percentile)),
+                    millis(uncorrected.getValueAtPercentile(percentile)));
+        }
+        out.printf(Locale.ROOT, "%10s %16.3f %16.3f%n", "max",
+                millis(corrected.getMaxValue()), millis(uncorrected.getMaxValue()));
+    }
+
+    public void write() throws IOException {
+        Path dir = Paths.get(options.get("out"));
+        Files.createDirectories(dir);
+        String label = options.get("label");
+        writeDistribution(dir.resolve(label + "-corrected.hgrm"), recorder.getTotalCorrected());
+        writeDistribution(dir.resolve(label + "-uncorrected.hgrm"),
+                recorder.getTotalUncorrected());
+        Path summary = dir.resolve("summary.csv");
+        boolean header = !Files.exists(summary);
+        try (PrintStream csv = new PrintStream(new FileOutputStream(summary.toFile(), true),
+                false, StandardCharsets.UTF_8.name())) {
+            if (header) {
+                csv.println(CSV_HEADER);
+            }
+            csv.println(summaryLine());
+        }
+    }
+
+    private String summaryLine() {
+        Histogram corrected = recorder.getTotalCorrected();
+        return String.format(Locale.ROOT, "%s,%s,%s,%.0f,%d,%.1f,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                options.get("label"), options.get("profile"), options.get("arrivals"), seconds,
+                corrected.getTotalCount(), corrected.getTotalCount() / seconds, errors(),
+                millis(corrected.getValueAtPercentile(50)),
+                millis(corrected.getValueAtPercentile(90)),
+                millis(corrected.getValueAtPercentile(99)),
+                millis(corrected.getValueAtPercentile(99.9)),
+                millis(corrected.getMaxValue()),
+                millis(recorder.getTotalUncorrected().getValueAtPercentile(99)));
+    }
+
+    private long errors() {
+        long errors = 0;
+        for (Map.Entry<String, Long> outcome : recorder.getOutcomes().entrySet()) {
+            if (!outcome.getKey().startsWith("2")) {
+                errors += outcome.getValue();
+            }
+        }
+        return errors;
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(file.toFile(), StandardCharsets.UTF_8.name())) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
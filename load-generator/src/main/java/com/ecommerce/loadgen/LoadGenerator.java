@@ -0,0 +1,209 @@
+package com.ecommerce.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives POST /api/orders at the arrival rate of a {@link LoadProfile}, whatever the target's
+ * response times (an open model). Each request is due at a time fixed by the schedule; a single
+ * dispatcher thread sends it then, without waiting for earlier responses, over a pooled
+ * asynchronous HTTP client. Latency is measured from the due time, see {@link LatencyRecorder}.
+ *
+ * <pre>
+ * java -jar load-generator/target/load-generator.jar --profile=ramp:10-300/60s --label=agent
+ * </pre>
+ */
+public final class LoadGenerator {
+
+    private static final long IDLE_STEP_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final Pattern ORDER_STATUS = Pattern.compile("\"status\":\"([A-Z_]+)\"");
+
+    private final LoadOptions options;
+    private final LoadProfile profile;
+    private final OrderRequestFactory requests;
+    private final Random random;
+    private final Semaphore inFlight;
+
+    public LoadGenerator(LoadOptions options) {
+        this.options = options;
+        this.profile = options.getProfile();
+        this.requests = new OrderRequestFactory(options.getSkus(), options.getPopularity(),
+                options.getCartSizes(), options.getInt("customers"),
+                options.getInt("max-quantity"));
+        this.random = new Random(Long.parseLong(options.get("seed")));
+        this.inFlight = new Semaphore(options.getInt("max-in-flight"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        new LoadGenerator(options).run();
+    }
+
+    public void run() throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + options.getNanos("warmup");
+        LatencyRecorder recorder = new LatencyRecorder(measureFrom);
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        long interval = options.getNanos("report-interval");
+        reporter.scheduleAtFixedRate(() -> reportInterval(recorder, measureFrom), interval,
+                interval, TimeUnit.NANOSECONDS);
+        try (CloseableHttpAsyncClient client = createClient()) {
+            client.start();
+            dispatch(client, recorder, measureFrom, measureFrom + options.getNanos("duration"));
+            drain();
+        } finally {
+            reporter.shutdown();
+            reporter.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        report(recorder);
+    }
+
+    private void report(LatencyRecorder recorder) throws IOException {
+        recorder.roll();
+        LatencyReport report = new LatencyReport(options, recorder,
+                options.getNanos("duration") / 1e9);
+        report.print(System.out);
+        report.write();
+    }
+
+    private void dispatch(CloseableHttpAsyncClient client, LatencyRecorder recorder,
+                          long measureFrom, long end) throws InterruptedException {
+        boolean poisson = "poisson".equals(options.get("arrivals"));
+        long due = System.nanoTime();
+        while (due < end) {
+            double rate = profile.rateAt(Math.max(0, due - measureFrom) / 1e9);
+            if (rate <= 0) {
+                due += IDLE_STEP_NANOS;
+                continue;
+            }
+            waitUntil(due);
+            inFlight.acquire();
+            send(client, recorder, due);
+            double gap = poisson ? -Math.log(1 - random.nextDouble()) / rate : 1 / rate;
+            due += (long) (gap * 1e9);
+        }
+    }
+
+    private void send(CloseableHttpAsyncClient client, LatencyRecorder recorder, long due) {
+        SimpleHttpRequest request = SimpleRequestBuilder.post(options.get("target"))
+                .setBody(requests.next(random), ContentType.APPLICATION_JSON)
+                .build();
+        long sent = System.nanoTime();
+        recorder.sent(due, sent);
+        client.execute(request, new ResponseCallback(recorder, due, sent));
+    }
+
+    /** Returns the HTTP status, followed by the order status when the body carries one. */
+    static String outcome(SimpleHttpResponse response) {
+        String body = response.getBodyText();
+        Matcher status = ORDER_STATUS.matcher(body == null ? "" : body);
+        return status.find() ? response.getCode() + " " + status.group(1)
+                : String.valueOf(response.getCode());
+    }
+
+    private void reportInterval(LatencyRecorder recorder, long measureFrom) {
+        long now = System.nanoTime();
+        Histogram interval = recorder.roll();
+        double elapsed = (now - measureFrom) / 1e9;
+        System.out.printf(Locale.ROOT,
+                "%7.1fs %-7s target %7.1f/s  done %6d  p50 %8.2f  p99 %8.2f  max %8.2f ms"
+                        + "  in-flight %d%n",
+                elapsed, elapsed < 0 ? "warmup" : "measure", profile.rateAt(Math.max(0, elapsed)),
+                interval.getTotalCount(), interval.getValueAtPercentile(50) / 1000.0,
+                interval.getValueAtPercentile(99) / 1000.0, interval.getMaxValue() / 1000.0,
+                options.getInt("max-in-flight") - inFlight.availablePermits());
+    }
+
+    private void drain() throws InterruptedException {
+        int permits = options.getInt("max-in-flight");
+        if (!inFlight.tryAcquire(permits, options.getNanos("timeout"), TimeUnit.NANOSECONDS)) {
+            System.err.println((permits - inFlight.availablePermits())
+                    + " requests still in flight after the timeout, not recorded");
+        }
+    }
+
+    private CloseableHttpAsyncClient createClient() {
+        int connections = options.getInt("connections");
+        Timeout timeout = Timeout.ofMilliseconds(options.getNanos("timeout") / 1_000_000);
+        return HttpAsyncClients.custom()
+                .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(connections)
+                        .setMaxConnPerRoute(connections)
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(timeout)
+                        .setResponseTimeout(timeout)
+                        .build())
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                .build();
+    }
+
+    /** Records the response or failure of one request and frees its in-flight slot. */
+    private final class ResponseCallback implements FutureCallback<SimpleHttpResponse> {
+
+        private final LatencyRecorder recorder;
+        private final long due;
+        private final long sent;
+
+        ResponseCallback(LatencyRecorder recorder, long due, long sent) {
+            this.recorder = recorder;
+            this.due = due;
+            this.sent = sent;
+        }
+
+        @Override
+        public void completed(SimpleHttpResponse response) {
+            done(outcome(response));
+        }
+
+        @Override
+        public void failed(Exception e) {
+            done("error " + e.getClass().getSimpleName());
+        }
+
+        @Override
+        public void cancelled() {
+            done("cancelled");
+        }
+
+        private void done(String outcome) {
+            recorder.record(due, sent, System.nanoTime(), outcome);
+            inFlight.release();
+        }
+    }
+
+    private static void waitUntil(long due) {
+        long delay;
+        while ((delay = due - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(delay);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ecommerce.loadgen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options, each given as {@code --name=value}. Durations accept {@code ms},
+ * {@code s} and {@code m} suffixes and default to seconds.
+ */
+public final class LoadOptions {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("target", "http://localhost:8081/api/orders");
+        DEFAULTS.put("profile", "constant:50");
+        DEFAULTS.put("arrivals", "poisson");
+        DEFAULTS.put("duration", "60s");
+        DEFAULTS.put("warmup", "10s");
+        DEFAULTS.put("skus", "P001,P002,P003");
+        DEFAULTS.put("zipf", "1.0");
+        DEFAULTS.put("cart", "uniform:1-3");
+        DEFAULTS.put("max-quantity", "3");
+        DEFAULTS.put("customers", "100");
+        DEFAULTS.put("connections", "200");
+        DEFAULTS.put("max-in-flight", "10000");
+        DEFAULTS.put("timeout", "10s");
+        DEFAULTS.put("report-interval", "1s");
+        DEFAULTS.put("seed", "42");
+        DEFAULTS.put("label", "run");
+        DEFAULTS.put("out", "load-results");
+    }
+
+    private final Map<String, String> values;
+
+    private LoadOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static LoadOptions parse(String... args) {
+        Map<String, String> values = new LinkedHashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String name = arg.startsWith("--") && eq > 2 ? arg.substring(2, eq) : null;
+            if (name == null || !DEFAULTS.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown option: " + arg + "\n" + usage());
+            }
+            values.put(name, arg.substring(eq + 1));
+        }
+        return new LoadOptions(values);
+    }
+
+    public static String usage() {
+        StringBuilder usage = new StringBuilder("Options (default):\n");
+        for (Map.Entry<String, String> option : DEFAULTS.entrySet()) {
+            usage.append("  --").append(option.getKey()).append('=')
+                    .append(option.getValue()).append('\n');
+        }
+        return usage.toString();
+    }
+
+    public String get(String name) { return values.get(name); }
+    public int getInt(String name) { return Integer.parseInt(values.get(name)); }
+    public long getNanos(String name) { return (long) (seconds(values.get(name)) * 1e9); }
+
+    public LoadProfile getProfile() {
+        String spec = values.get("profile");
+        String[] parts = spec.split(":", 2);
+        double[] n = parts.length < 2 ? new double[0] : numbers(parts[1]);
+        int expected = "constant".equals(parts[0]) ? 1 : "spike".equals(parts[0]) ? 4 : 3;
+        if (n.length != expected) {
+            throw new IllegalArgumentException("Invalid load profile: " + spec);
+        }
+        switch (parts[0]) {
+            case "constant": return LoadProfile.constant(n[0]);
+            case "ramp": return LoadProfile.ramp(n[0], n[1], n[2]);
+            case "step": return LoadProfile.step(n[0], n[1], n[2]);
+            case "spike": return LoadProfile.spike(n[0], n[1], n[2], n[3]);
+            default: throw new IllegalArgumentException("Unknown load profile: " + spec);
+        }
+    }
+
+    /** Returns the listed SKUs, or P001..PNNN when {@code --skus} is a count. */
+    public List<String> getSkus() {
+        String skus = values.get("skus");
+        if (!skus.matches("\\d+")) {
+            return Arrays.asList(skus.split(","));
+        }
+        int count = Integer.parseInt(skus);
+        List<String> generated = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            generated.add(String.format("P%03d", i));
+        }
+        return generated;
+    }
+
+    public ZipfDistribution getPopularity() {
+        return new ZipfDistribution(getSkus().size(), Double.parseDouble(values.get("zipf")));
+    }
+
+    public CartSizeDistribution getCartSizes() {
+        return CartSizeDistribution.parse(values.get("cart"));
+    }
+
+    static double seconds(String value) {
+        if (value.endsWith("ms")) {
+            return Double.parseDouble(value.substring(0, value.length() - 2)) / 1000;
+        }
+        if (value.endsWith("m")) {
+            return Double.parseDouble(value.substring(0, value.length() - 1)) * 60;
+        }
+        if (value.endsWith("s")) {
+            return Double.parseDouble(value.substring(0, value.length() - 1));
+        }
+        return Double.parseDouble(value);
+    }
+
+    private static double[] numbers(String values) {
+        String[] parts = values.split("[-+@/]");
+        double[] numbers = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            numbers[i] = seconds(parts[i]);
+        }
+        return numbers;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.loadgen;
+
+/**
+ * Target arrival rate over the measured run. Time starts when measurement starts; the warmup
+ * runs at the rate of second zero.
+ *
+ * <p>On the command line, profiles are written as:
+ * <ul>
+ *   <li>{@code constant:RATE}</li>
+ *   <li>{@code ramp:FROM-TO/SECONDS}: linear from FROM to TO, then TO</li>
+ *   <li>{@code step:START+INCREMENT/SECONDS}: START, raised by INCREMENT every SECONDS</li>
+ *   <li>{@code spike:BASE-PEAK@AT/SECONDS}: BASE, except PEAK from AT for SECONDS</li>
+ * </ul>
+ * Rates are requests per second.
+ */
+public interface LoadProfile {
+
+    /** Returns the target rate, in requests per second, {@code elapsedSeconds} into the run. */
+    double rateAt(double elapsedSeconds);
+
+    static LoadProfile constant(double rate) {
+        return t -> rate;
+    }
+
+    static LoadProfile ramp(double from, double to, double rampSeconds) {
+        return t -> t >= rampSeconds ? to : from + (to - from) * t / rampSeconds;
+    }
+
+    static LoadProfile step(double start, double increment, double stepSeconds) {
+        return t -> start + increment * Math.floor(t / stepSeconds);
+    }
+
+    static LoadProfile spike(double base, double peak, double at, double spikeSeconds) {
+        return t -> t >= at && t < at + spikeSeconds ? peak : base;
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.loadgen;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds POST /api/orders bodies: a random customer and a cart of distinct SKUs drawn by
+ * popularity, each with a quantity from 1 to {@code maxQuantity}. Not thread-safe; the
+ * dispatcher thread owns it.
+ */
+public final class OrderRequestFactory {
+
+    private final List<String> skus;
+    private final ZipfDistribution popularity;
+    private final CartSizeDistribution cartSizes;
+    private final String[] customerIds;
+    private final int maxQuantity;
+    private final boolean[] chosen;
+    private final StringBuilder body = new StringBuilder(256);
+
+    public OrderRequestFactory(List<String> skus, ZipfDistribution popularity,
+                               CartSizeDistribution cartSizes, int customers, int maxQuantity) {
+        this.skus = skus;
+        this.popularity = popularity;
+        this.cartSizes = cartSizes;
+        this.customerIds = new String[customers];
+        for (int i = 0; i < customers; i++) {
+            customerIds[i] = String.format("C%03d", i + 1);
+        }
+        this.maxQuantity = maxQuantity;
+        this.chosen = new boolean[skus.size()];
+    }
+
+    public String next(Random random) {
+        int lines = Math.min(cartSizes.sample(random), skus.size());
+        body.setLength(0);
+        body.append("{\"customerId\":\"").append(customerIds[random.nextInt(customerIds.length)])
+                .append("\",\"items\":[");
+        Arrays.fill(chosen, false);
+        for (int line = 0; line < lines; line++) {
+            body.append(line == 0 ? "" : ",")
+                    .append("{\"productId\":\"").append(skus.get(pickUnchosen(random)))
+                    .append("\",\"quantity\":").append(1 + random.nextInt(maxQuantity))
+                    .append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    /**
+     * Draws by popularity until an SKU not yet in the cart comes up. When the popular SKUs are
+     * all taken and draws keep repeating, the most popular remaining SKU is used instead.
+     */
+    private int pickUnchosen(Random random) {
+        for (int attempt = 0; attempt < 2 * chosen.length; attempt++) {
+            int rank = popularity.sample(random);
+            if (!chosen[rank]) {
+                chosen[rank] = true;
+                return rank;
+            }
+        }
+        int rank = 0;
+        while (chosen[rank]) {
+            rank++;
+        }
+        chosen[rank] = true;
+        return rank;
+    }
+}
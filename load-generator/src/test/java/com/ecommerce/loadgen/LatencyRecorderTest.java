@@ -0,0 +1,42 @@
+package com.ecommerce.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyRecorderTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void should_count_wait_behind_stall_only_in_corrected_latency() {
+        // Given: due at 0, sent 90 ms late because the generator was held up, done 10 ms later
+        LatencyRecorder recorder = new LatencyRecorder(0);
+
+        // When
+        recorder.sent(0, 90 * MS);
+        recorder.record(0, 90 * MS, 100 * MS, "200 CONFIRMED");
+        recorder.roll();
+
+        // Then
+        assertEquals(100_000, recorder.getTotalCorrected().getMaxValue(), 100);
+        assertEquals(10_000, recorder.getTotalUncorrected().getMaxValue(), 10);
+        assertEquals(90 * MS, recorder.getMaxSendLagNanos());
+        assertEquals(Long.valueOf(1), recorder.getOutcomes().get("200 CONFIRMED"));
+    }
+
+    @Test
+    void should_not_record_requests_due_during_warmup() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(1_000 * MS);
+
+        // When
+        recorder.record(999 * MS, 999 * MS, 1_010 * MS, "200 CONFIRMED");
+        recorder.record(1_000 * MS, 1_000 * MS, 1_010 * MS, "503");
+        recorder.roll();
+
+        // Then
+        assertEquals(1, recorder.getTotalCorrected().getTotalCount());
+        assertNull(recorder.getOutcomes().get("200 CONFIRMED"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadOptionsTest {
+
+    @Test
+    void should_follow_each_profile_shape_when_parsed() {
+        // Given
+        LoadProfile ramp = LoadOptions.parse("--profile=ramp:10-110/10s").getProfile();
+        LoadProfile step = LoadOptions.parse("--profile=step:100+50/30").getProfile();
+        LoadProfile spike = LoadOptions.parse("--profile=spike:100-1000@30s/10s").getProfile();
+
+        // When & Then
+        assertEquals(10, ramp.rateAt(0), 1e-9);
+        assertEquals(60, ramp.rateAt(5), 1e-9);
+        assertEquals(110, ramp.rateAt(60), 1e-9);
+        assertEquals(100, step.rateAt(29.9), 1e-9);
+        assertEquals(200, step.rateAt(60), 1e-9);
+        assertEquals(100, spike.rateAt(29.9), 1e-9);
+        assertEquals(1000, spike.rateAt(35), 1e-9);
+        assertEquals(100, spike.rateAt(40), 1e-9);
+    }
+
+    @Test
+    void should_generate_sku_ids_when_skus_is_a_count() {
+        // When
+        List<String> skus = LoadOptions.parse("--skus=3").getSkus();
+
+        // Then
+        assertEquals(Arrays.asList("P001", "P002", "P003"), skus);
+    }
+
+    @Test
+    void should_parse_duration_suffixes() {
+        // Given
+        LoadOptions options = LoadOptions.parse("--duration=2m", "--warmup=500ms");
+
+        // When & Then
+        assertEquals(120_000_000_000L, options.getNanos("duration"));
+        assertEquals(500_000_000L, options.getNanos("warmup"));
+    }
+
+    @Test
+    void should_reject_unknown_option_and_profile() {
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--rate=100"));
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadOptions.parse("--profile=ramp:10").getProfile());
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRequestFactoryTest {
+
+    private static final Pattern PRODUCT = Pattern.compile("\"productId\":\"(P\\d+)\"");
+
+    @Test
+    void should_use_distinct_skus_and_cap_cart_at_catalog_size() {
+        // Given
+        List<String> skus = Arrays.asList("P001", "P002", "P003");
+        OrderRequestFactory factory = new OrderRequestFactory(skus, new ZipfDistribution(3, 2.0),
+                CartSizeDistribution.parse("fixed:5"), 10, 3);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 100; i++) {
+            // When
+            String body = factory.next(random);
+
+            // Then
+            Set<String> products = new HashSet<>();
+            Matcher matcher = PRODUCT.matcher(body);
+            while (matcher.find()) {
+                assertTrue(products.add(matcher.group(1)), "duplicate SKU in " + body);
+            }
+            assertEquals(3, products.size());
+            assertTrue(body.startsWith("{\"customerId\":\"C0"), body);
+        }
+    }
+
+    @Test
+    void should_keep_cart_sizes_within_bounds() {
+        // Given
+        CartSizeDistribution uniform = CartSizeDistribution.parse("uniform:2-4");
+        CartSizeDistribution geometric = CartSizeDistribution.parse("geometric:3-6");
+        Random random = new Random(3);
+
+        // When & Then
+        for (int i = 0; i < 1_000; i++) {
+            int size = uniform.sample(random);
+            assertTrue(size >= 2 && size <= 4, "uniform size " + size);
+            size = geometric.sample(random);
+            assertTrue(size >= 1 && size <= 6, "geometric size " + size);
+        }
+    }
+}
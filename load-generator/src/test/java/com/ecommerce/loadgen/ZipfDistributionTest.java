@@ -0,0 +1,51 @@
+package com.ecommerce.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfDistributionTest {
+
+    @Test
+    void should_favour_low_ranks_in_proportion_when_exponent_is_one() {
+        // Given
+        ZipfDistribution zipf = new ZipfDistribution(3, 1.0);
+        Random random = new Random(1);
+        int[] counts = new int[3];
+
+        // When
+        for (int i = 0; i < 110_000; i++) {
+            counts[zipf.sample(random)]++;
+        }
+
+        // Then: weights 1, 1/2, 1/3 of 11/6
+        assertEquals(60_000, counts[0], 1_500);
+        assertEquals(30_000, counts[1], 1_500);
+        assertEquals(20_000, counts[2], 1_500);
+    }
+
+    @Test
+    void should_draw_uniformly_when_exponent_is_zero() {
+        // Given
+        ZipfDistribution zipf = new ZipfDistribution(4, 0);
+        Random random = new Random(1);
+        int[] counts = new int[4];
+
+        // When
+        for (int i = 0; i < 40_000; i++) {
+            counts[zipf.sample(random)]++;
+        }
+
+        // Then
+        for (int count : counts) {
+            assertEquals(10_000, count, 600);
+        }
+    }
+
+    @Test
+    void should_reject_empty_catalog() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(0, 1.0));
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.notification.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderAnalyticsCommand {
+
+    private final String orderId;
+    private final String status;
+    private final BigDecimal totalAmount;
+    private final LocalDateTime occurredAt;
+    private final List<Item> items;
+
+    public OrderAnalyticsCommand(String orderId, String status, BigDecimal totalAmount,
+                                 LocalDateTime occurredAt, List<Item> items) {
+        this.orderId = orderId;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.occurredAt = occurredAt;
+        this.items = items;
+    }
+
+    public String getOrderId() { return orderId; }
+    public String getStatus() { return status; }
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public List<Item> getItems() { return items; }
+
+    public static class Item {
+
+        private final String productId;
+        private final int quantity;
+        private final BigDecimal unitPrice;
+
+        public Item(String productId, int quantity, BigDecimal unitPrice) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.unitPrice = unitPrice;
+        }
+
+        public String getProductId() { return productId; }
+        public int getQuantity() { return quantity; }
+        public BigDecimal getUnitPrice() { return unitPrice; }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.notification.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Totals of one tumbling window: orders and revenue per order status, and orders, quantity and
+ * revenue per product. The window covers {@code [windowStart, windowEnd)}.
+ */
+public class OrderAnalyticsWindow {
+
+    private final LocalDateTime windowStart;
+    private final LocalDateTime windowEnd;
+    private final Map<String, StatusTotals> statuses;
+    private final Map<String, ProductTotals> products;
+
+    public OrderAnalyticsWindow(LocalDateTime windowStart, LocalDateTime windowEnd,
+                                Map<String, StatusTotals> statuses,
+                                Map<String, ProductTotals> products) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.statuses = statuses;
+        this.products = products;
+    }
+
+    public LocalDateTime getWindowStart() { return windowStart; }
+    public LocalDateTime getWindowEnd() { return windowEnd; }
+    public Map<String, StatusTotals> getStatuses() { return statuses; }
+    public Map<String, ProductTotals> getProducts() { return products; }
+
+    public static class StatusTotals {
+
+        private final long orders;
+        private final BigDecimal revenue;
+
+        public StatusTotals(long orders, BigDecimal revenue) {
+            this.orders = orders;
+            this.revenue = revenue;
+        }
+
+        public long getOrders() { return orders; }
+        public BigDecimal getRevenue() { return revenue; }
+    }
+
+    public static class ProductTotals {
+
+        private final long orders;
+        private final long quantity;
+        private final BigDecimal revenue;
+
+        public ProductTotals(long orders, long quantity, BigDecimal revenue) {
+            this.orders = orders;
+            this.quantity = quantity;
+            this.revenue = revenue;
+        }
+
+        public long getOrders() { return orders; }
+        public long getQuantity() { return quantity; }
+        public BigDecimal getRevenue() { return revenue; }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.notification.application.port.in;
+
+import com.ecommerce.notification.application.dto.OrderAnalyticsWindow;
+
+import java.util.List;
+
+/**
+ * Inbound port for reading the order analytics.
+ */
+public interface QueryOrderAnalyticsPort {
+
+    /**
+     * Returns the most recent {@code count} windows, newest first, including the current one.
+     * Windows without orders are returned with empty totals.
+     */
+    List<OrderAnalyticsWindow> recentWindows(int count);
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.notification.application.port.in;
+
+import com.ecommerce.notification.application.dto.OrderAnalyticsCommand;
+
+/**
+ * Inbound port for adding a confirmed order to the order analytics.
+ */
+public interface RecordOrderAnalyticsPort {
+
+    /**
+     * Adds the order to the window its timestamp falls in.
+     *
+     * @return false if that window is no longer retained and the order was dropped
+     */
+    boolean record(OrderAnalyticsCommand command);
+}
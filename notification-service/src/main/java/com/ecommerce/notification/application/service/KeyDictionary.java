@@ -0,0 +1,51 @@
+package com.ecommerce.notification.application.service;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps string keys, such as product IDs, to dense int IDs in order of first appearance, so the
+ * window totals can be keyed by primitive ints.
+ */
+final class KeyDictionary {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> keys = new ArrayList<>();
+
+    int idOf(String key) {
+        Integer id = ids.get(key);
+        if (id == null) {
+            id = keys.size();
+            ids.put(key, id);
+            keys.add(key);
+        }
+        return id;
+    }
+
+    String keyOf(int id) {
+        return keys.get(id);
+    }
+
+    int size() {
+        return keys.size();
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(keys.size());
+        for (String key : keys) {
+            out.writeUTF(key);
+        }
+    }
+
+    void readFrom(DataInput in) throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            idOf(in.readUTF());
+        }
+    }
+}
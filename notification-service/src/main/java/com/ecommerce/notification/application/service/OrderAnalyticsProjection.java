@@ -0,0 +1,226 @@
+package com.ecommerce.notification.application.service;
+
+import com.ecommerce.notification.application.dto.OrderAnalyticsCommand;
+import com.ecommerce.notification.application.dto.OrderAnalyticsWindow;
+import com.ecommerce.notification.application.dto.OrderAnalyticsWindow.ProductTotals;
+import com.ecommerce.notification.application.dto.OrderAnalyticsWindow.StatusTotals;
+import com.ecommerce.notification.application.port.in.QueryOrderAnalyticsPort;
+import com.ecommerce.notification.application.port.in.RecordOrderAnalyticsPort;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory projection of confirmed orders into tumbling windows of {@code windowSeconds}, by
+ * order timestamp. Order timestamps are UTC, and windows are aligned to UTC epoch seconds. The
+ * last {@code retainedWindows} windows are kept in a ring; an order for a window that has already
+ * left the ring is dropped and counted as late. An order dated more than {@code maxClockSkew}
+ * after the clock is dropped and counted as future-dated, so it cannot move the ring ahead and
+ * push out the windows of current orders.
+ *
+ * <p>Products and statuses are interned to int IDs once, so recording an order only adds to
+ * long totals, and revenue is summed in minor units. Each window holds totals only for the IDs
+ * that occurred in it. The whole state can be written to and read back from a compact binary
+ * snapshot, which is how it survives a restart; a window contributes only its non-empty totals.
+ */
+public class OrderAnalyticsProjection implements RecordOrderAnalyticsPort, QueryOrderAnalyticsPort {
+
+    private static final int SNAPSHOT_FORMAT = 3;
+    private static final int MINOR_UNIT_SCALE = 2;
+
+    private final int windowSeconds;
+    private final TumblingWindow[] ring;
+    private final Clock clock;
+    private final long maxClockSkewSeconds;
+    private KeyDictionary products = new KeyDictionary();
+    private KeyDictionary statuses = new KeyDictionary();
+    private long latestIndex = Long.MIN_VALUE;
+    private long lateOrders;
+    private long futureOrders;
+
+    public OrderAnalyticsProjection(int windowSeconds, int retainedWindows, Clock clock) {
+        this(windowSeconds, retainedWindows, clock, Duration.ofMinutes(1));
+    }
+
+    public OrderAnalyticsProjection(int windowSeconds, int retainedWindows, Clock clock,
+                                    Duration maxClockSkew) {
+        if (windowSeconds < 1 || retainedWindows < 1 || maxClockSkew.isNegative()) {
+            throw new IllegalArgumentException(
+                    "Window size and retained windows must be positive, clock skew not negative");
+        }
+        this.windowSeconds = windowSeconds;
+        this.ring = new TumblingWindow[retainedWindows];
+        this.clock = clock;
+        this.maxClockSkewSeconds = maxClockSkew.getSeconds();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean record(OrderAnalyticsCommand command) {
+        long occurredAt = command.getOccurredAt().toEpochSecond(ZoneOffset.UTC);
+        if (occurredAt > clock.instant().getEpochSecond() + maxClockSkewSeconds) {
+            futureOrders++;
+            return false;
+        }
+        long index = Math.floorDiv(occurredAt, (long) windowSeconds);
+        if (latestIndex != Long.MIN_VALUE && index <= latestIndex - ring.length) {
+            lateOrders++;
+            return false;
+        }
+        latestIndex = Math.max(latestIndex, index);
+        TumblingWindow window = windowFor(index);
+        window.addOrder(statuses.idOf(command.getStatus()),
+                toMinorUnits(command.getTotalAmount()));
+        addLines(window, command.getItems());
+        return true;
+    }
+
+    private void addLines(TumblingWindow window, List<OrderAnalyticsCommand.Item> items) {
+        for (OrderAnalyticsCommand.Item item : items) {
+            BigDecimal lineTotal =
+                    item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+            window.addLine(products.idOf(item.getProductId()), item.getQuantity(),
+                    toMinorUnits(lineTotal));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized List<OrderAnalyticsWindow> recentWindows(int count) {
+        long newest = Math.max(latestIndex,
+                Math.floorDiv(clock.instant().getEpochSecond(), (long) windowSeconds));
+        int windows = Math.min(count, ring.length);
+        List<OrderAnalyticsWindow> result = new ArrayList<>(windows);
+        for (long index = newest; index > newest - windows; index--) {
+            TumblingWindow window = ring[slot(index)];
+            boolean current = window != null && window.getIndex() == index;
+            result.add(toResult(index, current ? window : null));
+        }
+        return result;
+    }
+
+    /** Returns the number of orders dropped because their window was no longer retained. */
+    public synchronized long getLateOrders() {
+        return lateOrders;
+    }
+
+    /** Returns the number of orders dropped because they were dated too far ahead of the clock. */
+    public synchronized long getFutureOrders() {
+        return futureOrders;
+    }
+
+    /** Writes the complete state as a snapshot that {@link #readFrom} restores. */
+    public synchronized void writeTo(DataOutput out) throws IOException {
+        out.writeInt(SNAPSHOT_FORMAT);
+        out.writeInt(windowSeconds);
+        out.writeInt(ring.length);
+        out.writeLong(latestIndex);
+        out.writeLong(lateOrders);
+        out.writeLong(futureOrders);
+        products.writeTo(out);
+        statuses.writeTo(out);
+        for (TumblingWindow window : ring) {
+            out.writeBoolean(window != null);
+            if (window != null) {
+                window.writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * Replaces the state with a snapshot written by {@link #writeTo}. The state is left unchanged
+     * if the snapshot cannot be read.
+     *
+     * @throws IOException if the snapshot is unreadable or was taken with other window settings
+     */
+    public synchronized void readFrom(DataInput in) throws IOException {
+        if (in.readInt() != SNAPSHOT_FORMAT || in.readInt() != windowSeconds
+                || in.readInt() != ring.length) {
+            throw new IOException("Snapshot format or window settings differ");
+        }
+        long restoredLatest = in.readLong();
+        long restoredLate = in.readLong();
+        long restoredFuture = in.readLong();
+        KeyDictionary restoredProducts = new KeyDictionary();
+        restoredProducts.readFrom(in);
+        KeyDictionary restoredStatuses = new KeyDictionary();
+        restoredStatuses.readFrom(in);
+        TumblingWindow[] restoredRing = readRing(in, ring.length);
+        latestIndex = restoredLatest;
+        lateOrders = restoredLate;
+        futureOrders = restoredFuture;
+        products = restoredProducts;
+        statuses = restoredStatuses;
+        System.arraycopy(restoredRing, 0, ring, 0, ring.length);
+    }
+
+    private static TumblingWindow[] readRing(DataInput in, int length) throws IOException {
+        TumblingWindow[] windows = new TumblingWindow[length];
+        for (int i = 0; i < length; i++) {
+            windows[i] = in.readBoolean() ? TumblingWindow.readFrom(in) : null;
+        }
+        return windows;
+    }
+
+    private TumblingWindow windowFor(long index) {
+        int slot = slot(index);
+        TumblingWindow window = ring[slot];
+        if (window == null) {
+            window = new TumblingWindow(index);
+            ring[slot] = window;
+        } else if (window.getIndex() != index) {
+            window.reset(index);
+        }
+        return window;
+    }
+
+    private OrderAnalyticsWindow toResult(long index, TumblingWindow window) {
+        LocalDateTime start = LocalDateTime.ofEpochSecond(index * windowSeconds, 0, ZoneOffset.UTC);
+        Map<String, StatusTotals> statusTotals = new LinkedHashMap<>();
+        Map<String, ProductTotals> productTotals = new LinkedHashMap<>();
+        if (window != null) {
+            addStatusTotals(window, statusTotals);
+            addProductTotals(window, productTotals);
+        }
+        return new OrderAnalyticsWindow(start, start.plusSeconds(windowSeconds),
+                statusTotals, productTotals);
+    }
+
+    private void addStatusTotals(TumblingWindow window, Map<String, StatusTotals> totals) {
+        for (int id : window.statusIds()) {
+            totals.put(statuses.keyOf(id), new StatusTotals(window.statusOrders(id),
+                    fromMinorUnits(window.statusRevenue(id))));
+        }
+    }
+
+    private void addProductTotals(TumblingWindow window, Map<String, ProductTotals> totals) {
+        for (int id : window.productIds()) {
+            totals.put(products.keyOf(id), new ProductTotals(window.productOrders(id),
+                    window.productQuantity(id), fromMinorUnits(window.productRevenue(id))));
+        }
+    }
+
+    private int slot(long index) {
+        return (int) Math.floorMod(index, (long) ring.length);
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(MINOR_UNIT_SCALE, RoundingMode.HALF_UP)
+                .unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal fromMinorUnits(long amount) {
+        return BigDecimal.valueOf(amount, MINOR_UNIT_SCALE);
+    }
+}
@@ -0,0 +1,157 @@
+package com.ecommerce.notification.application.service;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from dictionary IDs to a fixed number of long totals, one column each.
+ * Only IDs that were added to take space, so a window costs memory for the keys it saw rather
+ * than for the whole dictionary.
+ */
+final class SparseTotals {
+
+    private static final int FREE = -1;
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int MAX_ENTRIES = 1 << 28;
+
+    private final int columns;
+    private int[] ids;
+    private long[] values;
+    private int size;
+
+    SparseTotals(int columns) {
+        this(columns, INITIAL_CAPACITY);
+    }
+
+    private SparseTotals(int columns, int capacity) {
+        this.columns = columns;
+        this.ids = new int[capacity];
+        this.values = new long[capacity * columns];
+        Arrays.fill(ids, FREE);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot holding the totals of {@code id}, adding the ID if it has none yet. The
+     * slot stays valid until the next ID is added.
+     */
+    int slotFor(int id) {
+        if ((size + 1) * 4 > ids.length * 3) {
+            rehash(ids.length * 2);
+        }
+        int mask = ids.length - 1;
+        int slot = mix(id) & mask;
+        while (ids[slot] != id && ids[slot] != FREE) {
+            slot = (slot + 1) & mask;
+        }
+        if (ids[slot] == FREE) {
+            ids[slot] = id;
+            size++;
+        }
+        return slot;
+    }
+
+    void addAt(int slot, int column, long amount) {
+        values[slot * columns + column] += amount;
+    }
+
+    long get(int id, int column) {
+        int slot = find(id);
+        return slot < 0 ? 0 : values[slot * columns + column];
+    }
+
+    /** Returns the IDs with totals in ascending order, which is their order of first appearance. */
+    int[] sortedIds() {
+        int[] present = new int[size];
+        int next = 0;
+        for (int id : ids) {
+            if (id != FREE) {
+                present[next++] = id;
+            }
+        }
+        Arrays.sort(present);
+        return present;
+    }
+
+    void clear() {
+        Arrays.fill(ids, FREE);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int slot = 0; slot < ids.length; slot++) {
+            if (ids[slot] != FREE) {
+                out.writeInt(ids[slot]);
+                for (int column = 0; column < columns; column++) {
+                    out.writeLong(values[slot * columns + column]);
+                }
+            }
+        }
+    }
+
+    static SparseTotals readFrom(DataInput in, int columns) throws IOException {
+        int entries = in.readInt();
+        if (entries < 0 || entries > MAX_ENTRIES) {
+            throw new IOException("Invalid entry count: " + entries);
+        }
+        SparseTotals totals = new SparseTotals(columns, capacityFor(entries));
+        for (int i = 0; i < entries; i++) {
+            int id = in.readInt();
+            if (id < 0) {
+                throw new IOException("Invalid ID: " + id);
+            }
+            int slot = totals.slotFor(id);
+            for (int column = 0; column < columns; column++) {
+                totals.addAt(slot, column, in.readLong());
+            }
+        }
+        return totals;
+    }
+
+    private int find(int id) {
+        int mask = ids.length - 1;
+        for (int slot = mix(id) & mask; ; slot = (slot + 1) & mask) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+            if (ids[slot] == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldIds = ids;
+        long[] oldValues = values;
+        ids = new int[capacity];
+        values = new long[capacity * columns];
+        Arrays.fill(ids, FREE);
+        size = 0;
+        for (int oldSlot = 0; oldSlot < oldIds.length; oldSlot++) {
+            if (oldIds[oldSlot] != FREE) {
+                int slot = slotFor(oldIds[oldSlot]);
+                System.arraycopy(oldValues, oldSlot * columns, values, slot * columns, columns);
+            }
+        }
+    }
+
+    private static int capacityFor(int entries) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity * 3 < entries * 4) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    private static int mix(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ecommerce.notification.application.service;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Totals of one window, keyed by the dictionary IDs of the products and statuses that occurred in
+ * it. Amounts are in minor units. A window is reused for a later window once it falls out of the
+ * retained range.
+ */
+final class TumblingWindow {
+
+    private static final int ORDERS = 0;
+    private static final int REVENUE = 1;
+    private static final int QUANTITY = 2;
+
+    private long index;
+    private SparseTotals products = new SparseTotals(3);
+    private SparseTotals statuses = new SparseTotals(2);
+
+    TumblingWindow(long index) {
+        this.index = index;
+    }
+
+    long getIndex() {
+        return index;
+    }
+
+    void reset(long newIndex) {
+        this.index = newIndex;
+        products.clear();
+        statuses.clear();
+    }
+
+    void addOrder(int status, long revenue) {
+        int slot = statuses.slotFor(status);
+        statuses.addAt(slot, ORDERS, 1);
+        statuses.addAt(slot, REVENUE, revenue);
+    }
+
+    void addLine(int product, int quantity, long revenue) {
+        int slot = products.slotFor(product);
+        products.addAt(slot, ORDERS, 1);
+        products.addAt(slot, REVENUE, revenue);
+        products.addAt(slot, QUANTITY, quantity);
+    }
+
+    /** Returns the IDs of the statuses that occurred in this window, in dictionary order. */
+    int[] statusIds() {
+        return statuses.sortedIds();
+    }
+
+    /** Returns the IDs of the products that occurred in this window, in dictionary order. */
+    int[] productIds() {
+        return products.sortedIds();
+    }
+
+    long statusOrders(int status) {
+        return statuses.get(status, ORDERS);
+    }
+
+    long statusRevenue(int status) {
+        return statuses.get(status, REVENUE);
+    }
+
+    long productOrders(int product) {
+        return products.get(product, ORDERS);
+    }
+
+    long productQuantity(int product) {
+        return products.get(product, QUANTITY);
+    }
+
+    long productRevenue(int product) {
+        return products.get(product, REVENUE);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(index);
+        products.writeTo(out);
+        statuses.writeTo(out);
+    }
+
+    static TumblingWindow readFrom(DataInput in) throws IOException {
+        TumblingWindow window = new TumblingWindow(in.readLong());
+        window.products = SparseTotals.readFrom(in, 3);
+        window.statuses = SparseTotals.readFrom(in, 2);
+        return window;
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.notification.infrastructure.adapter.in.kafka;
+
+import com.ecommerce.notification.application.dto.OrderAnalyticsCommand;
+import com.ecommerce.notification.infrastructure.adapter.out.checkpoint.FileAnalyticsCheckpoint;
+import com.ecommerce.notification.infrastructure.dto.OrderConfirmedMessage;
+import com.ecommerce.notification.infrastructure.mapper.NotificationInfraMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Feeds order-confirmed into the order analytics, in a consumer group of its own. On assignment
+ * each partition is positioned right after the last record in the checkpoint; a partition the
+ * checkpoint does not know starts at the oldest record still inside the retained windows, so
+ * the topic is never replayed from the beginning. Each instance keeps its own analytics, so
+ * every instance needs its own group ID to see all partitions. A record without the fields the
+ * analytics need is skipped; one without a timestamp is dated by its Kafka timestamp, in UTC.
+ */
+public class OrderAnalyticsListener implements ConsumerSeekAware {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderAnalyticsListener.class);
+
+    private final FileAnalyticsCheckpoint checkpoint;
+    private final String groupId;
+    private final long retentionMs;
+
+    public OrderAnalyticsListener(FileAnalyticsCheckpoint checkpoint, String groupId,
+                                  long retentionMs) {
+        this.checkpoint = checkpoint;
+        this.groupId = groupId;
+        this.retentionMs = retentionMs;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments,
+                                     ConsumerSeekCallback callback) {
+        long replayFrom = System.currentTimeMillis() - retentionMs;
+        for (TopicPartition partition : assignments.keySet()) {
+            Long lastOffset = checkpoint.lastOffset(partition);
+            if (lastOffset != null) {
+                callback.seek(partition.topic(), partition.partition(), lastOffset + 1);
+            } else {
+                callback.seekToTimestamp(partition.topic(), partition.partition(), replayFrom);
+            }
+        }
+    }
+
+    @KafkaListener(topics = "order-confirmed",
+            groupId = "#{__listener.groupId}")
+    public void onOrderConfirmed(ConsumerRecord<String, OrderConfirmedMessage> record) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        OrderAnalyticsCommand command;
+        try {
+            command = NotificationInfraMapper.toAnalyticsCommand(record.value(),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()),
+                            ZoneOffset.UTC));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            log.warn("Order analytics skipped record {}-{}@{}: {}", record.topic(),
+                    record.partition(), record.offset(), e.toString());
+            checkpoint.skip(partition, record.offset());
+            return;
+        }
+        checkpoint.apply(partition, record.offset(), command);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.notification.infrastructure.adapter.in.kafka;
+
+import com.ecommerce.notification.infrastructure.dto.OrderConfirmedMessage;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Value deserializer of the order-confirmed topic. Records carrying the
+ * {@link OrderConfirmedBinaryCodec} content-type header are decoded as binary, all others by the
+ * JSON deserializer, so records of both formats can be consumed during a rolling upgrade. The
+ * header is removed once read, so a record forwarded to the dead-letter topic as JSON is not
+ * mistaken for binary.
+ */
+public class OrderConfirmedMessageDeserializer implements Deserializer<OrderConfirmedMessage> {
+
+    private final Deserializer<OrderConfirmedMessage> json;
+
+    public OrderConfirmedMessageDeserializer(Deserializer<OrderConfirmedMessage> json) {
+        this.json = json;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+    }
+
+    @Override
+    public OrderConfirmedMessage deserialize(String topic, byte[] data) {
+        return json.deserialize(topic, data);
+    }
+
+    @Override
+    public OrderConfirmedMessage deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null || !isBinary(headers)) {
+            return json.deserialize(topic, headers, data);
+        }
+        headers.remove(OrderConfirmedBinaryCodec.CONTENT_TYPE_HEADER);
+        return OrderConfirmedBinaryCodec.decode(data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+
+    private static boolean isBinary(Headers headers) {
+        Header contentType = headers.lastHeader(OrderConfirmedBinaryCodec.CONTENT_TYPE_HEADER);
+        return contentType != null && OrderConfirmedBinaryCodec.CONTENT_TYPE.equals(
+                new String(contentType.value(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,37 @@
+package com.ecommerce.notification.infrastructure.adapter.in.rest;
+
+import com.ecommerce.notification.application.dto.OrderAnalyticsWindow;
+import com.ecommerce.notification.application.port.in.QueryOrderAnalyticsPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Serves the order analytics: GET /api/analytics/orders?windows=N returns the last N windows,
+ * newest first, with order count and revenue per status and order count, quantity and revenue
+ * per product. Answered from memory; the orders database is not queried.
+ */
+@RestController
+@ConditionalOnProperty(name = "order-analytics.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderAnalyticsController {
+
+    private final QueryOrderAnalyticsPort queryPort;
+
+    public OrderAnalyticsController(QueryOrderAnalyticsPort queryPort) {
+        this.queryPort = queryPort;
+    }
+
+    /** Returns the most recent windows, or 400 if {@code windows} is not positive. */
+    @GetMapping("/api/analytics/orders")
+    public ResponseEntity<List<OrderAnalyticsWindow>> recentWindows(
+            @RequestParam(value = "windows", defaultValue = "60") int windows) {
+        if (windows < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(queryPort.recentWindows(windows));
+    }
+}
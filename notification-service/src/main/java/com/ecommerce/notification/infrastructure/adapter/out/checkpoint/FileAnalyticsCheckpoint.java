@@ -0,0 +1,130 @@
+package com.ecommerce.notification.infrastructure.adapter.out.checkpoint;
+
+import com.ecommerce.notification.application.dto.OrderAnalyticsCommand;
+import com.ecommerce.notification.application.service.OrderAnalyticsProjection;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stores the order analytics together with the order-confirmed offsets they include in one
+ * file, so a restart resumes after the last checkpoint instead of replaying the topic. Records
+ * are applied and the file is written under the same lock, so the saved offsets always match
+ * the saved totals; a record at or below the offset of its partition is already counted and is
+ * skipped. The file is replaced atomically, so a crash while saving leaves the previous one.
+ */
+public class FileAnalyticsCheckpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FileAnalyticsCheckpoint.class);
+    private static final int FORMAT = 1;
+
+    private final Path path;
+    private final OrderAnalyticsProjection projection;
+    private final Map<TopicPartition, Long> offsets = new HashMap<>();
+    private boolean dirty;
+
+    public FileAnalyticsCheckpoint(Path path, OrderAnalyticsProjection projection) {
+        this.path = path;
+        this.projection = projection;
+    }
+
+    /** Records the order unless the record was already counted. */
+    public synchronized void apply(TopicPartition partition, long offset,
+                                   OrderAnalyticsCommand command) {
+        if (isCounted(partition, offset)) {
+            return;
+        }
+        projection.record(command);
+        advance(partition, offset);
+    }
+
+    /** Moves past a record that cannot be counted. */
+    public synchronized void skip(TopicPartition partition, long offset) {
+        if (!isCounted(partition, offset)) {
+            advance(partition, offset);
+        }
+    }
+
+    /** Returns the offset of the last record counted from the partition, or null if none. */
+    public synchronized Long lastOffset(TopicPartition partition) {
+        return offsets.get(partition);
+    }
+
+    /**
+     * Loads the checkpoint file into the projection, if there is one. An unreadable file is
+     * logged and ignored, and the analytics start empty.
+     */
+    public synchronized void restore() {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path)))) {
+            Map<TopicPartition, Long> restored = readOffsets(in);
+            projection.readFrom(in);
+            offsets.putAll(restored);
+            log.info("Restored order analytics checkpoint with offsets {}", restored);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable order analytics checkpoint {}: {}", path, e.toString());
+        }
+    }
+
+    /** Writes the checkpoint file if anything was counted since the last save. */
+    public synchronized void save() throws IOException {
+        if (!dirty) {
+            return;
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            writeOffsets(out);
+            projection.writeTo(out);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        dirty = false;
+    }
+
+    private boolean isCounted(TopicPartition partition, long offset) {
+        Long last = offsets.get(partition);
+        return last != null && offset <= last;
+    }
+
+    private void advance(TopicPartition partition, long offset) {
+        offsets.put(partition, offset);
+        dirty = true;
+    }
+
+    private void writeOffsets(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT);
+        out.writeInt(offsets.size());
+        for (Map.Entry<TopicPartition, Long> entry : offsets.entrySet()) {
+            out.writeUTF(entry.getKey().topic());
+            out.writeInt(entry.getKey().partition());
+            out.writeLong(entry.getValue());
+        }
+    }
+
+    private static Map<TopicPartition, Long> readOffsets(DataInputStream in) throws IOException {
+        if (in.readInt() != FORMAT) {
+            throw new IOException("Unknown checkpoint format");
+        }
+        int count = in.readInt();
+        Map<TopicPartition, Long> restored = new HashMap<>(count);
+        for (int i = 0; i < count; i++) {
+            restored.put(new TopicPartition(in.readUTF(), in.readInt()), in.readLong());
+        }
+        return restored;
+    }
+}
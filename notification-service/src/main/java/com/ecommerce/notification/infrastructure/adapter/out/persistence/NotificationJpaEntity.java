@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 public class NotificationJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq",
+            allocationSize = 50)
     private Long id;
 
     @Column(name = "order_id", nullable = false)
@@ -1,5 +1,6 @@
 package com.ecommerce.notification.infrastructure.config;
 
+import com.ecommerce.notification.infrastructure.adapter.in.kafka.OrderConfirmedMessageDeserializer;
 import com.ecommerce.notification.infrastructure.dto.OrderConfirmedMessage;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -43,8 +44,8 @@ public class KafkaConsumerConfig {
         deserializer.setUseTypeMapperForKey(false);
         deserializer.setUseTypeHeaders(false);
 
-        return new DefaultKafkaConsumerFactory<>(
-                props, new StringDeserializer(), deserializer);
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                new OrderConfirmedMessageDeserializer(deserializer));
     }
 
     @Bean
@@ -0,0 +1,105 @@
+package com.ecommerce.notification.infrastructure.config;
+
+import com.ecommerce.notification.application.service.OrderAnalyticsProjection;
+import com.ecommerce.notification.infrastructure.adapter.in.kafka.OrderAnalyticsListener;
+import com.ecommerce.notification.infrastructure.adapter.out.checkpoint.FileAnalyticsCheckpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wires the order analytics when {@code order-analytics.enabled} (default true): the in-memory
+ * projection, its checkpoint file, restored at startup and saved every
+ * {@code checkpoint.interval-ms} and on shutdown, and the order-confirmed listener feeding it.
+ * The projection runs on a UTC clock, the zone order timestamps are in. Without
+ * {@code order-analytics.group-id} the listener's group is named after the local host, and
+ * startup fails if the host name cannot be determined.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order-analytics.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderAnalyticsConfig implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderAnalyticsConfig.class);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("analytics-checkpoint-"));
+    private FileAnalyticsCheckpoint checkpoint;
+
+    @Bean
+    public OrderAnalyticsProjection orderAnalyticsProjection(
+            @Value("${order-analytics.window-seconds:60}") int windowSeconds,
+            @Value("${order-analytics.retained-windows:1440}") int retainedWindows,
+            @Value("${order-analytics.max-clock-skew-seconds:60}") long maxClockSkewSeconds) {
+        return new OrderAnalyticsProjection(windowSeconds, retainedWindows, Clock.systemUTC(),
+                Duration.ofSeconds(maxClockSkewSeconds));
+    }
+
+    @Bean
+    public FileAnalyticsCheckpoint fileAnalyticsCheckpoint(
+            OrderAnalyticsProjection projection,
+            @Value("${order-analytics.checkpoint.path:order-analytics.checkpoint}") String path,
+            @Value("${order-analytics.checkpoint.interval-ms:10000}") long intervalMs) {
+        Path file = Paths.get(path).toAbsolutePath();
+        checkpoint = new FileAnalyticsCheckpoint(file, projection);
+        checkpoint.restore();
+        scheduler.scheduleWithFixedDelay(this::saveCheckpoint, intervalMs, intervalMs,
+                TimeUnit.MILLISECONDS);
+        return checkpoint;
+    }
+
+    @Bean
+    public OrderAnalyticsListener orderAnalyticsListener(
+            FileAnalyticsCheckpoint checkpoint,
+            @Value("${order-analytics.group-id:}") String groupId,
+            @Value("${order-analytics.window-seconds:60}") int windowSeconds,
+            @Value("${order-analytics.retained-windows:1440}") int retainedWindows) {
+        return new OrderAnalyticsListener(checkpoint, groupIdOrHostDefault(groupId),
+                TimeUnit.SECONDS.toMillis((long) windowSeconds * retainedWindows));
+    }
+
+    static String groupIdOrHostDefault(String groupId) {
+        if (!groupId.trim().isEmpty()) {
+            return groupId.trim();
+        }
+        try {
+            return "order-analytics-" + InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(
+                    "Host name unknown; set order-analytics.group-id to a name unique to this "
+                            + "instance", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        saveCheckpoint();
+    }
+
+    private void saveCheckpoint() {
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            checkpoint.save();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Saving the order analytics checkpoint failed: {}", e.toString());
+        }
+    }
+}
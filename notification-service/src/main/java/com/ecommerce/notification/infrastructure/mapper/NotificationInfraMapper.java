@@ -1,8 +1,15 @@
 package com.ecommerce.notification.infrastructure.mapper;
 
+import com.ecommerce.notification.application.dto.OrderAnalyticsCommand;
 import com.ecommerce.notification.application.dto.OrderNotificationCommand;
 import com.ecommerce.notification.infrastructure.dto.OrderConfirmedMessage;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public final class NotificationInfraMapper {
 
     private NotificationInfraMapper() {
@@ -15,4 +22,47 @@ public final class NotificationInfraMapper {
                 message.getTotalAmount()
         );
     }
+
+    /**
+     * Maps an order-confirmed message for the analytics. The order time is taken from the message
+     * timestamp, or {@code fallbackTime} if the message has none; missing amounts count as zero.
+     *
+     * @throws IllegalArgumentException if the message, its order ID, an item or an item's product
+     *                                  ID is missing
+     */
+    public static OrderAnalyticsCommand toAnalyticsCommand(OrderConfirmedMessage message,
+                                                           LocalDateTime fallbackTime) {
+        if (message == null || message.getOrderId() == null) {
+            throw new IllegalArgumentException("Order-confirmed message without order ID");
+        }
+        LocalDateTime occurredAt = message.getTimestamp() == null
+                ? fallbackTime : LocalDateTime.parse(message.getTimestamp());
+        return new OrderAnalyticsCommand(
+                message.getOrderId(),
+                message.getStatus() == null ? "UNKNOWN" : message.getStatus(),
+                orZero(message.getTotalAmount()),
+                occurredAt,
+                toAnalyticsItems(message.getItems())
+        );
+    }
+
+    private static List<OrderAnalyticsCommand.Item> toAnalyticsItems(
+            List<OrderConfirmedMessage.OrderItemMessage> items) {
+        if (items == null) {
+            return Collections.emptyList();
+        }
+        List<OrderAnalyticsCommand.Item> result = new ArrayList<>(items.size());
+        for (OrderConfirmedMessage.OrderItemMessage item : items) {
+            if (item == null || item.getProductId() == null) {
+                throw new IllegalArgumentException("Order item without product ID");
+            }
+            result.add(new OrderAnalyticsCommand.Item(item.getProductId(), item.getQuantity(),
+                    orZero(item.getUnitPrice())));
+        }
+        return result;
+    }
+
+    private static BigDecimal orZero(BigDecimal amount) {
+        return amount == null ? BigDecimal.ZERO : amount;
+    }
 }
@@ -0,0 +1,194 @@
+package com.ecommerce.notification.application.service;
+
+import com.ecommerce.notification.application.dto.OrderAnalyticsCommand;
+import com.ecommerce.notification.application.dto.OrderAnalyticsWindow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderAnalyticsProjectionTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30, 30);
+
+    private final Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Test
+    void should_sum_orders_per_status_and_product_within_a_window() {
+        // Given
+        OrderAnalyticsProjection projection = new OrderAnalyticsProjection(60, 10, clock);
+
+        // When
+        projection.record(order("ORD-1", NOW.withSecond(5), line("P001", 2, "999.00")));
+        projection.record(order("ORD-2", NOW.withSecond(50), line("P001", 1, "999.00"),
+                line("P002", 3, "29.90")));
+
+        // Then
+        OrderAnalyticsWindow window = projection.recentWindows(1).get(0);
+        assertEquals(NOW.withSecond(0), window.getWindowStart());
+        assertEquals(2, window.getStatuses().get("CONFIRMED").getOrders());
+        assertEquals(new BigDecimal("3086.70"), window.getStatuses().get("CONFIRMED").getRevenue());
+        assertEquals(2, window.getProducts().get("P001").getOrders());
+        assertEquals(3, window.getProducts().get("P001").getQuantity());
+        assertEquals(new BigDecimal("2997.00"), window.getProducts().get("P001").getRevenue());
+        assertEquals(new BigDecimal("89.70"), window.getProducts().get("P002").getRevenue());
+    }
+
+    @Test
+    void should_return_recent_windows_newest_first_with_empty_gaps() {
+        // Given
+        OrderAnalyticsProjection projection = new OrderAnalyticsProjection(60, 10, clock);
+        projection.record(order("ORD-1", NOW.minusMinutes(2), line("P001", 1, "10.00")));
+
+        // When
+        List<OrderAnalyticsWindow> windows = projection.recentWindows(3);
+
+        // Then
+        assertEquals(3, windows.size());
+        assertTrue(windows.get(0).getStatuses().isEmpty());
+        assertTrue(windows.get(1).getStatuses().isEmpty());
+        assertEquals(1, windows.get(2).getStatuses().get("CONFIRMED").getOrders());
+    }
+
+    @Test
+    void should_drop_order_when_its_window_is_no_longer_retained() {
+        // Given
+        OrderAnalyticsProjection projection = new OrderAnalyticsProjection(60, 10, clock);
+        projection.record(order("ORD-1", NOW, line("P001", 1, "10.00")));
+
+        // When
+        boolean recorded = projection.record(order("ORD-2", NOW.minusMinutes(10),
+                line("P001", 1, "10.00")));
+
+        // Then
+        assertFalse(recorded);
+        assertEquals(1, projection.getLateOrders());
+    }
+
+    @Test
+    void should_drop_future_dated_order_without_moving_windows_ahead() {
+        // Given
+        OrderAnalyticsProjection projection =
+                new OrderAnalyticsProjection(60, 10, clock, Duration.ofSeconds(60));
+
+        // When
+        boolean future = projection.record(order("ORD-1", NOW.plusMinutes(30),
+                line("P001", 1, "10.00")));
+        boolean skewed = projection.record(order("ORD-2", NOW.plusSeconds(45),
+                line("P001", 1, "10.00")));
+        boolean current = projection.record(order("ORD-3", NOW, line("P001", 1, "10.00")));
+
+        // Then
+        assertFalse(future);
+        assertTrue(skewed);
+        assertTrue(current);
+        assertEquals(1, projection.getFutureOrders());
+        assertEquals(0, projection.getLateOrders());
+        assertEquals(NOW.plusMinutes(1).withSecond(0),
+                projection.recentWindows(1).get(0).getWindowStart());
+    }
+
+    @Test
+    void should_align_windows_to_utc_whatever_the_clock_zone() {
+        // Given
+        Clock newYork = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneId.of("America/New_York"));
+        OrderAnalyticsProjection projection = new OrderAnalyticsProjection(60, 10, newYork);
+        projection.record(order("ORD-1", NOW, line("P001", 1, "10.00")));
+
+        // When
+        List<OrderAnalyticsWindow> windows = projection.recentWindows(1);
+
+        // Then
+        assertEquals(NOW.withSecond(0), windows.get(0).getWindowStart());
+        assertEquals(1, windows.get(0).getStatuses().get("CONFIRMED").getOrders());
+    }
+
+    @Test
+    void should_restore_same_totals_when_reading_written_snapshot() throws Exception {
+        // Given
+        OrderAnalyticsProjection projection = new OrderAnalyticsProjection(60, 10, clock);
+        projection.record(order("ORD-1", NOW, line("P001", 2, "999.00")));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        projection.writeTo(new DataOutputStream(bytes));
+
+        // When
+        OrderAnalyticsProjection restored = new OrderAnalyticsProjection(60, 10, clock);
+        restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then
+        OrderAnalyticsWindow window = restored.recentWindows(1).get(0);
+        assertEquals(2, window.getProducts().get("P001").getQuantity());
+        assertEquals(new BigDecimal("1998.00"), window.getStatuses().get("CONFIRMED").getRevenue());
+    }
+
+    @Test
+    void should_write_only_products_seen_in_each_window_when_snapshotting() throws Exception {
+        // Given
+        OrderAnalyticsProjection projection = new OrderAnalyticsProjection(60, 10, clock);
+        for (int i = 0; i < 200; i++) {
+            projection.record(order("ORD-" + i, NOW.minusMinutes(9), line("P" + i, 1, "1.00")));
+        }
+        int oneWindow = snapshot(projection).length;
+        for (int minute = 0; minute < 9; minute++) {
+            projection.record(order("ORD-N" + minute, NOW.minusMinutes(minute),
+                    line("P7", 3, "2.50")));
+        }
+
+        // When
+        byte[] bytes = snapshot(projection);
+        OrderAnalyticsProjection restored = new OrderAnalyticsProjection(60, 10, clock);
+        restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+
+        // Then
+        assertTrue(bytes.length - oneWindow < 9 * 100, "grew by " + (bytes.length - oneWindow));
+        List<OrderAnalyticsWindow> windows = restored.recentWindows(10);
+        assertEquals(1, windows.get(0).getProducts().size());
+        assertEquals(3, windows.get(0).getProducts().get("P7").getQuantity());
+        assertEquals(200, windows.get(9).getProducts().size());
+        assertEquals(new BigDecimal("1.00"), windows.get(9).getProducts().get("P199").getRevenue());
+    }
+
+    @Test
+    void should_reject_snapshot_taken_with_other_window_size() throws Exception {
+        // Given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new OrderAnalyticsProjection(60, 10, clock).writeTo(new DataOutputStream(bytes));
+        OrderAnalyticsProjection projection = new OrderAnalyticsProjection(300, 10, clock);
+
+        // When & Then
+        assertThrows(IOException.class, () -> projection.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+    }
+
+    private static byte[] snapshot(OrderAnalyticsProjection projection) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        projection.writeTo(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static OrderAnalyticsCommand order(String orderId, LocalDateTime at,
+                                               OrderAnalyticsCommand.Item... items) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderAnalyticsCommand.Item item : items) {
+            total = total.add(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+        }
+        return new OrderAnalyticsCommand(orderId, "CONFIRMED", total, at, Arrays.asList(items));
+    }
+
+    private static OrderAnalyticsCommand.Item line(String productId, int quantity, String price) {
+        return new OrderAnalyticsCommand.Item(productId, quantity, new BigDecimal(price));
+    }
+}
@@ -0,0 +1,99 @@
+package com.ecommerce.notification.infrastructure.adapter.in.kafka;
+
+import com.ecommerce.notification.application.service.OrderAnalyticsProjection;
+import com.ecommerce.notification.infrastructure.adapter.out.checkpoint.FileAnalyticsCheckpoint;
+import com.ecommerce.notification.infrastructure.dto.OrderConfirmedMessage;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderAnalyticsListenerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30);
+    private static final TopicPartition PARTITION = new TopicPartition("order-confirmed", 0);
+
+    @TempDir
+    Path dir;
+
+    private OrderAnalyticsProjection projection;
+    private FileAnalyticsCheckpoint checkpoint;
+    private OrderAnalyticsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        projection = new OrderAnalyticsProjection(60, 10, clock);
+        checkpoint = new FileAnalyticsCheckpoint(dir.resolve("analytics.checkpoint"), projection);
+        listener = new OrderAnalyticsListener(checkpoint, "order-analytics-test", 600_000);
+    }
+
+    @Test
+    void should_skip_record_when_item_has_no_product_id() {
+        // Given
+        OrderConfirmedMessage message = message("ORD-1", item("P001"), item(null));
+
+        // When
+        listener.onOrderConfirmed(record(5, message));
+
+        // Then
+        assertEquals(5L, checkpoint.lastOffset(PARTITION));
+        assertTrue(projection.recentWindows(1).get(0).getStatuses().isEmpty());
+    }
+
+    @Test
+    void should_skip_record_when_message_has_no_order_id() {
+        // When
+        listener.onOrderConfirmed(record(6, message(null, item("P001"))));
+
+        // Then
+        assertEquals(6L, checkpoint.lastOffset(PARTITION));
+        assertTrue(projection.recentWindows(1).get(0).getProducts().isEmpty());
+    }
+
+    @Test
+    void should_count_record_when_required_fields_present() {
+        // When
+        listener.onOrderConfirmed(record(7, message("ORD-1", item("P001"))));
+
+        // Then
+        assertEquals(7L, checkpoint.lastOffset(PARTITION));
+        assertEquals(1, projection.recentWindows(1).get(0).getProducts().get("P001")
+                .getOrders());
+    }
+
+    private static ConsumerRecord<String, OrderConfirmedMessage> record(
+            long offset, OrderConfirmedMessage message) {
+        return new ConsumerRecord<>(PARTITION.topic(), PARTITION.partition(), offset,
+                message.getOrderId(), message);
+    }
+
+    private static OrderConfirmedMessage message(String orderId,
+                                                 OrderConfirmedMessage.OrderItemMessage... items) {
+        OrderConfirmedMessage message = new OrderConfirmedMessage();
+        message.setOrderId(orderId);
+        message.setStatus("CONFIRMED");
+        message.setTotalAmount(new BigDecimal("10.00"));
+        message.setTimestamp(NOW.toString());
+        message.setItems(Arrays.asList(items));
+        return message;
+    }
+
+    private static OrderConfirmedMessage.OrderItemMessage item(String productId) {
+        OrderConfirmedMessage.OrderItemMessage item = new OrderConfirmedMessage.OrderItemMessage();
+        item.setProductId(productId);
+        item.setQuantity(1);
+        item.setUnitPrice(new BigDecimal("10.00"));
+        return item;
+    }
+}
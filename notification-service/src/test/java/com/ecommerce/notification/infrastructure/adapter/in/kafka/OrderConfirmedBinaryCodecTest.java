@@ -0,0 +1,141 @@
+package com.ecommerce.notification.infrastructure.adapter.in.kafka;
+
+import com.ecommerce.notification.infrastructure.dto.OrderConfirmedMessage;
+import com.ecommerce.notification.infrastructure.dto.OrderConfirmedMessage.OrderItemMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderConfirmedBinaryCodecTest {
+
+    @Test
+    void should_restore_every_field_when_decoding_encoded_message() {
+        // Given
+        OrderConfirmedMessage message = message();
+
+        // When
+        OrderConfirmedMessage decoded =
+                OrderConfirmedBinaryCodec.decode(OrderConfirmedBinaryCodec.encode(message));
+
+        // Then
+        assertEquals("ORD-001", decoded.getOrderId());
+        assertEquals("C001", decoded.getCustomerId());
+        assertEquals("", decoded.getCustomerEmail());
+        assertEquals("CONFIRMED", decoded.getStatus());
+        assertEquals("2024-01-15T10:30:00.123456", decoded.getTimestamp());
+        assertEquals(new BigDecimal("2027.00"), decoded.getTotalAmount());
+        assertEquals(2, decoded.getItems().size());
+        assertEquals("P002", decoded.getItems().get(1).getProductId());
+        assertEquals(1, decoded.getItems().get(1).getQuantity());
+        assertEquals(new BigDecimal("29.00"), decoded.getItems().get(1).getUnitPrice());
+    }
+
+    @Test
+    void should_write_timestamp_back_as_iso_local_date_time() {
+        for (String timestamp : Arrays.asList("2024-01-15T10:30:00", "2024-01-15T10:30:00.1",
+                "1969-12-31T23:59:59.999999", "2024-02-29T00:00:05.00012")) {
+            OrderConfirmedMessage message = message();
+            message.setTimestamp(timestamp);
+
+            OrderConfirmedMessage decoded =
+                    OrderConfirmedBinaryCodec.decode(OrderConfirmedBinaryCodec.encode(message));
+
+            assertEquals(timestamp, decoded.getTimestamp());
+        }
+    }
+
+    @Test
+    void should_skip_fields_added_by_newer_producer() {
+        // Given: field 14 as a varint and field 15 as a string, both unknown here
+        byte[] encoded = OrderConfirmedBinaryCodec.encode(message());
+        byte[] extended = Arrays.copyOf(encoded, encoded.length + 6);
+        byte[] unknown = {(byte) (14 << 3), 0x2A, (byte) (15 << 3 | 2), 2, 'h', 'i'};
+        System.arraycopy(unknown, 0, extended, encoded.length, unknown.length);
+
+        // When
+        OrderConfirmedMessage decoded = OrderConfirmedBinaryCodec.decode(extended);
+
+        // Then
+        assertEquals("ORD-001", decoded.getOrderId());
+        assertEquals(2, decoded.getItems().size());
+    }
+
+    @Test
+    void should_leave_fields_null_when_absent() {
+        // Given
+        OrderConfirmedMessage sparse = new OrderConfirmedMessage();
+        sparse.setOrderId("ORD-002");
+
+        // When
+        OrderConfirmedMessage decoded =
+                OrderConfirmedBinaryCodec.decode(OrderConfirmedBinaryCodec.encode(sparse));
+
+        // Then
+        assertEquals("ORD-002", decoded.getOrderId());
+        assertNull(decoded.getTotalAmount());
+        assertNull(decoded.getTimestamp());
+        assertTrue(decoded.getItems().isEmpty());
+    }
+
+    @Test
+    void should_reject_payload_of_unknown_version_or_truncated() {
+        byte[] encoded = OrderConfirmedBinaryCodec.encode(message());
+        byte[] newer = encoded.clone();
+        newer[0] = 2;
+
+        assertThrows(SerializationException.class, () -> OrderConfirmedBinaryCodec.decode(newer));
+        assertThrows(SerializationException.class, () -> OrderConfirmedBinaryCodec.decode(
+                Arrays.copyOf(encoded, encoded.length - 3)));
+    }
+
+    @Test
+    void should_reject_field_length_that_is_negative_or_beyond_int_range() {
+        // Given: the order ID field with a length of -1, then with a length of 2^31
+        byte[] negative = {OrderConfirmedBinaryCodec.VERSION, 1 << 3 | 2, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, 0x01};
+        byte[] oversized = {OrderConfirmedBinaryCodec.VERSION, 1 << 3 | 2, (byte) 0x80,
+                (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x08};
+
+        // When & Then
+        assertThrows(SerializationException.class,
+                () -> OrderConfirmedBinaryCodec.decode(negative));
+        assertThrows(SerializationException.class,
+                () -> OrderConfirmedBinaryCodec.decode(oversized));
+    }
+
+    @Test
+    void should_be_smaller_than_json() throws Exception {
+        OrderConfirmedMessage message = message();
+
+        int binary = OrderConfirmedBinaryCodec.encode(message).length;
+        int json = new ObjectMapper().writeValueAsBytes(message).length;
+
+        assertTrue(binary * 2 < json, "binary=" + binary + " json=" + json);
+    }
+
+    private static OrderConfirmedMessage message() {
+        OrderConfirmedMessage message = new OrderConfirmedMessage();
+        message.setOrderId("ORD-001");
+        message.setCustomerId("C001");
+        message.setCustomerEmail("");
+        message.setStatus("CONFIRMED");
+        message.setTimestamp("2024-01-15T10:30:00.123456");
+        message.setTotalAmount(new BigDecimal("2027.00"));
+        message.setItems(Arrays.asList(item("P001", 2, "999.00"), item("P002", 1, "29.00")));
+        return message;
+    }
+
+    private static OrderItemMessage item(String productId, int quantity, String unitPrice) {
+        OrderItemMessage item = new OrderItemMessage();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        item.setUnitPrice(new BigDecimal(unitPrice));
+        return item;
+    }
+}
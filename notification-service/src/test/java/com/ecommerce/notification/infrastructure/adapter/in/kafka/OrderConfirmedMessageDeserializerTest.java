@@ -0,0 +1,69 @@
+package com.ecommerce.notification.infrastructure.adapter.in.kafka;
+
+import com.ecommerce.notification.infrastructure.dto.OrderConfirmedMessage;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderConfirmedMessageDeserializerTest {
+
+    private final OrderConfirmedMessageDeserializer deserializer =
+            new OrderConfirmedMessageDeserializer(jsonDeserializer());
+
+    @Test
+    void should_decode_binary_and_drop_header_when_content_type_is_binary() {
+        // Given
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(OrderConfirmedBinaryCodec.CONTENT_TYPE_HEADER,
+                OrderConfirmedBinaryCodec.CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+        byte[] data = OrderConfirmedBinaryCodec.encode(message());
+
+        // When
+        OrderConfirmedMessage decoded = deserializer.deserialize("order-confirmed", headers, data);
+
+        // Then
+        assertEquals("ORD-001", decoded.getOrderId());
+        assertEquals(new BigDecimal("1500.00"), decoded.getTotalAmount());
+        assertEquals("2024-01-15T10:30:00", decoded.getTimestamp());
+        assertNull(headers.lastHeader(OrderConfirmedBinaryCodec.CONTENT_TYPE_HEADER));
+    }
+
+    @Test
+    void should_decode_json_when_content_type_header_absent() {
+        // Given
+        byte[] data = ("{\"orderId\":\"ORD-002\",\"totalAmount\":29.90,"
+                + "\"timestamp\":\"2024-01-15T11:00:00\"}").getBytes(StandardCharsets.UTF_8);
+
+        // When
+        OrderConfirmedMessage decoded =
+                deserializer.deserialize("order-confirmed", new RecordHeaders(), data);
+
+        // Then
+        assertEquals("ORD-002", decoded.getOrderId());
+        assertEquals(new BigDecimal("29.90"), decoded.getTotalAmount());
+    }
+
+    private static JsonDeserializer<OrderConfirmedMessage> jsonDeserializer() {
+        JsonDeserializer<OrderConfirmedMessage> json =
+                new JsonDeserializer<>(OrderConfirmedMessage.class);
+        json.setUseTypeHeaders(false);
+        return json;
+    }
+
+    private static OrderConfirmedMessage message() {
+        OrderConfirmedMessage message = new OrderConfirmedMessage();
+        message.setOrderId("ORD-001");
+        message.setCustomerId("C001");
+        message.setTotalAmount(new BigDecimal("1500.00"));
+        message.setStatus("CONFIRMED");
+        message.setTimestamp("2024-01-15T10:30:00");
+        message.setItems(Collections.emptyList());
+        return message;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ecommerce.notification.infrastructure.adapter.out.checkpoint;
+
+import com.ecommerce.notification.application.dto.OrderAnalyticsCommand;
+import com.ecommerce.notification.application.service.OrderAnalyticsProjection;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileAnalyticsCheckpointTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30);
+    private static final TopicPartition PARTITION = new TopicPartition("order-confirmed", 0);
+
+    private final Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void should_resume_with_saved_totals_and_offsets_when_restored() throws Exception {
+        // Given
+        Path file = dir.resolve("analytics.checkpoint");
+        FileAnalyticsCheckpoint checkpoint =
+                new FileAnalyticsCheckpoint(file, new OrderAnalyticsProjection(60, 10, clock));
+        checkpoint.apply(PARTITION, 41, order("ORD-1"));
+        checkpoint.apply(PARTITION, 42, order("ORD-2"));
+        checkpoint.save();
+
+        // When
+        OrderAnalyticsProjection projection = new OrderAnalyticsProjection(60, 10, clock);
+        FileAnalyticsCheckpoint restored = new FileAnalyticsCheckpoint(file, projection);
+        restored.restore();
+
+        // Then
+        assertEquals(42L, restored.lastOffset(PARTITION));
+        assertEquals(2, projection.recentWindows(1).get(0).getStatuses().get("CONFIRMED")
+                .getOrders());
+    }
+
+    @Test
+    void should_not_count_record_again_when_redelivered() {
+        // Given
+        OrderAnalyticsProjection projection = new OrderAnalyticsProjection(60, 10, clock);
+        FileAnalyticsCheckpoint checkpoint =
+                new FileAnalyticsCheckpoint(dir.resolve("analytics.checkpoint"), projection);
+        checkpoint.apply(PARTITION, 7, order("ORD-1"));
+
+        // When
+        checkpoint.apply(PARTITION, 7, order("ORD-1"));
+
+        // Then
+        assertEquals(1, projection.recentWindows(1).get(0).getStatuses().get("CONFIRMED")
+                .getOrders());
+    }
+
+    @Test
+    void should_start_empty_when_checkpoint_unreadable() throws Exception {
+        // Given
+        Path file = dir.resolve("analytics.checkpoint");
+        Files.write(file, new byte[] {1, 2, 3});
+        FileAnalyticsCheckpoint checkpoint =
+                new FileAnalyticsCheckpoint(file, new OrderAnalyticsProjection(60, 10, clock));
+
+        // When
+        checkpoint.restore();
+
+        // Then
+        assertNull(checkpoint.lastOffset(PARTITION));
+    }
+
+    private static OrderAnalyticsCommand order(String orderId) {
+        return new OrderAnalyticsCommand(orderId, "CONFIRMED", new BigDecimal("10.00"), NOW,
+                Collections.singletonList(
+                        new OrderAnalyticsCommand.Item("P001", 1, new BigDecimal("10.00"))));
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.infrastructure.adapter.out.kafka.OrderConfirmedBinaryCodec;
+import com.ecommerce.order.infrastructure.adapter.out.kafka.OrderConfirmedMessageSerializer;
+import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
+import com.ecommerce.order.infrastructure.dto.OrderItemMessage;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes and deserializes an order-confirmed message of {@code items} lines as JSON (the
+ * Spring Kafka serializers, configured as the services do) and as
+ * {@link OrderConfirmedBinaryCodec}. Run with {@code -prof gc} to compare allocation per
+ * operation alongside throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderConfirmedCodecBenchmark {
+
+    private static final String TOPIC = "order-confirmed";
+
+    @Param({"json", "binary"})
+    public String format;
+
+    @Param({"1", "5"})
+    public int items;
+
+    private OrderConfirmedMessage message;
+    private OrderConfirmedMessageSerializer serializer;
+    private JsonDeserializer<OrderConfirmedMessage> jsonDeserializer;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        message = message(items);
+        serializer = new OrderConfirmedMessageSerializer();
+        serializer.configure(Collections.singletonMap(
+                OrderConfirmedMessageSerializer.FORMAT_CONFIG, format), false);
+        jsonDeserializer = new JsonDeserializer<>(OrderConfirmedMessage.class);
+        jsonDeserializer.setUseTypeHeaders(false);
+        payload = serializer.serialize(TOPIC, new RecordHeaders(), message);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, new RecordHeaders(), message);
+    }
+
+    @Benchmark
+    public OrderConfirmedMessage deserialize() {
+        return "binary".equals(format)
+                ? OrderConfirmedBinaryCodec.decode(payload)
+                : jsonDeserializer.deserialize(TOPIC, new RecordHeaders(), payload);
+    }
+
+    private static OrderConfirmedMessage message(int items) {
+        List<OrderItemMessage> lines = new ArrayList<>(items);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < items; i++) {
+            BigDecimal price = new BigDecimal("999.00").add(BigDecimal.valueOf(i));
+            lines.add(new OrderItemMessage("P00" + (i + 1), i + 1, price));
+            total = total.add(price.multiply(BigDecimal.valueOf(i + 1)));
+        }
+        OrderConfirmedMessage message = new OrderConfirmedMessage();
+        message.setOrderId("ORD-0190a1b2c3d4e5f60001000000010001");
+        message.setCustomerId("C001");
+        message.setCustomerEmail("");
+        message.setItems(lines);
+        message.setTotalAmount(total);
+        message.setStatus("CONFIRMED");
+        message.setTimestamp(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000)
+                .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        return message;
+    }
+}
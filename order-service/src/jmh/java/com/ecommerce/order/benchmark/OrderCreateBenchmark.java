@@ -0,0 +1,59 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.domain.model.Money;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates an order of {@code items} lines, priced the way product lookups deliver them, and
+ * totals it. Run with {@code -prof gc} for the allocation per order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderCreateBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int items;
+
+    private String[] productIds;
+    private BigDecimal[] prices;
+
+    @Setup
+    public void setUp() {
+        productIds = new String[items];
+        prices = new BigDecimal[items];
+        for (int i = 0; i < items; i++) {
+            productIds[i] = "P" + i;
+            prices[i] = new BigDecimal("999.00").add(BigDecimal.valueOf(i, 2));
+        }
+    }
+
+    @Benchmark
+    public Money create() {
+        List<OrderItem> lines = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            lines.add(new OrderItem(productIds[i], i % 5 + 1, Money.of(prices[i])));
+        }
+        return Order.create("ORD-001", "C001", lines).getTotalAmount();
+    }
+}
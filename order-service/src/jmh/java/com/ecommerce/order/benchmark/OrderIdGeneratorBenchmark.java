@@ -0,0 +1,114 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.domain.port.OrderIdGenerator;
+import com.ecommerce.order.infrastructure.adapter.out.id.TimeOrderedOrderIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the random UUID order IDs with the time-ordered ones: generation throughput with 16
+ * threads, and insert throughput into an H2 table shaped like {@code orders}, whose unique
+ * {@code order_id} index already holds {@code preloadRows} entries.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderIdGeneratorBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Generator {
+
+        @Param({"uuid", "time-ordered"})
+        public String generator;
+
+        OrderIdGenerator orderIdGenerator;
+
+        @Setup
+        public void setUp() {
+            orderIdGenerator = create(generator);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Table {
+
+        @Param({"uuid", "time-ordered"})
+        public String generator;
+
+        @Param({"200000"})
+        public int preloadRows;
+
+        OrderIdGenerator orderIdGenerator;
+        Connection connection;
+        PreparedStatement insert;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            orderIdGenerator = create(generator);
+            connection = DriverManager.getConnection("jdbc:h2:mem:" + generator + preloadRows);
+            try (Statement ddl = connection.createStatement()) {
+                ddl.execute("CREATE TABLE orders (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                        + " order_id VARCHAR(255) NOT NULL, customer_id VARCHAR(255) NOT NULL,"
+                        + " status VARCHAR(255) NOT NULL, total_amount DECIMAL(19, 2) NOT NULL,"
+                        + " created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+                ddl.execute("CREATE UNIQUE INDEX uk_orders_order_id ON orders (order_id)");
+            }
+            insert = connection.prepareStatement("INSERT INTO orders (order_id, customer_id,"
+                    + " status, total_amount, created_at, updated_at)"
+                    + " VALUES (?, 'C001', 'CREATED', 999.00, NOW(), NOW())");
+            for (int i = 0; i < preloadRows; i++) {
+                insertOrder(this);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            insert.close();
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String generate(Generator state) {
+        return state.orderIdGenerator.nextOrderId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int insert(Table state) throws SQLException {
+        return insertOrder(state);
+    }
+
+    private static int insertOrder(Table state) throws SQLException {
+        state.insert.setString(1, state.orderIdGenerator.nextOrderId());
+        return state.insert.executeUpdate();
+    }
+
+    private static OrderIdGenerator create(String generator) {
+        return "uuid".equals(generator)
+                ? OrderIdGenerator.randomUuid()
+                : new TimeOrderedOrderIdGenerator(1);
+    }
+}
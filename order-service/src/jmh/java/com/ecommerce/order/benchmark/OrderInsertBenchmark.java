@@ -0,0 +1,132 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.domain.model.Money;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.order.infrastructure.adapter.out.persistence.OrderEntityMapper;
+import com.ecommerce.order.infrastructure.adapter.out.persistence.OrderJpaEntity;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists one {@link OrderJpaEntity} with {@code cartSize} items per operation through a JPA
+ * {@link EntityManager}, against an H2 TCP server so every statement is a real round trip:
+ * <ul>
+ *   <li>{@code identity}: the ID columns overridden to IDENTITY by
+ *       {@code META-INF/orm-identity.xml}, so Hibernate inserts row by row;</li>
+ *   <li>{@code pooled}: the entities as mapped, IDs taken from a sequence 50 at a time and rows
+ *       sent in JDBC batches of {@code batchSize}.</li>
+ * </ul>
+ * Both use the batching properties of application.yml. The {@code rows} counter reports rows
+ * written per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderInsertBenchmark {
+
+    @Param({"identity", "pooled"})
+    public String strategy;
+
+    @Param({"1", "10", "50"})
+    public int cartSize;
+
+    @Param({"50"})
+    public int batchSize;
+
+    private Server server;
+    private SingleConnectionDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private List<OrderItem> items;
+    private long orders;
+
+    /** Rows written, reported per second. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:" + strategy + cartSize;
+        dataSource = new SingleConnectionDataSource(url, "sa", "", true);
+        entityManagerFactory = createEntityManagerFactory("identity".equals(strategy));
+        entityManager = entityManagerFactory.createEntityManager();
+        items = new ArrayList<>(cartSize);
+        for (int i = 0; i < cartSize; i++) {
+            items.add(new OrderItem("P" + i, 1, Money.of(new BigDecimal("19.90"))));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+        dataSource.destroy();
+        server.stop();
+    }
+
+    @Benchmark
+    public void insertOrder(Rows counter) {
+        OrderJpaEntity entity = OrderEntityMapper.toEntity(
+                Order.create("ORD-" + orders++, "C001", items));
+        entityManager.getTransaction().begin();
+        entityManager.persist(entity);
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+        counter.rows += cartSize + 1;
+    }
+
+    private EntityManagerFactory createEntityManagerFactory(boolean identity) {
+        LocalContainerEntityManagerFactoryBean factory =
+                new LocalContainerEntityManagerFactoryBean();
+        factory.setPersistenceUnitName("insert-" + strategy);
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(OrderJpaEntity.class.getPackage().getName());
+        if (identity) {
+            factory.setMappingResources("META-INF/orm-identity.xml");
+        }
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("hibernate.hbm2ddl.auto", "create");
+        properties.put("hibernate.jdbc.batch_size", batchSize);
+        properties.put("hibernate.order_inserts", true);
+        properties.put("hibernate.order_updates", true);
+        factory.setJpaPropertyMap(properties);
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.infrastructure.adapter.in.rest.CreateOrderRequest;
+import com.ecommerce.order.infrastructure.adapter.in.rest.CreateOrderResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a POST /api/orders body of {@code items} lines and writes its response with an
+ * {@link ObjectMapper} built like the one Spring MVC uses. The order-confirmed Kafka payload is
+ * covered by {@link OrderConfirmedCodecBenchmark}. Run with {@code -prof gc} for the allocation
+ * per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderJsonBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int items;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestBody;
+    private CreateOrderResponse response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        requestReader = objectMapper.readerFor(CreateOrderRequest.class);
+        responseWriter = objectMapper.writerFor(CreateOrderResponse.class);
+        StringBuilder body = new StringBuilder("{\"customerId\":\"C001\",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"productId\":\"P").append(i)
+                    .append("\",\"quantity\":").append(i % 5 + 1).append('}');
+        }
+        requestBody = body.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+        response = new CreateOrderResponse("ORD-0190a1b2c3d4e5f60001000000010001", "CONFIRMED",
+                new BigDecimal("1998.00"), "");
+    }
+
+    @Benchmark
+    public CreateOrderRequest readRequest() throws IOException {
+        return requestReader.readValue(requestBody);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.mapper.OrderApplicationMapper;
+import com.ecommerce.order.domain.event.OrderConfirmedEvent;
+import com.ecommerce.order.domain.model.Money;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.order.infrastructure.adapter.in.rest.CreateOrderRequest;
+import com.ecommerce.order.infrastructure.adapter.in.rest.CreateOrderRequest.OrderItemRequest;
+import com.ecommerce.order.infrastructure.adapter.out.persistence.OrderEntityMapper;
+import com.ecommerce.order.infrastructure.adapter.out.persistence.OrderJpaEntity;
+import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
+import com.ecommerce.order.infrastructure.mapper.OrderInfraMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps an order of {@code items} lines across each boundary it crosses on the create path:
+ * request to command, order to JPA entities and back, and confirmed event to Kafka message.
+ * Run with {@code -prof gc} for the allocation per mapping.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int items;
+
+    private CreateOrderRequest request;
+    private Order order;
+    private OrderJpaEntity entity;
+    private OrderConfirmedEvent event;
+
+    @Setup
+    public void setUp() {
+        List<OrderItemRequest> lines = new ArrayList<>(items);
+        List<OrderItem> orderItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            lines.add(new OrderItemRequest("P" + i, i % 5 + 1));
+            orderItems.add(new OrderItem("P" + i, i % 5 + 1,
+                    Money.of(new BigDecimal("999.00").add(BigDecimal.valueOf(i, 2)))));
+        }
+        request = new CreateOrderRequest("C001", lines);
+        order = Order.create("ORD-0190a1b2c3d4e5f60001000000010001", "C001", orderItems);
+        order.confirm();
+        entity = OrderEntityMapper.toEntity(order);
+        entity.setId(1L);
+        event = OrderApplicationMapper.toConfirmedEvent(order);
+    }
+
+    @Benchmark
+    public CreateOrderCommand requestToCommand() {
+        return OrderInfraMapper.toCommand(request);
+    }
+
+    @Benchmark
+    public OrderJpaEntity orderToEntity() {
+        return OrderEntityMapper.toEntity(order);
+    }
+
+    @Benchmark
+    public Order entityToOrder() {
+        return OrderEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public OrderConfirmedMessage eventToMessage() {
+        return OrderInfraMapper.toMessage(event);
+    }
+}
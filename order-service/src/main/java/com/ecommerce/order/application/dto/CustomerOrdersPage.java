@@ -0,0 +1,25 @@
+package com.ecommerce.order.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One page of a customer's orders, newest first. The next position is that of the last order on
+ * the page, or null if no further orders exist.
+ */
+public class CustomerOrdersPage {
+    private final List<OrderResult> orders;
+    private final LocalDateTime nextCreatedAt;
+    private final Long nextId;
+
+    public CustomerOrdersPage(List<OrderResult> orders, LocalDateTime nextCreatedAt, Long nextId) {
+        this.orders = orders;
+        this.nextCreatedAt = nextCreatedAt;
+        this.nextId = nextId;
+    }
+
+    public List<OrderResult> getOrders() { return orders; }
+    public LocalDateTime getNextCreatedAt() { return nextCreatedAt; }
+    public Long getNextId() { return nextId; }
+    public boolean hasNext() { return nextId != null; }
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.order.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A page of a customer's order history: up to {@code limit} orders, optionally of one status,
+ * after the position {@code (afterCreatedAt, afterId)} of the last order of the previous page.
+ * The position is null for the first page.
+ */
+public class CustomerOrdersQuery {
+    private final String customerId;
+    private final String status;
+    private final LocalDateTime afterCreatedAt;
+    private final Long afterId;
+    private final int limit;
+
+    public CustomerOrdersQuery(String customerId, String status, LocalDateTime afterCreatedAt,
+                               Long afterId, int limit) {
+        this.customerId = customerId;
+        this.status = status;
+        this.afterCreatedAt = afterCreatedAt;
+        this.afterId = afterId;
+        this.limit = limit;
+    }
+
+    public String getCustomerId() { return customerId; }
+    public String getStatus() { return status; }
+    public LocalDateTime getAfterCreatedAt() { return afterCreatedAt; }
+    public Long getAfterId() { return afterId; }
+    public int getLimit() { return limit; }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.order.application.dto;
+
+import java.math.BigDecimal;
+
+public class OrderItemResult {
+    private final String productId;
+    private final int quantity;
+    private final BigDecimal unitPrice;
+
+    public OrderItemResult(String productId, int quantity, BigDecimal unitPrice) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+    }
+
+    public String getProductId() { return productId; }
+    public int getQuantity() { return quantity; }
+    public BigDecimal getUnitPrice() { return unitPrice; }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.order.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderResult {
+    private final String orderId;
+    private final String customerId;
+    private final String status;
+    private final BigDecimal totalAmount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<OrderItemResult> items;
+
+    public OrderResult(String orderId, String customerId, String status, BigDecimal totalAmount,
+                       LocalDateTime createdAt, LocalDateTime updatedAt,
+                       List<OrderItemResult> items) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.items = items;
+    }
+
+    public String getOrderId() { return orderId; }
+    public String getCustomerId() { return customerId; }
+    public String getStatus() { return status; }
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public List<OrderItemResult> getItems() { return items; }
+}
@@ -1,10 +1,19 @@
 package com.ecommerce.order.application.mapper;
 
-import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.dto.CreateOrderResult;
 import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.dto.OrderItemResult;
+import com.ecommerce.order.application.dto.OrderResult;
 import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.domain.event.OrderConfirmedEvent;
+import com.ecommerce.order.domain.event.OrderConfirmedEvent.OrderItemData;
+import com.ecommerce.order.domain.model.Money;
+import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderItem;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public final class OrderApplicationMapper {
 
     private OrderApplicationMapper() {}
@@ -13,7 +22,59 @@ public final class OrderApplicationMapper {
         return new OrderItem(
                 productInfo.getProductId(),
                 command.getQuantity(),
-                productInfo.getPrice()
+                Money.of(productInfo.getPrice())
         );
     }
+
+    public static List<OrderItemCommand> toItemCommands(Order order) {
+        List<OrderItemCommand> commands = new ArrayList<>(order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            commands.add(new OrderItemCommand(item.getProductId(), item.getQuantity()));
+        }
+        return commands;
+    }
+
+    public static CreateOrderResult toResult(Order order) {
+        return new CreateOrderResult(
+                order.getOrderId(),
+                order.getStatus().name(),
+                order.getTotalAmount().toBigDecimal()
+        );
+    }
+
+    public static OrderResult toOrderResult(Order order) {
+        return new OrderResult(
+                order.getOrderId(),
+                order.getCustomerId(),
+                order.getStatus().name(),
+                order.getTotalAmount().toBigDecimal(),
+                order.getCreatedAt(),
+                order.getUpdatedAt(),
+                toItemResults(order.getItems())
+        );
+    }
+
+    private static List<OrderItemResult> toItemResults(List<OrderItem> items) {
+        List<OrderItemResult> results = new ArrayList<>(items.size());
+        for (OrderItem item : items) {
+            results.add(new OrderItemResult(item.getProductId(), item.getQuantity(),
+                    item.getUnitPrice().toBigDecimal()));
+        }
+        return results;
+    }
+
+    public static OrderConfirmedEvent toConfirmedEvent(Order order) {
+        List<OrderItemData> itemDataList = new ArrayList<>();
+        for (OrderItem item : order.getItems()) {
+            itemDataList.add(new OrderItemData(
+                    item.getProductId(),
+                    item.getQuantity(),
+                    item.getUnitPrice().toBigDecimal()));
+        }
+        return new OrderConfirmedEvent(
+                order.getOrderId(),
+                order.getCustomerId(),
+                itemDataList,
+                order.getTotalAmount().toBigDecimal());
+    }
 }
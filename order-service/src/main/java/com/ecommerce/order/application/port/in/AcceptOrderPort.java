@@ -0,0 +1,21 @@
+package com.ecommerce.order.application.port.in;
+
+import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.dto.CreateOrderResult;
+
+/**
+ * Inbound port for accepting orders that are processed in the background.
+ */
+public interface AcceptOrderPort {
+
+    /**
+     * Persists the order in CREATED status and queues inventory reservation and payment for a
+     * background worker. The final status is available through {@link GetOrderPort}.
+     *
+     * @param command the order creation command containing customer and item info
+     * @return the accepted order in CREATED status
+     * @throws com.ecommerce.order.application.service.OrderBacklogFullException if the
+     *         processing queue is full; the order is then persisted as FAILED
+     */
+    CreateOrderResult acceptOrder(CreateOrderCommand command);
+}
@@ -3,6 +3,8 @@ package com.ecommerce.order.application.port.in;
 import com.ecommerce.order.application.dto.CreateOrderCommand;
 import com.ecommerce.order.application.dto.CreateOrderResult;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Inbound port for creating orders. Entry point for the order creation use case.
  */
@@ -15,4 +17,21 @@ public interface CreateOrderPort {
      * @return the result containing order ID, status, and total amount
      */
     CreateOrderResult createOrder(CreateOrderCommand command);
+
+    /**
+     * Creates an order without holding the caller's thread while downstream calls are in flight.
+     * Blocking implementations run {@link #createOrder} on the caller thread.
+     *
+     * @param command the order creation command containing customer and item info
+     * @return a future completed with the result, or exceptionally if order creation fails
+     */
+    default CompletableFuture<CreateOrderResult> createOrderAsync(CreateOrderCommand command) {
+        CompletableFuture<CreateOrderResult> result = new CompletableFuture<>();
+        try {
+            result.complete(createOrder(command));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,19 @@
+package com.ecommerce.order.application.port.in;
+
+import com.ecommerce.order.application.dto.OrderResult;
+
+import java.util.Optional;
+
+/**
+ * Inbound port for looking up a single order, e.g. to poll the status of an accepted order.
+ */
+public interface GetOrderPort {
+
+    /**
+     * Finds an order by its business order ID.
+     *
+     * @param orderId the order identifier
+     * @return the order, or empty if no such order exists
+     */
+    Optional<OrderResult> getOrder(String orderId);
+}
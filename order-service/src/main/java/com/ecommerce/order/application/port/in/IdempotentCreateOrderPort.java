@@ -0,0 +1,21 @@
+package com.ecommerce.order.application.port.in;
+
+import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.dto.CreateOrderResult;
+
+/**
+ * Inbound port for creating orders at most once per client-supplied idempotency key.
+ */
+public interface IdempotentCreateOrderPort {
+
+    /**
+     * Creates the order unless a request with the same key already did, in which case the
+     * stored result is returned without calling any downstream service. The key may only be
+     * reused for the same customer and order lines.
+     *
+     * @param idempotencyKey the key the client sends with every retry of the same request
+     * @param command the order creation command containing customer and item info
+     * @return the result of the first request with this key
+     */
+    CreateOrderResult createOrder(String idempotencyKey, CreateOrderCommand command);
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.order.application.port.in;
+
+import com.ecommerce.order.application.dto.CustomerOrdersPage;
+import com.ecommerce.order.application.dto.CustomerOrdersQuery;
+
+/**
+ * Inbound port for paging through a customer's order history, newest first.
+ */
+public interface ListCustomerOrdersPort {
+
+    /**
+     * Returns the page of orders described by the query.
+     *
+     * @throws IllegalArgumentException if the status is unknown or the limit out of range
+     */
+    CustomerOrdersPage listOrders(CustomerOrdersQuery query);
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.order.application.port.out;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking outbound port for reserving and releasing inventory via the Inventory Service.
+ */
+public interface AsyncInventoryPort {
+
+    /**
+     * Reserves the specified quantity of a product for an order, see
+     * {@link InventoryReservePort#reserveInventory}; completes with true if it was reserved.
+     */
+    CompletableFuture<Boolean> reserveInventory(String orderId, String productId, int quantity);
+
+    /** Reserves all lines of an order atomically, see {@link InventoryReservePort#reserveAll}. */
+    CompletableFuture<InventoryBatchResult> reserveAll(String orderId, Map<String, Integer> quantities);
+
+    /** Releases what an order holds of a product, see {@link InventoryReleasePort}. */
+    CompletableFuture<Void> releaseInventory(String orderId, String productId, int quantity);
+}
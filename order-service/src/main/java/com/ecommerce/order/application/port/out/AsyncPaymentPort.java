@@ -0,0 +1,20 @@
+package com.ecommerce.order.application.port.out;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking outbound port for processing payments via the Payment Service.
+ */
+public interface AsyncPaymentPort {
+
+    /**
+     * Processes a payment for the given order without blocking the caller. Timeouts and
+     * connection errors complete the future with a {@code ResourceAccessException}, as in
+     * {@link PaymentPort}.
+     */
+    CompletableFuture<PaymentResult> processPayment(String orderId, BigDecimal amount);
+
+    /** Refunds every successful payment of an order, see {@link PaymentRefundPort}. */
+    CompletableFuture<Void> refundPayments(String orderId);
+}
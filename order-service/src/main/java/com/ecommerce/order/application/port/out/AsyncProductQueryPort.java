@@ -0,0 +1,17 @@
+package com.ecommerce.order.application.port.out;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking outbound port for querying product information from the Product Service.
+ */
+public interface AsyncProductQueryPort {
+
+    /**
+     * Queries product details by product ID without blocking the caller.
+     *
+     * @param productId the product identifier
+     * @return a future completed with the product information, or with the HTTP error
+     */
+    CompletableFuture<ProductInfo> queryProduct(String productId);
+}
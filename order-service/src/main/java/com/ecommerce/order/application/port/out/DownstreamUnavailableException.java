@@ -0,0 +1,17 @@
+package com.ecommerce.order.application.port.out;
+
+/**
+ * Thrown by an outbound port when a call is refused before it reaches the downstream service,
+ * because the service's circuit breaker is open or its concurrency limit is reached. The call
+ * had no effect downstream, so it is safe to treat as not attempted.
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+    private final String downstream;
+
+    public DownstreamUnavailableException(String downstream, String reason) {
+        super(downstream + " unavailable: " + reason);
+        this.downstream = downstream;
+    }
+
+    public String getDownstream() { return downstream; }
+}
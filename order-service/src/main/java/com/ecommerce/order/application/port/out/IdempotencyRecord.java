@@ -0,0 +1,25 @@
+package com.ecommerce.order.application.port.out;
+
+import com.ecommerce.order.application.dto.CreateOrderResult;
+
+/**
+ * What an idempotency key holds: the fingerprint of the request that claimed it and, once that
+ * request finished, its result.
+ */
+public class IdempotencyRecord {
+    private final String fingerprint;
+    private final CreateOrderResult result;
+
+    public IdempotencyRecord(String fingerprint, CreateOrderResult result) {
+        this.fingerprint = fingerprint;
+        this.result = result;
+    }
+
+    public String getFingerprint() { return fingerprint; }
+    public CreateOrderResult getResult() { return result; }
+
+    /** Returns whether the request holding the key has finished. */
+    public boolean isCompleted() {
+        return result != null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.order.application.port.out;
+
+import com.ecommerce.order.application.dto.CreateOrderResult;
+
+import java.util.Optional;
+
+/**
+ * Outbound port for remembering the result of an order request under its client-supplied
+ * idempotency key. A request claims the key before doing any work, so only one request per key
+ * runs, whichever instance it reaches.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims the key for a request with the given fingerprint. A claim whose request has not
+     * finished within the claim timeout is taken over by a request with the same fingerprint.
+     *
+     * @return empty if the caller now holds the key, otherwise the record already under it
+     */
+    Optional<IdempotencyRecord> claim(String idempotencyKey, String fingerprint);
+
+    /** Stores the result of the request holding the key. */
+    void complete(String idempotencyKey, IdempotencyRecord record);
+
+    /** Gives up the claim of a request that ended without a result, so the key can be retried. */
+    void release(String idempotencyKey);
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.order.application.port.out;
+
+import java.util.List;
+
+public class InventoryBatchResult {
+    private final boolean reserved;
+    private final List<String> failedProductIds;
+
+    public InventoryBatchResult(boolean reserved, List<String> failedProductIds) {
+        this.reserved = reserved;
+        this.failedProductIds = failedProductIds;
+    }
+
+    public boolean isReserved() { return reserved; }
+    public List<String> getFailedProductIds() { return failedProductIds; }
+}
@@ -6,10 +6,13 @@ package com.ecommerce.order.application.port.out;
 public interface InventoryReleasePort {
 
     /**
-     * Releases the specified quantity of reserved inventory back to available stock.
+     * Releases what an order holds of a product back to available stock. Releasing again is a
+     * no-op, and a release that arrives before the reservation makes the reservation fail, so the
+     * call is safe to repeat and safe to make when the reservation outcome is unknown.
      *
+     * @param orderId   the order whose reservation is released
      * @param productId the product to release
      * @param quantity  the quantity to release
      */
-    void releaseInventory(String productId, int quantity);
+    void releaseInventory(String orderId, String productId, int quantity);
 }
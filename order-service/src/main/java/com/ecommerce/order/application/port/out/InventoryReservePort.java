@@ -1,16 +1,30 @@
 package com.ecommerce.order.application.port.out;
 
+import java.util.Map;
+
 /**
  * Outbound port for reserving inventory via the Inventory Service HTTP API.
  */
 public interface InventoryReservePort {
 
     /**
-     * Reserves the specified quantity of a product in inventory.
+     * Reserves the specified quantity of a product in inventory for an order. Reserving a product
+     * the order already holds is a no-op, so a replayed reservation holds nothing twice.
      *
+     * @param orderId   the order the reservation belongs to
      * @param productId the product to reserve
      * @param quantity  the quantity to reserve
      * @return true if reservation succeeded
      */
-    boolean reserveInventory(String productId, int quantity);
+    boolean reserveInventory(String orderId, String productId, int quantity);
+
+    /**
+     * Reserves all lines of an order in one call. Either every line is reserved or none is;
+     * products the order already holds count as reserved.
+     *
+     * @param orderId    the order the reservation belongs to
+     * @param quantities quantity to reserve per product ID
+     * @return whether the lines were reserved, and which products caused a rejection
+     */
+    InventoryBatchResult reserveAll(String orderId, Map<String, Integer> quantities);
 }
@@ -0,0 +1,15 @@
+package com.ecommerce.order.application.port.out;
+
+/**
+ * Outbound port for refunding payments via the Payment Service HTTP API.
+ */
+public interface PaymentRefundPort {
+
+    /**
+     * Refunds every successful payment of an order. Safe to repeat, and a no-op if the order was
+     * never charged, so it can compensate a payment whose outcome is unknown.
+     *
+     * @param orderId the order whose payments are refunded
+     */
+    void refundPayments(String orderId);
+}
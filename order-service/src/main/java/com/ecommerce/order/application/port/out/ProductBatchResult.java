@@ -0,0 +1,16 @@
+package com.ecommerce.order.application.port.out;
+
+import java.util.List;
+
+public class ProductBatchResult {
+    private final List<ProductInfo> products;
+    private final List<String> missingIds;
+
+    public ProductBatchResult(List<ProductInfo> products, List<String> missingIds) {
+        this.products = products;
+        this.missingIds = missingIds;
+    }
+
+    public List<ProductInfo> getProducts() { return products; }
+    public List<String> getMissingIds() { return missingIds; }
+}
@@ -1,5 +1,7 @@
 package com.ecommerce.order.application.port.out;
 
+import java.util.Collection;
+
 /**
  * Outbound port for querying product information from the Product Service via HTTP.
  */
@@ -12,4 +14,12 @@ public interface ProductQueryPort {
      * @return product information including name and price
      */
     ProductInfo queryProduct(String productId);
+
+    /**
+     * Queries several products in a single call.
+     *
+     * @param productIds the product identifiers to resolve
+     * @return the products found plus the IDs the Product Service does not know
+     */
+    ProductBatchResult queryProducts(Collection<String> productIds);
 }
@@ -0,0 +1,55 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.mapper.OrderApplicationMapper;
+import com.ecommerce.order.application.port.in.AcceptOrderPort;
+import com.ecommerce.order.domain.model.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Accept-then-process order creation. The order is committed in CREATED status on the request
+ * thread; reservation and payment run on a bounded worker pool, so load spikes queue inside the
+ * service instead of holding client connections. When the queue is full the order is marked
+ * FAILED, its saga aborted, and the request rejected.
+ */
+public class AcceptOrderUseCase implements AcceptOrderPort {
+
+    private static final Logger log = LoggerFactory.getLogger(AcceptOrderUseCase.class);
+
+    private final CreateOrderUseCase createOrderUseCase;
+    private final Executor workerExecutor;
+
+    public AcceptOrderUseCase(CreateOrderUseCase createOrderUseCase, Executor workerExecutor) {
+        this.createOrderUseCase = createOrderUseCase;
+        this.workerExecutor = workerExecutor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CreateOrderResult acceptOrder(CreateOrderCommand command) {
+        Order order = createOrderUseCase.initializeOrder(command);
+        try {
+            workerExecutor.execute(() -> process(order, command.getItems()));
+        } catch (RejectedExecutionException e) {
+            createOrderUseCase.rejectOrder(order);
+            throw new OrderBacklogFullException(order.getOrderId());
+        }
+        return OrderApplicationMapper.toResult(order);
+    }
+
+    /** An unexpected failure leaves the order in CREATED status for later recovery. */
+    private void process(Order order, List<OrderItemCommand> items) {
+        try {
+            createOrderUseCase.processOrder(order, items);
+        } catch (RuntimeException e) {
+            log.error("Background processing of order {} failed", order.getOrderId(), e);
+        }
+    }
+}
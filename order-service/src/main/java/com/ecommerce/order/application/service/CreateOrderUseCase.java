@@ -3,166 +3,319 @@ package com.ecommerce.order.application.service;
 import com.ecommerce.order.application.dto.CreateOrderCommand;
 import com.ecommerce.order.application.dto.CreateOrderResult;
 import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.mapper.OrderApplicationMapper;
 import com.ecommerce.order.application.port.in.CreateOrderPort;
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
 import com.ecommerce.order.application.port.out.InventoryReleasePort;
 import com.ecommerce.order.application.port.out.InventoryReservePort;
 import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
 import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.application.port.out.PaymentRefundPort;
 import com.ecommerce.order.application.port.out.PaymentResult;
 import com.ecommerce.order.application.port.out.ProductInfo;
 import com.ecommerce.order.application.port.out.ProductQueryPort;
-import com.ecommerce.order.domain.event.OrderConfirmedEvent;
-import com.ecommerce.order.domain.event.OrderConfirmedEvent.OrderItemData;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.order.domain.model.OrderSaga;
 import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.model.SagaStatus;
+import com.ecommerce.order.domain.model.SagaStep;
+import com.ecommerce.order.domain.port.OrderIdGenerator;
 import com.ecommerce.order.domain.port.OrderRepository;
+import com.ecommerce.order.domain.port.OrderSagaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.client.ResourceAccessException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Orchestrates the order creation flow: query product, reserve inventory, process payment,
  * and publish the order-confirmed event to Kafka.
+ *
+ * <p>There is no transaction around the whole flow. Each save commits on its own, and no JDBC
+ * connection is held while a downstream service is called. The final save and the
+ * order-confirmed event share one short transaction, so the event outbox stays consistent.
+ *
+ * <p>The flow runs as a persisted {@link OrderSaga}, advanced in the same transaction as each
+ * order change. When payment times out, is declined or is refused by the Payment Service circuit
+ * breaker, the saga compensates: it releases the reserved lines and refunds the order. Payment
+ * Service keeps a tombstone for a refunded order, so a payment that was still in flight when the
+ * call timed out is not kept either. When the reservation itself fails, every line of the order
+ * is released before the saga is aborted, since a per-item reservation may have reserved the
+ * earlier lines and a timed-out call may have reserved its line after all.
+ * {@link #resumeSaga} continues a saga that a crash left unfinished.
  */
 @Service
-@Transactional
 public class CreateOrderUseCase implements CreateOrderPort {
 
-    private final ProductQueryPort productQueryPort;
-    private final InventoryReservePort inventoryReservePort;
+    private static final Logger log = LoggerFactory.getLogger(CreateOrderUseCase.class);
+
+    private final ProductLookup productLookup;
+    private final InventoryReservation inventoryReservation;
     private final InventoryReleasePort inventoryReleasePort;
     private final PaymentPort paymentPort;
+    private final PaymentRefundPort paymentRefundPort;
     private final OrderRepository orderRepository;
+    private final OrderSagaRepository orderSagaRepository;
     private final OrderEventPublisherPort orderEventPublisherPort;
+    private final OrderIdGenerator orderIdGenerator;
+    private final TransactionOperations transactionOperations;
 
     public CreateOrderUseCase(ProductQueryPort productQueryPort,
                               InventoryReservePort inventoryReservePort,
                               InventoryReleasePort inventoryReleasePort,
                               PaymentPort paymentPort,
+                              PaymentRefundPort paymentRefundPort,
                               OrderRepository orderRepository,
+                              OrderSagaRepository orderSagaRepository,
                               OrderEventPublisherPort orderEventPublisherPort) {
-        this.productQueryPort = productQueryPort;
-        this.inventoryReservePort = inventoryReservePort;
+        this(ProductLookup.serial(productQueryPort), InventoryReservation.perItem(inventoryReservePort),
+                inventoryReleasePort, paymentPort, paymentRefundPort, orderRepository,
+                orderSagaRepository, orderEventPublisherPort, OrderIdGenerator.randomUuid(),
+                TransactionOperations.withoutTransaction());
+    }
+
+    @Autowired
+    public CreateOrderUseCase(ProductLookup productLookup,
+                              InventoryReservation inventoryReservation,
+                              InventoryReleasePort inventoryReleasePort,
+                              PaymentPort paymentPort,
+                              PaymentRefundPort paymentRefundPort,
+                              OrderRepository orderRepository,
+                              OrderSagaRepository orderSagaRepository,
+                              OrderEventPublisherPort orderEventPublisherPort,
+                              OrderIdGenerator orderIdGenerator,
+                              TransactionOperations transactionOperations) {
+        this.productLookup = productLookup;
+        this.inventoryReservation = inventoryReservation;
         this.inventoryReleasePort = inventoryReleasePort;
         this.paymentPort = paymentPort;
+        this.paymentRefundPort = paymentRefundPort;
         this.orderRepository = orderRepository;
+        this.orderSagaRepository = orderSagaRepository;
         this.orderEventPublisherPort = orderEventPublisherPort;
+        this.orderIdGenerator = orderIdGenerator;
+        this.transactionOperations = transactionOperations;
     }
 
     /** {@inheritDoc} */
     @Override
     public CreateOrderResult createOrder(CreateOrderCommand command) {
         Order order = initializeOrder(command);
+        return processOrder(order, command.getItems());
+    }
+
+    /** Queries the ordered products and persists the order in CREATED status with its saga. */
+    public Order initializeOrder(CreateOrderCommand command) {
+        List<OrderItem> orderItems = queryProductsAndBuildItems(command.getItems());
+        String orderId = orderIdGenerator.nextOrderId();
+        Order order = Order.create(orderId, command.getCustomerId(), orderItems);
+        return transactionOperations.execute(status -> {
+            Order saved = orderRepository.save(order);
+            orderSagaRepository.create(OrderSaga.start(saved.getOrderId()));
+            return saved;
+        });
+    }
+
+    /**
+     * Reserves inventory and processes payment for an order persisted by
+     * {@link #initializeOrder}, then persists its final status.
+     */
+    public CreateOrderResult processOrder(Order order, List<OrderItemCommand> items) {
+        return runSaga(order, items, OrderSaga.start(order.getOrderId()));
+    }
 
+    /**
+     * Fails an order persisted by {@link #initializeOrder} that will not be processed, and
+     * aborts its saga in the same transaction. Nothing was reserved, so nothing is released.
+     *
+     * @throws SagaConflictException if another process already advanced the saga
+     */
+    public Order rejectOrder(Order order) {
+        OrderSaga saga = OrderSaga.start(order.getOrderId());
+        order.fail();
+        saga.abort();
+        return saveWithSaga(order, saga);
+    }
+
+    /**
+     * Continues a saga left unfinished by a crash or an unexpected error. The saga is claimed
+     * first, so only one process continues it. A saga that has not recorded its reservation is
+     * run again; Inventory Service keeps reservations per order, so the lines reserved before the
+     * crash are not reserved twice. A saga whose order already failed has its lines released and
+     * is aborted. A saga whose payment outcome is unknown is compensated and its order marked
+     * PAYMENT_TIMEOUT.
+     *
+     * @throws SagaConflictException if another process claimed the saga first
+     */
+    public CreateOrderResult resumeSaga(Order order, OrderSaga saga) {
+        saga.claim();
+        advance(saga);
+        if (saga.getStatus() == SagaStatus.STARTED) {
+            return order.getStatus() == OrderStatus.CREATED
+                    ? runSaga(order, OrderApplicationMapper.toItemCommands(order), saga)
+                    : releaseAndAbort(order, saga);
+        }
+        if (saga.getStatus() == SagaStatus.PAYMENT_REQUESTED) {
+            return compensate(order, saga, Order::paymentTimeout);
+        }
+        completeCompensation(saga);
+        return toResult(order);
+    }
+
+    private CreateOrderResult runSaga(Order order, List<OrderItemCommand> items, OrderSaga saga) {
         try {
-            reserveInventoryForItems(command.getItems());
+            inventoryReservation.reserveAll(order.getOrderId(), items);
         } catch (RuntimeException e) {
-            return handleInventoryFailure(order);
+            return handleInventoryFailure(order, saga);
         }
+        saga.paymentRequested(order.getItems());
+        advance(saga);
+        return requestPayment(order, saga);
+    }
 
+    private CreateOrderResult requestPayment(Order order, OrderSaga saga) {
+        PaymentResult paymentResult;
         try {
-            processPaymentAndConfirm(order);
+            paymentResult = paymentPort.processPayment(order.getOrderId(),
+                    order.getTotalAmount().toBigDecimal());
         } catch (ResourceAccessException e) {
-            return handlePaymentTimeout(order, command.getItems());
+            return compensate(order, saga, Order::paymentTimeout);
+        } catch (DownstreamUnavailableException e) {
+            return compensate(order, saga, Order::fail);
         }
-
-        return finalizeOrder(order);
+        if (!paymentResult.isSuccess()) {
+            return compensate(order, saga, Order::fail);
+        }
+        return finalizeOrder(order, saga, paymentResult.getPaymentId());
     }
 
-    private Order initializeOrder(CreateOrderCommand command) {
-        List<OrderItem> orderItems = queryProductsAndBuildItems(command.getItems());
-        String orderId = generateOrderId();
-        Order order = Order.create(orderId, command.getCustomerId(), orderItems);
-        return orderRepository.save(order);
+    private CreateOrderResult finalizeOrder(Order order, OrderSaga saga, String paymentId) {
+        order.confirm();
+        saga.complete(paymentId);
+        Order saved = transactionOperations.execute(status -> {
+            Order confirmed = orderRepository.save(order);
+            advance(saga);
+            publishOrderConfirmedEvent(confirmed);
+            return confirmed;
+        });
+        return toResult(saved);
     }
 
-    private CreateOrderResult finalizeOrder(Order order) {
-        order = orderRepository.save(order);
-        if (order.getStatus() == OrderStatus.CONFIRMED) {
-            publishOrderConfirmedEvent(order);
+    /**
+     * Fails the order, then releases its lines and aborts the saga. If a release fails, the saga
+     * stays STARTED and recovery releases the lines again before aborting it.
+     */
+    private CreateOrderResult handleInventoryFailure(Order order, OrderSaga saga) {
+        order.fail();
+        Order saved = orderRepository.save(order);
+        try {
+            releaseOrderLines(saved);
+        } catch (RuntimeException e) {
+            log.warn("Release of order {} incomplete, left to recovery: {}",
+                    saved.getOrderId(), e.toString());
+            return toResult(saved);
         }
-        return toResult(order);
+        return abortSaga(saved, saga);
     }
 
-    private CreateOrderResult handleInventoryFailure(Order order) {
-        order.fail();
-        order = orderRepository.save(order);
-        return toResult(order);
+    private CreateOrderResult releaseAndAbort(Order order, OrderSaga saga) {
+        releaseOrderLines(order);
+        return abortSaga(order, saga);
     }
 
-    private CreateOrderResult handlePaymentTimeout(Order order,
-                                                   List<OrderItemCommand> items) {
-        releaseInventoryForItems(items);
-        order.paymentTimeout();
-        order = orderRepository.save(order);
+    private CreateOrderResult abortSaga(Order order, OrderSaga saga) {
+        saga.abort();
+        advance(saga);
         return toResult(order);
     }
 
-    private List<OrderItem> queryProductsAndBuildItems(List<OrderItemCommand> itemCommands) {
-        List<OrderItem> orderItems = new ArrayList<>();
-        for (OrderItemCommand itemCmd : itemCommands) {
-            ProductInfo product = productQueryPort.queryProduct(itemCmd.getProductId());
-            orderItems.add(new OrderItem(
-                    product.getProductId(),
-                    itemCmd.getQuantity(),
-                    product.getPrice()
-            ));
+    /**
+     * Releases every product of the order, whether or not its reservation went through. Inventory
+     * Service releases only what the order holds and refuses a reservation arriving afterwards.
+     */
+    private void releaseOrderLines(Order order) {
+        Map<String, Integer> quantities = InventoryReservation.quantitiesByProduct(
+                OrderApplicationMapper.toItemCommands(order));
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            inventoryReleasePort.releaseInventory(order.getOrderId(), entry.getKey(),
+                    entry.getValue());
         }
-        return orderItems;
     }
 
-    private void reserveInventoryForItems(List<OrderItemCommand> itemCommands) {
-        for (OrderItemCommand itemCmd : itemCommands) {
-            inventoryReservePort.reserveInventory(
-                    itemCmd.getProductId(), itemCmd.getQuantity());
+    /**
+     * Moves the order to its final status and starts compensating in one transaction, then
+     * releases the reserved lines and refunds the order. If a compensation call fails, the saga
+     * stays COMPENSATING and recovery retries it.
+     */
+    private CreateOrderResult compensate(Order order, OrderSaga saga, Consumer<Order> outcome) {
+        outcome.accept(order);
+        saga.startCompensation();
+        Order saved = saveWithSaga(order, saga);
+        try {
+            completeCompensation(saga);
+        } catch (RuntimeException e) {
+            log.warn("Compensation of order {} incomplete, left to recovery: {}",
+                    order.getOrderId(), e.toString());
         }
+        return toResult(saved);
     }
 
-    private void releaseInventoryForItems(List<OrderItemCommand> itemCommands) {
-        for (OrderItemCommand itemCmd : itemCommands) {
-            inventoryReleasePort.releaseInventory(
-                    itemCmd.getProductId(), itemCmd.getQuantity());
+    /** Releases each line still reserved and refunds the order, recording every step. */
+    private void completeCompensation(OrderSaga saga) {
+        for (SagaStep line : saga.getUnreleasedReservations()) {
+            inventoryReleasePort.releaseInventory(saga.getOrderId(), line.getProductId(),
+                    line.getQuantity());
+            saga.inventoryReleased(line.getProductId(), line.getQuantity());
+            advance(saga);
+        }
+        if (!saga.isRefunded()) {
+            paymentRefundPort.refundPayments(saga.getOrderId());
+            saga.paymentRefunded();
         }
+        saga.compensated();
+        advance(saga);
+    }
+
+    private Order saveWithSaga(Order order, OrderSaga saga) {
+        return transactionOperations.execute(status -> {
+            Order saved = orderRepository.save(order);
+            advance(saga);
+            return saved;
+        });
     }
 
-    private void processPaymentAndConfirm(Order order) {
-        PaymentResult paymentResult = paymentPort.processPayment(
-                order.getOrderId(), order.getTotalAmount());
-        if (paymentResult.isSuccess()) {
-            order.confirm();
+    private void advance(OrderSaga saga) {
+        if (!orderSagaRepository.update(saga)) {
+            throw new SagaConflictException(saga.getOrderId());
         }
     }
 
-    private void publishOrderConfirmedEvent(Order order) {
-        List<OrderItemData> itemDataList = new ArrayList<>();
-        for (OrderItem item : order.getItems()) {
-            itemDataList.add(new OrderItemData(
-                    item.getProductId(),
-                    item.getQuantity(),
-                    item.getUnitPrice()));
+    private List<OrderItem> queryProductsAndBuildItems(List<OrderItemCommand> itemCommands) {
+        List<String> productIds = new ArrayList<>(itemCommands.size());
+        for (OrderItemCommand itemCmd : itemCommands) {
+            productIds.add(itemCmd.getProductId());
+        }
+        List<ProductInfo> products = productLookup.queryAll(productIds);
+        List<OrderItem> orderItems = new ArrayList<>(itemCommands.size());
+        for (int i = 0; i < itemCommands.size(); i++) {
+            orderItems.add(OrderApplicationMapper.toOrderItem(itemCommands.get(i), products.get(i)));
         }
-        OrderConfirmedEvent event = new OrderConfirmedEvent(
-                order.getOrderId(),
-                order.getCustomerId(),
-                itemDataList,
-                order.getTotalAmount());
-        orderEventPublisherPort.publish(event);
+        return orderItems;
     }
 
-    private CreateOrderResult toResult(Order order) {
-        return new CreateOrderResult(
-                order.getOrderId(),
-                order.getStatus().name(),
-                order.getTotalAmount()
-        );
+    private void publishOrderConfirmedEvent(Order order) {
+        orderEventPublisherPort.publish(OrderApplicationMapper.toConfirmedEvent(order));
     }
 
-    private String generateOrderId() {
-        return "ORD-" + UUID.randomUUID().toString();
+    private CreateOrderResult toResult(Order order) {
+        return OrderApplicationMapper.toResult(order);
     }
 }
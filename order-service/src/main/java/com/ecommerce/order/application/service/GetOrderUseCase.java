@@ -0,0 +1,30 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.OrderResult;
+import com.ecommerce.order.application.mapper.OrderApplicationMapper;
+import com.ecommerce.order.application.port.in.GetOrderPort;
+import com.ecommerce.order.domain.port.OrderRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Use case for looking up a single order by its business order ID.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetOrderUseCase implements GetOrderPort {
+
+    private final OrderRepository orderRepository;
+
+    public GetOrderUseCase(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<OrderResult> getOrder(String orderId) {
+        return orderRepository.findByOrderId(orderId).map(OrderApplicationMapper::toOrderResult);
+    }
+}
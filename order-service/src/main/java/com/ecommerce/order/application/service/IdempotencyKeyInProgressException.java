@@ -0,0 +1,15 @@
+package com.ecommerce.order.application.service;
+
+/**
+ * Thrown when an earlier request with the same idempotency key is still being processed.
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    private final String idempotencyKey;
+
+    public IdempotencyKeyInProgressException(String idempotencyKey) {
+        super("Request with idempotency key still in progress: " + idempotencyKey);
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() { return idempotencyKey; }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.order.application.service;
+
+/**
+ * Thrown when an idempotency key is sent again with a request that differs from the one that
+ * first used it.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+    private final String idempotencyKey;
+
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super("Idempotency key already used for a different request: " + idempotencyKey);
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() { return idempotencyKey; }
+}
@@ -0,0 +1,159 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.port.in.CreateOrderPort;
+import com.ecommerce.order.application.port.in.IdempotentCreateOrderPort;
+import com.ecommerce.order.application.port.out.IdempotencyRecord;
+import com.ecommerce.order.application.port.out.IdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs {@link CreateOrderPort} at most once per idempotency key. The key is claimed in the
+ * store, together with a fingerprint of the request, before any downstream call, so duplicates
+ * that reach different instances or arrive after a restart cannot both run. A retry of a
+ * finished request gets the stored result. A retry that arrives while the first request is
+ * still running waits for it, up to the wait timeout, and is then refused as in progress. A key
+ * sent again with a different request is rejected. A request that ended with an exception
+ * releases its claim, so the client may retry.
+ *
+ * <p>When the first request runs on this instance, a retry waits on it directly and gets its
+ * result or its exception. Otherwise the retry polls the claim every poll interval; if the claim
+ * is released or times out in the meantime, the retry takes it over and runs itself.
+ */
+@Service
+public class IdempotentCreateOrderUseCase implements IdempotentCreateOrderPort {
+
+    private final CreateOrderPort createOrderPort;
+    private final IdempotencyStore idempotencyStore;
+    private final long waitTimeoutNanos;
+    private final long pollIntervalMs;
+    private final ConcurrentMap<String, CompletableFuture<CreateOrderResult>> inFlight =
+            new ConcurrentHashMap<>();
+
+    public IdempotentCreateOrderUseCase(
+            CreateOrderPort createOrderPort,
+            IdempotencyStore idempotencyStore,
+            @Value("${order.idempotency.wait-timeout-ms:30000}") long waitTimeoutMs,
+            @Value("${order.idempotency.poll-interval-ms:100}") long pollIntervalMs) {
+        this.createOrderPort = createOrderPort;
+        this.idempotencyStore = idempotencyStore;
+        this.waitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IdempotencyKeyInProgressException if the first request with the key is still
+     *         running when the wait timeout expires
+     * @throws IdempotencyKeyReusedException if the key was first used for a different request
+     */
+    @Override
+    public CreateOrderResult createOrder(String idempotencyKey, CreateOrderCommand command) {
+        String fingerprint = fingerprint(command);
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+        while (true) {
+            Optional<IdempotencyRecord> held = idempotencyStore.claim(idempotencyKey, fingerprint);
+            if (!held.isPresent()) {
+                return runAsFirst(idempotencyKey, fingerprint, command);
+            }
+            if (!held.get().getFingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(idempotencyKey);
+            }
+            if (held.get().isCompleted()) {
+                return held.get().getResult();
+            }
+            Optional<CreateOrderResult> local = awaitFirst(idempotencyKey, deadline);
+            if (local.isPresent()) {
+                return local.get();
+            }
+        }
+    }
+
+    private CreateOrderResult runAsFirst(String idempotencyKey, String fingerprint,
+                                         CreateOrderCommand command) {
+        CompletableFuture<CreateOrderResult> mine = new CompletableFuture<>();
+        inFlight.put(idempotencyKey, mine);
+        try {
+            CreateOrderResult result = createOrderPort.createOrder(command);
+            idempotencyStore.complete(idempotencyKey, new IdempotencyRecord(fingerprint, result));
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            idempotencyStore.release(idempotencyKey);
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, mine);
+        }
+    }
+
+    /**
+     * Waits for the request holding the key until the deadline. Returns its result if it ran on
+     * this instance, or empty once the claim should be read again.
+     */
+    private Optional<CreateOrderResult> awaitFirst(String idempotencyKey, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new IdempotencyKeyInProgressException(idempotencyKey);
+        }
+        CompletableFuture<CreateOrderResult> first = inFlight.get(idempotencyKey);
+        try {
+            return first == null
+                    ? pollAgainAfter(remaining)
+                    : Optional.of(first.get(remaining, TimeUnit.NANOSECONDS));
+        } catch (ExecutionException e) {
+            throw failureOf(e);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(idempotencyKey);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(idempotencyKey);
+        }
+    }
+
+    /** Sleeps for the poll interval, or less if the deadline comes first. */
+    private Optional<CreateOrderResult> pollAgainAfter(long remainingNanos)
+            throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(
+                Math.min(pollIntervalMs, TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1));
+        return Optional.empty();
+    }
+
+    private static RuntimeException failureOf(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException
+                ? (RuntimeException) e.getCause()
+                : new IllegalStateException(e.getCause());
+    }
+
+    /** Returns a SHA-256 hash of the customer and the order lines, in hex. */
+    static String fingerprint(CreateOrderCommand command) {
+        StringBuilder canonical = new StringBuilder().append(command.getCustomerId());
+        for (OrderItemCommand item : command.getItems()) {
+            canonical.append('|').append(item.getProductId()).append(':')
+                    .append(item.getQuantity());
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return String.format("%064x", new BigInteger(1, hash));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
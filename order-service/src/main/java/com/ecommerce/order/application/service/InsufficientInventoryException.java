@@ -0,0 +1,17 @@
+package com.ecommerce.order.application.service;
+
+import java.util.List;
+
+/**
+ * Thrown when an atomic multi-line reservation is rejected; no line of the order was reserved.
+ */
+public class InsufficientInventoryException extends RuntimeException {
+    private final List<String> failedProductIds;
+
+    public InsufficientInventoryException(List<String> failedProductIds) {
+        super("Inventory could not be reserved for products: " + failedProductIds);
+        this.failedProductIds = failedProductIds;
+    }
+
+    public List<String> getFailedProductIds() { return failedProductIds; }
+}
@@ -0,0 +1,74 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.port.out.InventoryBatchResult;
+import com.ecommerce.order.application.port.out.InventoryReservePort;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reserves inventory for every line of an order. PER_ITEM mode issues one reserve call per
+ * product, so a failure part-way leaves the earlier products reserved; BATCH mode reserves all
+ * lines in one call that the Inventory Service applies atomically. Lines of the same product are
+ * reserved together in both modes, since the Inventory Service keeps one reservation per order
+ * and product and treats a repeated one as a replay.
+ */
+public class InventoryReservation {
+
+    /** How the lines of an order are reserved. */
+    public enum Mode { PER_ITEM, BATCH }
+
+    private final InventoryReservePort inventoryReservePort;
+    private final Mode mode;
+
+    private InventoryReservation(InventoryReservePort inventoryReservePort, Mode mode) {
+        this.inventoryReservePort = inventoryReservePort;
+        this.mode = mode;
+    }
+
+    /** Creates a reservation that reserves one line at a time. */
+    public static InventoryReservation perItem(InventoryReservePort inventoryReservePort) {
+        return new InventoryReservation(inventoryReservePort, Mode.PER_ITEM);
+    }
+
+    /** Creates a reservation that reserves all lines of an order atomically in one call. */
+    public static InventoryReservation batch(InventoryReservePort inventoryReservePort) {
+        return new InventoryReservation(inventoryReservePort, Mode.BATCH);
+    }
+
+    /**
+     * Reserves stock for all given items.
+     *
+     * @throws InsufficientInventoryException if the batch reservation is rejected
+     */
+    public void reserveAll(String orderId, List<OrderItemCommand> items) {
+        Map<String, Integer> quantities = quantitiesByProduct(items);
+        if (mode == Mode.BATCH) {
+            reserveInBatch(orderId, quantities);
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            inventoryReservePort.reserveInventory(orderId, entry.getKey(), entry.getValue());
+        }
+    }
+
+    public Mode getMode() { return mode; }
+
+    /** Sums the quantities of the given lines per product, in order of first appearance. */
+    static Map<String, Integer> quantitiesByProduct(List<OrderItemCommand> items) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItemCommand item : items) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private void reserveInBatch(String orderId, Map<String, Integer> quantities) {
+        InventoryBatchResult result = inventoryReservePort.reserveAll(orderId, quantities);
+        if (!result.isReserved()) {
+            throw new InsufficientInventoryException(result.getFailedProductIds());
+        }
+    }
+}
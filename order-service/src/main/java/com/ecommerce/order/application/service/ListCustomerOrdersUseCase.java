@@ -0,0 +1,53 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.CustomerOrdersPage;
+import com.ecommerce.order.application.dto.CustomerOrdersQuery;
+import com.ecommerce.order.application.dto.OrderResult;
+import com.ecommerce.order.application.mapper.OrderApplicationMapper;
+import com.ecommerce.order.application.port.in.ListCustomerOrdersPort;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.port.OrderRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use case for paging through a customer's orders. One order more than requested is read to
+ * tell whether another page follows.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ListCustomerOrdersUseCase implements ListCustomerOrdersPort {
+
+    public static final int MAX_LIMIT = 100;
+
+    private final OrderRepository orderRepository;
+
+    public ListCustomerOrdersUseCase(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CustomerOrdersPage listOrders(CustomerOrdersQuery query) {
+        if (query.getLimit() < 1 || query.getLimit() > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        OrderStatus status = query.getStatus() == null ? null : OrderStatus.valueOf(query.getStatus());
+        List<Order> orders = orderRepository.findByCustomerId(query.getCustomerId(), status,
+                query.getAfterCreatedAt(), query.getAfterId(), query.getLimit() + 1);
+        boolean hasNext = orders.size() > query.getLimit();
+        List<OrderResult> results = new ArrayList<>(query.getLimit());
+        for (Order order : orders.subList(0, Math.min(orders.size(), query.getLimit()))) {
+            results.add(OrderApplicationMapper.toOrderResult(order));
+        }
+        if (!hasNext) {
+            return new CustomerOrdersPage(results, null, null);
+        }
+        Order last = orders.get(query.getLimit() - 1);
+        return new CustomerOrdersPage(results, last.getCreatedAt(), last.getId());
+    }
+}
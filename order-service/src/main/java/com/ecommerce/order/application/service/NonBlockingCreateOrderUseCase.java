@@ -0,0 +1,310 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.mapper.OrderApplicationMapper;
+import com.ecommerce.order.application.port.in.CreateOrderPort;
+import com.ecommerce.order.application.port.out.AsyncInventoryPort;
+import com.ecommerce.order.application.port.out.AsyncPaymentPort;
+import com.ecommerce.order.application.port.out.AsyncProductQueryPort;
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
+import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
+import com.ecommerce.order.application.port.out.PaymentResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.order.domain.model.OrderSaga;
+import com.ecommerce.order.domain.model.SagaStep;
+import com.ecommerce.order.domain.port.OrderIdGenerator;
+import com.ecommerce.order.domain.port.OrderRepository;
+import com.ecommerce.order.domain.port.OrderSagaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking variant of {@link CreateOrderUseCase}. Runs the same flow (query products, reserve
+ * inventory, process payment, publish the order-confirmed event) as a chain of futures, so no
+ * thread waits while a downstream call is in flight. Only the JPA saves block; they run on a
+ * dedicated persistence executor sized to the connection pool.
+ *
+ * <p>The flow runs as the same persisted {@link OrderSaga} as the blocking one, advanced in the
+ * same transaction as each order change, so {@link OrderSagaRecovery} finishes whatever this
+ * pipeline leaves open. A failed reservation releases every line of the order before the saga is
+ * aborted. A declined, timed-out or refused payment compensates: the reserved lines are released
+ * and the order refunded. An unexpected payment error or a failed release or refund leaves the
+ * saga unfinished, and recovery completes it.
+ */
+public class NonBlockingCreateOrderUseCase implements CreateOrderPort {
+
+    private static final Logger log = LoggerFactory.getLogger(NonBlockingCreateOrderUseCase.class);
+
+    private final AsyncProductQueryPort productQueryPort;
+    private final AsyncInventoryPort inventoryPort;
+    private final AsyncPaymentPort paymentPort;
+    private final OrderRepository orderRepository;
+    private final OrderSagaRepository orderSagaRepository;
+    private final OrderEventPublisherPort orderEventPublisherPort;
+    private final InventoryReservation.Mode reservationMode;
+    private final Executor persistenceExecutor;
+    private final OrderIdGenerator orderIdGenerator;
+    private final TransactionOperations transactionOperations;
+
+    public NonBlockingCreateOrderUseCase(AsyncProductQueryPort productQueryPort,
+                                         AsyncInventoryPort inventoryPort,
+                                         AsyncPaymentPort paymentPort,
+                                         OrderRepository orderRepository,
+                                         OrderSagaRepository orderSagaRepository,
+                                         OrderEventPublisherPort orderEventPublisherPort,
+                                         InventoryReservation.Mode reservationMode,
+                                         Executor persistenceExecutor) {
+        this(productQueryPort, inventoryPort, paymentPort, orderRepository, orderSagaRepository,
+                orderEventPublisherPort, reservationMode, persistenceExecutor,
+                OrderIdGenerator.randomUuid(), TransactionOperations.withoutTransaction());
+    }
+
+    public NonBlockingCreateOrderUseCase(AsyncProductQueryPort productQueryPort,
+                                         AsyncInventoryPort inventoryPort,
+                                         AsyncPaymentPort paymentPort,
+                                         OrderRepository orderRepository,
+                                         OrderSagaRepository orderSagaRepository,
+                                         OrderEventPublisherPort orderEventPublisherPort,
+                                         InventoryReservation.Mode reservationMode,
+                                         Executor persistenceExecutor,
+                                         OrderIdGenerator orderIdGenerator,
+                                         TransactionOperations transactionOperations) {
+        this.productQueryPort = productQueryPort;
+        this.inventoryPort = inventoryPort;
+        this.paymentPort = paymentPort;
+        this.orderRepository = orderRepository;
+        this.orderSagaRepository = orderSagaRepository;
+        this.orderEventPublisherPort = orderEventPublisherPort;
+        this.reservationMode = reservationMode;
+        this.persistenceExecutor = persistenceExecutor;
+        this.orderIdGenerator = orderIdGenerator;
+        this.transactionOperations = transactionOperations;
+    }
+
+    /** {@inheritDoc} Waits for {@link #createOrderAsync} on the caller thread. */
+    @Override
+    public CreateOrderResult createOrder(CreateOrderCommand command) {
+        try {
+            return createOrderAsync(command).join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<CreateOrderResult> createOrderAsync(CreateOrderCommand command) {
+        List<OrderItemCommand> items = command.getItems();
+        return queryProductsAndBuildItems(items)
+                .thenCompose(orderItems -> initializeOrder(Order.create(
+                        orderIdGenerator.nextOrderId(), command.getCustomerId(), orderItems)))
+                .thenCompose(order -> runSaga(order, items, OrderSaga.start(order.getOrderId())));
+    }
+
+    private CompletableFuture<List<OrderItem>> queryProductsAndBuildItems(
+            List<OrderItemCommand> itemCommands) {
+        List<CompletableFuture<ProductInfo>> lookups = new ArrayList<>(itemCommands.size());
+        for (OrderItemCommand itemCmd : itemCommands) {
+            lookups.add(productQueryPort.queryProduct(itemCmd.getProductId()));
+        }
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<OrderItem> orderItems = new ArrayList<>(itemCommands.size());
+                    for (int i = 0; i < itemCommands.size(); i++) {
+                        orderItems.add(OrderApplicationMapper.toOrderItem(
+                                itemCommands.get(i), lookups.get(i).join()));
+                    }
+                    return orderItems;
+                });
+    }
+
+    /** Persists the order in CREATED status together with its saga. */
+    private CompletableFuture<Order> initializeOrder(Order order) {
+        return persist(() -> transactionOperations.execute(status -> {
+            Order saved = orderRepository.save(order);
+            orderSagaRepository.create(OrderSaga.start(saved.getOrderId()));
+            return saved;
+        }));
+    }
+
+    private CompletableFuture<CreateOrderResult> runSaga(Order order,
+                                                         List<OrderItemCommand> items,
+                                                         OrderSaga saga) {
+        return reserveInventory(order.getOrderId(), items)
+                .handle((ignored, error) -> error == null
+                        ? requestPayment(order, saga)
+                        : handleInventoryFailure(order, saga))
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Void> reserveInventory(String orderId, List<OrderItemCommand> items) {
+        Map<String, Integer> quantities = InventoryReservation.quantitiesByProduct(items);
+        if (reservationMode == InventoryReservation.Mode.BATCH) {
+            return inventoryPort.reserveAll(orderId, quantities).thenAccept(result -> {
+                if (!result.isReserved()) {
+                    throw new InsufficientInventoryException(result.getFailedProductIds());
+                }
+            });
+        }
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            chain = chain.thenCompose(ignored -> inventoryPort
+                    .reserveInventory(orderId, entry.getKey(), entry.getValue())
+                    .thenAccept(reserved -> { }));
+        }
+        return chain;
+    }
+
+    private CompletableFuture<CreateOrderResult> requestPayment(Order order, OrderSaga saga) {
+        saga.paymentRequested(order.getItems());
+        return persist(() -> advance(saga))
+                .thenCompose(ignored -> paymentPort.processPayment(order.getOrderId(),
+                        order.getTotalAmount().toBigDecimal()))
+                .handle((paymentResult, error) -> error == null
+                        ? confirmIfPaid(order, saga, paymentResult)
+                        : handlePaymentError(order, saga, unwrap(error)))
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Compensates a timed-out or refused payment. Any other error is rethrown and leaves the saga
+     * PAYMENT_REQUESTED, which recovery compensates as a payment timeout.
+     */
+    private CompletableFuture<CreateOrderResult> handlePaymentError(Order order, OrderSaga saga,
+                                                                    RuntimeException cause) {
+        if (cause instanceof ResourceAccessException) {
+            return compensate(order, saga, Order::paymentTimeout);
+        }
+        if (cause instanceof DownstreamUnavailableException) {
+            return compensate(order, saga, Order::fail);
+        }
+        throw cause;
+    }
+
+    private CompletableFuture<CreateOrderResult> confirmIfPaid(Order order, OrderSaga saga,
+                                                               PaymentResult paymentResult) {
+        if (!paymentResult.isSuccess()) {
+            return compensate(order, saga, Order::fail);
+        }
+        order.confirm();
+        saga.complete(paymentResult.getPaymentId());
+        return persist(() -> transactionOperations.execute(status -> {
+            Order saved = orderRepository.save(order);
+            advance(saga);
+            orderEventPublisherPort.publish(OrderApplicationMapper.toConfirmedEvent(saved));
+            return saved;
+        })).thenApply(OrderApplicationMapper::toResult);
+    }
+
+    /**
+     * Fails the order, then releases every line and aborts the saga. If a release fails, the saga
+     * stays STARTED and recovery releases the lines again before aborting it.
+     */
+    private CompletableFuture<CreateOrderResult> handleInventoryFailure(Order order,
+                                                                        OrderSaga saga) {
+        order.fail();
+        return persist(() -> orderRepository.save(order))
+                .thenCompose(saved -> releaseOrderLines(saved)
+                        .thenCompose(ignored -> persist(() -> {
+                            saga.abort();
+                            advance(saga);
+                            return saved;
+                        }))
+                        .exceptionally(error -> leftToRecovery(saved, "Release", error)))
+                .thenApply(OrderApplicationMapper::toResult);
+    }
+
+    /** Releases every product of the order, whether or not its reservation went through. */
+    private CompletableFuture<Void> releaseOrderLines(Order order) {
+        Map<String, Integer> quantities = InventoryReservation.quantitiesByProduct(
+                OrderApplicationMapper.toItemCommands(order));
+        List<CompletableFuture<Void>> releases = new ArrayList<>(quantities.size());
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            releases.add(inventoryPort.releaseInventory(order.getOrderId(), entry.getKey(),
+                    entry.getValue()));
+        }
+        return CompletableFuture.allOf(releases.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Moves the order to its final status and starts compensating in one transaction, then
+     * releases the reserved lines and refunds the order. If a compensation call fails, the saga
+     * stays COMPENSATING and recovery retries it.
+     */
+    private CompletableFuture<CreateOrderResult> compensate(Order order, OrderSaga saga,
+                                                            Consumer<Order> outcome) {
+        outcome.accept(order);
+        saga.startCompensation();
+        return persist(() -> transactionOperations.execute(status -> {
+            Order saved = orderRepository.save(order);
+            advance(saga);
+            return saved;
+        })).thenCompose(saved -> completeCompensation(saga)
+                .thenApply(ignored -> saved)
+                .exceptionally(error -> leftToRecovery(saved, "Compensation", error)))
+                .thenApply(OrderApplicationMapper::toResult);
+    }
+
+    /** Releases each line still reserved and refunds the order, recording every step. */
+    private CompletableFuture<OrderSaga> completeCompensation(OrderSaga saga) {
+        CompletableFuture<OrderSaga> chain = CompletableFuture.completedFuture(saga);
+        for (SagaStep line : saga.getUnreleasedReservations()) {
+            chain = chain.thenCompose(ignored -> inventoryPort.releaseInventory(
+                    saga.getOrderId(), line.getProductId(), line.getQuantity()))
+                    .thenCompose(ignored -> persist(() -> {
+                        saga.inventoryReleased(line.getProductId(), line.getQuantity());
+                        return advance(saga);
+                    }));
+        }
+        return chain.thenCompose(ignored -> paymentPort.refundPayments(saga.getOrderId()))
+                .thenCompose(ignored -> persist(() -> {
+                    saga.paymentRefunded();
+                    saga.compensated();
+                    return advance(saga);
+                }));
+    }
+
+    private Order leftToRecovery(Order order, String step, Throwable error) {
+        log.warn("{} of order {} incomplete, left to recovery: {}", step, order.getOrderId(),
+                unwrap(error).toString());
+        return order;
+    }
+
+    private OrderSaga advance(OrderSaga saga) {
+        if (!orderSagaRepository.update(saga)) {
+            throw new SagaConflictException(saga.getOrderId());
+        }
+        return saga;
+    }
+
+    private <T> CompletableFuture<T> persist(Supplier<T> work) {
+        return CompletableFuture.supplyAsync(work, persistenceExecutor);
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new IllegalStateException("Order creation failed", cause);
+    }
+}
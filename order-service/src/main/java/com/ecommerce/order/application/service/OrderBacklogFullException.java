@@ -0,0 +1,15 @@
+package com.ecommerce.order.application.service;
+
+/**
+ * Thrown when an order cannot be accepted because the background processing queue is full.
+ */
+public class OrderBacklogFullException extends RuntimeException {
+    private final String orderId;
+
+    public OrderBacklogFullException(String orderId) {
+        super("Order processing backlog is full, rejected order: " + orderId);
+        this.orderId = orderId;
+    }
+
+    public String getOrderId() { return orderId; }
+}
@@ -0,0 +1,89 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderSaga;
+import com.ecommerce.order.domain.port.OrderRepository;
+import com.ecommerce.order.domain.port.OrderSagaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Finds order sagas left unfinished by a crash or an unexpected error and hands them to
+ * {@link CreateOrderUseCase#resumeSaga}. A saga counts as idle once it has not changed for the
+ * idle threshold, which must exceed the longest time an order can legitimately spend in
+ * processing, including its wait in the accept-mode backlog. Sagas are read one page at a time
+ * by ascending ID, so a large backlog after a restart is never loaded at once.
+ */
+public class OrderSagaRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSagaRecovery.class);
+
+    private final CreateOrderUseCase createOrderUseCase;
+    private final OrderSagaRepository orderSagaRepository;
+    private final OrderRepository orderRepository;
+    private final int pageSize;
+    private final Duration idleThreshold;
+    private final Clock clock;
+
+    public OrderSagaRecovery(CreateOrderUseCase createOrderUseCase,
+                             OrderSagaRepository orderSagaRepository,
+                             OrderRepository orderRepository,
+                             int pageSize,
+                             Duration idleThreshold,
+                             Clock clock) {
+        this.createOrderUseCase = createOrderUseCase;
+        this.orderSagaRepository = orderSagaRepository;
+        this.orderRepository = orderRepository;
+        this.pageSize = pageSize;
+        this.idleThreshold = idleThreshold;
+        this.clock = clock;
+    }
+
+    /**
+     * Resumes or compensates every idle saga. A saga that cannot be recovered now is skipped and
+     * picked up again by a later scan.
+     *
+     * @return the number of sagas recovered
+     */
+    public int recoverIdleSagas() {
+        LocalDateTime idleSince = LocalDateTime.now(clock).minus(idleThreshold);
+        long afterId = 0;
+        int recovered = 0;
+        List<OrderSaga> page;
+        do {
+            page = orderSagaRepository.findUnfinished(idleSince, afterId, pageSize);
+            for (OrderSaga saga : page) {
+                afterId = saga.getId();
+                if (recover(saga)) {
+                    recovered++;
+                }
+            }
+        } while (page.size() == pageSize);
+        return recovered;
+    }
+
+    private boolean recover(OrderSaga saga) {
+        try {
+            Optional<Order> order = orderRepository.findByOrderId(saga.getOrderId());
+            if (!order.isPresent()) {
+                log.warn("Saga of order {} has no order, skipping", saga.getOrderId());
+                return false;
+            }
+            CreateOrderResult result = createOrderUseCase.resumeSaga(order.get(), saga);
+            log.info("Recovered saga of order {} from {}, order is {}",
+                    saga.getOrderId(), saga.getStatus(), result.getStatus());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Recovery of order {} failed, retrying on next scan: {}",
+                    saga.getOrderId(), e.toString());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
+import com.ecommerce.order.application.port.out.ProductBatchResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Resolves product information for every line of an order. SERIAL mode queries one product after
+ * another on the caller thread; CONCURRENT mode fans the lookups out on a bounded executor, keeps
+ * the item order, fails fast on the first error or when the executor refuses a lookup, and gives
+ * up once the overall deadline passes; BATCH mode resolves all products with a single multi-get
+ * call.
+ */
+public class ProductLookup {
+
+    /** How product lookups for a multi-item order are executed. */
+    public enum Mode { SERIAL, CONCURRENT, BATCH }
+
+    private final ProductQueryPort productQueryPort;
+    private final Mode mode;
+    private final Executor executor;
+    private final long deadlineMs;
+
+    private ProductLookup(ProductQueryPort productQueryPort, Mode mode,
+                          Executor executor, long deadlineMs) {
+        this.productQueryPort = productQueryPort;
+        this.mode = mode;
+        this.executor = executor;
+        this.deadlineMs = deadlineMs;
+    }
+
+    /** Creates a lookup that queries products one at a time on the caller thread. */
+    public static ProductLookup serial(ProductQueryPort productQueryPort) {
+        return new ProductLookup(productQueryPort, Mode.SERIAL, null, 0L);
+    }
+
+    /** Creates a lookup that fans out on the given executor, bounded by an overall deadline. */
+    public static ProductLookup concurrent(ProductQueryPort productQueryPort,
+                                           Executor executor, long deadlineMs) {
+        if (deadlineMs <= 0) {
+            throw new IllegalArgumentException("Deadline must be positive: " + deadlineMs);
+        }
+        return new ProductLookup(productQueryPort, Mode.CONCURRENT, executor, deadlineMs);
+    }
+
+    /** Creates a lookup that resolves all products of an order with one multi-get call. */
+    public static ProductLookup batch(ProductQueryPort productQueryPort) {
+        return new ProductLookup(productQueryPort, Mode.BATCH, null, 0L);
+    }
+
+    /**
+     * Queries all given products and returns their information in the same order as the IDs.
+     *
+     * @throws ResourceAccessException if the concurrent lookups exceed the overall deadline
+     * @throws DownstreamUnavailableException if the executor refuses a concurrent lookup
+     * @throws ProductNotFoundException if a batch lookup reports unknown product IDs
+     */
+    public List<ProductInfo> queryAll(List<String> productIds) {
+        if (mode == Mode.BATCH) {
+            return queryInBatch(productIds);
+        }
+        if (mode == Mode.SERIAL || productIds.size() < 2) {
+            return querySerially(productIds);
+        }
+        return queryConcurrently(productIds);
+    }
+
+    public Mode getMode() { return mode; }
+
+    private List<ProductInfo> querySerially(List<String> productIds) {
+        List<ProductInfo> products = new ArrayList<>(productIds.size());
+        for (String productId : productIds) {
+            products.add(productQueryPort.queryProduct(productId));
+        }
+        return products;
+    }
+
+    private List<ProductInfo> queryInBatch(List<String> productIds) {
+        ProductBatchResult batch = productQueryPort.queryProducts(new LinkedHashSet<>(productIds));
+        if (!batch.getMissingIds().isEmpty()) {
+            throw new ProductNotFoundException(batch.getMissingIds());
+        }
+        Map<String, ProductInfo> byId = new HashMap<>();
+        for (ProductInfo product : batch.getProducts()) {
+            byId.put(product.getProductId(), product);
+        }
+        List<ProductInfo> products = new ArrayList<>(productIds.size());
+        for (String productId : productIds) {
+            products.add(byId.get(productId));
+        }
+        return products;
+    }
+
+    private List<ProductInfo> queryConcurrently(List<String> productIds) {
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        List<CompletableFuture<ProductInfo>> lookups = new ArrayList<>(productIds.size());
+        for (String productId : productIds) {
+            CompletableFuture<ProductInfo> lookup = submit(productId, lookups);
+            lookup.whenComplete((product, error) -> {
+                if (error != null) {
+                    firstFailure.completeExceptionally(error);
+                }
+            });
+            lookups.add(lookup);
+        }
+        awaitAllOrFirstFailure(lookups, firstFailure);
+        return collect(lookups);
+    }
+
+    /** Starts one lookup, cancelling those already started if the executor refuses it. */
+    private CompletableFuture<ProductInfo> submit(String productId,
+                                                  List<CompletableFuture<ProductInfo>> started) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> productQueryPort.queryProduct(productId), executor);
+        } catch (RejectedExecutionException e) {
+            cancelAll(started);
+            throw new DownstreamUnavailableException("Product Service", "lookup pool full");
+        }
+    }
+
+    private void awaitAllOrFirstFailure(List<CompletableFuture<ProductInfo>> lookups,
+                                        CompletableFuture<Void> firstFailure) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(
+                lookups.toArray(new CompletableFuture<?>[0]));
+        try {
+            CompletableFuture.anyOf(all, firstFailure).get(deadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancelAll(lookups);
+            throw new ResourceAccessException(
+                    "Product lookup exceeded deadline of " + deadlineMs + " ms");
+        } catch (ExecutionException e) {
+            cancelAll(lookups);
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(lookups);
+            throw new IllegalStateException("Interrupted while querying products", e);
+        }
+    }
+
+    private List<ProductInfo> collect(List<CompletableFuture<ProductInfo>> lookups) {
+        List<ProductInfo> products = new ArrayList<>(lookups.size());
+        for (CompletableFuture<ProductInfo> lookup : lookups) {
+            products.add(lookup.join());
+        }
+        return products;
+    }
+
+    /**
+     * Cancels lookups that have not started or finished yet. Requests already on the wire are
+     * not interrupted; they complete or time out on the HTTP client's own read timeout.
+     */
+    private void cancelAll(List<CompletableFuture<ProductInfo>> lookups) {
+        for (CompletableFuture<ProductInfo> lookup : lookups) {
+            lookup.cancel(false);
+        }
+    }
+
+    private RuntimeException unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new IllegalStateException("Product lookup failed", cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.order.application.service;
+
+import java.util.List;
+
+/**
+ * Thrown when an order references products that the Product Service does not know.
+ */
+public class ProductNotFoundException extends RuntimeException {
+    private final List<String> missingProductIds;
+
+    public ProductNotFoundException(List<String> missingProductIds) {
+        super("Products not found: " + missingProductIds);
+        this.missingProductIds = missingProductIds;
+    }
+
+    public List<String> getMissingProductIds() { return missingProductIds; }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.order.application.service;
+
+/**
+ * Thrown when an order saga was changed by another process, typically the recovery scanner,
+ * while this one was driving it. The other process owns the saga from then on.
+ */
+public class SagaConflictException extends RuntimeException {
+    private final String orderId;
+
+    public SagaConflictException(String orderId) {
+        super("Saga of order " + orderId + " was taken over by another process");
+        this.orderId = orderId;
+    }
+
+    public String getOrderId() { return orderId; }
+}
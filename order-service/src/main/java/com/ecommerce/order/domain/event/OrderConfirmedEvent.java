@@ -2,10 +2,12 @@ package com.ecommerce.order.domain.event;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
 /**
  * Domain event published when an order is confirmed. Sent to Kafka for async notification processing.
+ * The timestamp is in UTC, whatever the zone of this service.
  */
 public class OrderConfirmedEvent {
     private final String orderId;
@@ -20,7 +22,7 @@ public class OrderConfirmedEvent {
         this.customerId = customerId;
         this.items = items;
         this.totalAmount = totalAmount;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = LocalDateTime.now(ZoneOffset.UTC);
     }
 
     public String getOrderId() { return orderId; }
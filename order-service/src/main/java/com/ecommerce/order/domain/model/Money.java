@@ -0,0 +1,112 @@
+package com.ecommerce.order.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Immutable amount of money in one currency, held as a long count of the currency's minor units
+ * (cents for TWD). Arithmetic is exact: adding or multiplying past the long range throws
+ * {@link ArithmeticException} instead of wrapping, and amounts of different currencies are never
+ * combined. Amounts enter and leave as {@link BigDecimal} at the service boundaries only.
+ */
+public final class Money implements Comparable<Money> {
+
+    /** Currency of every amount this service stores; the amount columns carry none. */
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("TWD");
+
+    private static final Money ZERO = new Money(0, DEFAULT_CURRENCY);
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    /** Returns zero in {@link #DEFAULT_CURRENCY}. */
+    public static Money zero() {
+        return ZERO;
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /** Returns {@code amount} in {@link #DEFAULT_CURRENCY}. */
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Returns {@code amount} in {@code currency}.
+     *
+     * @throws IllegalArgumentException if the amount has more decimals than the currency or does
+     *         not fit in a long count of minor units
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        try {
+            return new Money(amount.movePointRight(currency.getDefaultFractionDigits())
+                    .longValueExact(), currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Not a " + currency + " amount: " + amount, e);
+        }
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money times(int multiplier) {
+        return new Money(Math.multiplyExact(minorUnits, (long) multiplier), currency);
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    /** Returns the amount with as many decimals as the currency has, e.g. 1998.00. */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    /** @throws IllegalArgumentException if the currencies differ */
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException(
+                    "Currency mismatch: " + currency + " and " + other.currency);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money)) {
+            return false;
+        }
+        Money other = (Money) o;
+        return minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + " " + toBigDecimal().toPlainString();
+    }
+
+    public long getMinorUnits() { return minorUnits; }
+    public Currency getCurrency() { return currency; }
+}
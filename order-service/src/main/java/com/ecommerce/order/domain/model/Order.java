@@ -1,6 +1,5 @@
 package com.ecommerce.order.domain.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -8,16 +7,19 @@ import java.util.List;
 
 /**
  * Order aggregate root. Manages order lifecycle including creation, confirmation, failure, and payment timeout.
+ * Once persisted, only the status changes; the version counts the stored changes, so the
+ * repository can reject a change made against an outdated copy.
  */
 public class Order {
     private Long id;
     private String orderId;
     private String customerId;
     private OrderStatus status;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private List<OrderItem> items;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;
 
     protected Order() {}
 
@@ -30,14 +32,14 @@ public class Order {
         order.items = new ArrayList<>(items);
         order.totalAmount = order.calculateTotal();
         order.createdAt = LocalDateTime.now();
-        order.updatedAt = LocalDateTime.now();
+        order.updatedAt = order.createdAt;
         return order;
     }
 
     /** Reconstitutes an order from persisted state. */
     public static Order reconstitute(Long id, String orderId, String customerId,
-            OrderStatus status, BigDecimal totalAmount, List<OrderItem> items,
-            LocalDateTime createdAt, LocalDateTime updatedAt) {
+            OrderStatus status, Money totalAmount, List<OrderItem> items,
+            LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
         Order order = new Order();
         order.id = id;
         order.orderId = orderId;
@@ -47,6 +49,7 @@ public class Order {
         order.items = new ArrayList<>(items);
         order.createdAt = createdAt;
         order.updatedAt = updatedAt;
+        order.version = version;
         return order;
     }
 
@@ -77,18 +80,32 @@ public class Order {
         this.updatedAt = LocalDateTime.now();
     }
 
-    private BigDecimal calculateTotal() {
-        return items.stream()
-                .map(OrderItem::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /** Called by the repository once a status change of the order is stored. */
+    public void markPersisted() {
+        this.version++;
+    }
+
+    /** Sums the subtotals in minor units, so only the total itself is allocated. */
+    private Money calculateTotal() {
+        if (items.isEmpty()) {
+            return Money.zero();
+        }
+        Money first = items.get(0).getSubtotal();
+        long total = 0;
+        for (OrderItem item : items) {
+            first.requireSameCurrency(item.getSubtotal());
+            total = Math.addExact(total, item.getSubtotal().getMinorUnits());
+        }
+        return Money.ofMinor(total, first.getCurrency());
     }
 
     public Long getId() { return id; }
     public String getOrderId() { return orderId; }
     public String getCustomerId() { return customerId; }
     public OrderStatus getStatus() { return status; }
-    public BigDecimal getTotalAmount() { return totalAmount; }
+    public Money getTotalAmount() { return totalAmount; }
     public List<OrderItem> getItems() { return Collections.unmodifiableList(items); }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public long getVersion() { return version; }
 }
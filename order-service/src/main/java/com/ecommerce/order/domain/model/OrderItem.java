@@ -1,27 +1,27 @@
 package com.ecommerce.order.domain.model;
 
-import java.math.BigDecimal;
-
 /**
  * Value object representing a line item in an order, containing product, quantity, and unit price.
  */
 public class OrderItem {
-    private String productId;
-    private int quantity;
-    private BigDecimal unitPrice;
+    private final String productId;
+    private final int quantity;
+    private final Money unitPrice;
+    private final Money subtotal;
 
-    public OrderItem(String productId, int quantity, BigDecimal unitPrice) {
+    public OrderItem(String productId, int quantity, Money unitPrice) {
         this.productId = productId;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
+        this.subtotal = unitPrice.times(quantity);
     }
 
-    /** Calculates the subtotal as unitPrice * quantity. */
-    public BigDecimal getSubtotal() {
-        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    /** Returns the subtotal, unitPrice * quantity, computed once when the item is created. */
+    public Money getSubtotal() {
+        return subtotal;
     }
 
     public String getProductId() { return productId; }
     public int getQuantity() { return quantity; }
-    public BigDecimal getUnitPrice() { return unitPrice; }
+    public Money getUnitPrice() { return unitPrice; }
 }
@@ -0,0 +1,178 @@
+package com.ecommerce.order.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Persistent state of the order creation saga: where the flow stands and which steps succeeded.
+ * It survives a restart, so an order interrupted between reservation and payment can be resumed
+ * or compensated. Each change bumps the version, and the repository only applies a change made
+ * against the current version, so two processes never drive the same saga.
+ */
+public class OrderSaga {
+    private Long id;
+    private String orderId;
+    private SagaStatus status;
+    private long version;
+    private List<SagaStep> steps;
+    private int persistedStepCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    protected OrderSaga() {}
+
+    /** Starts the saga of a freshly created order. */
+    public static OrderSaga start(String orderId) {
+        OrderSaga saga = new OrderSaga();
+        saga.orderId = orderId;
+        saga.status = SagaStatus.STARTED;
+        saga.steps = new ArrayList<>();
+        saga.createdAt = LocalDateTime.now();
+        saga.updatedAt = saga.createdAt;
+        return saga;
+    }
+
+    /** Reconstitutes a saga from persisted state. */
+    public static OrderSaga reconstitute(Long id, String orderId, SagaStatus status, long version,
+            List<SagaStep> steps, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        OrderSaga saga = new OrderSaga();
+        saga.id = id;
+        saga.orderId = orderId;
+        saga.status = status;
+        saga.version = version;
+        saga.steps = new ArrayList<>(steps);
+        saga.persistedStepCount = steps.size();
+        saga.createdAt = createdAt;
+        saga.updatedAt = updatedAt;
+        return saga;
+    }
+
+    /** Records the reserved order lines; the payment outcome is unknown from here on. */
+    public void paymentRequested(List<OrderItem> reservedItems) {
+        requireStatus(SagaStatus.STARTED);
+        for (OrderItem item : reservedItems) {
+            addStep(SagaStepType.INVENTORY_RESERVED, item.getProductId(), item.getQuantity(), null);
+        }
+        transitionTo(SagaStatus.PAYMENT_REQUESTED);
+    }
+
+    /** Records the successful payment and ends the saga. */
+    public void complete(String paymentId) {
+        requireStatus(SagaStatus.PAYMENT_REQUESTED);
+        addStep(SagaStepType.PAYMENT_COMPLETED, null, 0, paymentId);
+        transitionTo(SagaStatus.COMPLETED);
+    }
+
+    /** Ends a saga whose reservation failed, once the lines it may have reserved are released. */
+    public void abort() {
+        requireStatus(SagaStatus.STARTED);
+        transitionTo(SagaStatus.COMPENSATED);
+    }
+
+    /** Starts undoing the reservation and any payment. */
+    public void startCompensation() {
+        requireStatus(SagaStatus.PAYMENT_REQUESTED);
+        transitionTo(SagaStatus.COMPENSATING);
+    }
+
+    /** Records that a reserved line was released. */
+    public void inventoryReleased(String productId, int quantity) {
+        requireStatus(SagaStatus.COMPENSATING);
+        addStep(SagaStepType.INVENTORY_RELEASED, productId, quantity, null);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /** Records that the payments of the order were refunded. */
+    public void paymentRefunded() {
+        requireStatus(SagaStatus.COMPENSATING);
+        addStep(SagaStepType.PAYMENT_REFUNDED, null, 0, null);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /** Ends the compensation. */
+    public void compensated() {
+        requireStatus(SagaStatus.COMPENSATING);
+        transitionTo(SagaStatus.COMPENSATED);
+    }
+
+    /** Takes the saga over for recovery without changing its status. */
+    public void claim() {
+        if (status.isFinal()) {
+            throw new IllegalStateException("Cannot claim saga in status: " + status);
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /** Returns the reserved lines that have not been released yet. */
+    public List<SagaStep> getUnreleasedReservations() {
+        List<SagaStep> unreleased = new ArrayList<>();
+        for (SagaStep step : steps) {
+            if (step.getType() == SagaStepType.INVENTORY_RESERVED) {
+                unreleased.add(step);
+            } else if (step.getType() == SagaStepType.INVENTORY_RELEASED) {
+                removeMatching(unreleased, step);
+            }
+        }
+        return unreleased;
+    }
+
+    /** Returns whether the payments of the order have been refunded. */
+    public boolean isRefunded() {
+        for (SagaStep step : steps) {
+            if (step.getType() == SagaStepType.PAYMENT_REFUNDED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns the steps recorded since the saga was last persisted. */
+    public List<SagaStep> getUnpersistedSteps() {
+        return Collections.unmodifiableList(steps.subList(persistedStepCount, steps.size()));
+    }
+
+    /** Called by the repository once an update of the saga is stored. */
+    public void markPersisted() {
+        this.version++;
+        this.persistedStepCount = steps.size();
+    }
+
+    private void addStep(SagaStepType type, String productId, int quantity, String reference) {
+        steps.add(new SagaStep(type, productId, quantity, reference, LocalDateTime.now()));
+    }
+
+    private void transitionTo(SagaStatus next) {
+        this.status = next;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private void requireStatus(SagaStatus expected) {
+        if (status != expected) {
+            throw new IllegalStateException(
+                    "Saga of order " + orderId + " is " + status + ", expected " + expected);
+        }
+    }
+
+    private static void removeMatching(List<SagaStep> reservations, SagaStep release) {
+        Iterator<SagaStep> it = reservations.iterator();
+        while (it.hasNext()) {
+            SagaStep reserved = it.next();
+            if (reserved.getProductId().equals(release.getProductId())
+                    && reserved.getQuantity() == release.getQuantity()) {
+                it.remove();
+                return;
+            }
+        }
+    }
+
+    public Long getId() { return id; }
+    public String getOrderId() { return orderId; }
+    public SagaStatus getStatus() { return status; }
+    public long getVersion() { return version; }
+    public List<SagaStep> getSteps() { return Collections.unmodifiableList(steps); }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.order.domain.model;
+
+/**
+ * Lifecycle states of an order saga. STARTED: order persisted, nothing reserved yet;
+ * PAYMENT_REQUESTED: inventory reserved, payment outcome not yet known; COMPENSATING: reserved
+ * inventory and any payment are being undone; COMPLETED and COMPENSATED are final.
+ */
+public enum SagaStatus {
+    STARTED, PAYMENT_REQUESTED, COMPENSATING, COMPLETED, COMPENSATED;
+
+    /** Returns whether the saga has nothing left to do. */
+    public boolean isFinal() {
+        return this == COMPLETED || this == COMPENSATED;
+    }
+}
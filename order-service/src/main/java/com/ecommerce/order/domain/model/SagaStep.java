@@ -0,0 +1,30 @@
+package com.ecommerce.order.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A step an order saga has completed. Inventory steps carry the product and quantity; payment
+ * steps carry the payment ID when one is known.
+ */
+public class SagaStep {
+    private final SagaStepType type;
+    private final String productId;
+    private final int quantity;
+    private final String reference;
+    private final LocalDateTime recordedAt;
+
+    public SagaStep(SagaStepType type, String productId, int quantity, String reference,
+                    LocalDateTime recordedAt) {
+        this.type = type;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.reference = reference;
+        this.recordedAt = recordedAt;
+    }
+
+    public SagaStepType getType() { return type; }
+    public String getProductId() { return productId; }
+    public int getQuantity() { return quantity; }
+    public String getReference() { return reference; }
+    public LocalDateTime getRecordedAt() { return recordedAt; }
+}
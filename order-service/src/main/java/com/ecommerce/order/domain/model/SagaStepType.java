@@ -0,0 +1,9 @@
+package com.ecommerce.order.domain.model;
+
+/**
+ * Kinds of steps recorded by an order saga: a forward action that succeeded, or a compensation
+ * that undid one.
+ */
+public enum SagaStepType {
+    INVENTORY_RESERVED, PAYMENT_COMPLETED, INVENTORY_RELEASED, PAYMENT_REFUNDED
+}
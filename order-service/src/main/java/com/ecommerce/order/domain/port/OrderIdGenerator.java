@@ -0,0 +1,18 @@
+package com.ecommerce.order.domain.port;
+
+import java.util.UUID;
+
+/**
+ * Domain port for generating the business ID of a new order. IDs start with {@code ORD-} and
+ * must be unique across all instances writing to the same order table.
+ */
+public interface OrderIdGenerator {
+
+    /** Returns a new, unique order ID. */
+    String nextOrderId();
+
+    /** Random UUID-based IDs. Unique without configuration, but unordered. */
+    static OrderIdGenerator randomUuid() {
+        return () -> "ORD-" + UUID.randomUUID().toString();
+    }
+}
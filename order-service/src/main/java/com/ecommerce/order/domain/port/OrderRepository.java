@@ -1,6 +1,10 @@
 package com.ecommerce.order.domain.port;
 
 import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -8,9 +12,22 @@ import java.util.Optional;
  */
 public interface OrderRepository {
 
-    /** Saves an order and returns the persisted instance. */
+    /**
+     * Saves an order and returns the persisted instance. A new order is inserted with its items;
+     * an order already persisted only has its status updated, provided its version is current.
+     */
     Order save(Order order);
 
     /** Finds an order by its business order ID. */
     Optional<Order> findByOrderId(String orderId);
+
+    /**
+     * Returns up to {@code limit} orders of a customer with their items, newest first. Only
+     * orders after the given position are returned, i.e. created before {@code beforeCreatedAt},
+     * or at that time with an ID below {@code beforeId}; pass nulls for the first page.
+     *
+     * @param status the status to filter by, or null for any status
+     */
+    List<Order> findByCustomerId(String customerId, OrderStatus status,
+                                 LocalDateTime beforeCreatedAt, Long beforeId, int limit);
 }
@@ -0,0 +1,32 @@
+package com.ecommerce.order.domain.port;
+
+import com.ecommerce.order.domain.model.OrderSaga;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Domain port for persisting order sagas and finding the ones that need recovery.
+ */
+public interface OrderSagaRepository {
+
+    /** Stores a newly started saga. */
+    void create(OrderSaga saga);
+
+    /**
+     * Stores the saga's new status and steps if it is still at the version it was loaded with.
+     *
+     * @return false if another process changed the saga first; nothing is stored then
+     */
+    boolean update(OrderSaga saga);
+
+    /** Finds the saga of an order. */
+    Optional<OrderSaga> findByOrderId(String orderId);
+
+    /**
+     * Returns up to {@code limit} unfinished sagas not changed since {@code idleSince}, ordered by
+     * ID and starting after {@code afterId}, for page-by-page recovery.
+     */
+    List<OrderSaga> findUnfinished(LocalDateTime idleSince, long afterId, int limit);
+}
@@ -0,0 +1,47 @@
+package com.ecommerce.order.infrastructure.adapter.in.rest;
+
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.application.port.in.AcceptOrderPort;
+import com.ecommerce.order.application.service.OrderBacklogFullException;
+import com.ecommerce.order.infrastructure.mapper.OrderInfraMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+/**
+ * Order endpoint of the accept mode ({@code order.pipeline.mode=accept}). Returns 202 with the
+ * order ID as soon as the order is persisted; clients poll the Location for the final status.
+ */
+@RestController
+@RequestMapping("/api/orders")
+@ConditionalOnProperty(name = "order.pipeline.mode", havingValue = "accept")
+public class AcceptingOrderController {
+
+    private final AcceptOrderPort acceptOrderPort;
+
+    public AcceptingOrderController(AcceptOrderPort acceptOrderPort) {
+        this.acceptOrderPort = acceptOrderPort;
+    }
+
+    /** Accepts an order for background processing. Returns 503 if the backlog is full. */
+    @PostMapping
+    public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderRequest request) {
+        try {
+            CreateOrderResult result = acceptOrderPort.acceptOrder(OrderInfraMapper.toCommand(request));
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/orders/" + result.getOrderId()))
+                    .body(OrderInfraMapper.toResponse(result));
+        } catch (OrderBacklogFullException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+    }
+}
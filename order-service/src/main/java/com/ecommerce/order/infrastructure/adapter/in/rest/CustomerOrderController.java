@@ -0,0 +1,76 @@
+package com.ecommerce.order.infrastructure.adapter.in.rest;
+
+import com.ecommerce.order.application.dto.CustomerOrdersPage;
+import com.ecommerce.order.application.dto.CustomerOrdersQuery;
+import com.ecommerce.order.application.port.in.ListCustomerOrdersPort;
+import com.ecommerce.order.infrastructure.mapper.OrderInfraMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * REST controller for a customer's order history. Exposes
+ * GET /api/customers/{customerId}/orders?status=&amp;limit=&amp;cursor=, newest orders first.
+ * The response carries an opaque {@code nextCursor} while more orders follow; passing it back
+ * returns the next page. An unknown status, a limit outside 1 to 100 or a malformed cursor gets
+ * 400 Bad Request.
+ */
+@RestController
+@RequestMapping("/api/customers")
+public class CustomerOrderController {
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final ListCustomerOrdersPort listCustomerOrdersPort;
+
+    public CustomerOrderController(ListCustomerOrdersPort listCustomerOrdersPort) {
+        this.listCustomerOrdersPort = listCustomerOrdersPort;
+    }
+
+    /** Returns one page of the customer's orders with their items. */
+    @GetMapping("/{customerId}/orders")
+    public ResponseEntity<CustomerOrdersResponse> listOrders(
+            @PathVariable String customerId,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor) {
+        try {
+            CustomerOrdersPage page = listCustomerOrdersPort.listOrders(toQuery(customerId, status,
+                    limit, cursor));
+            String nextCursor = page.hasNext()
+                    ? encodeCursor(page.getNextCreatedAt(), page.getNextId()) : null;
+            return ResponseEntity.ok(OrderInfraMapper.toResponse(page, nextCursor));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private static CustomerOrdersQuery toQuery(String customerId, String status, int limit,
+                                               String cursor) {
+        if (cursor == null) {
+            return new CustomerOrdersQuery(customerId, status, null, null, limit);
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf(CURSOR_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+        return new CustomerOrdersQuery(customerId, status,
+                LocalDateTime.parse(decoded.substring(0, separator)),
+                Long.valueOf(decoded.substring(separator + 1)), limit);
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String position = createdAt + CURSOR_SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.order.infrastructure.adapter.in.rest;
+
+import java.util.List;
+
+public class CustomerOrdersResponse {
+    private List<OrderResponse> orders;
+    private String nextCursor;
+
+    public CustomerOrdersResponse() {}
+
+    public CustomerOrdersResponse(List<OrderResponse> orders, String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<OrderResponse> getOrders() { return orders; }
+    public void setOrders(List<OrderResponse> orders) { this.orders = orders; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
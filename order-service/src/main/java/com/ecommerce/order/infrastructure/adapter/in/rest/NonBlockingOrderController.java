@@ -0,0 +1,37 @@
+package com.ecommerce.order.infrastructure.adapter.in.rest;
+
+import com.ecommerce.order.application.port.in.CreateOrderPort;
+import com.ecommerce.order.infrastructure.mapper.OrderInfraMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Order endpoint of the non-blocking pipeline ({@code order.pipeline.mode=non-blocking}). The
+ * request thread returns to Tomcat as soon as the pipeline is started; the response is written
+ * when the returned future completes.
+ */
+@RestController
+@RequestMapping("/api/orders")
+@ConditionalOnProperty(name = "order.pipeline.mode", havingValue = "non-blocking")
+public class NonBlockingOrderController {
+
+    private final CreateOrderPort createOrderPort;
+
+    public NonBlockingOrderController(CreateOrderPort createOrderPort) {
+        this.createOrderPort = createOrderPort;
+    }
+
+    /** Creates an order asynchronously and returns the order result once it is final. */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<CreateOrderResponse>> createOrder(
+            @RequestBody CreateOrderRequest request) {
+        return createOrderPort.createOrderAsync(OrderInfraMapper.toCommand(request))
+                .thenApply(result -> ResponseEntity.ok(OrderInfraMapper.toResponse(result)));
+    }
+}
@@ -3,32 +3,84 @@ package com.ecommerce.order.infrastructure.adapter.in.rest;
 import com.ecommerce.order.application.dto.CreateOrderCommand;
 import com.ecommerce.order.application.dto.CreateOrderResult;
 import com.ecommerce.order.application.port.in.CreateOrderPort;
+import com.ecommerce.order.application.port.in.IdempotentCreateOrderPort;
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
+import com.ecommerce.order.application.service.IdempotencyKeyInProgressException;
+import com.ecommerce.order.application.service.IdempotencyKeyReusedException;
 import com.ecommerce.order.infrastructure.mapper.OrderInfraMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * REST controller for order operations. Exposes POST /api/orders to create orders.
+ * Active in the default {@code order.pipeline.mode=blocking}.
+ *
+ * <p>A request carrying an {@code Idempotency-Key} header creates at most one order per key;
+ * retries get the first result. A retry that arrives while the first request is still running
+ * waits for it and gets 409 Conflict with Retry-After if it is still running after
+ * {@code order.idempotency.wait-timeout-ms}; a key reused for a different request gets 422. An
+ * order refused before it was created, because a downstream circuit breaker is open or its
+ * concurrency limit reached, gets 503 with Retry-After.
  */
 @RestController
 @RequestMapping("/api/orders")
+@ConditionalOnProperty(name = "order.pipeline.mode", havingValue = "blocking", matchIfMissing = true)
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+
     private final CreateOrderPort createOrderPort;
+    private final IdempotentCreateOrderPort idempotentCreateOrderPort;
 
-    public OrderController(CreateOrderPort createOrderPort) {
+    public OrderController(CreateOrderPort createOrderPort,
+                           IdempotentCreateOrderPort idempotentCreateOrderPort) {
         this.createOrderPort = createOrderPort;
+        this.idempotentCreateOrderPort = idempotentCreateOrderPort;
     }
 
     /** Creates an order and returns the order result with status and trace ID. */
     @PostMapping
-    public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderRequest request) {
+    public ResponseEntity<CreateOrderResponse> createOrder(
+            @RequestBody CreateOrderRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         CreateOrderCommand command = OrderInfraMapper.toCommand(request);
+        if (idempotencyKey != null) {
+            return createOrderOnce(idempotencyKey, command);
+        }
         CreateOrderResult result = createOrderPort.createOrder(command);
-        CreateOrderResponse response = OrderInfraMapper.toResponse(result);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(OrderInfraMapper.toResponse(result));
+    }
+
+    private ResponseEntity<CreateOrderResponse> createOrderOnce(String idempotencyKey,
+                                                                CreateOrderCommand command) {
+        if (idempotencyKey.trim().isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            CreateOrderResult result = idempotentCreateOrderPort.createOrder(idempotencyKey, command);
+            return ResponseEntity.ok(OrderInfraMapper.toResponse(result));
+        } catch (IdempotencyKeyInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        } catch (IdempotencyKeyReusedException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        }
+    }
+
+    @ExceptionHandler(DownstreamUnavailableException.class)
+    public ResponseEntity<Void> handleDownstreamUnavailable(DownstreamUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
     }
 }
@@ -0,0 +1,32 @@
+package com.ecommerce.order.infrastructure.adapter.in.rest;
+
+import com.ecommerce.order.application.port.in.GetOrderPort;
+import com.ecommerce.order.infrastructure.mapper.OrderInfraMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for reading orders. Exposes GET /api/orders/{orderId}, which clients of the
+ * accept mode poll for the final order status.
+ */
+@RestController
+@RequestMapping("/api/orders")
+public class OrderQueryController {
+
+    private final GetOrderPort getOrderPort;
+
+    public OrderQueryController(GetOrderPort getOrderPort) {
+        this.getOrderPort = getOrderPort;
+    }
+
+    /** Returns the order with its current status, or 404 if it does not exist. */
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId) {
+        return getOrderPort.getOrder(orderId)
+                .map(result -> ResponseEntity.ok(OrderInfraMapper.toResponse(result)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
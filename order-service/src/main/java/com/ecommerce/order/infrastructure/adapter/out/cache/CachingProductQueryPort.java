@@ -0,0 +1,124 @@
+package com.ecommerce.order.infrastructure.adapter.out.cache;
+
+import com.ecommerce.order.application.port.out.ProductBatchResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded product cache in front of the Product Service. Entries older than the TTL are still
+ * served while a background refresh fetches a new value (stale-while-revalidate). If that refresh
+ * fails the old value keeps being served until it reaches the maximum staleness (stale-if-error),
+ * so orders keep the last known price while the Product Service is down.
+ *
+ * <p>Hits, misses, loads and evictions are exported as {@code cache.*} meters tagged
+ * {@code cache=product}; {@code product.cache.age}, {@code product.cache.stale.hits} and
+ * {@code product.cache.refresh.failures} describe how stale the served entries are.
+ */
+public class CachingProductQueryPort implements ProductQueryPort {
+
+    private final ProductQueryPort delegate;
+    private final Ticker ticker;
+    private final long ttlNanos;
+    private final LoadingCache<String, CachedProduct> cache;
+    private final Timer entryAge;
+    private final Counter staleHits;
+    private final Counter refreshFailures;
+
+    public CachingProductQueryPort(ProductQueryPort delegate, long maxSize, Duration ttl,
+                                   Duration maxStale, Executor refreshExecutor, Ticker ticker,
+                                   MeterRegistry meterRegistry) {
+        if (maxStale.compareTo(ttl) < 0) {
+            throw new IllegalArgumentException("Max staleness must not be shorter than the TTL");
+        }
+        this.delegate = delegate;
+        this.ticker = ticker;
+        this.ttlNanos = ttl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize).refreshAfterWrite(ttl).expireAfterWrite(maxStale)
+                .executor(refreshExecutor).ticker(ticker).recordStats()
+                .build(new ProductLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product");
+        this.entryAge = Timer.builder("product.cache.age").register(meterRegistry);
+        this.staleHits = meterRegistry.counter("product.cache.stale.hits");
+        this.refreshFailures = meterRegistry.counter("product.cache.refresh.failures");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProductInfo queryProduct(String productId) {
+        CachedProduct cached = cache.get(productId);
+        long age = ticker.read() - cached.loadedAtNanos;
+        entryAge.record(age, TimeUnit.NANOSECONDS);
+        if (age > ttlNanos) {
+            staleHits.increment();
+        }
+        return cached.product;
+    }
+
+    /** {@inheritDoc} Cached products are served as-is; only the misses go to the delegate. */
+    @Override
+    public ProductBatchResult queryProducts(Collection<String> productIds) {
+        Map<String, CachedProduct> cached = cache.getAllPresent(productIds);
+        List<ProductInfo> products = new ArrayList<>(productIds.size());
+        for (CachedProduct hit : cached.values()) {
+            products.add(hit.product);
+        }
+        List<String> misses = new ArrayList<>(productIds);
+        misses.removeAll(cached.keySet());
+        if (misses.isEmpty()) {
+            return new ProductBatchResult(products, Collections.<String>emptyList());
+        }
+        ProductBatchResult fetched = delegate.queryProducts(misses);
+        for (ProductInfo product : fetched.getProducts()) {
+            cache.put(product.getProductId(), new CachedProduct(product, ticker.read()));
+            products.add(product);
+        }
+        return new ProductBatchResult(products, fetched.getMissingIds());
+    }
+
+    private final class ProductLoader implements CacheLoader<String, CachedProduct> {
+
+        @Override
+        public CachedProduct load(String productId) {
+            return new CachedProduct(delegate.queryProduct(productId), ticker.read());
+        }
+
+        /** A failed refresh keeps the old entry in place; the cache retries on the next read. */
+        @Override
+        public CachedProduct reload(String productId, CachedProduct oldValue) {
+            try {
+                return load(productId);
+            } catch (RuntimeException e) {
+                refreshFailures.increment();
+                throw e;
+            }
+        }
+    }
+
+    private static final class CachedProduct {
+        private final ProductInfo product;
+        private final long loadedAtNanos;
+
+        private CachedProduct(ProductInfo product, long loadedAtNanos) {
+            this.product = product;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+}
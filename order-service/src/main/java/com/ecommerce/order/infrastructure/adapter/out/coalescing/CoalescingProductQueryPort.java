@@ -0,0 +1,104 @@
+package com.ecommerce.order.infrastructure.adapter.out.coalescing;
+
+import com.ecommerce.order.application.port.out.ProductBatchResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight product lookups: while a lookup for a product ID is in flight, other callers
+ * asking for the same ID wait for it and share its result or its failure instead of sending
+ * their own request. Nothing is kept once the lookup completes, so this adds no staleness on
+ * top of the product cache, which it sits behind. A follower waits at most {@code maxWait},
+ * the product lookup deadline, and a leader that fails in any way, including with an
+ * {@link Error}, passes the failure on, so no follower is left waiting for good.
+ *
+ * <p>Batch lookups are passed through. {@code product.coalescing.requests} counts lookups
+ * tagged {@code role=leader} (sent) or {@code role=follower} (shared), and
+ * {@code product.coalescing.collapse.ratio} is the share of lookups that were shared.
+ */
+public class CoalescingProductQueryPort implements ProductQueryPort {
+
+    private final ProductQueryPort delegate;
+    private final ConcurrentMap<String, CompletableFuture<ProductInfo>> inFlight =
+            new ConcurrentHashMap<>();
+    private final Duration maxWait;
+    private final Counter leaders;
+    private final Counter followers;
+
+    public CoalescingProductQueryPort(ProductQueryPort delegate, Duration maxWait,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWait = maxWait;
+        this.leaders = meterRegistry.counter("product.coalescing.requests", "role", "leader");
+        this.followers = meterRegistry.counter("product.coalescing.requests", "role", "follower");
+        Gauge.builder("product.coalescing.collapse.ratio", this,
+                        CoalescingProductQueryPort::collapseRatio)
+                .register(meterRegistry);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProductInfo queryProduct(String productId) {
+        CompletableFuture<ProductInfo> mine = new CompletableFuture<>();
+        CompletableFuture<ProductInfo> leader = inFlight.putIfAbsent(productId, mine);
+        if (leader != null) {
+            followers.increment();
+            return join(leader);
+        }
+        leaders.increment();
+        try {
+            ProductInfo product = delegate.queryProduct(productId);
+            mine.complete(product);
+            return product;
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(productId, mine);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProductBatchResult queryProducts(Collection<String> productIds) {
+        return delegate.queryProducts(productIds);
+    }
+
+    /** Returns the share of lookups so far that were answered by another caller's request. */
+    public double collapseRatio() {
+        double shared = followers.count();
+        double total = shared + leaders.count();
+        return total == 0 ? 0 : shared / total;
+    }
+
+    private ProductInfo join(CompletableFuture<ProductInfo> leader) {
+        try {
+            return leader.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ResourceAccessException(
+                    "Shared product lookup exceeded " + maxWait.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException
+                    ? (RuntimeException) cause
+                    : new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying products", e);
+        }
+    }
+}
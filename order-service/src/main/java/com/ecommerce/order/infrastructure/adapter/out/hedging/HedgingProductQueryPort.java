@@ -0,0 +1,240 @@
+package com.ecommerce.order.infrastructure.adapter.out.hedging;
+
+import com.ecommerce.order.application.port.out.ProductBatchResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Hedges product lookups, which are idempotent GETs. The lookup runs on the hedge pool; if it
+ * has not answered within the hedge delay, a second identical request is sent and whichever
+ * answers first wins. The delay follows the observed latency percentile (p95 by default) over
+ * the most recent lookups, so only the slow tail is hedged.
+ *
+ * <p>Hedges are paid from a budget: every lookup earns {@code budgetRatio} of a hedge, and the
+ * unspent credit is capped, so hedges add at most about {@code budgetRatio} extra load even when
+ * the Product Service is slow across the board. A lookup is never hedged after it failed, and
+ * the losing request is left to finish on its own; its connection goes back to the pool then.
+ * If the pool is saturated the lookup runs on the caller thread without a hedge.
+ *
+ * <p>Meters: {@code product.hedge.sent}, {@code product.hedge.won} (the hedge answered first),
+ * {@code product.hedge.budget.exhausted} and the gauge {@code product.hedge.delay} in ms.
+ */
+public class HedgingProductQueryPort implements ProductQueryPort {
+
+    private static final long CREDIT_PER_HEDGE = 1000;
+    private static final int MIN_SAMPLES = 20;
+
+    private final ProductQueryPort delegate;
+    private final Executor executor;
+    private final long creditPerLookup;
+    private final long maxCredit;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final AtomicLong credit = new AtomicLong();
+    private final LatencyWindow latencies;
+    private volatile long delayNanos;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter budgetExhausted;
+
+    public HedgingProductQueryPort(ProductQueryPort delegate, Executor executor,
+                                   double budgetRatio, int maxBurst, double percentile,
+                                   long initialDelayMs, long minDelayMs, int windowSize,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.creditPerLookup = Math.round(budgetRatio * CREDIT_PER_HEDGE);
+        this.maxCredit = maxBurst * CREDIT_PER_HEDGE;
+        this.percentile = percentile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMs);
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(initialDelayMs);
+        this.latencies = new LatencyWindow(windowSize);
+        this.hedgesSent = meterRegistry.counter("product.hedge.sent");
+        this.hedgesWon = meterRegistry.counter("product.hedge.won");
+        this.budgetExhausted = meterRegistry.counter("product.hedge.budget.exhausted");
+        Gauge.builder("product.hedge.delay", this, port -> port.delayNanos / 1e6)
+                .baseUnit("milliseconds").register(meterRegistry);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProductInfo queryProduct(String productId) {
+        return hedge(() -> delegate.queryProduct(productId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProductBatchResult queryProducts(Collection<String> productIds) {
+        return hedge(() -> delegate.queryProducts(productIds));
+    }
+
+    /** Returns the current hedge delay. */
+    public long getDelayMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(delayNanos);
+    }
+
+    private <T> T hedge(Supplier<T> lookup) {
+        earnCredit();
+        CompletableFuture<T> primary = start(lookup);
+        if (primary == null) {
+            return timed(lookup).get();
+        }
+        try {
+            return primary.get(delayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return awaitFirstOf(primary, lookup);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying products", e);
+        }
+    }
+
+    private <T> T awaitFirstOf(CompletableFuture<T> primary, Supplier<T> lookup) {
+        CompletableFuture<T> hedge = spendCredit() ? start(lookup) : null;
+        if (hedge == null) {
+            return join(primary);
+        }
+        hedgesSent.increment();
+        Race<T> race = new Race<>();
+        primary.whenComplete((result, error) -> race.settle(result, error, false));
+        hedge.whenComplete((result, error) -> race.settle(result, error, true));
+        return join(race.first);
+    }
+
+    private <T> CompletableFuture<T> start(Supplier<T> lookup) {
+        try {
+            return CompletableFuture.supplyAsync(timed(lookup), executor);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private <T> Supplier<T> timed(Supplier<T> lookup) {
+        return () -> {
+            long start = System.nanoTime();
+            T result = lookup.get();
+            record(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    private void record(long latencyNanos) {
+        if (latencies.add(latencyNanos) && latencies.size() >= MIN_SAMPLES) {
+            delayNanos = Math.max(minDelayNanos, latencies.percentile(percentile));
+        }
+    }
+
+    private void earnCredit() {
+        long current;
+        do {
+            current = credit.get();
+            if (current >= maxCredit) {
+                return;
+            }
+        } while (!credit.compareAndSet(current, Math.min(maxCredit, current + creditPerLookup)));
+    }
+
+    private boolean spendCredit() {
+        long current;
+        do {
+            current = credit.get();
+            if (current < CREDIT_PER_HEDGE) {
+                budgetExhausted.increment();
+                return false;
+            }
+        } while (!credit.compareAndSet(current, current - CREDIT_PER_HEDGE));
+        return true;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying products", e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof RuntimeException
+                ? (RuntimeException) cause
+                : new IllegalStateException(cause);
+    }
+
+    /** Completes with the first success, or with the last failure once both requests failed. */
+    private final class Race<T> {
+        private final CompletableFuture<T> first = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger(2);
+        private final AtomicBoolean decided = new AtomicBoolean();
+
+        void settle(T result, Throwable error, boolean isHedge) {
+            boolean last = pending.decrementAndGet() == 0;
+            if (error == null && decided.compareAndSet(false, true)) {
+                if (isHedge) {
+                    hedgesWon.increment();
+                }
+                first.complete(result);
+            } else if (error != null && last && decided.compareAndSet(false, true)) {
+                first.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * The latencies of the most recent lookups in a ring buffer. The percentile is recomputed
+     * once per {@code size / 8} samples rather than on every lookup.
+     */
+    static final class LatencyWindow {
+        private final AtomicLongArray samples;
+        private final AtomicLong count = new AtomicLong();
+        private final int recomputeEvery;
+
+        LatencyWindow(int size) {
+            this.samples = new AtomicLongArray(size);
+            this.recomputeEvery = Math.max(1, size / 8);
+        }
+
+        /** Adds a sample and returns whether the percentile is due to be recomputed. */
+        boolean add(long latencyNanos) {
+            long n = count.getAndIncrement();
+            samples.set((int) (n % samples.length()), latencyNanos);
+            return (n + 1) % recomputeEvery == 0;
+        }
+
+        int size() {
+            return (int) Math.min(count.get(), samples.length());
+        }
+
+        long percentile(double percentile) {
+            long[] sorted = new long[size()];
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+        }
+    }
+}
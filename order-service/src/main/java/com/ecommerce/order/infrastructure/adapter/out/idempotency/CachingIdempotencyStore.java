@@ -0,0 +1,149 @@
+package com.ecommerce.order.infrastructure.adapter.out.idempotency;
+
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.application.port.out.IdempotencyRecord;
+import com.ecommerce.order.application.port.out.IdempotencyStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Idempotency records in the {@code idempotency_records} table, fronted by a bounded in-memory
+ * index of recent finished keys. A request claims its key by inserting a pending row, and the
+ * primary key decides which of two concurrent requests gets it, on any instance. Retries usually
+ * arrive within seconds, so most are answered from memory; the table covers retries that reach
+ * another instance, arrive after a restart or after the key was evicted. Records older than the
+ * retention are treated as absent and purged. A pending row older than the claim timeout was
+ * left by a request that crashed, and is handed to the next request with the same fingerprint.
+ *
+ * <p>Lookups are counted in {@code order.idempotency.lookups}, tagged {@code source=memory},
+ * {@code database} or {@code miss}.
+ */
+public class CachingIdempotencyStore implements IdempotencyStore {
+
+    private final SpringDataIdempotencyRepository repository;
+    private final Cache<String, IdempotencyRecord> recent;
+    private final Duration retention;
+    private final Duration claimTimeout;
+    private final Clock clock;
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    public CachingIdempotencyStore(SpringDataIdempotencyRepository repository, long maxSize,
+                                   Duration retention, Duration claimTimeout, Clock clock,
+                                   MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.recent = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(retention)
+                .build();
+        this.retention = retention;
+        this.claimTimeout = claimTimeout;
+        this.clock = clock;
+        this.memoryHits = meterRegistry.counter("order.idempotency.lookups", "source", "memory");
+        this.databaseHits = meterRegistry.counter("order.idempotency.lookups", "source", "database");
+        this.misses = meterRegistry.counter("order.idempotency.lookups", "source", "miss");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<IdempotencyRecord> claim(String idempotencyKey, String fingerprint) {
+        IdempotencyRecord cached = recent.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+        Optional<IdempotencyRecordJpaEntity> stored = repository.findById(idempotencyKey);
+        if (stored.isPresent()) {
+            return claimStored(stored.get(), fingerprint);
+        }
+        misses.increment();
+        try {
+            repository.saveAndFlush(toPendingEntity(idempotencyKey, fingerprint));
+            return Optional.empty();
+        } catch (DataIntegrityViolationException e) {
+            return Optional.of(reread(idempotencyKey, fingerprint));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void complete(String idempotencyKey, IdempotencyRecord record) {
+        CreateOrderResult result = record.getResult();
+        repository.complete(idempotencyKey, result.getOrderId(), result.getStatus(),
+                result.getTotalAmount());
+        recent.put(idempotencyKey, record);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void release(String idempotencyKey) {
+        repository.deletePending(idempotencyKey);
+    }
+
+    /** Deletes records older than the retention. */
+    public int purgeExpired() {
+        return repository.deleteCreatedBefore(LocalDateTime.now(clock).minus(retention));
+    }
+
+    private Optional<IdempotencyRecord> claimStored(IdempotencyRecordJpaEntity entity,
+                                                    String fingerprint) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!isReclaimable(entity, fingerprint, now)) {
+            databaseHits.increment();
+            return Optional.of(remember(entity));
+        }
+        misses.increment();
+        int reclaimed = repository.reclaim(entity.getIdempotencyKey(), fingerprint,
+                entity.getCreatedAt(), now);
+        return reclaimed == 1
+                ? Optional.<IdempotencyRecord>empty()
+                : Optional.of(reread(entity.getIdempotencyKey(), fingerprint));
+    }
+
+    /** An expired record is free for any request, a stale claim only for the same request. */
+    private boolean isReclaimable(IdempotencyRecordJpaEntity entity, String fingerprint,
+                                  LocalDateTime now) {
+        if (entity.getCreatedAt().isBefore(now.minus(retention))) {
+            return true;
+        }
+        return entity.getOrderId() == null && entity.getFingerprint().equals(fingerprint)
+                && entity.getCreatedAt().isBefore(now.minus(claimTimeout));
+    }
+
+    /** Reads the record another request stored first; if it is gone again, that request failed. */
+    private IdempotencyRecord reread(String idempotencyKey, String fingerprint) {
+        return repository.findById(idempotencyKey)
+                .map(this::remember)
+                .orElse(new IdempotencyRecord(fingerprint, null));
+    }
+
+    private IdempotencyRecord remember(IdempotencyRecordJpaEntity entity) {
+        IdempotencyRecord record = toRecord(entity);
+        if (record.isCompleted()) {
+            recent.put(entity.getIdempotencyKey(), record);
+        }
+        return record;
+    }
+
+    private static IdempotencyRecord toRecord(IdempotencyRecordJpaEntity entity) {
+        CreateOrderResult result = entity.getOrderId() == null ? null
+                : new CreateOrderResult(entity.getOrderId(), entity.getStatus(),
+                        entity.getTotalAmount());
+        return new IdempotencyRecord(entity.getFingerprint(), result);
+    }
+
+    private IdempotencyRecordJpaEntity toPendingEntity(String idempotencyKey, String fingerprint) {
+        IdempotencyRecordJpaEntity entity = new IdempotencyRecordJpaEntity();
+        entity.setIdempotencyKey(idempotencyKey);
+        entity.setFingerprint(fingerprint);
+        entity.setCreatedAt(LocalDateTime.now(clock));
+        return entity;
+    }
+}
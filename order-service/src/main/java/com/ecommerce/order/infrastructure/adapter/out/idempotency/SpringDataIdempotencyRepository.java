@@ -0,0 +1,43 @@
+package com.ecommerce.order.infrastructure.adapter.out.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface SpringDataIdempotencyRepository
+        extends JpaRepository<IdempotencyRecordJpaEntity, String> {
+
+    @Modifying
+    @Transactional
+    @Query("update IdempotencyRecordJpaEntity r set r.orderId = :orderId, r.status = :status,"
+            + " r.totalAmount = :totalAmount"
+            + " where r.idempotencyKey = :key and r.orderId is null")
+    int complete(@Param("key") String idempotencyKey, @Param("orderId") String orderId,
+                 @Param("status") String status, @Param("totalAmount") BigDecimal totalAmount);
+
+    /** Hands the key to a new request, provided nobody changed it since it was read. */
+    @Modifying
+    @Transactional
+    @Query("update IdempotencyRecordJpaEntity r set r.fingerprint = :fingerprint,"
+            + " r.orderId = null, r.status = null, r.totalAmount = null, r.createdAt = :now"
+            + " where r.idempotencyKey = :key and r.createdAt = :readCreatedAt")
+    int reclaim(@Param("key") String idempotencyKey, @Param("fingerprint") String fingerprint,
+                @Param("readCreatedAt") LocalDateTime readCreatedAt,
+                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyRecordJpaEntity r"
+            + " where r.idempotencyKey = :key and r.orderId is null")
+    int deletePending(@Param("key") String idempotencyKey);
+
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyRecordJpaEntity r where r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,34 +1,42 @@
 package com.ecommerce.order.infrastructure.adapter.out.kafka;
 
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
 import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
 import com.ecommerce.order.domain.event.OrderConfirmedEvent;
-import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
 import com.ecommerce.order.infrastructure.mapper.OrderInfraMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.annotation.Primary;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * Sends order events straight to Kafka, outside any database transaction. Not used by order
+ * creation: the outbox publisher is {@code @Primary}, and its relay sends the events. This
+ * adapter stays available for direct sends such as replays, and uses the same
+ * {@link MeteredKafkaSender} as the relay, so its sends share the in-flight limit and meters.
+ *
+ * <p>Sends are asynchronous: {@link #publish} returns once the record is handed to the producer.
+ */
 @Component
-@Primary
 public class KafkaOrderEventPublisher implements OrderEventPublisherPort {
 
     private static final Logger log = LoggerFactory.getLogger(KafkaOrderEventPublisher.class);
     private static final String TOPIC = "order-confirmed";
 
-    private final KafkaTemplate<String, OrderConfirmedMessage> kafkaTemplate;
+    private final MeteredKafkaSender sender;
 
-    public KafkaOrderEventPublisher(
-            KafkaTemplate<String, OrderConfirmedMessage> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
+    public KafkaOrderEventPublisher(MeteredKafkaSender sender) {
+        this.sender = sender;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws DownstreamUnavailableException if the in-flight limit stays reached for the
+     *         backpressure timeout
+     */
     @Override
     public void publish(OrderConfirmedEvent event) {
-        OrderConfirmedMessage message = OrderInfraMapper.toMessage(event);
-        kafkaTemplate.send(TOPIC, event.getOrderId(), message);
-        log.info("Published OrderConfirmedEvent to topic={} key={}",
-                TOPIC, event.getOrderId());
+        sender.send(TOPIC, event.getOrderId(), OrderInfraMapper.toMessage(event));
+        log.debug("Sent OrderConfirmedEvent to topic={} key={}", TOPIC, event.getOrderId());
     }
 }
@@ -0,0 +1,138 @@
+package com.ecommerce.order.infrastructure.adapter.out.kafka;
+
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
+import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends order events to Kafka with a cap on unacknowledged sends and meters for every outcome.
+ * Both the outbox relay and {@link KafkaOrderEventPublisher} send through it, so the limit and
+ * the meters cover every event that leaves the service.
+ *
+ * <p>At most {@code order.kafka.publisher.max-in-flight} events are unacknowledged at a time; a
+ * send past that waits up to {@code order.kafka.publisher.backpressure-timeout-ms} and is then
+ * refused with {@link DownstreamUnavailableException}, so nothing is queued without bound. A send
+ * settles once, so its slot is freed once even when the template both fails the future and
+ * throws.
+ *
+ * <p>{@code order.events.publish} counts events tagged {@code result=sent}, {@code failed} or
+ * {@code rejected}; {@code order.events.publish.latency} times send to acknowledgement,
+ * {@code order.events.publish.size} records serialized sizes and
+ * {@code order.events.publish.in-flight} the unacknowledged events. Producer batching itself
+ * (batch size, queue time, compression rate) is exported by the {@code kafka.producer.*} meters.
+ */
+@Component
+public class MeteredKafkaSender {
+
+    private static final Logger log = LoggerFactory.getLogger(MeteredKafkaSender.class);
+
+    private final KafkaTemplate<String, OrderConfirmedMessage> kafkaTemplate;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final long backpressureTimeoutMs;
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Timer latency;
+    private final DistributionSummary size;
+
+    public MeteredKafkaSender(
+            KafkaTemplate<String, OrderConfirmedMessage> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${order.kafka.publisher.max-in-flight:10000}") int maxInFlight,
+            @Value("${order.kafka.publisher.backpressure-timeout-ms:1000}")
+            long backpressureTimeoutMs) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.backpressureTimeoutMs = backpressureTimeoutMs;
+        this.sent = meterRegistry.counter("order.events.publish", "result", "sent");
+        this.failed = meterRegistry.counter("order.events.publish", "result", "failed");
+        this.rejected = meterRegistry.counter("order.events.publish", "result", "rejected");
+        this.latency = Timer.builder("order.events.publish.latency")
+                .description("Time from send to broker acknowledgement")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.size = DistributionSummary.builder("order.events.publish.size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("order.events.publish.in-flight", this, MeteredKafkaSender::inFlight)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hands the record to the producer and returns the future of its acknowledgement.
+     *
+     * @throws DownstreamUnavailableException if the in-flight limit stays reached for the
+     *         backpressure timeout
+     */
+    public ListenableFuture<SendResult<String, OrderConfirmedMessage>> send(
+            String topic, String key, OrderConfirmedMessage message) {
+        acquire(key);
+        long start = System.nanoTime();
+        AtomicBoolean settled = new AtomicBoolean();
+        try {
+            ListenableFuture<SendResult<String, OrderConfirmedMessage>> future =
+                    kafkaTemplate.send(topic, key, message);
+            future.addCallback(result -> acknowledged(settled, result, start),
+                    e -> failed(settled, topic, key, e));
+            return future;
+        } catch (RuntimeException e) {
+            failed(settled, topic, key, e);
+            throw e;
+        }
+    }
+
+    /** Returns the number of events sent but not yet acknowledged or failed. */
+    public int inFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private void acquire(String key) {
+        try {
+            if (inFlight.tryAcquire(backpressureTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        throw new DownstreamUnavailableException("Kafka",
+                maxInFlight + " events in flight, key " + key + " not sent");
+    }
+
+    private void acknowledged(AtomicBoolean settled,
+                              SendResult<String, OrderConfirmedMessage> result, long start) {
+        if (!settled.compareAndSet(false, true)) {
+            return;
+        }
+        inFlight.release();
+        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        size.record(result.getRecordMetadata().serializedValueSize());
+        sent.increment();
+    }
+
+    private void failed(AtomicBoolean settled, String topic, String key, Throwable e) {
+        if (!settled.compareAndSet(false, true)) {
+            return;
+        }
+        inFlight.release();
+        failed.increment();
+        log.warn("Event key={} not delivered to topic={}: {}", key, topic, e.toString());
+    }
+}
@@ -0,0 +1,386 @@
+package com.ecommerce.order.infrastructure.adapter.out.kafka;
+
+import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
+import com.ecommerce.order.infrastructure.dto.OrderItemMessage;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Compact binary form of {@link OrderConfirmedMessage}, the {@value #CONTENT_TYPE} alternative to
+ * JSON on the order-confirmed topic. Notification Service holds the same codec.
+ *
+ * <p>A payload is a version byte followed by tagged fields, each a varint key
+ * {@code field << 3 | wire type} and a value. Wire type 0 is a varint and wire type 2 a varint
+ * length followed by that many bytes. Amounts are the scale and the zigzag-encoded unscaled
+ * long value, the timestamp is zigzag epoch microseconds of the UTC-interpreted local time, and
+ * each item is a nested field list. Absent fields decode as null.
+ *
+ * <p>Fields are evolved like protobuf: a field number is never reused or given another wire
+ * type, and decoders skip fields they do not know, so old and new producers and consumers can
+ * be mixed. {@link #VERSION} changes only for an incompatible layout, which older decoders
+ * refuse.
+ */
+public final class OrderConfirmedBinaryCodec {
+
+    /** Value of the {@value #CONTENT_TYPE_HEADER} header on records in this format. */
+    public static final String CONTENT_TYPE = "application/x-order-confirmed";
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+    public static final byte VERSION = 1;
+
+    private static final int VARINT = 0;
+    private static final int LENGTH_DELIMITED = 2;
+    // Field keys, field number << 3 | wire type
+    private static final int ORDER_ID = 1 << 3 | LENGTH_DELIMITED;
+    private static final int CUSTOMER_ID = 2 << 3 | LENGTH_DELIMITED;
+    private static final int CUSTOMER_EMAIL = 3 << 3 | LENGTH_DELIMITED;
+    private static final int TOTAL_AMOUNT = 4 << 3 | LENGTH_DELIMITED;
+    private static final int STATUS = 5 << 3 | LENGTH_DELIMITED;
+    private static final int TIMESTAMP_MICROS = 6 << 3 | VARINT;
+    private static final int ITEM = 7 << 3 | LENGTH_DELIMITED;
+    private static final int ITEM_PRODUCT_ID = 1 << 3 | LENGTH_DELIMITED;
+    private static final int ITEM_QUANTITY = 2 << 3 | VARINT;
+    private static final int ITEM_UNIT_PRICE = 3 << 3 | LENGTH_DELIMITED;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private OrderConfirmedBinaryCodec() {}
+
+    public static byte[] encode(OrderConfirmedMessage message) {
+        Writer out = new Writer(128);
+        out.raw(VERSION);
+        out.string(ORDER_ID, message.getOrderId());
+        out.string(CUSTOMER_ID, message.getCustomerId());
+        out.string(CUSTOMER_EMAIL, message.getCustomerEmail());
+        out.money(TOTAL_AMOUNT, message.getTotalAmount());
+        out.string(STATUS, message.getStatus());
+        if (message.getTimestamp() != null) {
+            out.signed(TIMESTAMP_MICROS, toEpochMicros(message.getTimestamp()));
+        }
+        if (message.getItems() != null) {
+            Writer item = new Writer(32);
+            for (OrderItemMessage line : message.getItems()) {
+                encodeItem(line, item);
+                out.nested(ITEM, item.buf, item.size);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws SerializationException if the payload is truncated or of a newer major version
+     */
+    public static OrderConfirmedMessage decode(byte[] data) {
+        Reader in = new Reader(data, 0, data.length);
+        int version = in.raw();
+        if (version != VERSION) {
+            throw new SerializationException("Unsupported order-confirmed version " + version);
+        }
+        OrderConfirmedMessage message = new OrderConfirmedMessage();
+        message.setItems(new ArrayList<>());
+        while (in.hasMore()) {
+            int key = (int) in.varint();
+            if (!readField(in, key, message)) {
+                in.skip(key & 7);
+            }
+        }
+        return message;
+    }
+
+    private static boolean readField(Reader in, int key, OrderConfirmedMessage message) {
+        switch (key) {
+            case ORDER_ID: message.setOrderId(in.string()); return true;
+            case CUSTOMER_ID: message.setCustomerId(in.string()); return true;
+            case CUSTOMER_EMAIL: message.setCustomerEmail(in.string()); return true;
+            case TOTAL_AMOUNT: message.setTotalAmount(in.money()); return true;
+            case STATUS: message.setStatus(in.string()); return true;
+            case TIMESTAMP_MICROS: message.setTimestamp(fromEpochMicros(in.signed())); return true;
+            case ITEM: message.getItems().add(decodeItem(in.nested())); return true;
+            default: return false;
+        }
+    }
+
+    private static void encodeItem(OrderItemMessage line, Writer item) {
+        item.reset();
+        item.string(ITEM_PRODUCT_ID, line.getProductId());
+        item.signed(ITEM_QUANTITY, line.getQuantity());
+        item.money(ITEM_UNIT_PRICE, line.getUnitPrice());
+    }
+
+    private static OrderItemMessage decodeItem(Reader in) {
+        OrderItemMessage line = new OrderItemMessage();
+        while (in.hasMore()) {
+            int key = (int) in.varint();
+            if (key == ITEM_PRODUCT_ID) {
+                line.setProductId(in.string());
+            } else if (key == ITEM_QUANTITY) {
+                line.setQuantity((int) in.signed());
+            } else if (key == ITEM_UNIT_PRICE) {
+                line.setUnitPrice(in.money());
+            } else {
+                in.skip(key & 7);
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Reads {@code yyyy-MM-ddTHH:mm:ss[.fraction]} by position, which the mapper always writes,
+     * and falls back to the formatter for anything else.
+     */
+    private static long toEpochMicros(String timestamp) {
+        if (!isPlainIsoLayout(timestamp)) {
+            return toEpochMicros(LocalDateTime.parse(timestamp));
+        }
+        long seconds = LocalDate.of(digits(timestamp, 0, 4), digits(timestamp, 5, 2),
+                digits(timestamp, 8, 2)).toEpochDay() * SECONDS_PER_DAY
+                + digits(timestamp, 11, 2) * 3600L + digits(timestamp, 14, 2) * 60L
+                + digits(timestamp, 17, 2);
+        int fractionDigits = Math.max(timestamp.length() - 20, 0);
+        int nanos = digits(timestamp, 20, fractionDigits);
+        for (int i = fractionDigits; i < 9; i++) {
+            nanos *= 10;
+        }
+        return Math.addExact(Math.multiplyExact(seconds, MICROS_PER_SECOND), nanos / 1000);
+    }
+
+    private static boolean isPlainIsoLayout(String text) {
+        int length = text.length();
+        return (length == 19 || length > 20 && length <= 29 && text.charAt(19) == '.')
+                && text.charAt(4) == '-' && text.charAt(7) == '-' && text.charAt(10) == 'T'
+                && text.charAt(13) == ':' && text.charAt(16) == ':';
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return Math.addExact(Math.multiplyExact(time.toEpochSecond(ZoneOffset.UTC),
+                MICROS_PER_SECOND), time.getNano() / 1000);
+    }
+
+    private static int digits(String text, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeParseException("Not an ISO local date-time", text, i);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /** Writes what {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} would, without the formatter. */
+    private static String fromEpochMicros(long micros) {
+        LocalDateTime time = LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, MICROS_PER_SECOND), 0, ZoneOffset.UTC);
+        int fraction = (int) Math.floorMod(micros, MICROS_PER_SECOND);
+        if (time.getYear() < 0 || time.getYear() > 9999) {
+            return time.withNano(fraction * 1000).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        }
+        char[] text = "0000-00-00T00:00:00.000000".toCharArray();
+        putDigits(text, 0, 4, time.getYear());
+        putDigits(text, 5, 2, time.getMonthValue());
+        putDigits(text, 8, 2, time.getDayOfMonth());
+        putDigits(text, 11, 2, time.getHour());
+        putDigits(text, 14, 2, time.getMinute());
+        putDigits(text, 17, 2, time.getSecond());
+        putDigits(text, 20, 6, fraction);
+        return new String(text, 0, fraction == 0 ? 19 : withoutTrailingZeros(text));
+    }
+
+    private static int withoutTrailingZeros(char[] text) {
+        int length = text.length;
+        while (text[length - 1] == '0') {
+            length--;
+        }
+        return length;
+    }
+
+    private static void putDigits(char[] text, int from, int count, int value) {
+        int v = value;
+        for (int i = from + count - 1; i >= from; i--) {
+            text[i] = (char) ('0' + v % 10);
+            v /= 10;
+        }
+    }
+
+    private static final class Writer {
+        private byte[] buf;
+        private int size;
+
+        Writer(int capacity) {
+            this.buf = new byte[capacity];
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        void raw(int b) {
+            ensure(1);
+            buf[size++] = (byte) b;
+        }
+
+        void varint(long value) {
+            long v = value;
+            while ((v & ~0x7FL) != 0) {
+                raw((int) (v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            raw((int) v);
+        }
+
+        void signed(int key, long value) {
+            varint(key);
+            varint(value << 1 ^ value >> 63);
+        }
+
+        void string(int key, String value) {
+            if (value == null) {
+                return;
+            }
+            if (!isAscii(value)) {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                nested(key, utf8, utf8.length);
+                return;
+            }
+            varint(key);
+            varint(value.length());
+            ensure(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                buf[size++] = (byte) value.charAt(i);
+            }
+        }
+
+        void money(int key, BigDecimal amount) {
+            if (amount == null) {
+                return;
+            }
+            long unscaled;
+            try {
+                unscaled = amount.unscaledValue().longValueExact();
+            } catch (ArithmeticException e) {
+                throw new SerializationException("Amount out of range: " + amount);
+            }
+            varint(key);
+            long zigzag = unscaled << 1 ^ unscaled >> 63;
+            varint(varintSize(amount.scale()) + varintSize(zigzag));
+            varint(amount.scale());
+            varint(zigzag);
+        }
+
+        void nested(int key, byte[] bytes, int length) {
+            varint(key);
+            varint(length);
+            ensure(length);
+            System.arraycopy(bytes, 0, buf, size, length);
+            size += length;
+        }
+
+        private void ensure(int length) {
+            if (size + length > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + length));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+
+        private static boolean isAscii(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) >= 0x80) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int varintSize(long value) {
+            int bits = 64 - Long.numberOfLeadingZeros(value | 1);
+            return (bits + 6) / 7;
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buf;
+        private final int end;
+        private int pos;
+
+        Reader(byte[] buf, int pos, int end) {
+            this.buf = buf;
+            this.pos = pos;
+            this.end = end;
+        }
+
+        boolean hasMore() {
+            return pos < end;
+        }
+
+        int raw() {
+            if (pos >= end) {
+                throw new SerializationException("Truncated order-confirmed payload");
+            }
+            return buf[pos++] & 0xFF;
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = raw();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("Malformed varint in order-confirmed payload");
+        }
+
+        long signed() {
+            long zigzag = varint();
+            return zigzag >>> 1 ^ -(zigzag & 1);
+        }
+
+        Reader nested() {
+            long length = varint();
+            if (length < 0 || length > Integer.MAX_VALUE) {
+                throw new SerializationException("Invalid field length " + length
+                        + " in order-confirmed payload");
+            }
+            if (length > end - pos) {
+                throw new SerializationException("Truncated order-confirmed payload");
+            }
+            Reader field = new Reader(buf, pos, pos + (int) length);
+            pos += (int) length;
+            return field;
+        }
+
+        String string() {
+            Reader field = nested();
+            return new String(buf, field.pos, field.end - field.pos, StandardCharsets.UTF_8);
+        }
+
+        BigDecimal money() {
+            Reader field = nested();
+            int scale = (int) field.varint();
+            return BigDecimal.valueOf(field.signed(), scale);
+        }
+
+        void skip(int wireType) {
+            if (wireType == VARINT) {
+                varint();
+            } else if (wireType == LENGTH_DELIMITED) {
+                nested();
+            } else {
+                throw new SerializationException("Unknown wire type " + wireType);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.order.infrastructure.adapter.out.kafka;
+
+import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Value serializer of the order-confirmed topic. The producer property
+ * {@value #FORMAT_CONFIG} selects {@code json} (the default, Spring's {@link JsonSerializer}) or
+ * {@code binary} ({@link OrderConfirmedBinaryCodec}, marked by its content-type header).
+ *
+ * <p>Consumers pick the format per record from that header, so during a rolling upgrade all
+ * consumers are deployed first and producers are switched to {@code binary} afterwards.
+ */
+public class OrderConfirmedMessageSerializer implements Serializer<OrderConfirmedMessage> {
+
+    public static final String FORMAT_CONFIG = "order-confirmed.format";
+
+    private static final byte[] CONTENT_TYPE =
+            OrderConfirmedBinaryCodec.CONTENT_TYPE.getBytes(StandardCharsets.UTF_8);
+
+    private final JsonSerializer<OrderConfirmedMessage> json = new JsonSerializer<>();
+    private boolean binary;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+        binary = "binary".equals(String.valueOf(configs.get(FORMAT_CONFIG)));
+    }
+
+    @Override
+    public byte[] serialize(String topic, OrderConfirmedMessage data) {
+        if (!binary || data == null) {
+            return json.serialize(topic, data);
+        }
+        return OrderConfirmedBinaryCodec.encode(data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, OrderConfirmedMessage data) {
+        if (!binary || data == null) {
+            return json.serialize(topic, headers, data);
+        }
+        headers.remove(OrderConfirmedBinaryCodec.CONTENT_TYPE_HEADER);
+        headers.add(OrderConfirmedBinaryCodec.CONTENT_TYPE_HEADER, CONTENT_TYPE);
+        return OrderConfirmedBinaryCodec.encode(data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
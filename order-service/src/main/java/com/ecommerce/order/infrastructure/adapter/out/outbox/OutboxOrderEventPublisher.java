@@ -0,0 +1,57 @@
+package com.ecommerce.order.infrastructure.adapter.out.outbox;
+
+import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
+import com.ecommerce.order.domain.event.OrderConfirmedEvent;
+import com.ecommerce.order.infrastructure.mapper.OrderInfraMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publishes order events by writing them to the outbox table. The write joins the caller's
+ * transaction, so an event exists if and only if the order change that raised it committed;
+ * {@link OutboxRelay} forwards it to Kafka afterwards.
+ */
+@Component
+@Primary
+public class OutboxOrderEventPublisher implements OrderEventPublisherPort {
+
+    static final String ORDER_CONFIRMED_TOPIC = "order-confirmed";
+
+    private final SpringDataOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxOrderEventPublisher(SpringDataOutboxRepository outboxRepository,
+                                     ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /** {@inheritDoc} Must be called inside the transaction that persists the order. */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OrderConfirmedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEventJpaEntity entity = new OutboxEventJpaEntity();
+        entity.setTopic(ORDER_CONFIRMED_TOPIC);
+        entity.setMessageKey(event.getOrderId());
+        entity.setPayload(toJson(event));
+        entity.setCreatedAt(now);
+        entity.setNextAttemptAt(now);
+        outboxRepository.save(entity);
+    }
+
+    private String toJson(OrderConfirmedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(OrderInfraMapper.toMessage(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Cannot serialize OrderConfirmedEvent " + event.getOrderId(), e);
+        }
+    }
+}
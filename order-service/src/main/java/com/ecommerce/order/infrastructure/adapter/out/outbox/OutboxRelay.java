@@ -0,0 +1,174 @@
+package com.ecommerce.order.infrastructure.adapter.out.outbox;
+
+import com.ecommerce.order.infrastructure.adapter.out.kafka.MeteredKafkaSender;
+import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox table to Kafka. Each pass reads the oldest unpublished event of every key
+ * whose retry is due, sends them without waiting in between so the producer can batch them,
+ * then marks the acknowledged ones published in a single update.
+ *
+ * <p>Delivery is at-least-once and ordered per message key: only the oldest pending event of a
+ * key is sent in a pass, and a key whose oldest event failed is held back until that event's
+ * retry is due. Events backing off are left out of the read, so they never fill a batch and
+ * stall the keys behind them. Failed events are retried with exponential backoff and never
+ * dropped.
+ *
+ * <p>Events go out through {@link MeteredKafkaSender}, which caps the unacknowledged sends and
+ * meters send-to-acknowledgement latency, record size and sent, failed and rejected events. A
+ * send refused at the in-flight limit is retried like a failed one.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final SpringDataOutboxRepository outboxRepository;
+    private final MeteredKafkaSender sender;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final Clock clock;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+
+    public OutboxRelay(SpringDataOutboxRepository outboxRepository,
+                       MeteredKafkaSender sender,
+                       ObjectMapper objectMapper,
+                       int batchSize,
+                       Duration sendTimeout,
+                       Duration retryBackoff,
+                       Duration maxBackoff,
+                       Clock clock,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sender = sender;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.clock = clock;
+        this.sentCounter = meterRegistry.counter("outbox.relay.sent");
+        this.failedCounter = meterRegistry.counter("outbox.relay.failures");
+        this.lagTimer = Timer.builder("outbox.relay.lag")
+                .description("Time from outbox write to broker acknowledgement")
+                .register(meterRegistry);
+    }
+
+    /** Relays batches until a pass publishes nothing. Never throws, so it can be scheduled. */
+    public void drain() {
+        try {
+            while (relayBatch() > 0) {
+                log.debug("Outbox batch relayed, checking for more");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay pass failed, retrying on next poll", e);
+        }
+    }
+
+    /** Deletes published events older than {@code retention}. */
+    public int purgePublished(Duration retention) {
+        return outboxRepository.deletePublishedBefore(LocalDateTime.now(clock).minus(retention));
+    }
+
+    /** Runs one pass and returns the number of events the broker acknowledged. */
+    int relayBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxEventJpaEntity> batch = outboxRepository
+                .findOldestDuePerKey(now, PageRequest.of(0, batchSize));
+        List<Long> published = new ArrayList<>();
+        List<OutboxEventJpaEntity> failed = new ArrayList<>();
+        for (Map.Entry<OutboxEventJpaEntity, ListenableFuture<?>> sent
+                : sendAll(batch).entrySet()) {
+            OutboxEventJpaEntity event = sent.getKey();
+            if (awaitAcknowledgement(event, sent.getValue())) {
+                published.add(event.getId());
+            } else {
+                failed.add(scheduleRetry(event, now));
+            }
+        }
+        recordOutcomes(published, failed);
+        return published.size();
+    }
+
+    private void recordOutcomes(List<Long> published, List<OutboxEventJpaEntity> failed) {
+        if (!published.isEmpty()) {
+            outboxRepository.markPublished(published, LocalDateTime.now(clock));
+        }
+        if (!failed.isEmpty()) {
+            outboxRepository.saveAll(failed);
+        }
+    }
+
+    private Map<OutboxEventJpaEntity, ListenableFuture<?>> sendAll(
+            List<OutboxEventJpaEntity> batch) {
+        Map<OutboxEventJpaEntity, ListenableFuture<?>> inFlight = new LinkedHashMap<>();
+        for (OutboxEventJpaEntity event : batch) {
+            inFlight.put(event, send(event));
+        }
+        return inFlight;
+    }
+
+    private ListenableFuture<?> send(OutboxEventJpaEntity event) {
+        try {
+            OrderConfirmedMessage message =
+                    objectMapper.readValue(event.getPayload(), OrderConfirmedMessage.class);
+            return sender.send(event.getTopic(), event.getMessageKey(), message);
+        } catch (IOException | RuntimeException e) {
+            SettableListenableFuture<Object> failed = new SettableListenableFuture<>();
+            failed.setException(e);
+            return failed;
+        }
+    }
+
+    private boolean awaitAcknowledgement(OutboxEventJpaEntity event, ListenableFuture<?> future) {
+        try {
+            future.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            sentCounter.increment();
+            lagTimer.record(Duration.between(event.getCreatedAt(), LocalDateTime.now(clock)));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            failedCounter.increment();
+            log.warn("Outbox event id={} key={} not delivered (attempt {}): {}",
+                    event.getId(), event.getMessageKey(), event.getAttempts() + 1, e.toString());
+            return false;
+        }
+    }
+
+    private OutboxEventJpaEntity scheduleRetry(OutboxEventJpaEntity event, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        long backoffMs = retryBackoff.toMillis() << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(now.plus(Duration.ofMillis(Math.min(backoffMs,
+                maxBackoff.toMillis()))));
+        return event;
+    }
+}
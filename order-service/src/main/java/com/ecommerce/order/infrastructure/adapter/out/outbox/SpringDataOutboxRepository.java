@@ -0,0 +1,39 @@
+package com.ecommerce.order.infrastructure.adapter.out.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SpringDataOutboxRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * Returns the oldest unpublished event of each message key, provided its next attempt is
+     * due. A key whose oldest event is backing off contributes nothing, so later events of that
+     * key stay behind it, and keys that are due are never crowded out by keys that are not.
+     */
+    @Query("select e from OutboxEventJpaEntity e"
+            + " where e.publishedAt is null and e.nextAttemptAt <= :now"
+            + " and e.id = (select min(o.id) from OutboxEventJpaEntity o"
+            + " where o.messageKey = e.messageKey and o.publishedAt is null)"
+            + " order by e.id asc")
+    List<OutboxEventJpaEntity> findOldestDuePerKey(@Param("now") LocalDateTime now,
+                                                   Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("update OutboxEventJpaEntity e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids,
+                      @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Transactional
+    @Query("delete from OutboxEventJpaEntity e where e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
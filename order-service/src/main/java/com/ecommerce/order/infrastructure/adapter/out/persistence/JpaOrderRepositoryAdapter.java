@@ -1,15 +1,29 @@
 package com.ecommerce.order.infrastructure.adapter.out.persistence;
 
 import com.ecommerce.order.domain.model.Order;
-import com.ecommerce.order.domain.model.OrderItem;
 import com.ecommerce.order.domain.model.OrderStatus;
 import com.ecommerce.order.domain.port.OrderRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * Stores orders in {@code orders} and {@code order_items}. A new order is inserted with its items
+ * once; later saves of the same order issue a single UPDATE of its status, guarded by the version
+ * it was loaded or last saved with, and never touch the items again.
+ *
+ * <p>A customer's orders are read a page at a time by seeking on
+ * {@code (customer_id, created_at, id)}, which the indexes of {@code orders} cover, so a page
+ * costs the same however many orders come before it. The items of the page are then loaded in a
+ * single query.
+ */
 @Component
 public class JpaOrderRepositoryAdapter implements OrderRepository {
 
@@ -19,57 +33,55 @@ public class JpaOrderRepositoryAdapter implements OrderRepository {
         this.springDataRepo = springDataRepo;
     }
 
+    /** Saves in a short transaction of its own, or joins the caller's if one is active. */
     @Override
+    @Transactional
     public Order save(Order order) {
-        OrderJpaEntity entity = toEntity(order);
-        OrderJpaEntity saved = springDataRepo.save(entity);
-        return toDomain(saved);
+        if (order.getId() == null) {
+            return OrderEntityMapper.toDomain(springDataRepo.save(
+                    OrderEntityMapper.toEntity(order)));
+        }
+        int updated = springDataRepo.updateStatus(order.getId(), order.getVersion(),
+                order.getStatus().name(), order.getUpdatedAt());
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("Order " + order.getOrderId()
+                    + " was changed by another process since version " + order.getVersion());
+        }
+        order.markPersisted();
+        return order;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Order> findByOrderId(String orderId) {
-        return springDataRepo.findByOrderId(orderId).map(this::toDomain);
+        return springDataRepo.findByOrderId(orderId).map(OrderEntityMapper::toDomain);
     }
 
-    private OrderJpaEntity toEntity(Order order) {
-        OrderJpaEntity entity = new OrderJpaEntity();
-        entity.setId(order.getId());
-        entity.setOrderId(order.getOrderId());
-        entity.setCustomerId(order.getCustomerId());
-        entity.setStatus(order.getStatus().name());
-        entity.setTotalAmount(order.getTotalAmount());
-        entity.setCreatedAt(order.getCreatedAt());
-        entity.setUpdatedAt(order.getUpdatedAt());
-        entity.setItems(toItemEntities(order.getItems(), entity));
-        return entity;
-    }
-
-    private List<OrderItemJpaEntity> toItemEntities(List<OrderItem> items,
-                                                     OrderJpaEntity parent) {
-        return items.stream().map(item -> {
-            OrderItemJpaEntity itemEntity = new OrderItemJpaEntity();
-            itemEntity.setProductId(item.getProductId());
-            itemEntity.setQuantity(item.getQuantity());
-            itemEntity.setUnitPrice(item.getUnitPrice());
-            itemEntity.setOrder(parent);
-            return itemEntity;
-        }).collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findByCustomerId(String customerId, OrderStatus status,
+                                        LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        List<OrderJpaEntity> page = findPage(customerId, status == null ? null : status.name(),
+                beforeCreatedAt, beforeId, PageRequest.of(0, limit));
+        if (!page.isEmpty()) {
+            springDataRepo.fetchItems(page);
+        }
+        return page.stream().map(OrderEntityMapper::toDomain).collect(Collectors.toList());
     }
 
-    private Order toDomain(OrderJpaEntity entity) {
-        List<OrderItem> items = entity.getItems().stream()
-                .map(e -> new OrderItem(e.getProductId(), e.getQuantity(), e.getUnitPrice()))
-                .collect(Collectors.toList());
-
-        return Order.reconstitute(
-                entity.getId(),
-                entity.getOrderId(),
-                entity.getCustomerId(),
-                OrderStatus.valueOf(entity.getStatus()),
-                entity.getTotalAmount(),
-                items,
-                entity.getCreatedAt(),
-                entity.getUpdatedAt()
-        );
+    private List<OrderJpaEntity> findPage(String customerId, String status,
+                                          LocalDateTime beforeCreatedAt, Long beforeId,
+                                          Pageable pageable) {
+        if (beforeCreatedAt == null || beforeId == null) {
+            return status == null
+                    ? springDataRepo.findByCustomerIdOrderByCreatedAtDescIdDesc(customerId, pageable)
+                    : springDataRepo.findByCustomerIdAndStatusOrderByCreatedAtDescIdDesc(
+                            customerId, status, pageable);
+        }
+        return status == null
+                ? springDataRepo.findByCustomerIdBefore(customerId, beforeCreatedAt, beforeId,
+                        pageable)
+                : springDataRepo.findByCustomerIdAndStatusBefore(customerId, status,
+                        beforeCreatedAt, beforeId, pageable);
     }
 }
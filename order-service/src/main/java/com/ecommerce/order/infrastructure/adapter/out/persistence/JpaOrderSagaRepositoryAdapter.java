@@ -0,0 +1,131 @@
+package com.ecommerce.order.infrastructure.adapter.out.persistence;
+
+import com.ecommerce.order.domain.model.OrderSaga;
+import com.ecommerce.order.domain.model.SagaStatus;
+import com.ecommerce.order.domain.model.SagaStep;
+import com.ecommerce.order.domain.model.SagaStepType;
+import com.ecommerce.order.domain.port.OrderSagaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Stores sagas as one row per saga plus an append-only row per step. An update is a single
+ * conditional UPDATE on order ID and version; its steps are inserted only if that UPDATE matched.
+ */
+@Component
+public class JpaOrderSagaRepositoryAdapter implements OrderSagaRepository {
+
+    private static final List<String> UNFINISHED_STATUSES = Arrays.asList(
+            SagaStatus.STARTED.name(), SagaStatus.PAYMENT_REQUESTED.name(),
+            SagaStatus.COMPENSATING.name());
+
+    private final SpringDataOrderSagaRepository sagaRepo;
+    private final SpringDataSagaStepRepository stepRepo;
+
+    public JpaOrderSagaRepositoryAdapter(SpringDataOrderSagaRepository sagaRepo,
+                                         SpringDataSagaStepRepository stepRepo) {
+        this.sagaRepo = sagaRepo;
+        this.stepRepo = stepRepo;
+    }
+
+    @Override
+    @Transactional
+    public void create(OrderSaga saga) {
+        OrderSagaJpaEntity entity = new OrderSagaJpaEntity();
+        entity.setOrderId(saga.getOrderId());
+        entity.setStatus(saga.getStatus().name());
+        entity.setVersion(saga.getVersion());
+        entity.setCreatedAt(saga.getCreatedAt());
+        entity.setUpdatedAt(saga.getUpdatedAt());
+        sagaRepo.save(entity);
+        stepRepo.saveAll(toStepEntities(saga.getOrderId(), saga.getSteps()));
+    }
+
+    @Override
+    @Transactional
+    public boolean update(OrderSaga saga) {
+        int updated = sagaRepo.advance(saga.getOrderId(), saga.getVersion(),
+                saga.getStatus().name(), saga.getUpdatedAt());
+        if (updated == 0) {
+            return false;
+        }
+        stepRepo.saveAll(toStepEntities(saga.getOrderId(), saga.getUnpersistedSteps()));
+        saga.markPersisted();
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OrderSaga> findByOrderId(String orderId) {
+        return sagaRepo.findByOrderId(orderId)
+                .map(entity -> toDomain(entity, stepsByOrderId(Collections.singletonList(entity))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderSaga> findUnfinished(LocalDateTime idleSince, long afterId, int limit) {
+        List<OrderSagaJpaEntity> page = sagaRepo.findUnfinished(UNFINISHED_STATUSES, idleSince,
+                afterId, PageRequest.of(0, limit));
+        Map<String, List<SagaStep>> steps = stepsByOrderId(page);
+        List<OrderSaga> sagas = new ArrayList<>(page.size());
+        for (OrderSagaJpaEntity entity : page) {
+            sagas.add(toDomain(entity, steps));
+        }
+        return sagas;
+    }
+
+    /** Loads the steps of a whole page with one query. */
+    private Map<String, List<SagaStep>> stepsByOrderId(List<OrderSagaJpaEntity> sagas) {
+        List<String> orderIds = new ArrayList<>(sagas.size());
+        for (OrderSagaJpaEntity saga : sagas) {
+            orderIds.add(saga.getOrderId());
+        }
+        Map<String, List<SagaStep>> steps = new HashMap<>();
+        if (orderIds.isEmpty()) {
+            return steps;
+        }
+        for (SagaStepJpaEntity e : stepRepo.findByOrderIdInOrderByIdAsc(orderIds)) {
+            steps.computeIfAbsent(e.getOrderId(), k -> new ArrayList<>()).add(new SagaStep(
+                    SagaStepType.valueOf(e.getStepType()), e.getProductId(), e.getQuantity(),
+                    e.getReference(), e.getRecordedAt()));
+        }
+        return steps;
+    }
+
+    private List<SagaStepJpaEntity> toStepEntities(String orderId, List<SagaStep> steps) {
+        List<SagaStepJpaEntity> entities = new ArrayList<>(steps.size());
+        for (SagaStep step : steps) {
+            SagaStepJpaEntity entity = new SagaStepJpaEntity();
+            entity.setOrderId(orderId);
+            entity.setStepType(step.getType().name());
+            entity.setProductId(step.getProductId());
+            entity.setQuantity(step.getQuantity());
+            entity.setReference(step.getReference());
+            entity.setRecordedAt(step.getRecordedAt());
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private OrderSaga toDomain(OrderSagaJpaEntity entity, Map<String, List<SagaStep>> steps) {
+        return OrderSaga.reconstitute(
+                entity.getId(),
+                entity.getOrderId(),
+                SagaStatus.valueOf(entity.getStatus()),
+                entity.getVersion(),
+                steps.getOrDefault(entity.getOrderId(), Collections.<SagaStep>emptyList()),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+}
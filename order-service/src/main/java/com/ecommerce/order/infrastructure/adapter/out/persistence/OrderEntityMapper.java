@@ -0,0 +1,59 @@
+package com.ecommerce.order.infrastructure.adapter.out.persistence;
+
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.order.domain.model.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Maps an {@link Order} to its {@code orders}/{@code order_items} entities and back. */
+public final class OrderEntityMapper {
+
+    private OrderEntityMapper() {}
+
+    public static OrderJpaEntity toEntity(Order order) {
+        OrderJpaEntity entity = new OrderJpaEntity();
+        entity.setOrderId(order.getOrderId());
+        entity.setCustomerId(order.getCustomerId());
+        entity.setStatus(order.getStatus().name());
+        entity.setTotalAmount(order.getTotalAmount());
+        entity.setCreatedAt(order.getCreatedAt());
+        entity.setUpdatedAt(order.getUpdatedAt());
+        entity.setItems(toItemEntities(order.getItems(), entity));
+        return entity;
+    }
+
+    public static Order toDomain(OrderJpaEntity entity) {
+        List<OrderItemJpaEntity> itemEntities = entity.getItems();
+        List<OrderItem> items = new ArrayList<>(itemEntities.size());
+        for (OrderItemJpaEntity e : itemEntities) {
+            items.add(new OrderItem(e.getProductId(), e.getQuantity(), e.getUnitPrice()));
+        }
+        return Order.reconstitute(
+                entity.getId(),
+                entity.getOrderId(),
+                entity.getCustomerId(),
+                OrderStatus.valueOf(entity.getStatus()),
+                entity.getTotalAmount(),
+                items,
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                entity.getVersion()
+        );
+    }
+
+    private static List<OrderItemJpaEntity> toItemEntities(List<OrderItem> items,
+                                                           OrderJpaEntity parent) {
+        List<OrderItemJpaEntity> itemEntities = new ArrayList<>(items.size());
+        for (OrderItem item : items) {
+            OrderItemJpaEntity itemEntity = new OrderItemJpaEntity();
+            itemEntity.setProductId(item.getProductId());
+            itemEntity.setQuantity(item.getQuantity());
+            itemEntity.setUnitPrice(item.getUnitPrice());
+            itemEntity.setOrder(parent);
+            itemEntities.add(itemEntity);
+        }
+        return itemEntities;
+    }
+}
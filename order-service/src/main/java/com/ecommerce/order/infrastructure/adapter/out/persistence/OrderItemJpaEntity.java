@@ -1,14 +1,17 @@
 package com.ecommerce.order.infrastructure.adapter.out.persistence;
 
+import com.ecommerce.order.domain.model.Money;
+
 import javax.persistence.*;
-import java.math.BigDecimal;
 
 @Entity
 @Table(name = "order_items")
 public class OrderItemJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq",
+            allocationSize = 50)
     private Long id;
 
     @Column(name = "product_id", nullable = false)
@@ -17,8 +20,9 @@ public class OrderItemJpaEntity {
     @Column(nullable = false)
     private int quantity;
 
-    @Column(name = "unit_price", nullable = false)
-    private BigDecimal unitPrice;
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "unit_price", nullable = false, precision = 19, scale = 2)
+    private Money unitPrice;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", nullable = false)
@@ -31,8 +35,8 @@ public class OrderItemJpaEntity {
     public void setProductId(String productId) { this.productId = productId; }
     public int getQuantity() { return quantity; }
     public void setQuantity(int quantity) { this.quantity = quantity; }
-    public BigDecimal getUnitPrice() { return unitPrice; }
-    public void setUnitPrice(BigDecimal unitPrice) { this.unitPrice = unitPrice; }
+    public Money getUnitPrice() { return unitPrice; }
+    public void setUnitPrice(Money unitPrice) { this.unitPrice = unitPrice; }
     public OrderJpaEntity getOrder() { return order; }
     public void setOrder(OrderJpaEntity order) { this.order = order; }
 }
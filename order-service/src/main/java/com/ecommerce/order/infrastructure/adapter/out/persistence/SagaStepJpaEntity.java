@@ -0,0 +1,47 @@
+package com.ecommerce.order.infrastructure.adapter.out.persistence;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "order_saga_steps",
+        indexes = @Index(name = "idx_order_saga_steps_order_id", columnList = "order_id"))
+public class SagaStepJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    @Column(name = "step_type", nullable = false)
+    private String stepType;
+
+    @Column(name = "product_id")
+    private String productId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    private String reference;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getOrderId() { return orderId; }
+    public void setOrderId(String orderId) { this.orderId = orderId; }
+    public String getStepType() { return stepType; }
+    public void setStepType(String stepType) { this.stepType = stepType; }
+    public String getProductId() { return productId; }
+    public void setProductId(String productId) { this.productId = productId; }
+    public int getQuantity() { return quantity; }
+    public void setQuantity(int quantity) { this.quantity = quantity; }
+    public String getReference() { return reference; }
+    public void setReference(String reference) { this.reference = reference; }
+    public LocalDateTime getRecordedAt() { return recordedAt; }
+    public void setRecordedAt(LocalDateTime recordedAt) { this.recordedAt = recordedAt; }
+}
@@ -1,8 +1,51 @@
 package com.ecommerce.order.infrastructure.adapter.out.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataOrderRepository extends JpaRepository<OrderJpaEntity, Long> {
     Optional<OrderJpaEntity> findByOrderId(String orderId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderJpaEntity o set o.status = :status, o.version = o.version + 1, "
+            + "o.updatedAt = :updatedAt where o.id = :id and o.version = :version")
+    int updateStatus(@Param("id") Long id, @Param("version") long version,
+                     @Param("status") String status, @Param("updatedAt") LocalDateTime updatedAt);
+
+    List<OrderJpaEntity> findByCustomerIdOrderByCreatedAtDescIdDesc(String customerId,
+                                                                   Pageable pageable);
+
+    List<OrderJpaEntity> findByCustomerIdAndStatusOrderByCreatedAtDescIdDesc(String customerId,
+                                                                            String status,
+                                                                            Pageable pageable);
+
+    @Query("select o from OrderJpaEntity o where o.customerId = :customerId "
+            + "and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id)) "
+            + "order by o.createdAt desc, o.id desc")
+    List<OrderJpaEntity> findByCustomerIdBefore(@Param("customerId") String customerId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query("select o from OrderJpaEntity o where o.customerId = :customerId "
+            + "and o.status = :status "
+            + "and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id)) "
+            + "order by o.createdAt desc, o.id desc")
+    List<OrderJpaEntity> findByCustomerIdAndStatusBefore(@Param("customerId") String customerId,
+                                                         @Param("status") String status,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    /** Loads the items of the given managed orders in one query. */
+    @Query("select distinct o from OrderJpaEntity o left join fetch o.items where o in :orders")
+    List<OrderJpaEntity> fetchItems(@Param("orders") Collection<OrderJpaEntity> orders);
 }
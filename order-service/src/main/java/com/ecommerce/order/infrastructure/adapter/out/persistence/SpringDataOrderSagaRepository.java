@@ -0,0 +1,29 @@
+package com.ecommerce.order.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SpringDataOrderSagaRepository extends JpaRepository<OrderSagaJpaEntity, Long> {
+    Optional<OrderSagaJpaEntity> findByOrderId(String orderId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderSagaJpaEntity s set s.status = :status, s.version = s.version + 1, "
+            + "s.updatedAt = :updatedAt where s.orderId = :orderId and s.version = :version")
+    int advance(@Param("orderId") String orderId, @Param("version") long version,
+                @Param("status") String status, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("select s from OrderSagaJpaEntity s where s.status in :statuses "
+            + "and s.updatedAt < :idleSince and s.id > :afterId order by s.id")
+    List<OrderSagaJpaEntity> findUnfinished(@Param("statuses") Collection<String> statuses,
+                                            @Param("idleSince") LocalDateTime idleSince,
+                                            @Param("afterId") long afterId,
+                                            Pageable pageable);
+}
@@ -0,0 +1,10 @@
+package com.ecommerce.order.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SpringDataSagaStepRepository extends JpaRepository<SagaStepJpaEntity, Long> {
+    List<SagaStepJpaEntity> findByOrderIdInOrderByIdAsc(Collection<String> orderIds);
+}
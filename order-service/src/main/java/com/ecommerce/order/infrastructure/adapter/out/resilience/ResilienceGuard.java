@@ -0,0 +1,88 @@
+package com.ecommerce.order.infrastructure.adapter.out.resilience;
+
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker and concurrency bulkhead for the calls to one downstream service. The breaker
+ * opens when the failure rate or the slow-call rate of its sliding window crosses the threshold;
+ * while it is open, and while the bulkhead has no free permit, calls fail at once with
+ * {@link DownstreamUnavailableException} instead of tying up a request thread.
+ *
+ * <p>Meters, tagged {@code name=<service>}: {@code resilience.circuitbreaker.state} (0 closed,
+ * 1 open, 2 half-open), {@code resilience.circuitbreaker.transitions} tagged {@code from} and
+ * {@code to}, {@code resilience.bulkhead.available}, and {@code resilience.rejections} tagged
+ * {@code reason=circuit_open} or {@code bulkhead_full}.
+ */
+public class ResilienceGuard {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+
+    public ResilienceGuard(String name, CircuitBreakerConfig circuitBreakerConfig,
+                           BulkheadConfig bulkheadConfig, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.circuitBreaker = CircuitBreaker.of(name, circuitBreakerConfig);
+        this.bulkhead = Bulkhead.of(name, bulkheadConfig);
+        this.circuitOpenRejections = meterRegistry.counter("resilience.rejections",
+                "name", name, "reason", "circuit_open");
+        this.bulkheadFullRejections = meterRegistry.counter("resilience.rejections",
+                "name", name, "reason", "bulkhead_full");
+        registerMeters(meterRegistry);
+    }
+
+    private void registerMeters(MeterRegistry meterRegistry) {
+        Gauge.builder("resilience.circuitbreaker.state", circuitBreaker,
+                        breaker -> breaker.getState().getOrder())
+                .tag("name", name).register(meterRegistry);
+        Gauge.builder("resilience.bulkhead.available", bulkhead,
+                        b -> b.getMetrics().getAvailableConcurrentCalls())
+                .tag("name", name).register(meterRegistry);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> meterRegistry.counter(
+                "resilience.circuitbreaker.transitions", "name", name,
+                "from", event.getStateTransition().getFromState().name(),
+                "to", event.getStateTransition().getToState().name()).increment());
+    }
+
+    /**
+     * Runs the call through the breaker and the bulkhead.
+     *
+     * @throws DownstreamUnavailableException if the call was refused without being made
+     */
+    public <T> T call(Supplier<T> call) {
+        Supplier<T> guarded = CircuitBreaker.decorateSupplier(circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead, call));
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException e) {
+            circuitOpenRejections.increment();
+            throw new DownstreamUnavailableException(name, "circuit breaker open");
+        } catch (BulkheadFullException e) {
+            bulkheadFullRejections.increment();
+            throw new DownstreamUnavailableException(name, "concurrency limit reached");
+        }
+    }
+
+    /** Runs a call that returns nothing through the breaker and the bulkhead. */
+    public void run(Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public CircuitBreaker.State getState() { return circuitBreaker.getState(); }
+}
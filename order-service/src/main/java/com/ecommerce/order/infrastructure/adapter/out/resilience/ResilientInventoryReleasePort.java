@@ -0,0 +1,24 @@
+package com.ecommerce.order.infrastructure.adapter.out.resilience;
+
+import com.ecommerce.order.application.port.out.InventoryReleasePort;
+
+/**
+ * {@link InventoryReleasePort} guarded by the Inventory Service breaker and bulkhead. A refused
+ * release leaves the order saga compensating, and saga recovery retries it.
+ */
+public class ResilientInventoryReleasePort implements InventoryReleasePort {
+
+    private final InventoryReleasePort delegate;
+    private final ResilienceGuard guard;
+
+    public ResilientInventoryReleasePort(InventoryReleasePort delegate, ResilienceGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseInventory(String orderId, String productId, int quantity) {
+        guard.run(() -> delegate.releaseInventory(orderId, productId, quantity));
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.order.infrastructure.adapter.out.resilience;
+
+import com.ecommerce.order.application.port.out.InventoryBatchResult;
+import com.ecommerce.order.application.port.out.InventoryReservePort;
+
+import java.util.Map;
+
+/** {@link InventoryReservePort} guarded by the Inventory Service breaker and bulkhead. */
+public class ResilientInventoryReservePort implements InventoryReservePort {
+
+    private final InventoryReservePort delegate;
+    private final ResilienceGuard guard;
+
+    public ResilientInventoryReservePort(InventoryReservePort delegate, ResilienceGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean reserveInventory(String orderId, String productId, int quantity) {
+        return guard.call(() -> delegate.reserveInventory(orderId, productId, quantity));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public InventoryBatchResult reserveAll(String orderId, Map<String, Integer> quantities) {
+        return guard.call(() -> delegate.reserveAll(orderId, quantities));
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.order.infrastructure.adapter.out.resilience;
+
+import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.application.port.out.PaymentResult;
+
+import java.math.BigDecimal;
+
+/** {@link PaymentPort} guarded by the Payment Service breaker and bulkhead. */
+public class ResilientPaymentPort implements PaymentPort {
+
+    private final PaymentPort delegate;
+    private final ResilienceGuard guard;
+
+    public ResilientPaymentPort(PaymentPort delegate, ResilienceGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PaymentResult processPayment(String orderId, BigDecimal amount) {
+        return guard.call(() -> delegate.processPayment(orderId, amount));
+    }
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.order.infrastructure.adapter.out.resilience;
+
+import com.ecommerce.order.application.port.out.ProductBatchResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+
+import java.util.Collection;
+
+/** {@link ProductQueryPort} guarded by the Product Service breaker and bulkhead. */
+public class ResilientProductQueryPort implements ProductQueryPort {
+
+    private final ProductQueryPort delegate;
+    private final ResilienceGuard guard;
+
+    public ResilientProductQueryPort(ProductQueryPort delegate, ResilienceGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProductInfo queryProduct(String productId) {
+        return guard.call(() -> delegate.queryProduct(productId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProductBatchResult queryProducts(Collection<String> productIds) {
+        return guard.call(() -> delegate.queryProducts(productIds));
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.order.infrastructure.adapter.out.rest;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Shared helpers for the WebClient adapters. Errors are translated to the exceptions the
+ * RestTemplate adapters throw, so the application layer handles both modes alike: I/O errors and
+ * timeouts become {@link ResourceAccessException}, error statuses become
+ * {@link HttpClientErrorException} or {@link HttpServerErrorException}.
+ */
+final class AsyncHttpSupport {
+
+    static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT =
+            new ParameterizedTypeReference<Map<String, Object>>() {};
+
+    private AsyncHttpSupport() {}
+
+    static Throwable translate(Throwable error) {
+        if (error instanceof WebClientRequestException) {
+            WebClientRequestException e = (WebClientRequestException) error;
+            return new ResourceAccessException("I/O error on " + e.getMethod() + " request for \""
+                    + e.getUri() + "\": " + e.getMessage());
+        }
+        if (error instanceof WebClientResponseException) {
+            WebClientResponseException e = (WebClientResponseException) error;
+            if (e.getStatusCode().is4xxClientError()) {
+                return HttpClientErrorException.create(e.getStatusCode(), e.getStatusText(),
+                        e.getHeaders(), e.getResponseBodyAsByteArray(), StandardCharsets.UTF_8);
+            }
+            return HttpServerErrorException.create(e.getStatusCode(), e.getStatusText(),
+                    e.getHeaders(), e.getResponseBodyAsByteArray(), StandardCharsets.UTF_8);
+        }
+        return error;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.order.infrastructure.adapter.out.rest;
+
+import com.ecommerce.order.application.port.out.AsyncInventoryPort;
+import com.ecommerce.order.application.port.out.InventoryBatchResult;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "order.pipeline.mode", havingValue = "non-blocking")
+public class AsyncInventoryServiceClient implements AsyncInventoryPort {
+
+    private final WebClient webClient;
+    private final String inventoryServiceUrl;
+
+    public AsyncInventoryServiceClient(@Qualifier("inventoryWebClient") WebClient webClient,
+                                       @Value("${inventory-service.url}") String inventoryServiceUrl) {
+        this.webClient = webClient;
+        this.inventoryServiceUrl = inventoryServiceUrl;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> reserveInventory(String orderId, String productId,
+                                                       int quantity) {
+        return post("/api/inventory/reserve",
+                InventoryServiceClient.toLineRequest(orderId, productId, quantity))
+                .map(response -> Boolean.TRUE.equals(response.get("reserved")))
+                .toFuture();
+    }
+
+    /** {@inheritDoc} A 409 answer carries the per-line results and is mapped, not raised. */
+    @Override
+    public CompletableFuture<InventoryBatchResult> reserveAll(String orderId,
+                                                              Map<String, Integer> quantities) {
+        return webClient.post()
+                .uri(inventoryServiceUrl + "/api/inventory/reserve/batch")
+                .bodyValue(InventoryServiceClient.toBatchRequest(orderId, quantities))
+                .exchangeToMono(response -> response.statusCode().is2xxSuccessful()
+                        || response.statusCode() == HttpStatus.CONFLICT
+                        ? response.bodyToMono(AsyncHttpSupport.JSON_OBJECT)
+                        : response.<Map<String, Object>>createException().flatMap(Mono::error))
+                .map(InventoryServiceClient::mapToBatchResult)
+                .onErrorMap(AsyncHttpSupport::translate)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> releaseInventory(String orderId, String productId,
+                                                    int quantity) {
+        return post("/api/inventory/release",
+                InventoryServiceClient.toLineRequest(orderId, productId, quantity))
+                .then()
+                .toFuture();
+    }
+
+    private Mono<Map<String, Object>> post(String path, Map<String, Object> request) {
+        return webClient.post()
+                .uri(inventoryServiceUrl + path)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AsyncHttpSupport.JSON_OBJECT)
+                .onErrorMap(AsyncHttpSupport::translate);
+    }
+}
@@ -0,0 +1,59 @@
+package com.ecommerce.order.infrastructure.adapter.out.rest;
+
+import com.ecommerce.order.application.port.out.AsyncPaymentPort;
+import com.ecommerce.order.application.port.out.PaymentResult;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "order.pipeline.mode", havingValue = "non-blocking")
+public class AsyncPaymentServiceClient implements AsyncPaymentPort {
+
+    private final WebClient webClient;
+    private final String paymentServiceUrl;
+
+    public AsyncPaymentServiceClient(@Qualifier("paymentWebClient") WebClient webClient,
+                                     @Value("${payment-service.url}") String paymentServiceUrl) {
+        this.webClient = webClient;
+        this.paymentServiceUrl = paymentServiceUrl;
+    }
+
+    @Override
+    public CompletableFuture<PaymentResult> processPayment(String orderId, BigDecimal amount) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("orderId", orderId);
+        request.put("amount", amount);
+
+        return webClient.post()
+                .uri(paymentServiceUrl + "/api/payments")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AsyncHttpSupport.JSON_OBJECT)
+                .map(PaymentServiceClient::mapToPaymentResult)
+                .onErrorMap(AsyncHttpSupport::translate)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> refundPayments(String orderId) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("orderId", orderId);
+
+        return webClient.post()
+                .uri(paymentServiceUrl + "/api/payments/refunds")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AsyncHttpSupport.JSON_OBJECT)
+                .onErrorMap(AsyncHttpSupport::translate)
+                .then()
+                .toFuture();
+    }
+}
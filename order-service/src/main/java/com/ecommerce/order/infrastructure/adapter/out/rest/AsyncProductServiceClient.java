@@ -0,0 +1,37 @@
+package com.ecommerce.order.infrastructure.adapter.out.rest;
+
+import com.ecommerce.order.application.port.out.AsyncProductQueryPort;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.infrastructure.dto.ProductResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "order.pipeline.mode", havingValue = "non-blocking")
+public class AsyncProductServiceClient implements AsyncProductQueryPort {
+
+    private final WebClient webClient;
+    private final String productServiceUrl;
+
+    public AsyncProductServiceClient(@Qualifier("productWebClient") WebClient webClient,
+                                     @Value("${product-service.url}") String productServiceUrl) {
+        this.webClient = webClient;
+        this.productServiceUrl = productServiceUrl;
+    }
+
+    @Override
+    public CompletableFuture<ProductInfo> queryProduct(String productId) {
+        return webClient.get()
+                .uri(productServiceUrl + "/api/products/{productId}", productId)
+                .retrieve()
+                .bodyToMono(ProductResponse.class)
+                .map(ProductServiceClient::mapToProductInfo)
+                .onErrorMap(AsyncHttpSupport::translate)
+                .toFuture();
+    }
+}
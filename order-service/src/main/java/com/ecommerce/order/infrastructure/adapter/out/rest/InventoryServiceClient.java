@@ -1,45 +1,102 @@
 package com.ecommerce.order.infrastructure.adapter.out.rest;
 
+import com.ecommerce.order.application.port.out.InventoryBatchResult;
 import com.ecommerce.order.application.port.out.InventoryReleasePort;
 import com.ecommerce.order.application.port.out.InventoryReservePort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
 public class InventoryServiceClient implements InventoryReservePort, InventoryReleasePort {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final RestTemplate restTemplate;
     private final String inventoryServiceUrl;
 
-    public InventoryServiceClient(RestTemplate restTemplate,
+    public InventoryServiceClient(@Qualifier("inventoryRestTemplate") RestTemplate restTemplate,
                                   @Value("${inventory-service.url}") String inventoryServiceUrl) {
         this.restTemplate = restTemplate;
         this.inventoryServiceUrl = inventoryServiceUrl;
     }
 
     @Override
-    public boolean reserveInventory(String productId, int quantity) {
+    public boolean reserveInventory(String orderId, String productId, int quantity) {
         String url = inventoryServiceUrl + "/api/inventory/reserve";
-        Map<String, Object> request = new HashMap<>();
-        request.put("productId", productId);
-        request.put("quantity", quantity);
-
         @SuppressWarnings("unchecked")
-        Map<String, Object> response = restTemplate.postForObject(url, request, Map.class);
+        Map<String, Object> response = restTemplate.postForObject(
+                url, toLineRequest(orderId, productId, quantity), Map.class);
         return Boolean.TRUE.equals(response.get("reserved"));
     }
 
     @Override
-    public void releaseInventory(String productId, int quantity) {
-        String url = inventoryServiceUrl + "/api/inventory/release";
+    public InventoryBatchResult reserveAll(String orderId, Map<String, Integer> quantities) {
+        String url = inventoryServiceUrl + "/api/inventory/reserve/batch";
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> response = restTemplate.postForObject(
+                    url, toBatchRequest(orderId, quantities), Map.class);
+            return mapToBatchResult(response);
+        } catch (HttpClientErrorException.Conflict e) {
+            return mapToBatchResult(readBody(e));
+        }
+    }
+
+    static Map<String, Object> toLineRequest(String orderId, String productId, int quantity) {
         Map<String, Object> request = new HashMap<>();
+        request.put("orderId", orderId);
         request.put("productId", productId);
         request.put("quantity", quantity);
+        return request;
+    }
 
-        restTemplate.postForObject(url, request, Map.class);
+    static Map<String, Object> toBatchRequest(String orderId, Map<String, Integer> quantities) {
+        List<Map<String, Object>> items = new ArrayList<>(quantities.size());
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("productId", entry.getKey());
+            item.put("quantity", entry.getValue());
+            items.add(item);
+        }
+        Map<String, Object> request = new HashMap<>();
+        request.put("orderId", orderId);
+        request.put("items", items);
+        return request;
+    }
+
+    @SuppressWarnings("unchecked")
+    static InventoryBatchResult mapToBatchResult(Map<String, Object> response) {
+        List<String> failedProductIds = new ArrayList<>();
+        for (Map<String, Object> line : (List<Map<String, Object>>) response.get("lines")) {
+            if (line.get("reason") != null) {
+                failedProductIds.add((String) line.get("productId"));
+            }
+        }
+        return new InventoryBatchResult(Boolean.TRUE.equals(response.get("reserved")), failedProductIds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readBody(HttpClientErrorException e) {
+        try {
+            return OBJECT_MAPPER.readValue(e.getResponseBodyAsString(), Map.class);
+        } catch (JsonProcessingException parseError) {
+            throw e;
+        }
+    }
+
+    @Override
+    public void releaseInventory(String orderId, String productId, int quantity) {
+        String url = inventoryServiceUrl + "/api/inventory/release";
+        restTemplate.postForObject(url, toLineRequest(orderId, productId, quantity), Map.class);
     }
 }
@@ -1,7 +1,9 @@
 package com.ecommerce.order.infrastructure.adapter.out.rest;
 
 import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.application.port.out.PaymentRefundPort;
 import com.ecommerce.order.application.port.out.PaymentResult;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -11,12 +13,12 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Component
-public class PaymentServiceClient implements PaymentPort {
+public class PaymentServiceClient implements PaymentPort, PaymentRefundPort {
 
     private final RestTemplate restTemplate;
     private final String paymentServiceUrl;
 
-    public PaymentServiceClient(RestTemplate restTemplate,
+    public PaymentServiceClient(@Qualifier("paymentRestTemplate") RestTemplate restTemplate,
                                 @Value("${payment-service.url}") String paymentServiceUrl) {
         this.restTemplate = restTemplate;
         this.paymentServiceUrl = paymentServiceUrl;
@@ -34,7 +36,15 @@ public class PaymentServiceClient implements PaymentPort {
         return mapToPaymentResult(response);
     }
 
-    private PaymentResult mapToPaymentResult(Map<String, Object> response) {
+    @Override
+    public void refundPayments(String orderId) {
+        String url = paymentServiceUrl + "/api/payments/refunds";
+        Map<String, Object> request = new HashMap<>();
+        request.put("orderId", orderId);
+        restTemplate.postForObject(url, request, Map.class);
+    }
+
+    static PaymentResult mapToPaymentResult(Map<String, Object> response) {
         String paymentId = (String) response.get("paymentId");
         String status = (String) response.get("status");
         return new PaymentResult(paymentId, status);
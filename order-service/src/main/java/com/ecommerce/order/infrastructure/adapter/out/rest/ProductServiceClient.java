@@ -1,21 +1,29 @@
 package com.ecommerce.order.infrastructure.adapter.out.rest;
 
+import com.ecommerce.order.application.port.out.ProductBatchResult;
 import com.ecommerce.order.application.port.out.ProductInfo;
 import com.ecommerce.order.application.port.out.ProductQueryPort;
+import com.ecommerce.order.infrastructure.dto.ProductBatchResponse;
+import com.ecommerce.order.infrastructure.dto.ProductResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.math.BigDecimal;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 @Component
 public class ProductServiceClient implements ProductQueryPort {
 
+    /** Product Service answers 400 to a multi-get for more IDs than this. */
+    static final int MAX_IDS_PER_REQUEST = 100;
+
     private final RestTemplate restTemplate;
     private final String productServiceUrl;
 
-    public ProductServiceClient(RestTemplate restTemplate,
+    public ProductServiceClient(@Qualifier("productRestTemplate") RestTemplate restTemplate,
                                 @Value("${product-service.url}") String productServiceUrl) {
         this.restTemplate = restTemplate;
         this.productServiceUrl = productServiceUrl;
@@ -24,15 +32,33 @@ public class ProductServiceClient implements ProductQueryPort {
     @Override
     public ProductInfo queryProduct(String productId) {
         String url = productServiceUrl + "/api/products/{productId}";
-        @SuppressWarnings("unchecked")
-        Map<String, Object> response = restTemplate.getForObject(url, Map.class, productId);
-        return mapToProductInfo(response);
+        return mapToProductInfo(restTemplate.getForObject(url, ProductResponse.class, productId));
+    }
+
+    /** {@inheritDoc} More than {@value #MAX_IDS_PER_REQUEST} IDs are sent in several calls. */
+    @Override
+    public ProductBatchResult queryProducts(Collection<String> productIds) {
+        List<String> ids = new ArrayList<>(productIds);
+        List<ProductInfo> products = new ArrayList<>(ids.size());
+        List<String> missingIds = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_REQUEST) {
+            int to = Math.min(from + MAX_IDS_PER_REQUEST, ids.size());
+            ProductBatchResponse response = queryChunk(ids.subList(from, to));
+            for (ProductResponse product : response.getProducts()) {
+                products.add(mapToProductInfo(product));
+            }
+            missingIds.addAll(response.getMissingIds());
+        }
+        return new ProductBatchResult(products, missingIds);
+    }
+
+    private ProductBatchResponse queryChunk(List<String> productIds) {
+        String url = productServiceUrl + "/api/products?ids={ids}";
+        return restTemplate.getForObject(url, ProductBatchResponse.class,
+                String.join(",", productIds));
     }
 
-    private ProductInfo mapToProductInfo(Map<String, Object> response) {
-        String productId = (String) response.get("productId");
-        String name = (String) response.get("name");
-        BigDecimal price = new BigDecimal(response.get("price").toString());
-        return new ProductInfo(productId, name, price);
+    static ProductInfo mapToProductInfo(ProductResponse response) {
+        return new ProductInfo(response.getProductId(), response.getName(), response.getPrice());
     }
 }
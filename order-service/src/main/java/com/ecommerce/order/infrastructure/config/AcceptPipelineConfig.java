@@ -0,0 +1,49 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.application.port.in.AcceptOrderPort;
+import com.ecommerce.order.application.service.AcceptOrderUseCase;
+import com.ecommerce.order.application.service.CreateOrderUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selects accept-then-process order creation when {@code order.pipeline.mode=accept}. Accepted
+ * orders wait on the {@code order-processing} pool; its queue depth is exported as
+ * {@code executor.queued{name=order-processing}}. On shutdown running orders get a grace period
+ * to finish, queued ones stay in CREATED status.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.pipeline.mode", havingValue = "accept")
+public class AcceptPipelineConfig implements DisposableBean {
+
+    private static final long SHUTDOWN_GRACE_SECONDS = 10;
+
+    private ExecutorService workerExecutor;
+
+    @Bean
+    public AcceptOrderPort acceptOrderPort(
+            CreateOrderUseCase createOrderUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${order.pipeline.workers:16}") int workers,
+            @Value("${order.pipeline.backlog-capacity:1000}") int backlogCapacity) {
+        workerExecutor = MeteredExecutors.bounded("order-processing", workers, backlogCapacity,
+                new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+        return new AcceptOrderUseCase(createOrderUseCase, workerExecutor);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (workerExecutor != null) {
+            workerExecutor.shutdown();
+            workerExecutor.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
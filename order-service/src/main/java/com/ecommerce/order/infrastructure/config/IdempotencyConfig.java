@@ -0,0 +1,67 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.infrastructure.adapter.out.idempotency.CachingIdempotencyStore;
+import com.ecommerce.order.infrastructure.adapter.out.idempotency.SpringDataIdempotencyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembles the idempotency store: up to {@code order.idempotency.max-size} recent keys in
+ * memory in front of the {@code idempotency_records} table. Records are kept for
+ * {@code order.idempotency.retention-ms} and purged every {@code cleanup-interval-ms} on a
+ * single {@code idempotency-purge} thread. A key claimed by a request that has not finished
+ * within {@code claim-timeout-ms} is handed to a retry of the same request.
+ */
+@Configuration
+public class IdempotencyConfig implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyConfig.class);
+
+    private ScheduledExecutorService purgeScheduler;
+
+    @Bean
+    public CachingIdempotencyStore idempotencyStore(
+            SpringDataIdempotencyRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${order.idempotency.max-size:10000}") long maxSize,
+            @Value("${order.idempotency.retention-ms:86400000}") long retentionMs,
+            @Value("${order.idempotency.cleanup-interval-ms:3600000}") long cleanupIntervalMs,
+            @Value("${order.idempotency.claim-timeout-ms:300000}") long claimTimeoutMs) {
+        CachingIdempotencyStore store = new CachingIdempotencyStore(repository, maxSize,
+                Duration.ofMillis(retentionMs), Duration.ofMillis(claimTimeoutMs),
+                Clock.systemDefaultZone(), meterRegistry);
+        purgeScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("idempotency-purge-"));
+        purgeScheduler.scheduleWithFixedDelay(() -> purge(store),
+                cleanupIntervalMs, cleanupIntervalMs, TimeUnit.MILLISECONDS);
+        return store;
+    }
+
+    private static void purge(CachingIdempotencyStore store) {
+        try {
+            int purged = store.purgeExpired();
+            log.debug("Purged {} expired idempotency records", purged);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency purge failed, retrying on next run", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (purgeScheduler != null) {
+            purgeScheduler.shutdown();
+        }
+    }
+}
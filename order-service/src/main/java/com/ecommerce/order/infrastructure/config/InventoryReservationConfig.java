@@ -0,0 +1,27 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.application.port.out.InventoryReservePort;
+import com.ecommerce.order.application.service.InventoryReservation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the inventory reservation strategy used by order creation. {@code batch} mode requires an
+ * Inventory Service that exposes {@code POST /api/inventory/reserve/batch}.
+ */
+@Configuration
+public class InventoryReservationConfig {
+
+    @Bean
+    public InventoryReservation inventoryReservation(
+            InventoryReservePort inventoryReservePort,
+            @Value("${order.inventory-reservation.mode:per-item}") String mode) {
+        InventoryReservation.Mode reservationMode =
+                InventoryReservation.Mode.valueOf(mode.replace('-', '_').toUpperCase());
+        if (reservationMode == InventoryReservation.Mode.BATCH) {
+            return InventoryReservation.batch(inventoryReservePort);
+        }
+        return InventoryReservation.perItem(inventoryReservePort);
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.order.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Factory for bounded thread pools whose pool size, queue depth and task timings are exported
+ * through Micrometer under the {@code executor.*} meters tagged with the pool name.
+ */
+public final class MeteredExecutors {
+
+    private MeteredExecutors() {}
+
+    /**
+     * Creates a fixed-size pool with a bounded queue. Idle threads time out so a quiet pool
+     * holds no threads.
+     */
+    public static ExecutorService bounded(String name, int threads, int queueCapacity,
+                                          RejectedExecutionHandler rejectionHandler,
+                                          MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(name + "-"),
+                rejectionHandler);
+        executor.allowCoreThreadTimeOut(true);
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, name);
+    }
+}
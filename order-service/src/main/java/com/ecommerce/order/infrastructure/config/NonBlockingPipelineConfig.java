@@ -0,0 +1,66 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.application.port.in.CreateOrderPort;
+import com.ecommerce.order.application.port.out.AsyncInventoryPort;
+import com.ecommerce.order.application.port.out.AsyncPaymentPort;
+import com.ecommerce.order.application.port.out.AsyncProductQueryPort;
+import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
+import com.ecommerce.order.application.service.InventoryReservation;
+import com.ecommerce.order.application.service.NonBlockingCreateOrderUseCase;
+import com.ecommerce.order.domain.port.OrderIdGenerator;
+import com.ecommerce.order.domain.port.OrderRepository;
+import com.ecommerce.order.domain.port.OrderSagaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Selects the non-blocking order pipeline when {@code order.pipeline.mode=non-blocking}. The
+ * order saves run on the {@code order-persistence} pool, which should not be larger than the
+ * JDBC connection pool; when its queue is full new orders are rejected rather than queued
+ * without bound.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.pipeline.mode", havingValue = "non-blocking")
+public class NonBlockingPipelineConfig implements DisposableBean {
+
+    private ExecutorService persistenceExecutor;
+
+    @Bean
+    @Primary
+    public CreateOrderPort nonBlockingCreateOrderPort(
+            AsyncProductQueryPort productQueryPort,
+            AsyncInventoryPort inventoryPort,
+            AsyncPaymentPort paymentPort,
+            OrderRepository orderRepository,
+            OrderSagaRepository orderSagaRepository,
+            OrderEventPublisherPort orderEventPublisherPort,
+            InventoryReservation inventoryReservation,
+            OrderIdGenerator orderIdGenerator,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${order.pipeline.persistence-pool-size:10}") int poolSize,
+            @Value("${order.pipeline.persistence-queue-capacity:1000}") int queueCapacity) {
+        persistenceExecutor = MeteredExecutors.bounded("order-persistence", poolSize,
+                queueCapacity, new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+        return new NonBlockingCreateOrderUseCase(productQueryPort, inventoryPort, paymentPort,
+                orderRepository, orderSagaRepository, orderEventPublisherPort,
+                inventoryReservation.getMode(), persistenceExecutor, orderIdGenerator,
+                transactionTemplate);
+    }
+
+    @Override
+    public void destroy() {
+        if (persistenceExecutor != null) {
+            persistenceExecutor.shutdown();
+        }
+    }
+}
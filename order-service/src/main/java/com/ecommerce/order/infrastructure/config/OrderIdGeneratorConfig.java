@@ -0,0 +1,37 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.domain.port.OrderIdGenerator;
+import com.ecommerce.order.infrastructure.adapter.out.id.TimeOrderedOrderIdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the order ID generator: {@code time-ordered} (default) or {@code uuid}. Time-ordered
+ * IDs need {@code order.id.node-id} to be unique per instance; without it a random node ID is
+ * drawn at startup, which is fine for a single instance but should be set explicitly when
+ * several instances, such as blue and green, share the order table.
+ */
+@Configuration
+public class OrderIdGeneratorConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderIdGeneratorConfig.class);
+
+    @Bean
+    public OrderIdGenerator orderIdGenerator(
+            @Value("${order.id.generator:time-ordered}") String generator,
+            @Value("${order.id.node-id:-1}") int nodeId) {
+        if ("uuid".equals(generator)) {
+            return OrderIdGenerator.randomUuid();
+        }
+        if (nodeId < 0) {
+            nodeId = ThreadLocalRandom.current().nextInt(TimeOrderedOrderIdGenerator.MAX_NODE_ID + 1);
+            log.warn("order.id.node-id not set, using random node ID {}", nodeId);
+        }
+        return new TimeOrderedOrderIdGenerator(nodeId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.infrastructure.adapter.out.kafka.MeteredKafkaSender;
+import com.ecommerce.order.infrastructure.adapter.out.outbox.OutboxRelay;
+import com.ecommerce.order.infrastructure.adapter.out.outbox.SpringDataOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the {@link OutboxRelay} on a single {@code outbox-relay} thread: a drain every
+ * {@code order.outbox.poll-interval-ms} and a purge of published events older than
+ * {@code order.outbox.retention-ms} every {@code order.outbox.cleanup-interval-ms}. One thread
+ * keeps the per-key ordering simple; the relay is off the request path either way.
+ */
+@Configuration
+public class OutboxRelayConfig implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayConfig.class);
+
+    private ScheduledExecutorService relayScheduler;
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            SpringDataOutboxRepository outboxRepository,
+            MeteredKafkaSender sender,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${order.outbox.batch-size:100}") int batchSize,
+            @Value("${order.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+            @Value("${order.outbox.retry-backoff-ms:1000}") long retryBackoffMs,
+            @Value("${order.outbox.max-backoff-ms:60000}") long maxBackoffMs,
+            @Value("${order.outbox.poll-interval-ms:500}") long pollIntervalMs,
+            @Value("${order.outbox.cleanup-interval-ms:60000}") long cleanupIntervalMs,
+            @Value("${order.outbox.retention-ms:86400000}") long retentionMs) {
+        OutboxRelay relay = new OutboxRelay(outboxRepository, sender, objectMapper,
+                batchSize, Duration.ofMillis(sendTimeoutMs), Duration.ofMillis(retryBackoffMs),
+                Duration.ofMillis(maxBackoffMs), Clock.systemDefaultZone(), meterRegistry);
+        schedule(relay, pollIntervalMs, cleanupIntervalMs, Duration.ofMillis(retentionMs));
+        return relay;
+    }
+
+    private void schedule(OutboxRelay relay, long pollIntervalMs, long cleanupIntervalMs,
+                          Duration retention) {
+        relayScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("outbox-relay-"));
+        relayScheduler.scheduleWithFixedDelay(relay::drain,
+                pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        relayScheduler.scheduleWithFixedDelay(() -> purge(relay, retention),
+                cleanupIntervalMs, cleanupIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static void purge(OutboxRelay relay, Duration retention) {
+        try {
+            int purged = relay.purgePublished(retention);
+            log.debug("Purged {} published outbox events", purged);
+        } catch (RuntimeException e) {
+            log.warn("Outbox purge failed, retrying on next run", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (relayScheduler != null) {
+            relayScheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.order.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Factory for keep-alive HTTP clients backed by a dedicated connection pool. Pool usage is
+ * exported through Micrometer as {@code httpcomponents.httpclient.pool.*} gauges (leased,
+ * pending and available connections) tagged with the pool name.
+ */
+public final class PooledHttpClients {
+
+    /** Pooled connections idle longer than this are re-validated before being reused. */
+    private static final int VALIDATE_AFTER_INACTIVITY_MS = 2000;
+
+    private PooledHttpClients() {}
+
+    /** Creates a client whose pool and timeouts follow the given settings. */
+    public static CloseableHttpClient create(String name, Settings settings,
+                                             MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager pool = new PoolingHttpClientConnectionManager();
+        pool.setMaxTotal(settings.maxConnections);
+        pool.setDefaultMaxPerRoute(settings.maxConnections);
+        pool.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MS);
+        new PoolingHttpClientConnectionManagerMetricsBinder(pool, name).bindTo(meterRegistry);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(settings.connectTimeoutMs)
+                .setSocketTimeout(settings.readTimeoutMs)
+                .setConnectionRequestTimeout(settings.poolAcquireTimeoutMs)
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(pool)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAlive(settings.keepAliveMs))
+                .evictExpiredConnections()
+                .evictIdleConnections(settings.idleEvictMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /** Honours a shorter server Keep-Alive timeout, otherwise keeps connections for keepAliveMs. */
+    private static ConnectionKeepAliveStrategy keepAlive(long keepAliveMs) {
+        return (response, context) -> {
+            long serverMs = DefaultConnectionKeepAliveStrategy.INSTANCE
+                    .getKeepAliveDuration(response, context);
+            return serverMs > 0 ? Math.min(serverMs, keepAliveMs) : keepAliveMs;
+        };
+    }
+
+    /** Pool and timeout settings of one downstream, read from {@code <prefix>.*}. */
+    public static final class Settings {
+        private final int maxConnections;
+        private final int connectTimeoutMs;
+        private final int readTimeoutMs;
+        private final int poolAcquireTimeoutMs;
+        private final long idleEvictMs;
+        private final long keepAliveMs;
+
+        public Settings(int maxConnections, int connectTimeoutMs, int readTimeoutMs,
+                        int poolAcquireTimeoutMs, long idleEvictMs, long keepAliveMs) {
+            this.maxConnections = maxConnections;
+            this.connectTimeoutMs = connectTimeoutMs;
+            this.readTimeoutMs = readTimeoutMs;
+            this.poolAcquireTimeoutMs = poolAcquireTimeoutMs;
+            this.idleEvictMs = idleEvictMs;
+            this.keepAliveMs = keepAliveMs;
+        }
+
+        public int getMaxConnections() { return maxConnections; }
+        public int getConnectTimeoutMs() { return connectTimeoutMs; }
+        public int getReadTimeoutMs() { return readTimeoutMs; }
+        public int getPoolAcquireTimeoutMs() { return poolAcquireTimeoutMs; }
+        public long getIdleEvictMs() { return idleEvictMs; }
+        public long getKeepAliveMs() { return keepAliveMs; }
+
+        /** Reads the settings under the given prefix, falling back to the defaults below. */
+        public static Settings from(Environment env, String prefix) {
+            return new Settings(
+                    env.getProperty(prefix + ".max-connections", Integer.class, 50),
+                    env.getProperty(prefix + ".connect-timeout-ms", Integer.class, 1000),
+                    env.getProperty(prefix + ".read-timeout-ms", Integer.class, 3000),
+                    env.getProperty(prefix + ".pool-acquire-timeout-ms", Integer.class, 500),
+                    env.getProperty(prefix + ".idle-evict-ms", Long.class, 30000L),
+                    env.getProperty(prefix + ".keep-alive-ms", Long.class, 30000L));
+        }
+    }
+}
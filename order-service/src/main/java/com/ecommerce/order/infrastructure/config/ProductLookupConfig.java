@@ -0,0 +1,51 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import com.ecommerce.order.application.service.ProductLookup;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Wires the product lookup strategy used by order creation. In {@code concurrent} mode the
+ * lookups run on a dedicated bounded pool; when the pool and its queue are full the order is
+ * refused as unavailable rather than run on the request thread, where it would escape the
+ * lookup deadline.
+ */
+@Configuration
+public class ProductLookupConfig implements DisposableBean {
+
+    private ExecutorService lookupExecutor;
+
+    @Bean
+    public ProductLookup productLookup(
+            ProductQueryPort productQueryPort,
+            MeterRegistry meterRegistry,
+            @Value("${order.product-lookup.mode:concurrent}") String mode,
+            @Value("${order.product-lookup.pool-size:16}") int poolSize,
+            @Value("${order.product-lookup.queue-capacity:256}") int queueCapacity,
+            @Value("${order.product-lookup.deadline-ms:2000}") long deadlineMs) {
+        ProductLookup.Mode lookupMode = ProductLookup.Mode.valueOf(mode.toUpperCase());
+        if (lookupMode == ProductLookup.Mode.SERIAL) {
+            return ProductLookup.serial(productQueryPort);
+        }
+        if (lookupMode == ProductLookup.Mode.BATCH) {
+            return ProductLookup.batch(productQueryPort);
+        }
+        lookupExecutor = MeteredExecutors.bounded("product-lookup", poolSize, queueCapacity,
+                new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+        return ProductLookup.concurrent(productQueryPort, lookupExecutor, deadlineMs);
+    }
+
+    @Override
+    public void destroy() {
+        if (lookupExecutor != null) {
+            lookupExecutor.shutdown();
+        }
+    }
+}
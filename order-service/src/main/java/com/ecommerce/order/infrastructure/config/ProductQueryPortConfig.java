@@ -0,0 +1,120 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import com.ecommerce.order.infrastructure.adapter.out.cache.CachingProductQueryPort;
+import com.ecommerce.order.infrastructure.adapter.out.coalescing.CoalescingProductQueryPort;
+import com.ecommerce.order.infrastructure.adapter.out.hedging.HedgingProductQueryPort;
+import com.ecommerce.order.infrastructure.adapter.out.resilience.ResilienceGuard;
+import com.ecommerce.order.infrastructure.adapter.out.resilience.ResilientProductQueryPort;
+import com.ecommerce.order.infrastructure.adapter.out.rest.ProductServiceClient;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Assembles the {@link ProductQueryPort} used by the application layer: the Product Service
+ * client behind its circuit breaker and bulkhead, wrapped in a product cache unless
+ * {@code order.product-cache.enabled} is false. With {@code product-service.hedging.enabled}
+ * the client's slow lookups are hedged on a dedicated {@code product-hedge} pool. Concurrent
+ * lookups of the same product share one request unless
+ * {@code product-service.coalescing.enabled} is false; a caller waits for the shared request at
+ * most {@code order.product-lookup.deadline-ms}. Background refreshes run on a small
+ * dedicated pool; a refresh that cannot be queued is skipped and retried on a later read.
+ * All these settings are bound to {@link ProductQueryProperties}, which holds their defaults.
+ */
+@Configuration
+public class ProductQueryPortConfig implements DisposableBean {
+
+    private ExecutorService refreshExecutor;
+    private ExecutorService hedgeExecutor;
+
+    @Bean
+    @ConfigurationProperties(prefix = "order.product-cache")
+    public ProductQueryProperties.Cache productCacheProperties() {
+        return new ProductQueryProperties.Cache();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "product-service.coalescing")
+    public ProductQueryProperties.Coalescing productCoalescingProperties() {
+        return new ProductQueryProperties.Coalescing();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "order.product-lookup")
+    public ProductQueryProperties.Lookup productLookupProperties() {
+        return new ProductQueryProperties.Lookup();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "product-service.hedging")
+    public ProductQueryProperties.Hedging productHedgingProperties() {
+        return new ProductQueryProperties.Hedging();
+    }
+
+    @Bean
+    @Primary
+    public ProductQueryPort productQueryPort(
+            ProductServiceClient productServiceClient,
+            @Qualifier("productServiceGuard") ResilienceGuard guard,
+            MeterRegistry meterRegistry,
+            ProductQueryProperties.Cache cache,
+            ProductQueryProperties.Coalescing coalescing,
+            ProductQueryProperties.Lookup lookup,
+            ProductQueryProperties.Hedging hedging) {
+        ProductQueryPort guarded = coalesced(new ResilientProductQueryPort(
+                hedged(productServiceClient, hedging, meterRegistry), guard),
+                coalescing, lookup, meterRegistry);
+        if (!cache.isEnabled()) {
+            return guarded;
+        }
+        refreshExecutor = MeteredExecutors.bounded("product-cache-refresh", 2, 64,
+                new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+        return new CachingProductQueryPort(guarded, cache.getMaxSize(),
+                Duration.ofMillis(cache.getTtlMs()), Duration.ofMillis(cache.getMaxStaleMs()),
+                refreshExecutor, Ticker.systemTicker(), meterRegistry);
+    }
+
+    private static ProductQueryPort coalesced(ProductQueryPort port,
+                                              ProductQueryProperties.Coalescing coalescing,
+                                              ProductQueryProperties.Lookup lookup,
+                                              MeterRegistry meterRegistry) {
+        if (!coalescing.isEnabled()) {
+            return port;
+        }
+        return new CoalescingProductQueryPort(port, Duration.ofMillis(lookup.getDeadlineMs()),
+                meterRegistry);
+    }
+
+    private ProductQueryPort hedged(ProductQueryPort client,
+                                    ProductQueryProperties.Hedging hedging,
+                                    MeterRegistry meterRegistry) {
+        if (!hedging.isEnabled()) {
+            return client;
+        }
+        hedgeExecutor = MeteredExecutors.bounded("product-hedge", hedging.getPoolSize(),
+                hedging.getQueueCapacity(), new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+        return new HedgingProductQueryPort(client, hedgeExecutor, hedging.getBudgetRatio(),
+                hedging.getMaxBurst(), hedging.getPercentile(), hedging.getInitialDelayMs(),
+                hedging.getMinDelayMs(), hedging.getWindowSize(), meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdown();
+        }
+        if (hedgeExecutor != null) {
+            hedgeExecutor.shutdown();
+        }
+    }
+}
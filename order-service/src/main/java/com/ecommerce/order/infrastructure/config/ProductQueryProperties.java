@@ -0,0 +1,78 @@
+package com.ecommerce.order.infrastructure.config;
+
+/**
+ * Settings of the product query chain assembled by {@link ProductQueryPortConfig}, with their
+ * defaults. Each group is bound from its own prefix there: {@code order.product-cache},
+ * {@code product-service.coalescing}, {@code product-service.hedging}, and
+ * {@code order.product-lookup} for the lookup deadline a coalesced caller waits at most.
+ */
+public final class ProductQueryProperties {
+
+    private ProductQueryProperties() {
+    }
+
+    /** The product cache; entries older than the TTL are refreshed in the background. */
+    public static class Cache {
+        private boolean enabled = true;
+        private long maxSize = 10000;
+        private long ttlMs = 300000;
+        private long maxStaleMs = 3600000;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public long getMaxSize() { return maxSize; }
+        public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+        public long getTtlMs() { return ttlMs; }
+        public void setTtlMs(long ttlMs) { this.ttlMs = ttlMs; }
+        public long getMaxStaleMs() { return maxStaleMs; }
+        public void setMaxStaleMs(long maxStaleMs) { this.maxStaleMs = maxStaleMs; }
+    }
+
+    /** Sharing of one in-flight request among concurrent lookups of the same product. */
+    public static class Coalescing {
+        private boolean enabled = true;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    }
+
+    /** The per-order product lookup; only its deadline applies to the query chain. */
+    public static class Lookup {
+        private long deadlineMs = 2000;
+
+        public long getDeadlineMs() { return deadlineMs; }
+        public void setDeadlineMs(long deadlineMs) { this.deadlineMs = deadlineMs; }
+    }
+
+    /** Duplicate GETs for slow lookups, within a budget of extra load. */
+    public static class Hedging {
+        private boolean enabled = false;
+        private int poolSize = 32;
+        private int queueCapacity = 32;
+        private double budgetRatio = 0.05;
+        private int maxBurst = 10;
+        private double percentile = 0.95;
+        private long initialDelayMs = 100;
+        private long minDelayMs = 5;
+        private int windowSize = 1024;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getPoolSize() { return poolSize; }
+        public void setPoolSize(int poolSize) { this.poolSize = poolSize; }
+        public int getQueueCapacity() { return queueCapacity; }
+        public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+        public double getBudgetRatio() { return budgetRatio; }
+        public void setBudgetRatio(double budgetRatio) { this.budgetRatio = budgetRatio; }
+        public int getMaxBurst() { return maxBurst; }
+        public void setMaxBurst(int maxBurst) { this.maxBurst = maxBurst; }
+        public double getPercentile() { return percentile; }
+        public void setPercentile(double percentile) { this.percentile = percentile; }
+        public long getInitialDelayMs() { return initialDelayMs; }
+        public void setInitialDelayMs(long initialDelayMs) { this.initialDelayMs = initialDelayMs; }
+        public long getMinDelayMs() { return minDelayMs; }
+        public void setMinDelayMs(long minDelayMs) { this.minDelayMs = minDelayMs; }
+        public int getWindowSize() { return windowSize; }
+        public void setWindowSize(int windowSize) { this.windowSize = windowSize; }
+    }
+}
@@ -0,0 +1,114 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.application.port.out.InventoryReleasePort;
+import com.ecommerce.order.application.port.out.InventoryReservePort;
+import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.infrastructure.adapter.out.resilience.ResilienceGuard;
+import com.ecommerce.order.infrastructure.adapter.out.resilience.ResilientInventoryReleasePort;
+import com.ecommerce.order.infrastructure.adapter.out.resilience.ResilientInventoryReservePort;
+import com.ecommerce.order.infrastructure.adapter.out.resilience.ResilientPaymentPort;
+import com.ecommerce.order.infrastructure.adapter.out.rest.InventoryServiceClient;
+import com.ecommerce.order.infrastructure.adapter.out.rest.PaymentServiceClient;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+
+/**
+ * One circuit breaker and bulkhead per downstream service, set under
+ * {@code <service>.resilience.*}, e.g. {@code payment-service.resilience.slow-call-ms}. The
+ * guarded ports are primary, so the use cases get them instead of the bare HTTP clients; the
+ * Product Service guard sits inside the product cache, so cached products are still served
+ * while the breaker is open.
+ *
+ * <p>4xx responses such as an inventory conflict are business outcomes and do not count as
+ * failures, nor do bulkhead rejections, so load alone never opens a breaker.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    public ResilienceConfig(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public ResilienceGuard productServiceGuard() {
+        return guard("product-service");
+    }
+
+    @Bean
+    public ResilienceGuard inventoryServiceGuard() {
+        return guard("inventory-service");
+    }
+
+    @Bean
+    public ResilienceGuard paymentServiceGuard() {
+        return guard("payment-service");
+    }
+
+    @Bean
+    @Primary
+    public InventoryReservePort resilientInventoryReservePort(
+            InventoryServiceClient inventoryServiceClient,
+            @Qualifier("inventoryServiceGuard") ResilienceGuard guard) {
+        return new ResilientInventoryReservePort(inventoryServiceClient, guard);
+    }
+
+    @Bean
+    @Primary
+    public InventoryReleasePort resilientInventoryReleasePort(
+            InventoryServiceClient inventoryServiceClient,
+            @Qualifier("inventoryServiceGuard") ResilienceGuard guard) {
+        return new ResilientInventoryReleasePort(inventoryServiceClient, guard);
+    }
+
+    @Bean
+    @Primary
+    public PaymentPort resilientPaymentPort(
+            PaymentServiceClient paymentServiceClient,
+            @Qualifier("paymentServiceGuard") ResilienceGuard guard) {
+        return new ResilientPaymentPort(paymentServiceClient, guard);
+    }
+
+    private ResilienceGuard guard(String service) {
+        String prefix = service + ".resilience";
+        return new ResilienceGuard(service, circuitBreakerConfig(prefix),
+                BulkheadConfig.custom()
+                        .maxConcurrentCalls(property(prefix + ".max-concurrent-calls", 32))
+                        .maxWaitDuration(Duration.ZERO)
+                        .build(),
+                meterRegistry);
+    }
+
+    private CircuitBreakerConfig circuitBreakerConfig(String prefix) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowSize(property(prefix + ".sliding-window-size", 50))
+                .minimumNumberOfCalls(property(prefix + ".minimum-number-of-calls", 20))
+                .failureRateThreshold(property(prefix + ".failure-rate-threshold", 50))
+                .slowCallRateThreshold(property(prefix + ".slow-call-rate-threshold", 50))
+                .slowCallDurationThreshold(
+                        Duration.ofMillis(property(prefix + ".slow-call-ms", 2000)))
+                .waitDurationInOpenState(
+                        Duration.ofMillis(property(prefix + ".wait-in-open-ms", 10000)))
+                .permittedNumberOfCallsInHalfOpenState(
+                        property(prefix + ".permitted-calls-in-half-open", 5))
+                .ignoreExceptions(HttpClientErrorException.class, BulkheadFullException.class)
+                .build();
+    }
+
+    private int property(String name, int defaultValue) {
+        return environment.getProperty(name, Integer.class, defaultValue);
+    }
+}
@@ -1,18 +1,61 @@
 package com.ecommerce.order.infrastructure.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One RestTemplate per downstream service, each on its own keep-alive connection pool so a slow
+ * downstream cannot exhaust the connections of the others. Pool sizes and timeouts are set
+ * under {@code <service>.http.*}, e.g. {@code payment-service.http.read-timeout-ms}.
+ */
 @Configuration
-public class RestTemplateConfig {
+public class RestTemplateConfig implements DisposableBean {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final List<CloseableHttpClient> httpClients = new ArrayList<>();
+
+    public RestTemplateConfig(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public RestTemplate productRestTemplate() {
+        return pooledRestTemplate("product-service");
+    }
 
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(3000);
-        factory.setReadTimeout(3000);
-        return new RestTemplate(factory);
+    public RestTemplate inventoryRestTemplate() {
+        return pooledRestTemplate("inventory-service");
+    }
+
+    @Bean
+    public RestTemplate paymentRestTemplate() {
+        return pooledRestTemplate("payment-service");
+    }
+
+    private RestTemplate pooledRestTemplate(String service) {
+        CloseableHttpClient httpClient = PooledHttpClients.create(service,
+                PooledHttpClients.Settings.from(environment, service + ".http"), meterRegistry);
+        httpClients.add(httpClient);
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (CloseableHttpClient httpClient : httpClients) {
+            httpClient.close();
+        }
     }
 }
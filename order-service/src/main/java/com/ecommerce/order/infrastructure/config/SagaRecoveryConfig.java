@@ -0,0 +1,70 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.application.service.CreateOrderUseCase;
+import com.ecommerce.order.application.service.OrderSagaRecovery;
+import com.ecommerce.order.domain.port.OrderRepository;
+import com.ecommerce.order.domain.port.OrderSagaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link OrderSagaRecovery} on a single {@code saga-recovery} thread every
+ * {@code order.saga.recovery.interval-ms}, starting after {@code initial-delay-ms}. Recovered
+ * sagas are counted in {@code order.saga.recovered}.
+ */
+@Configuration
+public class SagaRecoveryConfig implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SagaRecoveryConfig.class);
+
+    private ScheduledExecutorService recoveryScheduler;
+
+    @Bean
+    public OrderSagaRecovery orderSagaRecovery(
+            CreateOrderUseCase createOrderUseCase,
+            OrderSagaRepository orderSagaRepository,
+            OrderRepository orderRepository,
+            MeterRegistry meterRegistry,
+            @Value("${order.saga.recovery.page-size:100}") int pageSize,
+            @Value("${order.saga.recovery.idle-threshold-ms:300000}") long idleThresholdMs,
+            @Value("${order.saga.recovery.initial-delay-ms:10000}") long initialDelayMs,
+            @Value("${order.saga.recovery.interval-ms:60000}") long intervalMs) {
+        OrderSagaRecovery recovery = new OrderSagaRecovery(createOrderUseCase, orderSagaRepository,
+                orderRepository, pageSize, Duration.ofMillis(idleThresholdMs),
+                Clock.systemDefaultZone());
+        Counter recovered = meterRegistry.counter("order.saga.recovered");
+        recoveryScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("saga-recovery-"));
+        recoveryScheduler.scheduleWithFixedDelay(() -> recover(recovery, recovered),
+                initialDelayMs, intervalMs, TimeUnit.MILLISECONDS);
+        return recovery;
+    }
+
+    private static void recover(OrderSagaRecovery recovery, Counter recovered) {
+        try {
+            recovered.increment(recovery.recoverIdleSagas());
+        } catch (RuntimeException e) {
+            log.warn("Saga recovery scan failed, retrying on next run", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (recoveryScheduler != null) {
+            recoveryScheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.order.infrastructure.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link RestTemplateConfig} for the non-blocking order pipeline:
+ * one WebClient per downstream service on its own Reactor Netty connection pool, configured from
+ * the same {@code <service>.http.*} settings. Pool usage is exported as
+ * {@code reactor.netty.connection.provider.*} gauges.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.pipeline.mode", havingValue = "non-blocking")
+public class WebClientConfig implements DisposableBean {
+
+    private final Environment environment;
+    private final WebClient.Builder webClientBuilder;
+    private final List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
+    public WebClientConfig(Environment environment, WebClient.Builder webClientBuilder) {
+        this.environment = environment;
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    @Bean
+    public WebClient productWebClient() {
+        return pooledWebClient("product-service");
+    }
+
+    @Bean
+    public WebClient inventoryWebClient() {
+        return pooledWebClient("inventory-service");
+    }
+
+    @Bean
+    public WebClient paymentWebClient() {
+        return pooledWebClient("payment-service");
+    }
+
+    private WebClient pooledWebClient(String service) {
+        PooledHttpClients.Settings settings =
+                PooledHttpClients.Settings.from(environment, service + ".http");
+        ConnectionProvider provider = ConnectionProvider.builder(service)
+                .maxConnections(settings.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(settings.getPoolAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(settings.getIdleEvictMs()))
+                .maxLifeTime(Duration.ofMillis(settings.getKeepAliveMs()))
+                .evictInBackground(Duration.ofMillis(settings.getIdleEvictMs()))
+                .metrics(true)
+                .build();
+        connectionProviders.add(provider);
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, settings.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(settings.getReadTimeoutMs()));
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        for (ConnectionProvider provider : connectionProviders) {
+            provider.dispose();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.order.infrastructure.dto;
+
+import java.util.List;
+
+/** Response of Product Service's multi-get, GET /api/products?ids=... */
+public class ProductBatchResponse {
+    private List<ProductResponse> products;
+    private List<String> missingIds;
+
+    public ProductBatchResponse() {}
+
+    public List<ProductResponse> getProducts() { return products; }
+    public void setProducts(List<ProductResponse> products) { this.products = products; }
+    public List<String> getMissingIds() { return missingIds; }
+    public void setMissingIds(List<String> missingIds) { this.missingIds = missingIds; }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.order.infrastructure.dto;
+
+import java.math.BigDecimal;
+
+/** Product as returned by Product Service; the price is read straight into a BigDecimal. */
+public class ProductResponse {
+    private String productId;
+    private String name;
+    private BigDecimal price;
+
+    public ProductResponse() {}
+
+    public String getProductId() { return productId; }
+    public void setProductId(String productId) { this.productId = productId; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public BigDecimal getPrice() { return price; }
+    public void setPrice(BigDecimal price) { this.price = price; }
+}
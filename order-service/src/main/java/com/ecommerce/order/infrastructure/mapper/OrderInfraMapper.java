@@ -3,9 +3,14 @@ package com.ecommerce.order.infrastructure.mapper;
 import com.ecommerce.order.application.dto.CreateOrderCommand;
 import com.ecommerce.order.application.dto.CreateOrderResult;
 import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.dto.CustomerOrdersPage;
+import com.ecommerce.order.application.dto.OrderResult;
 import com.ecommerce.order.domain.event.OrderConfirmedEvent;
 import com.ecommerce.order.infrastructure.adapter.in.rest.CreateOrderRequest;
 import com.ecommerce.order.infrastructure.adapter.in.rest.CreateOrderResponse;
+import com.ecommerce.order.infrastructure.adapter.in.rest.CustomerOrdersResponse;
+import com.ecommerce.order.infrastructure.adapter.in.rest.OrderResponse;
+import com.ecommerce.order.infrastructure.adapter.in.rest.OrderResponse.OrderItemResponse;
 import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
 import com.ecommerce.order.infrastructure.dto.OrderItemMessage;
 
@@ -33,6 +38,30 @@ public final class OrderInfraMapper {
         );
     }
 
+    public static OrderResponse toResponse(OrderResult result) {
+        return new OrderResponse(
+                result.getOrderId(),
+                result.getCustomerId(),
+                result.getStatus(),
+                result.getTotalAmount(),
+                result.getCreatedAt(),
+                result.getUpdatedAt(),
+                result.getItems().stream()
+                        .map(item -> new OrderItemResponse(item.getProductId(),
+                                item.getQuantity(), item.getUnitPrice()))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    public static CustomerOrdersResponse toResponse(CustomerOrdersPage page, String nextCursor) {
+        return new CustomerOrdersResponse(
+                page.getOrders().stream()
+                        .map(OrderInfraMapper::toResponse)
+                        .collect(Collectors.toList()),
+                nextCursor
+        );
+    }
+
     public static OrderConfirmedMessage toMessage(OrderConfirmedEvent event) {
         List<OrderItemMessage> items = event.getItems().stream()
                 .map(item -> new OrderItemMessage(
@@ -0,0 +1,83 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.domain.model.Money;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class AcceptOrderUseCaseTest {
+
+    private CreateOrderUseCase createOrderUseCase;
+    private CreateOrderCommand command;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        createOrderUseCase = mock(CreateOrderUseCase.class);
+        command = new CreateOrderCommand("C001", Arrays.asList(new OrderItemCommand("P001", 2)));
+        order = Order.create("ORD-001", "C001",
+                Arrays.asList(new OrderItem("P001", 2, Money.of(new BigDecimal("999.00")))));
+        when(createOrderUseCase.initializeOrder(command)).thenReturn(order);
+    }
+
+    @Test
+    void should_return_created_order_and_process_it_in_background() {
+        // Given
+        List<Runnable> queued = new ArrayList<>();
+        AcceptOrderUseCase useCase = new AcceptOrderUseCase(createOrderUseCase, queued::add);
+
+        // When
+        CreateOrderResult result = useCase.acceptOrder(command);
+
+        // Then
+        assertEquals("ORD-001", result.getOrderId());
+        assertEquals("CREATED", result.getStatus());
+        verify(createOrderUseCase, never()).processOrder(any(Order.class), anyList());
+        assertEquals(1, queued.size());
+
+        queued.get(0).run();
+        verify(createOrderUseCase).processOrder(order, command.getItems());
+    }
+
+    @Test
+    void should_reject_order_and_abort_saga_when_backlog_is_full() {
+        // Given
+        AcceptOrderUseCase useCase = new AcceptOrderUseCase(createOrderUseCase,
+                task -> { throw new RejectedExecutionException("queue full"); });
+
+        // When
+        assertThrows(OrderBacklogFullException.class, () -> useCase.acceptOrder(command));
+
+        // Then
+        verify(createOrderUseCase).rejectOrder(order);
+        verify(createOrderUseCase, never()).processOrder(any(Order.class), anyList());
+    }
+
+    @Test
+    void should_keep_worker_alive_when_processing_fails() {
+        // Given
+        when(createOrderUseCase.processOrder(any(Order.class), anyList()))
+                .thenThrow(new IllegalStateException("payment service returned 500"));
+        AcceptOrderUseCase useCase = new AcceptOrderUseCase(createOrderUseCase, Runnable::run);
+
+        // When
+        CreateOrderResult result = useCase.acceptOrder(command);
+
+        // Then
+        assertEquals("CREATED", result.getStatus());
+    }
+}
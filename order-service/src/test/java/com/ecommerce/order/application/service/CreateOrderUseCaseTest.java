@@ -3,17 +3,24 @@ package com.ecommerce.order.application.service;
 import com.ecommerce.order.application.dto.CreateOrderCommand;
 import com.ecommerce.order.application.dto.CreateOrderResult;
 import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
 import com.ecommerce.order.application.port.out.InventoryReleasePort;
 import com.ecommerce.order.application.port.out.InventoryReservePort;
 import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
 import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.application.port.out.PaymentRefundPort;
 import com.ecommerce.order.application.port.out.PaymentResult;
 import com.ecommerce.order.application.port.out.ProductInfo;
 import com.ecommerce.order.application.port.out.ProductQueryPort;
 import com.ecommerce.order.domain.event.OrderConfirmedEvent;
+import com.ecommerce.order.domain.model.Money;
 import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.order.domain.model.OrderSaga;
 import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.model.SagaStatus;
 import com.ecommerce.order.domain.port.OrderRepository;
+import com.ecommerce.order.domain.port.OrderSagaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -32,7 +39,9 @@ public class CreateOrderUseCaseTest {
     private InventoryReservePort inventoryReservePort;
     private InventoryReleasePort inventoryReleasePort;
     private PaymentPort paymentPort;
+    private PaymentRefundPort paymentRefundPort;
     private OrderRepository orderRepository;
+    private OrderSagaRepository orderSagaRepository;
     private OrderEventPublisherPort orderEventPublisherPort;
     private CreateOrderUseCase createOrderUseCase;
 
@@ -42,14 +51,19 @@ public class CreateOrderUseCaseTest {
         inventoryReservePort = mock(InventoryReservePort.class);
         inventoryReleasePort = mock(InventoryReleasePort.class);
         paymentPort = mock(PaymentPort.class);
+        paymentRefundPort = mock(PaymentRefundPort.class);
         orderRepository = mock(OrderRepository.class);
+        orderSagaRepository = mock(OrderSagaRepository.class);
+        when(orderSagaRepository.update(any(OrderSaga.class))).thenReturn(true);
         orderEventPublisherPort = mock(OrderEventPublisherPort.class);
         createOrderUseCase = new CreateOrderUseCase(
                 productQueryPort,
                 inventoryReservePort,
                 inventoryReleasePort,
                 paymentPort,
+                paymentRefundPort,
                 orderRepository,
+                orderSagaRepository,
                 orderEventPublisherPort
         );
     }
@@ -59,7 +73,8 @@ public class CreateOrderUseCaseTest {
         // Given
         ProductInfo product = new ProductInfo("P001", "Laptop", new BigDecimal("999.00"));
         when(productQueryPort.queryProduct("P001")).thenReturn(product);
-        when(inventoryReservePort.reserveInventory("P001", 2)).thenReturn(true);
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(2)))
+                .thenReturn(true);
         when(paymentPort.processPayment(anyString(), eq(new BigDecimal("1998.00"))))
                 .thenReturn(new PaymentResult("PAY-001", "SUCCESS"));
         when(orderRepository.save(any(Order.class)))
@@ -79,7 +94,7 @@ public class CreateOrderUseCaseTest {
 
         // Verify interactions
         verify(productQueryPort).queryProduct("P001");
-        verify(inventoryReservePort).reserveInventory("P001", 2);
+        verify(inventoryReservePort).reserveInventory(anyString(), eq("P001"), eq(2));
         verify(paymentPort).processPayment(anyString(), eq(new BigDecimal("1998.00")));
 
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
@@ -104,7 +119,8 @@ public class CreateOrderUseCaseTest {
                 .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
         when(productQueryPort.queryProduct("P002"))
                 .thenReturn(new ProductInfo("P002", "Mouse", new BigDecimal("29.00")));
-        when(inventoryReservePort.reserveInventory(anyString(), anyInt())).thenReturn(true);
+        when(inventoryReservePort.reserveInventory(anyString(), anyString(), anyInt()))
+                .thenReturn(true);
         when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
                 .thenReturn(new PaymentResult("PAY-002", "SUCCESS"));
         when(orderRepository.save(any(Order.class)))
@@ -123,8 +139,8 @@ public class CreateOrderUseCaseTest {
         assertEquals(new BigDecimal("1086.00"), result.getTotalAmount());
         verify(productQueryPort).queryProduct("P001");
         verify(productQueryPort).queryProduct("P002");
-        verify(inventoryReservePort).reserveInventory("P001", 1);
-        verify(inventoryReservePort).reserveInventory("P002", 3);
+        verify(inventoryReservePort).reserveInventory(anyString(), eq("P001"), eq(1));
+        verify(inventoryReservePort).reserveInventory(anyString(), eq("P002"), eq(3));
     }
 
     @Test
@@ -132,7 +148,8 @@ public class CreateOrderUseCaseTest {
         // Given
         when(productQueryPort.queryProduct("P001"))
                 .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
-        when(inventoryReservePort.reserveInventory("P001", 1)).thenReturn(true);
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
         when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
                 .thenReturn(new PaymentResult("PAY-003", "SUCCESS"));
 
@@ -162,7 +179,7 @@ public class CreateOrderUseCaseTest {
         // Given
         when(productQueryPort.queryProduct("P001"))
                 .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
-        when(inventoryReservePort.reserveInventory("P001", 2))
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(2)))
                 .thenThrow(new RuntimeException("409 Conflict: Inventory insufficient"));
 
         java.util.List<OrderStatus> savedStatuses = new java.util.ArrayList<>();
@@ -186,6 +203,94 @@ public class CreateOrderUseCaseTest {
         assertEquals(2, savedStatuses.size());
         assertEquals(OrderStatus.CREATED, savedStatuses.get(0));
         assertEquals(OrderStatus.FAILED, savedStatuses.get(1));
+        verify(inventoryReleasePort).releaseInventory(result.getOrderId(), "P001", 2);
+    }
+
+    @Test
+    void should_release_earlier_lines_when_later_line_cannot_be_reserved() {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(productQueryPort.queryProduct("P002"))
+                .thenReturn(new ProductInfo("P002", "Mouse", new BigDecimal("29.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P002"), eq(3)))
+                .thenThrow(new RuntimeException("409 Conflict: Inventory insufficient"));
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        java.util.List<SagaStatus> sagaStatuses = recordSagaUpdates();
+
+        // When
+        CreateOrderResult result = createOrderUseCase.createOrder(new CreateOrderCommand("C001",
+                Arrays.asList(new OrderItemCommand("P001", 1), new OrderItemCommand("P002", 3))));
+
+        // Then
+        assertEquals("FAILED", result.getStatus());
+        verify(inventoryReleasePort).releaseInventory(result.getOrderId(), "P001", 1);
+        verify(inventoryReleasePort).releaseInventory(result.getOrderId(), "P002", 3);
+        assertEquals(SagaStatus.COMPENSATED, sagaStatuses.get(sagaStatuses.size() - 1));
+        verify(paymentPort, never()).processPayment(anyString(), any(BigDecimal.class));
+    }
+
+    @Test
+    void should_leave_saga_started_when_release_after_reservation_failure_fails() {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+        doThrow(new ResourceAccessException("Connection refused"))
+                .when(inventoryReleasePort).releaseInventory(anyString(), eq("P001"), eq(1));
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        java.util.List<SagaStatus> sagaStatuses = recordSagaUpdates();
+
+        // When
+        CreateOrderResult result = createOrderUseCase.createOrder(new CreateOrderCommand("C001",
+                Arrays.asList(new OrderItemCommand("P001", 1))));
+
+        // Then
+        assertEquals("FAILED", result.getStatus());
+        assertFalse(sagaStatuses.contains(SagaStatus.COMPENSATED));
+    }
+
+    @Test
+    void should_release_lines_and_abort_when_resuming_started_saga_of_failed_order() {
+        // Given
+        Order order = Order.create("ORD-R4", "C001",
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("999.00")))));
+        order.fail();
+        OrderSaga saga = OrderSaga.start("ORD-R4");
+
+        // When
+        CreateOrderResult result = createOrderUseCase.resumeSaga(order, saga);
+
+        // Then
+        assertEquals("FAILED", result.getStatus());
+        assertEquals(SagaStatus.COMPENSATED, saga.getStatus());
+        verify(inventoryReleasePort).releaseInventory("ORD-R4", "P001", 1);
+        verify(inventoryReservePort, never()).reserveInventory(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void should_fail_order_and_abort_its_saga_when_rejecting() {
+        // Given
+        Order order = Order.create("ORD-R5", "C001",
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("999.00")))));
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Order rejected = createOrderUseCase.rejectOrder(order);
+
+        // Then
+        assertEquals(OrderStatus.FAILED, rejected.getStatus());
+        ArgumentCaptor<OrderSaga> saga = ArgumentCaptor.forClass(OrderSaga.class);
+        verify(orderSagaRepository).update(saga.capture());
+        assertEquals("ORD-R5", saga.getValue().getOrderId());
+        assertEquals(SagaStatus.COMPENSATED, saga.getValue().getStatus());
+        verify(inventoryReleasePort, never()).releaseInventory(anyString(), anyString(), anyInt());
     }
 
     @Test
@@ -195,7 +300,8 @@ public class CreateOrderUseCaseTest {
                 .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
         when(productQueryPort.queryProduct("P002"))
                 .thenReturn(new ProductInfo("P002", "Mouse", new BigDecimal("29.00")));
-        when(inventoryReservePort.reserveInventory(anyString(), anyInt())).thenReturn(true);
+        when(inventoryReservePort.reserveInventory(anyString(), anyString(), anyInt()))
+                .thenReturn(true);
         when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
                 .thenThrow(new ResourceAccessException("Read timed out"));
 
@@ -218,11 +324,167 @@ public class CreateOrderUseCaseTest {
 
         // Then
         assertEquals("PAYMENT_TIMEOUT", result.getStatus());
-        verify(inventoryReleasePort).releaseInventory("P001", 1);
-        verify(inventoryReleasePort).releaseInventory("P002", 3);
+        verify(inventoryReleasePort).releaseInventory(anyString(), eq("P001"), eq(1));
+        verify(inventoryReleasePort).releaseInventory(anyString(), eq("P002"), eq(3));
         verify(orderEventPublisherPort, never()).publish(any(OrderConfirmedEvent.class));
         assertEquals(2, savedStatuses.size());
         assertEquals(OrderStatus.CREATED, savedStatuses.get(0));
         assertEquals(OrderStatus.PAYMENT_TIMEOUT, savedStatuses.get(1));
     }
+
+    @Test
+    void should_refund_and_record_compensation_when_payment_times_out() {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        java.util.List<SagaStatus> sagaStatuses = recordSagaUpdates();
+
+        // When
+        CreateOrderResult result = createOrderUseCase.createOrder(new CreateOrderCommand("C001",
+                Arrays.asList(new OrderItemCommand("P001", 1))));
+
+        // Then
+        verify(orderSagaRepository).create(any(OrderSaga.class));
+        verify(paymentRefundPort).refundPayments(result.getOrderId());
+        assertEquals(SagaStatus.COMPENSATED, sagaStatuses.get(sagaStatuses.size() - 1));
+        assertTrue(sagaStatuses.contains(SagaStatus.COMPENSATING));
+    }
+
+    @Test
+    void should_fail_order_and_compensate_when_payment_declined() {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
+                .thenReturn(new PaymentResult("PAY-004", "FAILED"));
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CreateOrderResult result = createOrderUseCase.createOrder(new CreateOrderCommand("C001",
+                Arrays.asList(new OrderItemCommand("P001", 1))));
+
+        // Then
+        assertEquals("FAILED", result.getStatus());
+        verify(inventoryReleasePort).releaseInventory(anyString(), eq("P001"), eq(1));
+        verify(paymentRefundPort).refundPayments(result.getOrderId());
+        verify(orderEventPublisherPort, never()).publish(any(OrderConfirmedEvent.class));
+    }
+
+    @Test
+    void should_leave_saga_compensating_when_release_fails() {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+        doThrow(new ResourceAccessException("Connection refused"))
+                .when(inventoryReleasePort).releaseInventory(anyString(), eq("P001"), eq(1));
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        java.util.List<SagaStatus> sagaStatuses = recordSagaUpdates();
+
+        // When
+        CreateOrderResult result = createOrderUseCase.createOrder(new CreateOrderCommand("C001",
+                Arrays.asList(new OrderItemCommand("P001", 1))));
+
+        // Then
+        assertEquals("PAYMENT_TIMEOUT", result.getStatus());
+        assertEquals(SagaStatus.COMPENSATING, sagaStatuses.get(sagaStatuses.size() - 1));
+        verify(paymentRefundPort, never()).refundPayments(anyString());
+    }
+
+    @Test
+    void should_compensate_without_paying_again_when_resuming_payment_requested_saga() {
+        // Given
+        Order order = Order.create("ORD-R1", "C001",
+                Arrays.asList(new OrderItem("P001", 2, Money.of(new BigDecimal("999.00")))));
+        OrderSaga saga = OrderSaga.start("ORD-R1");
+        saga.paymentRequested(order.getItems());
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CreateOrderResult result = createOrderUseCase.resumeSaga(order, saga);
+
+        // Then
+        assertEquals("PAYMENT_TIMEOUT", result.getStatus());
+        assertEquals(SagaStatus.COMPENSATED, saga.getStatus());
+        verify(paymentPort, never()).processPayment(anyString(), any(BigDecimal.class));
+        verify(inventoryReleasePort).releaseInventory(anyString(), eq("P001"), eq(2));
+        verify(paymentRefundPort).refundPayments("ORD-R1");
+    }
+
+    @Test
+    void should_run_saga_again_when_resuming_started_saga() {
+        // Given
+        Order order = Order.create("ORD-R2", "C001",
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("999.00")))));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
+        when(paymentPort.processPayment(eq("ORD-R2"), any(BigDecimal.class)))
+                .thenReturn(new PaymentResult("PAY-005", "SUCCESS"));
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CreateOrderResult result = createOrderUseCase.resumeSaga(order, OrderSaga.start("ORD-R2"));
+
+        // Then
+        assertEquals("CONFIRMED", result.getStatus());
+        verify(orderEventPublisherPort).publish(any(OrderConfirmedEvent.class));
+    }
+
+    @Test
+    void should_stop_when_saga_claimed_by_another_process() {
+        // Given
+        Order order = Order.create("ORD-R3", "C001",
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("999.00")))));
+        when(orderSagaRepository.update(any(OrderSaga.class))).thenReturn(false);
+
+        // When & Then
+        assertThrows(SagaConflictException.class,
+                () -> createOrderUseCase.resumeSaga(order, OrderSaga.start("ORD-R3")));
+        verify(inventoryReservePort, never()).reserveInventory(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void should_fail_order_and_release_inventory_when_payment_service_unavailable() {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
+                .thenThrow(new DownstreamUnavailableException("payment-service", "circuit breaker open"));
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CreateOrderResult result = createOrderUseCase.createOrder(new CreateOrderCommand("C001",
+                Arrays.asList(new OrderItemCommand("P001", 1))));
+
+        // Then
+        assertEquals("FAILED", result.getStatus());
+        verify(inventoryReleasePort).releaseInventory(anyString(), eq("P001"), eq(1));
+    }
+
+    private java.util.List<SagaStatus> recordSagaUpdates() {
+        java.util.List<SagaStatus> statuses = new java.util.ArrayList<>();
+        when(orderSagaRepository.update(any(OrderSaga.class))).thenAnswer(invocation -> {
+            statuses.add(invocation.<OrderSaga>getArgument(0).getStatus());
+            return true;
+        });
+        return statuses;
+    }
 }
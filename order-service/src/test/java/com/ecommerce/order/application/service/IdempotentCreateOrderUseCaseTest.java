@@ -0,0 +1,194 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.port.in.CreateOrderPort;
+import com.ecommerce.order.application.port.out.IdempotencyRecord;
+import com.ecommerce.order.application.port.out.IdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class IdempotentCreateOrderUseCaseTest {
+
+    private static final CreateOrderCommand COMMAND = new CreateOrderCommand("C001",
+            Arrays.asList(new OrderItemCommand("P001", 1)));
+    private static final String FINGERPRINT = IdempotentCreateOrderUseCase.fingerprint(COMMAND);
+    private static final CreateOrderResult RESULT =
+            new CreateOrderResult("ORD-001", "CONFIRMED", new BigDecimal("999.00"));
+
+    private CreateOrderPort createOrderPort;
+    private IdempotencyStore idempotencyStore;
+    private IdempotentCreateOrderUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        createOrderPort = mock(CreateOrderPort.class);
+        idempotencyStore = mock(IdempotencyStore.class);
+        when(idempotencyStore.claim(anyString(), anyString())).thenReturn(Optional.empty());
+        useCase = new IdempotentCreateOrderUseCase(createOrderPort, idempotencyStore, 200, 10);
+    }
+
+    @Test
+    void should_return_stored_result_without_creating_order_when_key_known() {
+        // Given
+        when(idempotencyStore.claim("key-1", FINGERPRINT))
+                .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, RESULT)));
+
+        // When
+        CreateOrderResult result = useCase.createOrder("key-1", COMMAND);
+
+        // Then
+        assertSame(RESULT, result);
+        verify(createOrderPort, never()).createOrder(any(CreateOrderCommand.class));
+    }
+
+    @Test
+    void should_claim_key_before_creating_order_and_store_result_when_key_new() {
+        // Given
+        when(createOrderPort.createOrder(COMMAND)).thenReturn(RESULT);
+
+        // When
+        CreateOrderResult result = useCase.createOrder("key-2", COMMAND);
+
+        // Then
+        assertSame(RESULT, result);
+        ArgumentCaptor<IdempotencyRecord> stored = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        InOrder inOrder = inOrder(idempotencyStore, createOrderPort);
+        inOrder.verify(idempotencyStore).claim("key-2", FINGERPRINT);
+        inOrder.verify(createOrderPort).createOrder(COMMAND);
+        inOrder.verify(idempotencyStore).complete(eq("key-2"), stored.capture());
+        assertSame(RESULT, stored.getValue().getResult());
+        assertEquals(FINGERPRINT, stored.getValue().getFingerprint());
+    }
+
+    @Test
+    void should_refuse_duplicate_when_first_request_still_running_after_wait_timeout() {
+        // Given
+        when(idempotencyStore.claim("key-3", FINGERPRINT))
+                .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, null)));
+
+        // When & Then
+        assertThrows(IdempotencyKeyInProgressException.class,
+                () -> useCase.createOrder("key-3", COMMAND));
+        verify(idempotencyStore, atLeast(2)).claim("key-3", FINGERPRINT);
+        verify(createOrderPort, never()).createOrder(any(CreateOrderCommand.class));
+    }
+
+    @Test
+    void should_return_result_when_first_request_on_other_instance_finishes_while_waiting() {
+        // Given
+        when(idempotencyStore.claim("key-6", FINGERPRINT))
+                .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, null)))
+                .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, null)))
+                .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, RESULT)));
+
+        // When
+        CreateOrderResult result = useCase.createOrder("key-6", COMMAND);
+
+        // Then
+        assertSame(RESULT, result);
+        verify(idempotencyStore, times(3)).claim("key-6", FINGERPRINT);
+        verify(createOrderPort, never()).createOrder(any(CreateOrderCommand.class));
+    }
+
+    @Test
+    void should_run_request_when_claim_released_while_waiting() {
+        // Given
+        when(idempotencyStore.claim("key-7", FINGERPRINT))
+                .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, null)))
+                .thenReturn(Optional.<IdempotencyRecord>empty());
+        when(createOrderPort.createOrder(COMMAND)).thenReturn(RESULT);
+
+        // When
+        CreateOrderResult result = useCase.createOrder("key-7", COMMAND);
+
+        // Then
+        assertSame(RESULT, result);
+        verify(createOrderPort).createOrder(COMMAND);
+        verify(idempotencyStore).complete(eq("key-7"), any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void should_wait_on_first_request_running_on_this_instance_without_polling()
+            throws Exception {
+        // Given
+        useCase = new IdempotentCreateOrderUseCase(createOrderPort, idempotencyStore, 5000, 10000);
+        when(idempotencyStore.claim("key-8", FINGERPRINT))
+                .thenReturn(Optional.<IdempotencyRecord>empty())
+                .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, null)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(createOrderPort.createOrder(COMMAND)).thenAnswer(invocation -> {
+            started.countDown();
+            finish.await();
+            return RESULT;
+        });
+        CompletableFuture<CreateOrderResult> first =
+                CompletableFuture.supplyAsync(() -> useCase.createOrder("key-8", COMMAND));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        CompletableFuture<CreateOrderResult> retry =
+                CompletableFuture.supplyAsync(() -> useCase.createOrder("key-8", COMMAND));
+        verify(idempotencyStore, timeout(5000).times(2)).claim("key-8", FINGERPRINT);
+        Thread.sleep(100); // let the retry get from the claim to waiting on the first request
+        finish.countDown();
+
+        // Then
+        assertSame(RESULT, retry.get(2, TimeUnit.SECONDS));
+        assertSame(RESULT, first.get(2, TimeUnit.SECONDS));
+        verify(createOrderPort, times(1)).createOrder(COMMAND);
+    }
+
+    @Test
+    void should_reject_key_reused_for_different_request() {
+        // Given
+        when(idempotencyStore.claim(eq("key-4"), anyString()))
+                .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, RESULT)));
+        CreateOrderCommand other = new CreateOrderCommand("C001",
+                Arrays.asList(new OrderItemCommand("P001", 2)));
+
+        // When & Then
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> useCase.createOrder("key-4", other));
+        verify(createOrderPort, never()).createOrder(any(CreateOrderCommand.class));
+    }
+
+    @Test
+    void should_release_claim_when_order_creation_throws() {
+        // Given
+        when(createOrderPort.createOrder(COMMAND))
+                .thenThrow(new ProductNotFoundException(Arrays.asList("P001")));
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> useCase.createOrder("key-5", COMMAND));
+        verify(idempotencyStore).release("key-5");
+        verify(idempotencyStore, never()).complete(anyString(), any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void should_fingerprint_equal_requests_alike_and_different_requests_apart() {
+        CreateOrderCommand same = new CreateOrderCommand("C001",
+                Arrays.asList(new OrderItemCommand("P001", 1)));
+        CreateOrderCommand otherCustomer = new CreateOrderCommand("C002",
+                Arrays.asList(new OrderItemCommand("P001", 1)));
+
+        assertEquals(FINGERPRINT, IdempotentCreateOrderUseCase.fingerprint(same));
+        assertNotEquals(FINGERPRINT, IdempotentCreateOrderUseCase.fingerprint(otherCustomer));
+        assertEquals(64, FINGERPRINT.length());
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.port.out.InventoryBatchResult;
+import com.ecommerce.order.application.port.out.InventoryReservePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class InventoryReservationTest {
+
+    private InventoryReservePort inventoryReservePort;
+
+    @BeforeEach
+    void setUp() {
+        inventoryReservePort = mock(InventoryReservePort.class);
+    }
+
+    @Test
+    void should_reserve_each_line_separately_in_per_item_mode() {
+        InventoryReservation.perItem(inventoryReservePort).reserveAll("ORD-1", Arrays.asList(
+                new OrderItemCommand("P001", 1), new OrderItemCommand("P002", 3)));
+
+        verify(inventoryReservePort).reserveInventory("ORD-1", "P001", 1);
+        verify(inventoryReservePort).reserveInventory("ORD-1", "P002", 3);
+        verify(inventoryReservePort, never()).reserveAll(anyString(), anyMap());
+    }
+
+    @Test
+    void should_reserve_lines_of_one_product_together_in_per_item_mode() {
+        InventoryReservation.perItem(inventoryReservePort).reserveAll("ORD-1", Arrays.asList(
+                new OrderItemCommand("P001", 1), new OrderItemCommand("P001", 2)));
+
+        verify(inventoryReservePort).reserveInventory("ORD-1", "P001", 3);
+        verifyNoMoreInteractions(inventoryReservePort);
+    }
+
+    @Test
+    void should_reserve_all_lines_with_one_call_in_batch_mode() {
+        when(inventoryReservePort.reserveAll(anyString(), anyMap()))
+                .thenReturn(new InventoryBatchResult(true, Collections.<String>emptyList()));
+
+        InventoryReservation.batch(inventoryReservePort).reserveAll("ORD-1", Arrays.asList(
+                new OrderItemCommand("P002", 3), new OrderItemCommand("P001", 1),
+                new OrderItemCommand("P002", 2)));
+
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("P002", 5);
+        expected.put("P001", 1);
+        verify(inventoryReservePort).reserveAll("ORD-1", expected);
+        verify(inventoryReservePort, never()).reserveInventory(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void should_throw_with_failed_products_when_batch_is_rejected() {
+        when(inventoryReservePort.reserveAll(anyString(), anyMap()))
+                .thenReturn(new InventoryBatchResult(false, Arrays.asList("P002")));
+
+        InsufficientInventoryException e = assertThrows(InsufficientInventoryException.class,
+                () -> InventoryReservation.batch(inventoryReservePort).reserveAll("ORD-1",
+                        Arrays.asList(new OrderItemCommand("P001", 1), new OrderItemCommand("P002", 99))));
+        assertEquals(Arrays.asList("P002"), e.getFailedProductIds());
+    }
+}
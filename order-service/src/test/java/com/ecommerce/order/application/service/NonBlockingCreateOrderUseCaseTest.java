@@ -0,0 +1,246 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.port.out.AsyncInventoryPort;
+import com.ecommerce.order.application.port.out.AsyncPaymentPort;
+import com.ecommerce.order.application.port.out.AsyncProductQueryPort;
+import com.ecommerce.order.application.port.out.InventoryBatchResult;
+import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
+import com.ecommerce.order.application.port.out.PaymentResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.domain.event.OrderConfirmedEvent;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderSaga;
+import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.model.SagaStatus;
+import com.ecommerce.order.domain.port.OrderRepository;
+import com.ecommerce.order.domain.port.OrderSagaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class NonBlockingCreateOrderUseCaseTest {
+
+    private AsyncProductQueryPort productQueryPort;
+    private AsyncInventoryPort inventoryPort;
+    private AsyncPaymentPort paymentPort;
+    private OrderRepository orderRepository;
+    private OrderSagaRepository orderSagaRepository;
+    private OrderEventPublisherPort orderEventPublisherPort;
+    private List<OrderStatus> savedStatuses;
+    private List<SagaStatus> sagaStatuses;
+
+    @BeforeEach
+    void setUp() {
+        productQueryPort = mock(AsyncProductQueryPort.class);
+        inventoryPort = mock(AsyncInventoryPort.class);
+        paymentPort = mock(AsyncPaymentPort.class);
+        orderRepository = mock(OrderRepository.class);
+        orderSagaRepository = mock(OrderSagaRepository.class);
+        orderEventPublisherPort = mock(OrderEventPublisherPort.class);
+        savedStatuses = new ArrayList<>();
+        sagaStatuses = new ArrayList<>();
+        when(orderSagaRepository.update(any(OrderSaga.class))).thenAnswer(invocation -> {
+            OrderSaga saga = invocation.getArgument(0);
+            sagaStatuses.add(saga.getStatus());
+            saga.markPersisted();
+            return true;
+        });
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order o = invocation.getArgument(0);
+            savedStatuses.add(o.getStatus());
+            return o;
+        });
+        when(productQueryPort.queryProduct("P001")).thenReturn(CompletableFuture.completedFuture(
+                new ProductInfo("P001", "Laptop", new BigDecimal("999.00"))));
+        when(productQueryPort.queryProduct("P002")).thenReturn(CompletableFuture.completedFuture(
+                new ProductInfo("P002", "Mouse", new BigDecimal("29.00"))));
+        when(inventoryPort.reserveInventory(anyString(), anyString(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        when(inventoryPort.releaseInventory(anyString(), anyString(), anyInt()))
+                .thenReturn(CompletableFuture.<Void>completedFuture(null));
+        when(paymentPort.refundPayments(anyString()))
+                .thenReturn(CompletableFuture.<Void>completedFuture(null));
+    }
+
+    @Test
+    void should_return_before_payment_completes_and_confirm_once_it_does() {
+        // Given
+        CompletableFuture<PaymentResult> payment = new CompletableFuture<>();
+        when(paymentPort.processPayment(anyString(), eq(new BigDecimal("1998.00")))).thenReturn(payment);
+
+        // When
+        CompletableFuture<CreateOrderResult> future = useCase(InventoryReservation.Mode.PER_ITEM)
+                .createOrderAsync(command(new OrderItemCommand("P001", 2)));
+
+        // Then
+        assertFalse(future.isDone());
+        payment.complete(new PaymentResult("PAY-001", "SUCCESS"));
+        CreateOrderResult result = future.join();
+        assertEquals("CONFIRMED", result.getStatus());
+        assertEquals(new BigDecimal("1998.00"), result.getTotalAmount());
+        assertEquals(Arrays.asList(OrderStatus.CREATED, OrderStatus.CONFIRMED), savedStatuses);
+        verify(orderEventPublisherPort).publish(any(OrderConfirmedEvent.class));
+        verify(orderSagaRepository).create(any(OrderSaga.class));
+        assertEquals(Arrays.asList(SagaStatus.PAYMENT_REQUESTED, SagaStatus.COMPLETED),
+                sagaStatuses);
+    }
+
+    @Test
+    void should_fail_order_when_batch_reservation_is_rejected() {
+        // Given
+        when(inventoryPort.reserveAll(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(
+                new InventoryBatchResult(false, Collections.singletonList("P002"))));
+
+        // When
+        CreateOrderResult result = useCase(InventoryReservation.Mode.BATCH).createOrder(
+                command(new OrderItemCommand("P001", 1), new OrderItemCommand("P002", 3)));
+
+        // Then
+        assertEquals("FAILED", result.getStatus());
+        verify(paymentPort, never()).processPayment(anyString(), any(BigDecimal.class));
+        verify(inventoryPort, never()).reserveInventory(anyString(), anyString(), anyInt());
+        assertEquals(Arrays.asList(OrderStatus.CREATED, OrderStatus.FAILED), savedStatuses);
+        verify(inventoryPort).releaseInventory(result.getOrderId(), "P001", 1);
+        verify(inventoryPort).releaseInventory(result.getOrderId(), "P002", 3);
+        assertEquals(Collections.singletonList(SagaStatus.COMPENSATED), sagaStatuses);
+    }
+
+    @Test
+    void should_release_reserved_lines_when_per_item_reservation_fails_part_way() {
+        // Given
+        CompletableFuture<Boolean> rejected = new CompletableFuture<>();
+        rejected.completeExceptionally(new InsufficientInventoryException(
+                Collections.singletonList("P002")));
+        when(inventoryPort.reserveInventory(anyString(), eq("P002"), eq(3))).thenReturn(rejected);
+
+        // When
+        CreateOrderResult result = useCase(InventoryReservation.Mode.PER_ITEM).createOrder(
+                command(new OrderItemCommand("P001", 1), new OrderItemCommand("P002", 3)));
+
+        // Then
+        assertEquals("FAILED", result.getStatus());
+        verify(inventoryPort).releaseInventory(result.getOrderId(), "P001", 1);
+        verify(paymentPort, never()).processPayment(anyString(), any(BigDecimal.class));
+        assertEquals(Arrays.asList(OrderStatus.CREATED, OrderStatus.FAILED), savedStatuses);
+    }
+
+    @Test
+    void should_fail_order_and_release_inventory_when_payment_declined() {
+        // Given
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class))).thenReturn(
+                CompletableFuture.completedFuture(new PaymentResult("PAY-002", "FAILED")));
+
+        // When
+        CreateOrderResult result = useCase(InventoryReservation.Mode.PER_ITEM).createOrder(
+                command(new OrderItemCommand("P001", 2)));
+
+        // Then
+        assertEquals("FAILED", result.getStatus());
+        verify(inventoryPort).releaseInventory(result.getOrderId(), "P001", 2);
+        verify(paymentPort).refundPayments(result.getOrderId());
+        verify(orderEventPublisherPort, never()).publish(any(OrderConfirmedEvent.class));
+        assertEquals(Arrays.asList(OrderStatus.CREATED, OrderStatus.FAILED), savedStatuses);
+        assertEquals(Arrays.asList(SagaStatus.PAYMENT_REQUESTED, SagaStatus.COMPENSATING,
+                SagaStatus.COMPENSATING, SagaStatus.COMPENSATED), sagaStatuses);
+    }
+
+    @Test
+    void should_leave_saga_to_recovery_when_payment_fails_unexpectedly() {
+        // Given
+        CompletableFuture<PaymentResult> broken = new CompletableFuture<>();
+        broken.completeExceptionally(new IllegalStateException("unexpected response"));
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class))).thenReturn(broken);
+
+        // When
+        CompletableFuture<CreateOrderResult> future = useCase(InventoryReservation.Mode.PER_ITEM)
+                .createOrderAsync(command(new OrderItemCommand("P001", 1)));
+
+        // Then
+        assertThrows(CompletionException.class, future::join);
+        assertEquals(Collections.singletonList(SagaStatus.PAYMENT_REQUESTED), sagaStatuses);
+        verify(inventoryPort, never()).releaseInventory(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void should_leave_saga_started_when_release_after_failed_reservation_fails() {
+        // Given
+        CompletableFuture<Boolean> rejected = new CompletableFuture<>();
+        rejected.completeExceptionally(new InsufficientInventoryException(
+                Collections.singletonList("P001")));
+        when(inventoryPort.reserveInventory(anyString(), eq("P001"), eq(1))).thenReturn(rejected);
+        CompletableFuture<Void> releaseFailed = new CompletableFuture<>();
+        releaseFailed.completeExceptionally(new ResourceAccessException("Read timed out"));
+        when(inventoryPort.releaseInventory(anyString(), anyString(), anyInt()))
+                .thenReturn(releaseFailed);
+
+        // When
+        CreateOrderResult result = useCase(InventoryReservation.Mode.PER_ITEM).createOrder(
+                command(new OrderItemCommand("P001", 1)));
+
+        // Then
+        assertEquals("FAILED", result.getStatus());
+        assertTrue(sagaStatuses.isEmpty());
+    }
+
+    @Test
+    void should_leave_saga_compensating_when_refund_fails() {
+        // Given
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class))).thenReturn(
+                CompletableFuture.completedFuture(new PaymentResult("PAY-002", "FAILED")));
+        CompletableFuture<Void> refundFailed = new CompletableFuture<>();
+        refundFailed.completeExceptionally(new ResourceAccessException("Read timed out"));
+        when(paymentPort.refundPayments(anyString())).thenReturn(refundFailed);
+
+        // When
+        CreateOrderResult result = useCase(InventoryReservation.Mode.PER_ITEM).createOrder(
+                command(new OrderItemCommand("P001", 2)));
+
+        // Then
+        assertEquals("FAILED", result.getStatus());
+        assertEquals(SagaStatus.COMPENSATING, sagaStatuses.get(sagaStatuses.size() - 1));
+    }
+
+    @Test
+    void should_timeout_order_and_release_inventory_when_payment_times_out() {
+        // Given
+        CompletableFuture<PaymentResult> timedOut = new CompletableFuture<>();
+        timedOut.completeExceptionally(new ResourceAccessException("Read timed out"));
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class))).thenReturn(timedOut);
+
+        // When
+        CreateOrderResult result = useCase(InventoryReservation.Mode.PER_ITEM).createOrder(
+                command(new OrderItemCommand("P001", 1), new OrderItemCommand("P002", 3)));
+
+        // Then
+        assertEquals("PAYMENT_TIMEOUT", result.getStatus());
+        verify(inventoryPort).releaseInventory(anyString(), eq("P001"), eq(1));
+        verify(inventoryPort).releaseInventory(anyString(), eq("P002"), eq(3));
+        verify(orderEventPublisherPort, never()).publish(any(OrderConfirmedEvent.class));
+        assertEquals(Arrays.asList(OrderStatus.CREATED, OrderStatus.PAYMENT_TIMEOUT), savedStatuses);
+    }
+
+    private NonBlockingCreateOrderUseCase useCase(InventoryReservation.Mode reservationMode) {
+        return new NonBlockingCreateOrderUseCase(productQueryPort, inventoryPort, paymentPort,
+                orderRepository, orderSagaRepository, orderEventPublisherPort, reservationMode,
+                Runnable::run);
+    }
+
+    private static CreateOrderCommand command(OrderItemCommand... items) {
+        return new CreateOrderCommand("C001", Arrays.asList(items));
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.domain.model.Money;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.order.domain.model.OrderSaga;
+import com.ecommerce.order.domain.model.SagaStatus;
+import com.ecommerce.order.domain.port.OrderRepository;
+import com.ecommerce.order.domain.port.OrderSagaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class OrderSagaRecoveryTest {
+
+    private static final Clock CLOCK =
+            Clock.fixed(Instant.parse("2026-01-01T12:00:00Z"), ZoneId.of("UTC"));
+    private static final CreateOrderResult RESUMED =
+            new CreateOrderResult("ORD-1", "PAYMENT_TIMEOUT", new BigDecimal("999.00"));
+
+    private CreateOrderUseCase createOrderUseCase;
+    private OrderSagaRepository orderSagaRepository;
+    private OrderRepository orderRepository;
+    private OrderSagaRecovery recovery;
+
+    @BeforeEach
+    void setUp() {
+        createOrderUseCase = mock(CreateOrderUseCase.class);
+        orderSagaRepository = mock(OrderSagaRepository.class);
+        orderRepository = mock(OrderRepository.class);
+        recovery = new OrderSagaRecovery(createOrderUseCase, orderSagaRepository,
+                orderRepository, 2, Duration.ofMinutes(5), CLOCK);
+    }
+
+    @Test
+    void should_page_by_id_and_resume_each_idle_saga() {
+        // Given
+        LocalDateTime idleSince = LocalDateTime.of(2026, 1, 1, 11, 55);
+        when(orderSagaRepository.findUnfinished(idleSince, 0, 2))
+                .thenReturn(Arrays.asList(saga(1L, "ORD-1"), saga(2L, "ORD-2")));
+        when(orderSagaRepository.findUnfinished(idleSince, 2, 2))
+                .thenReturn(Collections.singletonList(saga(3L, "ORD-3")));
+        when(orderRepository.findByOrderId(anyString()))
+                .thenAnswer(invocation -> Optional.of(order(invocation.getArgument(0))));
+        when(createOrderUseCase.resumeSaga(any(Order.class), any(OrderSaga.class)))
+                .thenReturn(RESUMED)
+                .thenThrow(new SagaConflictException("ORD-2"))
+                .thenReturn(RESUMED);
+
+        // When
+        int recovered = recovery.recoverIdleSagas();
+
+        // Then
+        assertEquals(2, recovered);
+        verify(createOrderUseCase, times(3)).resumeSaga(any(Order.class), any(OrderSaga.class));
+        verify(orderSagaRepository, times(2)).findUnfinished(any(), anyLong(), anyInt());
+    }
+
+    private static OrderSaga saga(long id, String orderId) {
+        return OrderSaga.reconstitute(id, orderId, SagaStatus.STARTED,
+                0, Collections.emptyList(), LocalDateTime.now(CLOCK), LocalDateTime.now(CLOCK));
+    }
+
+    private static Order order(String orderId) {
+        return Order.create(orderId, "C001",
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("999.00")))));
+    }
+}
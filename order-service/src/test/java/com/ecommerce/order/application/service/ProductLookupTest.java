@@ -0,0 +1,175 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
+import com.ecommerce.order.application.port.out.ProductBatchResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ProductLookupTest {
+
+    private ProductQueryPort productQueryPort;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        productQueryPort = mock(ProductQueryPort.class);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_keep_item_order_when_lookups_complete_out_of_order() {
+        when(productQueryPort.queryProduct("P001")).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return product("P001", "995.00");
+        });
+        when(productQueryPort.queryProduct("P002")).thenReturn(product("P002", "299.00"));
+        when(productQueryPort.queryProduct("P003")).thenReturn(product("P003", "199.00"));
+
+        ProductLookup lookup = ProductLookup.concurrent(productQueryPort, executor, 2000);
+        List<ProductInfo> products = lookup.queryAll(Arrays.asList("P001", "P002", "P003"));
+
+        assertEquals(3, products.size());
+        assertEquals("P001", products.get(0).getProductId());
+        assertEquals("P002", products.get(1).getProductId());
+        assertEquals("P003", products.get(2).getProductId());
+    }
+
+    @Test
+    void should_run_lookups_in_parallel() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(productQueryPort.queryProduct(anyString())).thenAnswer(invocation -> {
+            allStarted.countDown();
+            assertTrue(allStarted.await(1, TimeUnit.SECONDS), "lookups did not overlap");
+            return product(invocation.getArgument(0), "100.00");
+        });
+
+        ProductLookup lookup = ProductLookup.concurrent(productQueryPort, executor, 2000);
+        List<ProductInfo> products = lookup.queryAll(Arrays.asList("P001", "P002", "P003"));
+
+        assertEquals(3, products.size());
+    }
+
+    @Test
+    void should_fail_fast_with_original_exception_on_first_error() {
+        when(productQueryPort.queryProduct("P001")).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return product("P001", "995.00");
+        });
+        when(productQueryPort.queryProduct("P999"))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        ProductLookup lookup = ProductLookup.concurrent(productQueryPort, executor, 10000);
+        long start = System.nanoTime();
+
+        assertThrows(HttpClientErrorException.class,
+                () -> lookup.queryAll(Arrays.asList("P001", "P999")));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+    }
+
+    @Test
+    void should_give_up_when_deadline_is_exceeded() {
+        when(productQueryPort.queryProduct(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return product(invocation.getArgument(0), "100.00");
+        });
+
+        ProductLookup lookup = ProductLookup.concurrent(productQueryPort, executor, 100);
+
+        assertThrows(ResourceAccessException.class,
+                () -> lookup.queryAll(Arrays.asList("P001", "P002")));
+    }
+
+    @Test
+    void should_refuse_without_running_on_caller_when_pool_is_full() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(productQueryPort.queryProduct(anyString())).thenAnswer(invocation -> {
+            release.await();
+            return product(invocation.getArgument(0), "100.00");
+        });
+        ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        ProductLookup lookup = ProductLookup.concurrent(productQueryPort, saturated, 2000);
+
+        try {
+            assertThrows(DownstreamUnavailableException.class,
+                    () -> lookup.queryAll(Arrays.asList("P001", "P002", "P003")));
+            verify(productQueryPort, atMost(1)).queryProduct(anyString());
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+        }
+    }
+
+    @Test
+    void should_query_on_caller_thread_in_serial_mode() {
+        Thread caller = Thread.currentThread();
+        when(productQueryPort.queryProduct(anyString())).thenAnswer(invocation -> {
+            assertSame(caller, Thread.currentThread());
+            return product(invocation.getArgument(0), "100.00");
+        });
+
+        List<ProductInfo> products = ProductLookup.serial(productQueryPort)
+                .queryAll(Arrays.asList("P001", "P002"));
+
+        assertEquals(2, products.size());
+        verify(productQueryPort).queryProduct("P001");
+        verify(productQueryPort).queryProduct("P002");
+    }
+
+    @Test
+    void should_resolve_all_products_with_one_batch_call_in_item_order() {
+        when(productQueryPort.queryProducts(anyCollection())).thenReturn(new ProductBatchResult(
+                Arrays.asList(product("P002", "299.00"), product("P001", "995.00")),
+                Collections.<String>emptyList()));
+
+        List<ProductInfo> products = ProductLookup.batch(productQueryPort)
+                .queryAll(Arrays.asList("P001", "P002", "P001"));
+
+        assertEquals(3, products.size());
+        assertEquals("P001", products.get(0).getProductId());
+        assertEquals("P002", products.get(1).getProductId());
+        assertEquals("P001", products.get(2).getProductId());
+        verify(productQueryPort, times(1)).queryProducts(anyCollection());
+        verify(productQueryPort, never()).queryProduct(anyString());
+    }
+
+    @Test
+    void should_report_missing_ids_from_batch_lookup() {
+        when(productQueryPort.queryProducts(anyCollection())).thenReturn(new ProductBatchResult(
+                Arrays.asList(product("P001", "995.00")), Arrays.asList("P999")));
+
+        ProductNotFoundException e = assertThrows(ProductNotFoundException.class,
+                () -> ProductLookup.batch(productQueryPort).queryAll(Arrays.asList("P001", "P999")));
+        assertEquals(Arrays.asList("P999"), e.getMissingProductIds());
+    }
+
+    private static ProductInfo product(String productId, String price) {
+        return new ProductInfo(productId, "Product " + productId, new BigDecimal(price));
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.order.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderSagaTest {
+
+    private static final List<OrderItem> ITEMS = Arrays.asList(
+            new OrderItem("P001", 1, Money.of(new BigDecimal("999.00"))),
+            new OrderItem("P002", 3, Money.of(new BigDecimal("29.00"))));
+
+    @Test
+    void should_record_reserved_lines_when_payment_requested() {
+        // Given
+        OrderSaga saga = OrderSaga.start("ORD-001");
+
+        // When
+        saga.paymentRequested(ITEMS);
+
+        // Then
+        assertEquals(SagaStatus.PAYMENT_REQUESTED, saga.getStatus());
+        assertEquals(2, saga.getUnreleasedReservations().size());
+        assertEquals(2, saga.getUnpersistedSteps().size());
+    }
+
+    @Test
+    void should_track_released_lines_and_refund_during_compensation() {
+        // Given
+        OrderSaga saga = OrderSaga.start("ORD-001");
+        saga.paymentRequested(ITEMS);
+        saga.startCompensation();
+
+        // When
+        saga.inventoryReleased("P001", 1);
+        saga.paymentRefunded();
+
+        // Then
+        List<SagaStep> unreleased = saga.getUnreleasedReservations();
+        assertEquals(1, unreleased.size());
+        assertEquals("P002", unreleased.get(0).getProductId());
+        assertTrue(saga.isRefunded());
+    }
+
+    @Test
+    void should_bump_version_and_clear_unpersisted_steps_when_marked_persisted() {
+        // Given
+        OrderSaga saga = OrderSaga.start("ORD-001");
+        saga.paymentRequested(ITEMS);
+
+        // When
+        saga.markPersisted();
+
+        // Then
+        assertEquals(1, saga.getVersion());
+        assertTrue(saga.getUnpersistedSteps().isEmpty());
+    }
+
+    @Test
+    void should_throw_when_completing_saga_that_did_not_request_payment() {
+        OrderSaga saga = OrderSaga.start("ORD-001");
+        assertThrows(IllegalStateException.class, () -> saga.complete("PAY-001"));
+    }
+
+    @Test
+    void should_throw_when_claiming_finished_saga() {
+        // Given
+        OrderSaga saga = OrderSaga.start("ORD-001");
+        saga.abort();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, saga::claim);
+    }
+}
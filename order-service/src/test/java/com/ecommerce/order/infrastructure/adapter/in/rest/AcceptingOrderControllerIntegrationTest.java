@@ -0,0 +1,93 @@
+package com.ecommerce.order.infrastructure.adapter.in.rest;
+
+import com.ecommerce.order.application.port.out.InventoryReleasePort;
+import com.ecommerce.order.application.port.out.InventoryReservePort;
+import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
+import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.application.port.out.PaymentRefundPort;
+import com.ecommerce.order.application.port.out.PaymentResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "order.pipeline.mode=accept")
+@AutoConfigureMockMvc
+public class AcceptingOrderControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductQueryPort productQueryPort;
+
+    @MockBean
+    private InventoryReservePort inventoryReservePort;
+
+    @MockBean
+    private InventoryReleasePort inventoryReleasePort;
+
+    @MockBean
+    private PaymentPort paymentPort;
+
+    @MockBean
+    private PaymentRefundPort paymentRefundPort;
+
+    @MockBean
+    private OrderEventPublisherPort orderEventPublisherPort;
+
+    @Test
+    void should_accept_order_with_202_and_confirm_it_in_background() throws Exception {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(2)))
+                .thenReturn(true);
+        when(paymentPort.processPayment(anyString(), eq(new BigDecimal("1998.00"))))
+                .thenReturn(new PaymentResult("PAY-001", "SUCCESS"));
+
+        String requestJson = "{\"customerId\":\"C001\","
+                + "\"items\":[{\"productId\":\"P001\",\"quantity\":2}]}";
+
+        // When
+        MvcResult accepted = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(header().exists("Location"))
+                .andReturn();
+
+        // Then
+        String orderId = JsonPath.read(accepted.getResponse().getContentAsString(), "$.orderId");
+        assertEquals("CONFIRMED", pollFinalStatus(orderId));
+    }
+
+    private String pollFinalStatus(String orderId) throws Exception {
+        String status = "CREATED";
+        for (int attempt = 0; attempt < 50 && "CREATED".equals(status); attempt++) {
+            Thread.sleep(100);
+            MvcResult result = mockMvc.perform(get("/api/orders/{orderId}", orderId))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            status = JsonPath.read(result.getResponse().getContentAsString(), "$.status");
+        }
+        return status;
+    }
+}
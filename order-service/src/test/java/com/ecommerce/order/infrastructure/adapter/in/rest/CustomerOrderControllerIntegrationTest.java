@@ -0,0 +1,120 @@
+package com.ecommerce.order.infrastructure.adapter.in.rest;
+
+import com.ecommerce.order.application.port.out.InventoryReleasePort;
+import com.ecommerce.order.application.port.out.InventoryReservePort;
+import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
+import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.application.port.out.PaymentRefundPort;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import com.ecommerce.order.domain.model.Money;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.order.domain.port.OrderRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CustomerOrderControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockBean
+    private ProductQueryPort productQueryPort;
+
+    @MockBean
+    private InventoryReservePort inventoryReservePort;
+
+    @MockBean
+    private InventoryReleasePort inventoryReleasePort;
+
+    @MockBean
+    private PaymentPort paymentPort;
+
+    @MockBean
+    private PaymentRefundPort paymentRefundPort;
+
+    @MockBean
+    private OrderEventPublisherPort orderEventPublisherPort;
+
+    @Test
+    void should_page_through_customer_orders_when_following_next_cursor() throws Exception {
+        // Given
+        for (int i = 1; i <= 3; i++) {
+            saveOrder("ORD-H0" + i, "C-HISTORY-1");
+        }
+
+        // When
+        MvcResult first = mockMvc.perform(get("/api/customers/{customerId}/orders", "C-HISTORY-1")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders", hasSize(2)))
+                .andExpect(jsonPath("$.orders[0].orderId").value("ORD-H03"))
+                .andExpect(jsonPath("$.orders[0].items[0].productId").value("P001"))
+                .andExpect(jsonPath("$.orders[1].orderId").value("ORD-H02"))
+                .andReturn();
+        String cursor = JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+
+        // Then
+        mockMvc.perform(get("/api/customers/{customerId}/orders", "C-HISTORY-1")
+                        .param("limit", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders", hasSize(1)))
+                .andExpect(jsonPath("$.orders[0].orderId").value("ORD-H01"))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void should_return_only_orders_in_status_when_status_given() throws Exception {
+        // Given
+        Order failed = saveOrder("ORD-H11", "C-HISTORY-2");
+        failed.fail();
+        orderRepository.save(failed);
+        saveOrder("ORD-H12", "C-HISTORY-2");
+
+        // When & Then
+        mockMvc.perform(get("/api/customers/{customerId}/orders", "C-HISTORY-2")
+                        .param("status", "FAILED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders", hasSize(1)))
+                .andExpect(jsonPath("$.orders[0].orderId").value("ORD-H11"))
+                .andExpect(jsonPath("$.orders[0].status").value("FAILED"));
+    }
+
+    @Test
+    void should_return_400_when_status_unknown_or_cursor_malformed() throws Exception {
+        mockMvc.perform(get("/api/customers/{customerId}/orders", "C-HISTORY-3")
+                        .param("status", "SHIPPED"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/customers/{customerId}/orders", "C-HISTORY-3")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/customers/{customerId}/orders", "C-HISTORY-3")
+                        .param("limit", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Order saveOrder(String orderId, String customerId) {
+        return orderRepository.save(Order.create(orderId, customerId,
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("10.00"))))));
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.order.infrastructure.adapter.in.rest;
+
+import com.ecommerce.order.application.port.out.AsyncInventoryPort;
+import com.ecommerce.order.application.port.out.AsyncPaymentPort;
+import com.ecommerce.order.application.port.out.AsyncProductQueryPort;
+import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
+import com.ecommerce.order.application.port.out.PaymentResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "order.pipeline.mode=non-blocking")
+@AutoConfigureMockMvc
+public class NonBlockingOrderControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AsyncProductQueryPort productQueryPort;
+
+    @MockBean
+    private AsyncInventoryPort inventoryPort;
+
+    @MockBean
+    private AsyncPaymentPort paymentPort;
+
+    @MockBean
+    private OrderEventPublisherPort orderEventPublisherPort;
+
+    @Test
+    void should_create_order_asynchronously_and_return_confirmed_status() throws Exception {
+        // Given
+        when(productQueryPort.queryProduct("P001")).thenReturn(CompletableFuture.completedFuture(
+                new ProductInfo("P001", "Laptop", new BigDecimal("999.00"))));
+        when(inventoryPort.reserveInventory(anyString(), eq("P001"), eq(2)))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        when(paymentPort.processPayment(anyString(), eq(new BigDecimal("1998.00"))))
+                .thenReturn(CompletableFuture.completedFuture(new PaymentResult("PAY-001", "SUCCESS")));
+
+        String requestJson = "{\"customerId\":\"C001\","
+                + "\"items\":[{\"productId\":\"P001\",\"quantity\":2}]}";
+
+        // When
+        MvcResult started = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").isNotEmpty())
+                .andExpect(jsonPath("$.status").value("CONFIRMED"))
+                .andExpect(jsonPath("$.totalAmount").value(1998.00));
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.order.infrastructure.adapter.in.rest;
+
+import com.ecommerce.order.application.port.out.InventoryReleasePort;
+import com.ecommerce.order.application.port.out.InventoryReservePort;
+import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.application.port.out.PaymentRefundPort;
+import com.ecommerce.order.application.port.out.PaymentResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.ResourceAccessException;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that POST /api/orders holds no JDBC connection and no transaction while it waits on
+ * Product, Inventory or Payment Service. The outbox relay is slowed down so its polling does not
+ * show up in the pool counts.
+ */
+@SpringBootTest(properties = "order.outbox.poll-interval-ms=3600000")
+@AutoConfigureMockMvc
+public class OrderConnectionHoldIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private ProductQueryPort productQueryPort;
+
+    @MockBean
+    private InventoryReservePort inventoryReservePort;
+
+    @MockBean
+    private InventoryReleasePort inventoryReleasePort;
+
+    @MockBean
+    private PaymentPort paymentPort;
+
+    @MockBean
+    private PaymentRefundPort paymentRefundPort;
+
+    private final List<String> heldDuring = new ArrayList<>();
+
+    @Test
+    void should_not_hold_connection_during_outbound_calls_when_order_confirmed() throws Exception {
+        // Given
+        when(productQueryPort.queryProduct("P001")).thenAnswer(invocation -> {
+            recordIfHeld("product query");
+            return new ProductInfo("P001", "Laptop", new BigDecimal("999.00"));
+        });
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenAnswer(invocation -> {
+            recordIfHeld("inventory reserve");
+            return true;
+        });
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class))).thenAnswer(
+                invocation -> {
+                    recordIfHeld("payment");
+                    return new PaymentResult("PAY-001", "SUCCESS");
+                });
+
+        // When & Then
+        createOrder().andExpect(jsonPath("$.status").value("CONFIRMED"));
+        assertTrue(heldDuring.isEmpty(), "Connection or transaction held during " + heldDuring);
+    }
+
+    @Test
+    void should_not_hold_connection_during_release_when_payment_times_out() throws Exception {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class))).thenAnswer(
+                invocation -> {
+                    recordIfHeld("payment");
+                    throw new ResourceAccessException("Read timed out");
+                });
+        doAnswer(invocation -> {
+            recordIfHeld("inventory release");
+            return null;
+        }).when(inventoryReleasePort).releaseInventory(anyString(), eq("P001"), eq(1));
+
+        // When & Then
+        createOrder().andExpect(jsonPath("$.status").value("PAYMENT_TIMEOUT"));
+        assertTrue(heldDuring.isEmpty(), "Connection or transaction held during " + heldDuring);
+    }
+
+    private ResultActions createOrder() throws Exception {
+        return mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerId\":\"C001\","
+                                + "\"items\":[{\"productId\":\"P001\",\"quantity\":1}]}"))
+                .andExpect(status().isOk());
+    }
+
+    private void recordIfHeld(String call) throws SQLException {
+        int active = dataSource.unwrap(HikariDataSource.class)
+                .getHikariPoolMXBean().getActiveConnections();
+        if (active > 0 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            heldDuring.add(call + " (active connections=" + active + ")");
+        }
+    }
+}
@@ -4,9 +4,11 @@ import com.ecommerce.order.application.port.out.InventoryReleasePort;
 import com.ecommerce.order.application.port.out.InventoryReservePort;
 import com.ecommerce.order.application.port.out.OrderEventPublisherPort;
 import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.application.port.out.PaymentRefundPort;
 import com.ecommerce.order.application.port.out.PaymentResult;
 import com.ecommerce.order.application.port.out.ProductInfo;
 import com.ecommerce.order.application.port.out.ProductQueryPort;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,11 +16,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,6 +47,9 @@ public class OrderControllerIntegrationTest {
     @MockBean
     private PaymentPort paymentPort;
 
+    @MockBean
+    private PaymentRefundPort paymentRefundPort;
+
     @MockBean
     private OrderEventPublisherPort orderEventPublisherPort;
 
@@ -49,7 +58,8 @@ public class OrderControllerIntegrationTest {
         // Given
         when(productQueryPort.queryProduct("P001"))
                 .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
-        when(inventoryReservePort.reserveInventory("P001", 2)).thenReturn(true);
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(2)))
+                .thenReturn(true);
         when(paymentPort.processPayment(anyString(), eq(new BigDecimal("1998.00"))))
                 .thenReturn(new PaymentResult("PAY-001", "SUCCESS"));
 
@@ -74,7 +84,8 @@ public class OrderControllerIntegrationTest {
                 .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
         when(productQueryPort.queryProduct("P002"))
                 .thenReturn(new ProductInfo("P002", "Mouse", new BigDecimal("29.00")));
-        when(inventoryReservePort.reserveInventory(anyString(), anyInt())).thenReturn(true);
+        when(inventoryReservePort.reserveInventory(anyString(), anyString(), anyInt()))
+                .thenReturn(true);
         when(paymentPort.processPayment(anyString(), eq(new BigDecimal("1028.00"))))
                 .thenReturn(new PaymentResult("PAY-002", "SUCCESS"));
 
@@ -99,7 +110,7 @@ public class OrderControllerIntegrationTest {
         // Given
         when(productQueryPort.queryProduct("P001"))
                 .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
-        when(inventoryReservePort.reserveInventory("P001", 2))
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(2)))
                 .thenThrow(new RuntimeException("409 Conflict: Inventory insufficient"));
 
         String requestJson = "{\"customerId\":\"C001\","
@@ -114,4 +125,102 @@ public class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("FAILED"))
                 .andExpect(jsonPath("$.totalAmount").value(1998.00));
     }
+
+    @Test
+    void should_return_order_status_by_order_id() throws Exception {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
+                .thenReturn(new PaymentResult("PAY-003", "SUCCESS"));
+        MvcResult created = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerId\":\"C002\","
+                                + "\"items\":[{\"productId\":\"P001\",\"quantity\":1}]}"))
+                .andReturn();
+        String orderId = JsonPath.read(created.getResponse().getContentAsString(), "$.orderId");
+
+        // When & Then
+        mockMvc.perform(get("/api/orders/{orderId}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.customerId").value("C002"))
+                .andExpect(jsonPath("$.status").value("CONFIRMED"))
+                .andExpect(jsonPath("$.totalAmount").value(999.00));
+    }
+
+    @Test
+    void should_return_404_for_unknown_order() throws Exception {
+        mockMvc.perform(get("/api/orders/{orderId}", "ORD-UNKNOWN"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void should_return_first_result_without_downstream_calls_when_idempotency_key_repeated()
+            throws Exception {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
+                .thenReturn(new PaymentResult("PAY-004", "SUCCESS"));
+        String requestJson = "{\"customerId\":\"C003\","
+                + "\"items\":[{\"productId\":\"P001\",\"quantity\":1}]}";
+        MvcResult first = mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", "retry-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andReturn();
+        String orderId = JsonPath.read(first.getResponse().getContentAsString(), "$.orderId");
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", "retry-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+        verify(paymentPort, times(1)).processPayment(anyString(), any(BigDecimal.class));
+        verify(inventoryReservePort, times(1)).reserveInventory(anyString(), eq("P001"), eq(1));
+    }
+
+    @Test
+    void should_return_422_when_idempotency_key_reused_for_different_order() throws Exception {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), anyInt()))
+                .thenReturn(true);
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
+                .thenReturn(new PaymentResult("PAY-005", "SUCCESS"));
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", "reused-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerId\":\"C003\","
+                                + "\"items\":[{\"productId\":\"P001\",\"quantity\":1}]}"))
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", "reused-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerId\":\"C003\","
+                                + "\"items\":[{\"productId\":\"P001\",\"quantity\":2}]}"))
+                .andExpect(status().isUnprocessableEntity());
+        verify(paymentPort, times(1)).processPayment(anyString(), any(BigDecimal.class));
+    }
+
+    @Test
+    void should_return_400_when_idempotency_key_blank() throws Exception {
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", " ")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerId\":\"C003\",\"items\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,113 @@
+package com.ecommerce.order.infrastructure.adapter.out.cache;
+
+import com.ecommerce.order.application.port.out.ProductBatchResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CachingProductQueryPortTest {
+
+    private ProductQueryPort delegate;
+    private MeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private CachingProductQueryPort cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ProductQueryPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        nanos = new AtomicLong();
+        cache = new CachingProductQueryPort(delegate, 100, Duration.ofMinutes(5),
+                Duration.ofHours(1), Runnable::run, nanos::get, meterRegistry);
+    }
+
+    @Test
+    void should_serve_from_cache_when_entry_is_fresh() {
+        when(delegate.queryProduct("P001")).thenReturn(product("P001", "995.00"));
+
+        cache.queryProduct("P001");
+        advance(1);
+        ProductInfo product = cache.queryProduct("P001");
+
+        assertEquals(new BigDecimal("995.00"), product.getPrice());
+        verify(delegate, times(1)).queryProduct("P001");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void should_serve_stale_value_and_refresh_in_background_after_ttl() {
+        when(delegate.queryProduct("P001"))
+                .thenReturn(product("P001", "995.00"), product("P001", "899.00"));
+        cache.queryProduct("P001");
+        advance(6);
+
+        ProductInfo stale = cache.queryProduct("P001");
+        ProductInfo refreshed = cache.queryProduct("P001");
+
+        assertEquals(new BigDecimal("995.00"), stale.getPrice());
+        assertEquals(new BigDecimal("899.00"), refreshed.getPrice());
+        assertEquals(1.0, meterRegistry.get("product.cache.stale.hits").counter().count());
+    }
+
+    @Test
+    void should_keep_serving_last_known_value_when_refresh_fails() {
+        when(delegate.queryProduct("P001"))
+                .thenReturn(product("P001", "995.00"))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+        cache.queryProduct("P001");
+        advance(30);
+
+        assertEquals(new BigDecimal("995.00"), cache.queryProduct("P001").getPrice());
+        assertEquals(new BigDecimal("995.00"), cache.queryProduct("P001").getPrice());
+        assertEquals(2.0, meterRegistry.get("product.cache.refresh.failures").counter().count());
+    }
+
+    @Test
+    void should_fail_once_entry_exceeds_max_staleness() {
+        when(delegate.queryProduct("P001"))
+                .thenReturn(product("P001", "995.00"))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+        cache.queryProduct("P001");
+        advance(61);
+
+        assertThrows(ResourceAccessException.class, () -> cache.queryProduct("P001"));
+    }
+
+    @Test
+    void should_only_fetch_misses_in_batch_lookup() {
+        when(delegate.queryProduct("P001")).thenReturn(product("P001", "995.00"));
+        when(delegate.queryProducts(Arrays.asList("P002", "P999"))).thenReturn(new ProductBatchResult(
+                Arrays.asList(product("P002", "299.00")), Arrays.asList("P999")));
+        cache.queryProduct("P001");
+
+        ProductBatchResult result = cache.queryProducts(Arrays.asList("P001", "P002", "P999"));
+
+        assertEquals(2, result.getProducts().size());
+        assertEquals(Collections.singletonList("P999"), result.getMissingIds());
+        assertEquals(new BigDecimal("299.00"), cache.queryProduct("P002").getPrice());
+        verify(delegate, never()).queryProduct("P002");
+    }
+
+    private void advance(long minutes) {
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(minutes));
+    }
+
+    private static ProductInfo product(String productId, String price) {
+        return new ProductInfo(productId, "Product " + productId, new BigDecimal(price));
+    }
+}
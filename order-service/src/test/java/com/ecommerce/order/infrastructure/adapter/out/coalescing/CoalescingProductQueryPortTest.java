@@ -0,0 +1,159 @@
+package com.ecommerce.order.infrastructure.adapter.out.coalescing;
+
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CoalescingProductQueryPortTest {
+
+    private static final ProductInfo LAPTOP =
+            new ProductInfo("P001", "Laptop", new BigDecimal("999.00"));
+    private static final int CALLERS = 8;
+
+    private ProductQueryPort delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingProductQueryPort port;
+    private ExecutorService callers;
+    private final CountDownLatch leaderStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseLeader = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ProductQueryPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        port = new CoalescingProductQueryPort(delegate, Duration.ofSeconds(5), meterRegistry);
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void should_share_one_call_when_same_product_queried_concurrently() throws Exception {
+        // Given
+        when(delegate.queryProduct("P001")).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            releaseLeader.await(5, TimeUnit.SECONDS);
+            return LAPTOP;
+        });
+
+        // When
+        List<CompletableFuture<ProductInfo>> results = queryConcurrently();
+
+        // Then
+        for (CompletableFuture<ProductInfo> result : results) {
+            assertSame(LAPTOP, result.get(5, TimeUnit.SECONDS));
+        }
+        verify(delegate, times(1)).queryProduct("P001");
+        assertEquals(7.0 / 8, port.collapseRatio(), 0.0001);
+    }
+
+    @Test
+    void should_share_failure_with_waiting_callers() throws Exception {
+        // Given
+        when(delegate.queryProduct("P001")).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            releaseLeader.await(5, TimeUnit.SECONDS);
+            throw new ResourceAccessException("Read timed out");
+        });
+
+        // When
+        List<CompletableFuture<ProductInfo>> results = queryConcurrently();
+
+        // Then
+        for (CompletableFuture<ProductInfo> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> result.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof ResourceAccessException);
+        }
+        verify(delegate, times(1)).queryProduct("P001");
+    }
+
+    @Test
+    void should_share_error_with_waiting_callers() throws Exception {
+        // Given
+        when(delegate.queryProduct("P001")).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            releaseLeader.await(5, TimeUnit.SECONDS);
+            throw new OutOfMemoryError("Java heap space");
+        });
+
+        // When
+        List<CompletableFuture<ProductInfo>> results = queryConcurrently();
+
+        // Then
+        for (CompletableFuture<ProductInfo> result : results) {
+            assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        }
+        verify(delegate, times(1)).queryProduct("P001");
+    }
+
+    @Test
+    void should_stop_waiting_for_leader_after_max_wait() throws Exception {
+        // Given
+        port = new CoalescingProductQueryPort(delegate, Duration.ofMillis(50), meterRegistry);
+        when(delegate.queryProduct("P001")).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            releaseLeader.await(5, TimeUnit.SECONDS);
+            return LAPTOP;
+        });
+        CompletableFuture<ProductInfo> leader =
+                CompletableFuture.supplyAsync(() -> port.queryProduct("P001"), callers);
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        // When & Then
+        assertThrows(ResourceAccessException.class, () -> port.queryProduct("P001"));
+        releaseLeader.countDown();
+        assertSame(LAPTOP, leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void should_call_again_once_previous_call_completed() {
+        // Given
+        when(delegate.queryProduct("P001")).thenReturn(LAPTOP);
+
+        // When
+        port.queryProduct("P001");
+        port.queryProduct("P001");
+
+        // Then
+        verify(delegate, times(2)).queryProduct("P001");
+        assertEquals(0.0, port.collapseRatio());
+    }
+
+    /** Starts one leader, waits until its call is in flight, then adds the followers. */
+    private List<CompletableFuture<ProductInfo>> queryConcurrently() throws Exception {
+        List<CompletableFuture<ProductInfo>> results = new ArrayList<>();
+        results.add(CompletableFuture.supplyAsync(() -> port.queryProduct("P001"), callers));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> port.queryProduct("P001"), callers));
+        }
+        while (meterRegistry.counter("product.coalescing.requests", "role", "follower").count()
+                < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        releaseLeader.countDown();
+        return results;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce.order.infrastructure.adapter.out.hedging;
+
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class HedgingProductQueryPortTest {
+
+    private static final ProductInfo LAPTOP =
+            new ProductInfo("P001", "Laptop", new BigDecimal("999.00"));
+
+    private ProductQueryPort delegate;
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private final CountDownLatch releaseSlowCall = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ProductQueryPort.class);
+        executor = Executors.newFixedThreadPool(4);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowCall.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_send_hedge_and_use_its_answer_when_first_call_is_slow() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.queryProduct("P001")).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                releaseSlowCall.await(5, TimeUnit.SECONDS);
+            }
+            return LAPTOP;
+        });
+
+        // When
+        ProductInfo product = hedging(1.0).queryProduct("P001");
+
+        // Then
+        assertSame(LAPTOP, product);
+        assertEquals(2, calls.get());
+        assertEquals(1.0, meterRegistry.counter("product.hedge.sent").count());
+        assertEquals(1.0, meterRegistry.counter("product.hedge.won").count());
+    }
+
+    @Test
+    void should_wait_for_first_call_when_hedge_budget_exhausted() {
+        // Given
+        when(delegate.queryProduct("P001")).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return LAPTOP;
+        });
+
+        // When
+        ProductInfo product = hedging(0.0).queryProduct("P001");
+
+        // Then
+        assertSame(LAPTOP, product);
+        verify(delegate, times(1)).queryProduct("P001");
+        assertEquals(0.0, meterRegistry.counter("product.hedge.sent").count());
+        assertEquals(1.0, meterRegistry.counter("product.hedge.budget.exhausted").count());
+    }
+
+    @Test
+    void should_not_hedge_when_first_call_fails_fast() {
+        // Given
+        when(delegate.queryProduct("P001")).thenThrow(new ResourceAccessException("refused"));
+
+        // When & Then
+        assertThrows(ResourceAccessException.class, () -> hedging(1.0).queryProduct("P001"));
+        verify(delegate, times(1)).queryProduct("P001");
+    }
+
+    @Test
+    void should_compute_percentile_over_most_recent_samples() {
+        // Given
+        HedgingProductQueryPort.LatencyWindow window = new HedgingProductQueryPort.LatencyWindow(100);
+        for (int i = 1; i <= 200; i++) {
+            window.add(i);
+        }
+
+        // When & Then: only samples 101..200 are kept
+        assertEquals(100, window.size());
+        assertEquals(195, window.percentile(0.95));
+        assertEquals(101, window.percentile(0.0));
+    }
+
+    private HedgingProductQueryPort hedging(double budgetRatio) {
+        return new HedgingProductQueryPort(delegate, executor, budgetRatio, 10, 0.95,
+                20, 5, 64, meterRegistry);
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.order.infrastructure.adapter.out.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedOrderIdGeneratorTest {
+
+    @Test
+    void should_start_with_prefix_and_encode_node_id() {
+        // Given
+        TimeOrderedOrderIdGenerator generator =
+                new TimeOrderedOrderIdGenerator(0x00AB, () -> 0x0123456789ABL);
+
+        // When
+        String orderId = generator.nextOrderId();
+
+        // Then
+        assertEquals("ORD-0123456789ab00ab000000000000", orderId);
+    }
+
+    @Test
+    void should_generate_increasing_ids_when_clock_moves_backwards() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_000_000L);
+        TimeOrderedOrderIdGenerator generator = new TimeOrderedOrderIdGenerator(1, clock::get);
+        String previous = generator.nextOrderId();
+
+        // When & Then
+        for (int i = 0; i < 200_000; i++) {
+            if (i == 100) {
+                clock.set(999_000L);
+            }
+            String next = generator.nextOrderId();
+            assertTrue(next.compareTo(previous) > 0, next + " should sort after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void should_sort_by_creation_time_across_milliseconds() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_000L);
+        TimeOrderedOrderIdGenerator generator = new TimeOrderedOrderIdGenerator(7, clock::get);
+
+        // When
+        String earlier = generator.nextOrderId();
+        clock.incrementAndGet();
+        String later = generator.nextOrderId();
+
+        // Then
+        assertTrue(later.compareTo(earlier) > 0);
+    }
+
+    @Test
+    void should_generate_unique_ids_when_many_threads_share_one_millisecond() throws Exception {
+        // Given
+        TimeOrderedOrderIdGenerator generator = new TimeOrderedOrderIdGenerator(3, () -> 42L);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            Thread thread = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(generator.nextOrderId());
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // When
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(160_000, ids.size());
+    }
+
+    @Test
+    void should_reject_node_id_out_of_range() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedOrderIdGenerator(65536));
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedOrderIdGenerator(-1));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
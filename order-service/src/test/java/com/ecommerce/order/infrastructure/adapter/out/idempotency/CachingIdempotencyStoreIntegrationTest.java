@@ -0,0 +1,96 @@
+package com.ecommerce.order.infrastructure.adapter.out.idempotency;
+
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.application.port.out.IdempotencyRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CachingIdempotencyStoreIntegrationTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-02T12:00:00Z");
+    private static final CreateOrderResult FIRST =
+            new CreateOrderResult("ORD-001", "CONFIRMED", new BigDecimal("999.00"));
+
+    @Autowired
+    private SpringDataIdempotencyRepository repository;
+
+    @Test
+    void should_refuse_claim_and_then_return_result_when_another_instance_holds_key() {
+        // Given
+        CachingIdempotencyStore instanceA = store(NOW);
+        CachingIdempotencyStore instanceB = store(NOW);
+        assertFalse(instanceA.claim("key-1", "fp-1").isPresent());
+
+        // When
+        Optional<IdempotencyRecord> whileRunning = instanceB.claim("key-1", "fp-1");
+        instanceA.complete("key-1", new IdempotencyRecord("fp-1", FIRST));
+        Optional<IdempotencyRecord> afterwards = instanceB.claim("key-1", "fp-1");
+
+        // Then
+        assertFalse(whileRunning.get().isCompleted());
+        assertEquals("ORD-001", afterwards.get().getResult().getOrderId());
+    }
+
+    @Test
+    void should_treat_record_as_absent_and_purge_it_when_older_than_retention() {
+        // Given
+        CachingIdempotencyStore old = store(NOW.minus(Duration.ofDays(2)));
+        old.claim("key-2", "fp-2");
+        old.complete("key-2", new IdempotencyRecord("fp-2", FIRST));
+        CachingIdempotencyStore current = store(NOW);
+
+        // When & Then
+        assertEquals(1, current.purgeExpired());
+        assertFalse(current.claim("key-2", "fp-other").isPresent());
+    }
+
+    @Test
+    void should_hand_stale_claim_only_to_same_request() {
+        // Given
+        store(NOW.minus(Duration.ofMinutes(10))).claim("key-3", "fp-3");
+        CachingIdempotencyStore current = store(NOW);
+
+        // When
+        Optional<IdempotencyRecord> otherRequest = current.claim("key-3", "fp-other");
+        Optional<IdempotencyRecord> sameRequest = current.claim("key-3", "fp-3");
+
+        // Then
+        assertEquals("fp-3", otherRequest.get().getFingerprint());
+        assertFalse(sameRequest.isPresent());
+        assertTrue(current.claim("key-3", "fp-3").isPresent());
+    }
+
+    @Test
+    void should_free_key_when_claim_released() {
+        // Given
+        CachingIdempotencyStore store = store(NOW);
+        store.claim("key-4", "fp-4");
+
+        // When
+        store.release("key-4");
+
+        // Then
+        assertFalse(store.claim("key-4", "fp-4").isPresent());
+    }
+
+    private CachingIdempotencyStore store(Instant now) {
+        return new CachingIdempotencyStore(repository, 100, Duration.ofDays(1),
+                Duration.ofMinutes(5), Clock.fixed(now, ZoneId.of("UTC")),
+                new SimpleMeterRegistry());
+    }
+}
@@ -3,6 +3,7 @@ package com.ecommerce.order.infrastructure.adapter.out.kafka;
 import com.ecommerce.order.application.port.out.InventoryReleasePort;
 import com.ecommerce.order.application.port.out.InventoryReservePort;
 import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.application.port.out.PaymentRefundPort;
 import com.ecommerce.order.application.port.out.ProductQueryPort;
 import com.ecommerce.order.domain.event.OrderConfirmedEvent;
 import com.ecommerce.order.domain.event.OrderConfirmedEvent.OrderItemData;
@@ -52,6 +53,9 @@ public class KafkaOrderEventPublisherIntegrationTest {
     @MockBean
     private PaymentPort paymentPort;
 
+    @MockBean
+    private PaymentRefundPort paymentRefundPort;
+
     @Autowired
     private KafkaOrderEventPublisher publisher;
 
@@ -0,0 +1,124 @@
+package com.ecommerce.order.infrastructure.adapter.out.kafka;
+
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
+import com.ecommerce.order.domain.event.OrderConfirmedEvent;
+import com.ecommerce.order.domain.event.OrderConfirmedEvent.OrderItemData;
+import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
+import com.ecommerce.order.infrastructure.mapper.OrderInfraMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.FailureCallback;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.util.concurrent.SuccessCallback;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class MeteredKafkaSenderTest {
+
+    private KafkaTemplate<String, OrderConfirmedMessage> kafkaTemplate;
+    private MeterRegistry meterRegistry;
+    private SettableListenableFuture<SendResult<String, OrderConfirmedMessage>> pending;
+    private MeteredKafkaSender sender;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        pending = new SettableListenableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrderConfirmedMessage.class)))
+                .thenReturn(pending);
+        sender = new MeteredKafkaSender(kafkaTemplate, meterRegistry, 1, 10);
+    }
+
+    @Test
+    void should_count_event_as_sent_when_broker_acknowledges() {
+        // Given
+        send("ORD-1");
+        assertEquals(1, sender.inFlight());
+
+        // When
+        pending.set(new SendResult<>(new ProducerRecord<>("order-confirmed", "ORD-1",
+                (OrderConfirmedMessage) null), new RecordMetadata(
+                new TopicPartition("order-confirmed", 0), 0L, 0, 0L, 3, 120)));
+
+        // Then
+        assertEquals(0, sender.inFlight());
+        assertEquals(1.0, count("sent"));
+        assertEquals(1, meterRegistry.get("order.events.publish.latency").timer().count());
+        assertEquals(120.0,
+                meterRegistry.get("order.events.publish.size").summary().totalAmount());
+    }
+
+    @Test
+    void should_count_event_as_failed_and_free_slot_when_delivery_fails() {
+        // Given
+        send("ORD-1");
+
+        // When
+        pending.setException(new IllegalStateException("broker unavailable"));
+
+        // Then
+        assertEquals(0, sender.inFlight());
+        assertEquals(1.0, count("failed"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_free_slot_once_when_send_throws_after_failing_the_future() {
+        // Given
+        ListenableFuture<SendResult<String, OrderConfirmedMessage>> failing =
+                mock(ListenableFuture.class);
+        doAnswer(invocation -> {
+            invocation.<FailureCallback>getArgument(1)
+                    .onFailure(new KafkaException("Send failed"));
+            throw new KafkaException("Send failed");
+        }).when(failing).addCallback(any(SuccessCallback.class), any(FailureCallback.class));
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrderConfirmedMessage.class)))
+                .thenReturn(failing);
+
+        // When
+        assertThrows(KafkaException.class, () -> send("ORD-1"));
+
+        // Then
+        assertEquals(0, sender.inFlight());
+        assertEquals(1.0, count("failed"));
+    }
+
+    @Test
+    void should_refuse_send_when_in_flight_limit_reached() {
+        // Given
+        send("ORD-1");
+
+        // When & Then
+        assertThrows(DownstreamUnavailableException.class,
+                () -> send("ORD-2"));
+        assertEquals(1.0, count("rejected"));
+        verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("order.events.publish").tag("result", result).counter().count();
+    }
+
+    private void send(String orderId) {
+        sender.send("order-confirmed", orderId, OrderInfraMapper.toMessage(new OrderConfirmedEvent(
+                orderId, "C001",
+                Collections.singletonList(new OrderItemData("P001", 1, new BigDecimal("10.00"))),
+                new BigDecimal("10.00"))));
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.order.infrastructure.adapter.out.kafka;
+
+import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderConfirmedMessageSerializerTest {
+
+    @Test
+    void should_write_binary_with_content_type_header_when_binary_format_configured() {
+        // Given
+        OrderConfirmedMessageSerializer serializer = serializer("binary");
+        RecordHeaders headers = new RecordHeaders();
+
+        // When
+        byte[] data = serializer.serialize("order-confirmed", headers, message());
+
+        // Then
+        Header contentType = headers.lastHeader(OrderConfirmedBinaryCodec.CONTENT_TYPE_HEADER);
+        assertEquals(OrderConfirmedBinaryCodec.CONTENT_TYPE,
+                new String(contentType.value(), StandardCharsets.UTF_8));
+        assertEquals("ORD-001", OrderConfirmedBinaryCodec.decode(data).getOrderId());
+    }
+
+    @Test
+    void should_write_json_without_content_type_header_by_default() {
+        // Given
+        OrderConfirmedMessageSerializer serializer = serializer(null);
+        RecordHeaders headers = new RecordHeaders();
+
+        // When
+        byte[] data = serializer.serialize("order-confirmed", headers, message());
+
+        // Then
+        assertNull(headers.lastHeader(OrderConfirmedBinaryCodec.CONTENT_TYPE_HEADER));
+        assertTrue(new String(data, StandardCharsets.UTF_8).contains("\"orderId\":\"ORD-001\""));
+    }
+
+    private static OrderConfirmedMessageSerializer serializer(String format) {
+        OrderConfirmedMessageSerializer serializer = new OrderConfirmedMessageSerializer();
+        serializer.configure(Collections.singletonMap(
+                OrderConfirmedMessageSerializer.FORMAT_CONFIG, format), false);
+        return serializer;
+    }
+
+    private static OrderConfirmedMessage message() {
+        OrderConfirmedMessage message = new OrderConfirmedMessage();
+        message.setOrderId("ORD-001");
+        message.setStatus("CONFIRMED");
+        return message;
+    }
+}
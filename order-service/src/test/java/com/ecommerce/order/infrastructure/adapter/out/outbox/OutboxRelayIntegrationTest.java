@@ -0,0 +1,128 @@
+package com.ecommerce.order.infrastructure.adapter.out.outbox;
+
+import com.ecommerce.order.application.dto.CreateOrderCommand;
+import com.ecommerce.order.application.dto.CreateOrderResult;
+import com.ecommerce.order.application.dto.OrderItemCommand;
+import com.ecommerce.order.application.port.in.CreateOrderPort;
+import com.ecommerce.order.application.port.out.InventoryReleasePort;
+import com.ecommerce.order.application.port.out.InventoryReservePort;
+import com.ecommerce.order.application.port.out.PaymentPort;
+import com.ecommerce.order.application.port.out.PaymentRefundPort;
+import com.ecommerce.order.application.port.out.PaymentResult;
+import com.ecommerce.order.application.port.out.ProductInfo;
+import com.ecommerce.order.application.port.out.ProductQueryPort;
+import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@DirtiesContext
+@EmbeddedKafka(topics = "order-confirmed", partitions = 1)
+@TestPropertySource(properties = {
+    "spring.kafka.producer.bootstrap-servers=${spring.embedded.kafka.brokers}",
+    "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+    "order.outbox.poll-interval-ms=100"
+})
+public class OutboxRelayIntegrationTest {
+
+    @MockBean
+    private ProductQueryPort productQueryPort;
+
+    @MockBean
+    private InventoryReservePort inventoryReservePort;
+
+    @MockBean
+    private InventoryReleasePort inventoryReleasePort;
+
+    @MockBean
+    private PaymentPort paymentPort;
+
+    @MockBean
+    private PaymentRefundPort paymentRefundPort;
+
+    @Autowired
+    private CreateOrderPort createOrderPort;
+
+    @Autowired
+    private SpringDataOutboxRepository outboxRepository;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+
+    @Test
+    void should_relay_confirmed_order_from_outbox_to_kafka() throws Exception {
+        // Given
+        when(productQueryPort.queryProduct("P001"))
+                .thenReturn(new ProductInfo("P001", "Laptop", new BigDecimal("999.00")));
+        when(inventoryReservePort.reserveInventory(anyString(), eq("P001"), eq(1)))
+                .thenReturn(true);
+        when(paymentPort.processPayment(anyString(), any(BigDecimal.class)))
+                .thenReturn(new PaymentResult("PAY-001", "SUCCESS"));
+
+        // When
+        CreateOrderResult result = createOrderPort.createOrder(new CreateOrderCommand("C001",
+                Collections.singletonList(new OrderItemCommand("P001", 1))));
+
+        // Then
+        Consumer<String, OrderConfirmedMessage> consumer = createTestConsumer();
+        embeddedKafkaBroker.consumeFromEmbeddedTopics(consumer, "order-confirmed");
+        ConsumerRecord<String, OrderConfirmedMessage> record =
+                KafkaTestUtils.getSingleRecord(consumer, "order-confirmed", 10000);
+        consumer.close();
+        assertEquals(result.getOrderId(), record.key());
+        assertEquals("C001", record.value().getCustomerId());
+        assertEquals(new BigDecimal("999.00"), record.value().getTotalAmount());
+        assertTrue(awaitPublished(result.getOrderId()), "Outbox row should be marked published");
+    }
+
+    private boolean awaitPublished(String orderId) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            List<OutboxEventJpaEntity> rows = outboxRepository.findAll().stream()
+                    .filter(e -> e.getMessageKey().equals(orderId))
+                    .collect(Collectors.toList());
+            if (rows.size() == 1 && rows.get(0).getPublishedAt() != null) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private Consumer<String, OrderConfirmedMessage> createTestConsumer() {
+        Map<String, Object> consumerProps =
+                KafkaTestUtils.consumerProps("outbox-test-group", "true", embeddedKafkaBroker);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        JsonDeserializer<OrderConfirmedMessage> deserializer =
+                new JsonDeserializer<>(OrderConfirmedMessage.class);
+        deserializer.addTrustedPackages("*");
+
+        DefaultKafkaConsumerFactory<String, OrderConfirmedMessage> factory =
+                new DefaultKafkaConsumerFactory<>(
+                        consumerProps, new StringDeserializer(), deserializer);
+        return factory.createConsumer();
+    }
+}
@@ -0,0 +1,162 @@
+package com.ecommerce.order.infrastructure.adapter.out.outbox;
+
+import com.ecommerce.order.infrastructure.adapter.out.kafka.MeteredKafkaSender;
+import com.ecommerce.order.infrastructure.dto.OrderConfirmedMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class OutboxRelayTest {
+
+    private static final Clock CLOCK =
+            Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneId.of("UTC"));
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    private SpringDataOutboxRepository outboxRepository;
+    private KafkaTemplate<String, OrderConfirmedMessage> kafkaTemplate;
+    private MeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxRepository = mock(SpringDataOutboxRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = relay(100);
+    }
+
+    private OutboxRelay relay(int maxInFlight) {
+        return new OutboxRelay(outboxRepository,
+                new MeteredKafkaSender(kafkaTemplate, meterRegistry, maxInFlight, 10),
+                new ObjectMapper(), 100, Duration.ofSeconds(1), Duration.ofSeconds(1),
+                Duration.ofSeconds(60), CLOCK, meterRegistry);
+    }
+
+    @Test
+    void should_send_due_events_and_mark_acknowledged_ones_published() {
+        // Given
+        when(outboxRepository.findOldestDuePerKey(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Arrays.asList(event(1L, "ORD-1"), event(2L, "ORD-2")));
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrderConfirmedMessage.class)))
+                .thenReturn(acknowledged());
+
+        // When
+        int published = relay.relayBatch();
+
+        // Then
+        assertEquals(2, published);
+        verify(kafkaTemplate).send(eq("order-confirmed"), eq("ORD-1"), any());
+        verify(kafkaTemplate).send(eq("order-confirmed"), eq("ORD-2"), any());
+        verify(outboxRepository).markPublished(Arrays.asList(1L, 2L), NOW);
+        assertEquals(2.0, publishCount("sent"));
+        assertEquals(2, meterRegistry.get("order.events.publish.latency").timer().count());
+        assertEquals(240.0,
+                meterRegistry.get("order.events.publish.size").summary().totalAmount());
+    }
+
+    @Test
+    void should_count_rejected_send_and_retry_it_when_in_flight_limit_reached() {
+        // Given
+        OutboxEventJpaEntity second = event(2L, "ORD-2");
+        when(outboxRepository.findOldestDuePerKey(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Arrays.asList(event(1L, "ORD-1"), second));
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrderConfirmedMessage.class)))
+                .thenReturn(new SettableListenableFuture<>());
+
+        // When
+        int published = relay(1).relayBatch();
+
+        // Then
+        assertEquals(0, published);
+        assertEquals(1.0, publishCount("rejected"));
+        verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+        assertEquals(1, second.getAttempts());
+    }
+
+    @Test
+    void should_hold_back_key_and_schedule_retry_when_send_fails() {
+        // Given
+        OutboxEventJpaEntity first = event(1L, "ORD-1");
+        when(outboxRepository.findOldestDuePerKey(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(first));
+        SettableListenableFuture<SendResult<String, OrderConfirmedMessage>> failure =
+                new SettableListenableFuture<>();
+        failure.setException(new IllegalStateException("broker unavailable"));
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrderConfirmedMessage.class)))
+                .thenReturn(failure);
+
+        // When
+        int published = relay.relayBatch();
+
+        // Then
+        assertEquals(0, published);
+        verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+        verify(outboxRepository, never()).markPublished(anyCollection(), any());
+        verify(outboxRepository).saveAll(Collections.singletonList(first));
+        assertEquals(1, first.getAttempts());
+        assertEquals(NOW.plusSeconds(1), first.getNextAttemptAt());
+    }
+
+    @Test
+    void should_read_events_due_now_and_send_nothing_when_none_due() {
+        // Given
+        when(outboxRepository.findOldestDuePerKey(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Collections.<OutboxEventJpaEntity>emptyList());
+
+        // When
+        int published = relay.relayBatch();
+
+        // Then
+        assertEquals(0, published);
+        verify(outboxRepository).findOldestDuePerKey(NOW, PageRequest.of(0, 100));
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    private static OutboxEventJpaEntity event(long id, String key) {
+        OutboxEventJpaEntity event = new OutboxEventJpaEntity();
+        event.setId(id);
+        event.setTopic("order-confirmed");
+        event.setMessageKey(key);
+        event.setPayload("{\"orderId\":\"" + key + "\",\"status\":\"CONFIRMED\"}");
+        event.setCreatedAt(NOW);
+        event.setNextAttemptAt(NOW);
+        return event;
+    }
+
+    private static SettableListenableFuture<SendResult<String, OrderConfirmedMessage>>
+            acknowledged() {
+        SettableListenableFuture<SendResult<String, OrderConfirmedMessage>> future =
+                new SettableListenableFuture<>();
+        future.set(new SendResult<>(new ProducerRecord<>("order-confirmed", "ORD",
+                (OrderConfirmedMessage) null), new RecordMetadata(
+                new TopicPartition("order-confirmed", 0), 0L, 0, 0L, 3, 120)));
+        return future;
+    }
+
+    private double publishCount(String result) {
+        return meterRegistry.get("order.events.publish").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.order.infrastructure.adapter.out.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class SpringDataOutboxRepositoryIntegrationTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private SpringDataOutboxRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void should_return_oldest_unpublished_event_of_each_key() {
+        // Given
+        OutboxEventJpaEntity published = save("ORD-1", NOW);
+        published.setPublishedAt(NOW);
+        repository.save(published);
+        OutboxEventJpaEntity oldestPending = save("ORD-1", NOW);
+        save("ORD-1", NOW);
+        OutboxEventJpaEntity other = save("ORD-2", NOW);
+
+        // When
+        List<OutboxEventJpaEntity> due = repository.findOldestDuePerKey(NOW, PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(ids(oldestPending, other), ids(due));
+    }
+
+    @Test
+    void should_skip_keys_backing_off_instead_of_filling_the_page_with_them() {
+        // Given
+        save("ORD-1", NOW.plusSeconds(30));
+        save("ORD-1", NOW);
+        save("ORD-2", NOW.plusSeconds(30));
+        OutboxEventJpaEntity due = save("ORD-3", NOW);
+
+        // When
+        List<OutboxEventJpaEntity> page = repository.findOldestDuePerKey(NOW, PageRequest.of(0, 2));
+
+        // Then
+        assertEquals(ids(due), ids(page));
+    }
+
+    private OutboxEventJpaEntity save(String key, LocalDateTime nextAttemptAt) {
+        OutboxEventJpaEntity event = new OutboxEventJpaEntity();
+        event.setTopic("order-confirmed");
+        event.setMessageKey(key);
+        event.setPayload("{}");
+        event.setCreatedAt(NOW);
+        event.setNextAttemptAt(nextAttemptAt);
+        return repository.save(event);
+    }
+
+    private static List<Long> ids(OutboxEventJpaEntity... events) {
+        return ids(Arrays.asList(events));
+    }
+
+    private static List<Long> ids(List<OutboxEventJpaEntity> events) {
+        return events.stream().map(OutboxEventJpaEntity::getId).collect(Collectors.toList());
+    }
+}
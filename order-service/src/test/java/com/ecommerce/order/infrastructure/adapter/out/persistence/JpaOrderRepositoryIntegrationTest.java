@@ -1,5 +1,6 @@
 package com.ecommerce.order.infrastructure.adapter.out.persistence;
 
+import com.ecommerce.order.domain.model.Money;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderItem;
 import com.ecommerce.order.domain.model.OrderStatus;
@@ -8,10 +9,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import javax.persistence.EntityManager;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,10 +28,16 @@ public class JpaOrderRepositoryIntegrationTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private SpringDataOrderRepository springDataRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void should_save_and_find_order() {
         Order order = Order.create("ORD-001", "C001",
-                Arrays.asList(new OrderItem("P001", 2, new BigDecimal("995.00"))));
+                Arrays.asList(new OrderItem("P001", 2, Money.of(new BigDecimal("995.00")))));
 
         Order saved = orderRepository.save(order);
         assertNotNull(saved.getId());
@@ -34,14 +46,14 @@ public class JpaOrderRepositoryIntegrationTest {
         assertTrue(found.isPresent());
         assertEquals("ORD-001", found.get().getOrderId());
         assertEquals(OrderStatus.CREATED, found.get().getStatus());
-        assertEquals(new BigDecimal("1990.00"), found.get().getTotalAmount());
+        assertEquals(Money.of(new BigDecimal("1990.00")), found.get().getTotalAmount());
         assertEquals(1, found.get().getItems().size());
     }
 
     @Test
     void should_update_order_status() {
         Order order = Order.create("ORD-002", "C001",
-                Arrays.asList(new OrderItem("P001", 1, new BigDecimal("995.00"))));
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("995.00")))));
         orderRepository.save(order);
 
         Order toUpdate = orderRepository.findByOrderId("ORD-002").get();
@@ -52,9 +64,100 @@ public class JpaOrderRepositoryIntegrationTest {
         assertEquals(OrderStatus.CONFIRMED, confirmed.getStatus());
     }
 
+    @Test
+    void should_keep_item_rows_when_status_updated() {
+        // Given
+        Order saved = orderRepository.save(Order.create("ORD-003", "C001",
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("995.00"))),
+                        new OrderItem("P002", 2, Money.of(new BigDecimal("29.00"))))));
+        entityManager.flush();
+        List<Long> itemIds = itemIds("ORD-003");
+
+        // When
+        saved.confirm();
+        Order confirmed = orderRepository.save(saved);
+
+        // Then
+        assertEquals(1, confirmed.getVersion());
+        assertEquals(itemIds, itemIds("ORD-003"));
+        Order found = orderRepository.findByOrderId("ORD-003").get();
+        assertEquals(OrderStatus.CONFIRMED, found.getStatus());
+        assertEquals(1, found.getVersion());
+        assertEquals(2, found.getItems().size());
+    }
+
+    @Test
+    void should_reject_status_update_when_order_changed_by_another_process() {
+        // Given
+        orderRepository.save(Order.create("ORD-004", "C001",
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("995.00"))))));
+        Order first = orderRepository.findByOrderId("ORD-004").get();
+        Order second = orderRepository.findByOrderId("ORD-004").get();
+        first.confirm();
+        orderRepository.save(first);
+
+        // When & Then
+        second.paymentTimeout();
+        assertThrows(OptimisticLockingFailureException.class, () -> orderRepository.save(second));
+        assertEquals(OrderStatus.CONFIRMED,
+                orderRepository.findByOrderId("ORD-004").get().getStatus());
+    }
+
+    @Test
+    void should_page_customer_orders_newest_first_with_items_when_seeking_past_last_order() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            orderRepository.save(Order.create("ORD-10" + i, "C100",
+                    Arrays.asList(new OrderItem("P001", i, Money.of(new BigDecimal("10.00"))))));
+        }
+        orderRepository.save(Order.create("ORD-200", "C200",
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("10.00"))))));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Order> first = orderRepository.findByCustomerId("C100", null, null, null, 3);
+        Order last = first.get(2);
+        List<Order> second = orderRepository.findByCustomerId("C100", null,
+                last.getCreatedAt(), last.getId(), 3);
+
+        // Then
+        assertEquals(Arrays.asList("ORD-105", "ORD-104", "ORD-103"), orderIds(first));
+        assertEquals(Arrays.asList("ORD-102", "ORD-101"), orderIds(second));
+        assertEquals(5, first.get(0).getItems().get(0).getQuantity());
+    }
+
+    @Test
+    void should_return_only_orders_in_status_when_status_given() {
+        // Given
+        Order failed = orderRepository.save(Order.create("ORD-301", "C300",
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("10.00"))))));
+        failed.fail();
+        orderRepository.save(failed);
+        orderRepository.save(Order.create("ORD-302", "C300",
+                Arrays.asList(new OrderItem("P001", 1, Money.of(new BigDecimal("10.00"))))));
+
+        // When
+        List<Order> orders = orderRepository.findByCustomerId("C300", OrderStatus.FAILED,
+                null, null, 10);
+
+        // Then
+        assertEquals(Arrays.asList("ORD-301"), orderIds(orders));
+    }
+
     @Test
     void should_return_empty_for_nonexistent_order() {
         Optional<Order> found = orderRepository.findByOrderId("NONEXISTENT");
         assertFalse(found.isPresent());
     }
+
+    private static List<String> orderIds(List<Order> orders) {
+        return orders.stream().map(Order::getOrderId).collect(Collectors.toList());
+    }
+
+    private List<Long> itemIds(String orderId) {
+        return springDataRepo.findByOrderId(orderId).get().getItems().stream()
+                .map(OrderItemJpaEntity::getId)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,88 @@
+package com.ecommerce.order.infrastructure.adapter.out.persistence;
+
+import com.ecommerce.order.domain.model.Money;
+import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.order.domain.model.OrderSaga;
+import com.ecommerce.order.domain.model.SagaStatus;
+import com.ecommerce.order.domain.port.OrderSagaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(JpaOrderSagaRepositoryAdapter.class)
+public class JpaOrderSagaRepositoryIntegrationTest {
+
+    @Autowired
+    private OrderSagaRepository orderSagaRepository;
+
+    @Test
+    void should_store_status_and_steps_when_update_matches_version() {
+        // Given
+        orderSagaRepository.create(OrderSaga.start("ORD-001"));
+        OrderSaga saga = orderSagaRepository.findByOrderId("ORD-001").get();
+        saga.paymentRequested(Arrays.asList(
+                new OrderItem("P001", 2, Money.of(new BigDecimal("999.00")))));
+
+        // When
+        boolean updated = orderSagaRepository.update(saga);
+
+        // Then
+        assertTrue(updated);
+        OrderSaga found = orderSagaRepository.findByOrderId("ORD-001").get();
+        assertEquals(SagaStatus.PAYMENT_REQUESTED, found.getStatus());
+        assertEquals(1, found.getVersion());
+        assertEquals(1, found.getUnreleasedReservations().size());
+    }
+
+    @Test
+    void should_reject_update_when_saga_changed_by_another_process() {
+        // Given
+        orderSagaRepository.create(OrderSaga.start("ORD-002"));
+        OrderSaga first = orderSagaRepository.findByOrderId("ORD-002").get();
+        OrderSaga second = orderSagaRepository.findByOrderId("ORD-002").get();
+        first.claim();
+        assertTrue(orderSagaRepository.update(first));
+
+        // When
+        second.abort();
+        boolean updated = orderSagaRepository.update(second);
+
+        // Then
+        assertFalse(updated);
+        assertEquals(SagaStatus.STARTED,
+                orderSagaRepository.findByOrderId("ORD-002").get().getStatus());
+    }
+
+    @Test
+    void should_page_unfinished_idle_sagas_by_id() {
+        // Given
+        orderSagaRepository.create(OrderSaga.start("ORD-010"));
+        orderSagaRepository.create(OrderSaga.start("ORD-011"));
+        orderSagaRepository.create(OrderSaga.start("ORD-012"));
+        OrderSaga finished = orderSagaRepository.findByOrderId("ORD-011").get();
+        finished.abort();
+        orderSagaRepository.update(finished);
+        LocalDateTime idleSince = LocalDateTime.now().plusMinutes(1);
+
+        // When
+        List<OrderSaga> firstPage = orderSagaRepository.findUnfinished(idleSince, 0, 1);
+        List<OrderSaga> secondPage = orderSagaRepository.findUnfinished(
+                idleSince, firstPage.get(0).getId(), 1);
+        List<OrderSaga> notIdle = orderSagaRepository.findUnfinished(
+                LocalDateTime.now().minusMinutes(1), 0, 10);
+
+        // Then
+        assertEquals("ORD-010", firstPage.get(0).getOrderId());
+        assertEquals("ORD-012", secondPage.get(0).getOrderId());
+        assertTrue(notIdle.isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+package com.ecommerce.order.infrastructure.adapter.out.resilience;
+
+import com.ecommerce.order.application.port.out.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResilienceGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void should_open_and_reject_without_calling_when_failure_rate_reached() {
+        // Given
+        ResilienceGuard guard = guard(1);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ResourceAccessException.class, () -> guard.call(() -> {
+                throw new ResourceAccessException("Read timed out");
+            }));
+        }
+
+        // When
+        boolean[] called = {false};
+        assertThrows(DownstreamUnavailableException.class, () -> guard.call(() -> called[0] = true));
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, guard.getState());
+        assertFalse(called[0]);
+        assertEquals(1.0, meterRegistry.get("resilience.rejections")
+                .tag("reason", "circuit_open").counter().count());
+        assertEquals(1.0, meterRegistry.get("resilience.circuitbreaker.transitions")
+                .tag("to", "OPEN").counter().count());
+    }
+
+    @Test
+    void should_stay_closed_when_downstream_answers_with_client_error() {
+        // Given
+        ResilienceGuard guard = guard(1);
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpClientErrorException.class, () -> guard.call(() -> {
+                throw new HttpClientErrorException(HttpStatus.CONFLICT);
+            }));
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+    }
+
+    @Test
+    void should_reject_when_concurrency_limit_reached() throws Exception {
+        // Given
+        ResilienceGuard guard = guard(1);
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> guard.call(() -> {
+            inFlight.countDown();
+            await(release);
+            return true;
+        }));
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+        // When & Then
+        assertThrows(DownstreamUnavailableException.class, () -> guard.call(() -> true));
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get("resilience.rejections")
+                .tag("reason", "bulkhead_full").counter().count());
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+    }
+
+    private ResilienceGuard guard(int maxConcurrentCalls) {
+        return new ResilienceGuard("payment-service",
+                CircuitBreakerConfig.custom()
+                        .slidingWindowSize(4).minimumNumberOfCalls(4)
+                        .failureRateThreshold(50)
+                        .waitDurationInOpenState(Duration.ofMinutes(1))
+                        .ignoreExceptions(HttpClientErrorException.class,
+                                BulkheadFullException.class)
+                        .build(),
+                BulkheadConfig.custom().maxConcurrentCalls(maxConcurrentCalls)
+                        .maxWaitDuration(Duration.ZERO).build(),
+                meterRegistry);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledHttpClientsTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private Set<Integer> clientPorts;
+    private CountDownLatch release;
+    private MeterRegistry meterRegistry;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clientPorts = ConcurrentHashMap.newKeySet();
+        release = new CountDownLatch(0);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ping", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+        httpClient = PooledHttpClients.create("test-service",
+                new PooledHttpClients.Settings(1, 1000, 3000, 200, 30000, 30000), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void should_reuse_pooled_connection_across_requests() {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("pong", restTemplate.getForObject(url(), String.class));
+        }
+
+        assertEquals(1, clientPorts.size());
+        assertEquals(0.0, gauge("httpcomponents.httpclient.pool.total.connections", "leased"));
+        assertEquals(1.0, gauge("httpcomponents.httpclient.pool.total.connections", "available"));
+    }
+
+    @Test
+    void should_time_out_acquiring_connection_when_pool_is_exhausted() throws Exception {
+        release = new CountDownLatch(1);
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        Thread holder = new Thread(() -> restTemplate.getForObject(url(), String.class));
+        holder.start();
+        while (clientPorts.isEmpty()) {
+            Thread.sleep(10);
+        }
+
+        ResourceAccessException e = assertThrows(ResourceAccessException.class,
+                () -> restTemplate.getForObject(url(), String.class));
+        assertTrue(e.getCause() instanceof ConnectionPoolTimeoutException);
+
+        release.countDown();
+        holder.join();
+    }
+
+    private String url() {
+        return "http://localhost:" + server.getAddress().getPort() + "/ping";
+    }
+
+    private double gauge(String name, String state) {
+        return meterRegistry.get(name).tag("httpclient", "test-service").tag("state", state).gauge().value();
+    }
+}
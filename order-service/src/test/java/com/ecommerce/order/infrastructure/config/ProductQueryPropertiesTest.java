@@ -0,0 +1,52 @@
+package com.ecommerce.order.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductQueryPropertiesTest {
+
+    @Test
+    void should_bind_hedging_settings_from_kebab_case_keys() {
+        // Given
+        Map<String, String> source = new HashMap<>();
+        source.put("product-service.hedging.enabled", "true");
+        source.put("product-service.hedging.initial-delay-ms", "250");
+        source.put("product-service.hedging.budget-ratio", "0.1");
+        Binder binder = new Binder(new MapConfigurationPropertySource(source));
+
+        // When
+        ProductQueryProperties.Hedging hedging = binder.bind("product-service.hedging",
+                Bindable.ofInstance(new ProductQueryProperties.Hedging())).get();
+
+        // Then
+        assertTrue(hedging.isEnabled());
+        assertEquals(250, hedging.getInitialDelayMs());
+        assertEquals(0.1, hedging.getBudgetRatio());
+        assertEquals(1024, hedging.getWindowSize());
+    }
+
+    @Test
+    void should_keep_defaults_when_cache_settings_absent() {
+        // Given
+        Map<String, String> source = new HashMap<>();
+        source.put("order.product-cache.ttl-ms", "1000");
+        Binder binder = new Binder(new MapConfigurationPropertySource(source));
+
+        // When
+        ProductQueryProperties.Cache cache = binder.bind("order.product-cache",
+                Bindable.ofInstance(new ProductQueryProperties.Cache())).get();
+
+        // Then
+        assertTrue(cache.isEnabled());
+        assertEquals(1000, cache.getTtlMs());
+        assertEquals(10000, cache.getMaxSize());
+        assertEquals(3600000, cache.getMaxStaleMs());
+    }
+}
@@ -0,0 +1,106 @@
+package com.ecommerce.order.standin;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts the Product, Inventory and Payment stand-ins together. Settings, with their defaults:
+ * <pre>
+ * standin.skus=P001,P002,P003           or a count N for P001..PNNN
+ * standin.stock=1000000                 initial units of every SKU
+ * standin.product.latency=none          see {@link LatencyDistribution}
+ * standin.inventory.latency=none
+ * standin.payment.latency=none
+ * standin.product.error-rate=0          fraction answered 503
+ * standin.inventory.error-rate=0
+ * standin.payment.error-rate=0
+ * standin.payment.decline-rate=0        fraction answered with status FAILED
+ * </pre>
+ */
+public final class DownstreamStandIns implements AutoCloseable {
+
+    private static final Map<String, BigDecimal> SEEDED_PRICES = new LinkedHashMap<>();
+
+    static {
+        SEEDED_PRICES.put("P001", new BigDecimal("995.00"));
+        SEEDED_PRICES.put("P002", new BigDecimal("299.00"));
+        SEEDED_PRICES.put("P003", new BigDecimal("199.00"));
+    }
+
+    private final ProductStandIn product;
+    private final InventoryStandIn inventory;
+    private final PaymentStandIn payment;
+
+    private DownstreamStandIns(Map<String, String> settings) {
+        Map<String, BigDecimal> prices = prices(setting(settings, "skus", "P001,P002,P003"));
+        Map<String, Integer> stock = new LinkedHashMap<>();
+        int units = Integer.parseInt(setting(settings, "stock", "1000000"));
+        prices.keySet().forEach(sku -> stock.put(sku, units));
+        this.product = new ProductStandIn(prices, latency(settings, "product"),
+                errorRate(settings, "product"));
+        this.inventory = new InventoryStandIn(stock, latency(settings, "inventory"),
+                errorRate(settings, "inventory"));
+        this.payment = new PaymentStandIn(
+                Double.parseDouble(setting(settings, "payment.decline-rate", "0")),
+                latency(settings, "payment"), errorRate(settings, "payment"));
+    }
+
+    /** Starts the stand-ins with the {@code standin.*} entries of {@code settings}. */
+    public static DownstreamStandIns start(Map<String, String> settings) throws IOException {
+        DownstreamStandIns standIns = new DownstreamStandIns(settings);
+        standIns.product.start();
+        standIns.inventory.start();
+        standIns.payment.start();
+        return standIns;
+    }
+
+    /** Returns the order-service properties that point its clients at the stand-ins. */
+    public List<String> clientUrlArguments() {
+        return Arrays.asList("--product-service.url=" + product.getUrl(),
+                "--inventory-service.url=" + inventory.getUrl(),
+                "--payment-service.url=" + payment.getUrl());
+    }
+
+    public ProductStandIn getProduct() { return product; }
+    public InventoryStandIn getInventory() { return inventory; }
+    public PaymentStandIn getPayment() { return payment; }
+
+    @Override
+    public void close() {
+        product.close();
+        inventory.close();
+        payment.close();
+    }
+
+    private static Map<String, BigDecimal> prices(String skus) {
+        if (!skus.matches("\\d+")) {
+            Map<String, BigDecimal> prices = new LinkedHashMap<>();
+            for (String sku : skus.split(",")) {
+                prices.put(sku, SEEDED_PRICES.getOrDefault(sku, new BigDecimal("100.00")));
+            }
+            return prices;
+        }
+        List<String> generated = new ArrayList<>();
+        for (int i = 1; i <= Integer.parseInt(skus); i++) {
+            generated.add(String.format("P%03d", i));
+        }
+        return prices(String.join(",", generated));
+    }
+
+    private static LatencyDistribution latency(Map<String, String> settings, String service) {
+        return LatencyDistribution.parse(setting(settings, service + ".latency", "none"));
+    }
+
+    private static double errorRate(Map<String, String> settings, String service) {
+        return Double.parseDouble(setting(settings, service + ".error-rate", "0"));
+    }
+
+    private static String setting(Map<String, String> settings, String name, String fallback) {
+        return settings.getOrDefault("standin." + name, fallback);
+    }
+}
@@ -0,0 +1,145 @@
+package com.ecommerce.order.standin;
+
+import com.ecommerce.order.application.port.out.InventoryBatchResult;
+import com.ecommerce.order.application.port.out.PaymentResult;
+import com.ecommerce.order.application.port.out.ProductBatchResult;
+import com.ecommerce.order.infrastructure.adapter.out.rest.InventoryServiceClient;
+import com.ecommerce.order.infrastructure.adapter.out.rest.PaymentServiceClient;
+import com.ecommerce.order.infrastructure.adapter.out.rest.ProductServiceClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Drives the order-service REST clients against the stand-ins to pin down the contracts. */
+class DownstreamStandInsTest {
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private DownstreamStandIns standIns;
+
+    @AfterEach
+    void tearDown() {
+        standIns.close();
+    }
+
+    @Test
+    void should_answer_single_and_batch_product_lookups_when_queried_by_client() throws Exception {
+        // Given
+        standIns = DownstreamStandIns.start(new HashMap<>());
+        ProductServiceClient client = new ProductServiceClient(restTemplate,
+                standIns.getProduct().getUrl());
+
+        // When
+        ProductBatchResult batch = client.queryProducts(Arrays.asList("P001", "P404"));
+
+        // Then
+        assertEquals(new BigDecimal("995.00"), client.queryProduct("P001").getPrice());
+        assertEquals(1, batch.getProducts().size());
+        assertEquals(Arrays.asList("P404"), batch.getMissingIds());
+        assertThrows(HttpClientErrorException.NotFound.class, () -> client.queryProduct("P404"));
+    }
+
+    @Test
+    void should_split_product_lookup_when_more_ids_than_one_request_allows() throws Exception {
+        // Given
+        standIns = DownstreamStandIns.start(new HashMap<>());
+        ProductServiceClient client = new ProductServiceClient(restTemplate,
+                standIns.getProduct().getUrl());
+        List<String> productIds = new ArrayList<>();
+        productIds.add("P001");
+        for (int i = 0; i < 150; i++) {
+            productIds.add("X" + i);
+        }
+
+        // When
+        ProductBatchResult batch = client.queryProducts(productIds);
+
+        // Then
+        assertEquals(1, batch.getProducts().size());
+        assertEquals(150, batch.getMissingIds().size());
+        assertEquals("X149", batch.getMissingIds().get(149));
+    }
+
+    @Test
+    void should_keep_stock_when_reserving_releasing_and_failing_batch() throws Exception {
+        // Given
+        standIns = DownstreamStandIns.start(settings("standin.stock", "5"));
+        InventoryServiceClient client = new InventoryServiceClient(restTemplate,
+                standIns.getInventory().getUrl());
+        Map<String, Integer> lines = new LinkedHashMap<>();
+        lines.put("P001", 1);
+        lines.put("P002", 9);
+
+        // When
+        assertTrue(client.reserveInventory("ORD-1", "P001", 3));
+        InventoryBatchResult batch = client.reserveAll("ORD-1", lines);
+        client.releaseInventory("ORD-1", "P001", 1);
+
+        // Then
+        assertFalse(batch.isReserved());
+        assertEquals(Arrays.asList("P002"), batch.getFailedProductIds());
+        assertEquals(3, standIns.getInventory().getStock("P001"));
+        assertEquals(5, standIns.getInventory().getStock("P002"));
+        assertThrows(HttpClientErrorException.Conflict.class,
+                () -> client.reserveInventory("ORD-2", "P001", 4));
+    }
+
+    @Test
+    void should_refund_successful_payments_once() throws Exception {
+        // Given
+        standIns = DownstreamStandIns.start(new HashMap<>());
+        PaymentServiceClient client = new PaymentServiceClient(restTemplate,
+                standIns.getPayment().getUrl());
+
+        // When
+        PaymentResult result = client.processPayment("ORD-1", new BigDecimal("995.00"));
+        client.refundPayments("ORD-1");
+        client.refundPayments("ORD-1");
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals(0, standIns.getPayment().getPayments("ORD-1"));
+        assertEquals(1, standIns.getPayment().getRefunds());
+    }
+
+    @Test
+    void should_delay_and_fail_requests_as_configured() throws Exception {
+        // Given
+        Map<String, String> settings = settings("standin.product.latency", "constant:50");
+        settings.put("standin.payment.error-rate", "1");
+        settings.put("standin.payment.latency", "none");
+        standIns = DownstreamStandIns.start(settings);
+        ProductServiceClient products = new ProductServiceClient(restTemplate,
+                standIns.getProduct().getUrl());
+        PaymentServiceClient payments = new PaymentServiceClient(restTemplate,
+                standIns.getPayment().getUrl());
+
+        // When
+        long start = System.nanoTime();
+        products.queryProduct("P001");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertTrue(elapsedMillis >= 50, "answered after " + elapsedMillis + " ms");
+        assertThrows(HttpServerErrorException.ServiceUnavailable.class,
+                () -> payments.processPayment("ORD-1", BigDecimal.TEN));
+        assertEquals(1, standIns.getPayment().getInjectedErrors());
+    }
+
+    private static Map<String, String> settings(String name, String value) {
+        Map<String, String> settings = new HashMap<>();
+        settings.put(name, value);
+        return settings;
+    }
+}
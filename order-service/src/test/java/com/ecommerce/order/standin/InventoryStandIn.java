@@ -0,0 +1,126 @@
+package com.ecommerce.order.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inventory Service stand-in: {@code POST /api/inventory/reserve}, {@code .../reserve/batch}
+ * and {@code .../release}, with the stock of every product kept in memory. As in Inventory
+ * Service, a single reservation beyond the stock is a 409 with a text message, and a batch is
+ * all or nothing: a 409 with per-line results, the failing lines carrying a reason. Stock changes
+ * are serialized on the stand-in, which is negligible next to any configured latency. Unlike
+ * Inventory Service it does not track reservations per order, so a replayed reservation is
+ * deducted again.
+ */
+public class InventoryStandIn extends StandInServer {
+
+    static final String NOT_FOUND = "NOT_FOUND";
+    static final String INSUFFICIENT_STOCK = "INSUFFICIENT_STOCK";
+
+    private final Map<String, Integer> stock;
+    private long reservedUnits;
+    private long releasedUnits;
+
+    public InventoryStandIn(Map<String, Integer> initialStock, LatencyDistribution latency,
+                            double errorRate) {
+        super(latency, errorRate, 503);
+        this.stock = new HashMap<>(initialStock);
+    }
+
+    @Override
+    protected void registerRoutes() {
+        route("/api/inventory/reserve/batch", this::reserveBatch);
+        route("/api/inventory/reserve", this::reserve);
+        route("/api/inventory/release", this::release);
+    }
+
+    public synchronized int getStock(String productId) { return stock.getOrDefault(productId, 0); }
+    public synchronized long getReservedUnits() { return reservedUnits; }
+    public synchronized long getReleasedUnits() { return releasedUnits; }
+
+    private Response reserve(HttpExchange exchange) throws IOException {
+        JsonNode request = readJson(exchange);
+        String productId = request.path("productId").asText();
+        int quantity = request.path("quantity").asInt();
+        synchronized (this) {
+            int available = stock.getOrDefault(productId, 0);
+            if (!stock.containsKey(productId) || available < quantity) {
+                return new Response(409, String.format("Insufficient stock for product %s: "
+                        + "requested=%d, available=%d", productId, quantity, available));
+            }
+            take(productId, quantity);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("reserved", true);
+            body.put("remainingStock", stock.get(productId));
+            return Response.ok(body);
+        }
+    }
+
+    private Response reserveBatch(HttpExchange exchange) throws IOException {
+        JsonNode items = readJson(exchange).path("items");
+        if (items.size() == 0) {
+            return new Response(400, "");
+        }
+        synchronized (this) {
+            List<Map<String, Object>> lines = new ArrayList<>(items.size());
+            boolean reserved = true;
+            for (JsonNode item : items) {
+                Map<String, Object> line = checkLine(item.path("productId").asText(),
+                        item.path("quantity").asInt());
+                reserved &= line.get("reason") == null;
+                lines.add(line);
+            }
+            if (reserved) {
+                takeAll(lines);
+            }
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("reserved", reserved);
+            body.put("lines", lines);
+            return new Response(reserved ? 200 : 409, body);
+        }
+    }
+
+    private Response release(HttpExchange exchange) throws IOException {
+        JsonNode request = readJson(exchange);
+        int quantity = request.path("quantity").asInt();
+        synchronized (this) {
+            stock.merge(request.path("productId").asText(), quantity, Integer::sum);
+            releasedUnits += quantity;
+        }
+        return Response.ok(Collections.singletonMap("released", true));
+    }
+
+    private Map<String, Object> checkLine(String productId, int quantity) {
+        Integer available = stock.get(productId);
+        String reason = available == null ? NOT_FOUND
+                : available < quantity ? INSUFFICIENT_STOCK : null;
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("productId", productId);
+        line.put("quantity", quantity);
+        line.put("reserved", reason == null);
+        line.put("remainingStock", available == null ? 0 : available);
+        line.put("reason", reason);
+        return line;
+    }
+
+    private void takeAll(List<Map<String, Object>> lines) {
+        for (Map<String, Object> line : lines) {
+            String productId = (String) line.get("productId");
+            take(productId, (Integer) line.get("quantity"));
+            line.put("remainingStock", stock.get(productId));
+        }
+    }
+
+    private void take(String productId, int quantity) {
+        stock.put(productId, stock.get(productId) - quantity);
+        reservedUnits += quantity;
+    }
+}
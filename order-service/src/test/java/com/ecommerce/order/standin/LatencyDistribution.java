@@ -0,0 +1,56 @@
+package com.ecommerce.order.standin;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response time of a stand-in, written as:
+ * <ul>
+ *   <li>{@code none}</li>
+ *   <li>{@code constant:MS}</li>
+ *   <li>{@code lognormal:MEDIAN_MS,SIGMA}: the long right tail of a typical service</li>
+ *   <li>{@code bimodal:FAST_MS,SLOW_MS,SLOW_FRACTION}: e.g. cache hits and misses, or GC
+ *       pauses</li>
+ * </ul>
+ */
+public interface LatencyDistribution {
+
+    long sampleNanos(Random random);
+
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    static LatencyDistribution constant(double millis) {
+        long nanos = toNanos(millis);
+        return random -> nanos;
+    }
+
+    static LatencyDistribution lognormal(double medianMillis, double sigma) {
+        double mu = Math.log(medianMillis);
+        return random -> toNanos(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    static LatencyDistribution bimodal(double fastMillis, double slowMillis, double slowFraction) {
+        long fast = toNanos(fastMillis);
+        long slow = toNanos(slowMillis);
+        return random -> random.nextDouble() < slowFraction ? slow : fast;
+    }
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split("[:,]");
+        switch (parts[0]) {
+            case "none": return none();
+            case "constant": return constant(Double.parseDouble(parts[1]));
+            case "lognormal": return lognormal(Double.parseDouble(parts[1]),
+                    Double.parseDouble(parts[2]));
+            case "bimodal": return bimodal(Double.parseDouble(parts[1]),
+                    Double.parseDouble(parts[2]), Double.parseDouble(parts[3]));
+            default: throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        }
+    }
+
+    static long toNanos(double millis) {
+        return (long) (millis * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.order.standin;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyDistributionTest {
+
+    @Test
+    void should_draw_latencies_around_configured_shape() {
+        // Given
+        LatencyDistribution lognormal = LatencyDistribution.parse("lognormal:10,0.5");
+        LatencyDistribution bimodal = LatencyDistribution.parse("bimodal:1,100,0.25");
+        Random random = new Random(1);
+        int belowMedian = 0;
+        int slow = 0;
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            belowMedian += lognormal.sampleNanos(random) < 10_000_000L ? 1 : 0;
+            slow += bimodal.sampleNanos(random) == 100_000_000L ? 1 : 0;
+        }
+
+        // Then
+        assertEquals(5_000, belowMedian, 250);
+        assertEquals(2_500, slow, 250);
+    }
+
+    @Test
+    void should_reject_unknown_distribution() {
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("pareto:1"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.order.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Payment Service stand-in: {@code POST /api/payments} and {@code POST /api/payments/refunds}.
+ * A payment is declined (status FAILED) at {@code declineRate}, otherwise it succeeds and is
+ * remembered for its order. A refund returns the order's successful payments once; repeating it
+ * refunds nothing more, and a later payment for the refunded order fails, as in Payment Service.
+ */
+public class PaymentStandIn extends StandInServer {
+
+    private final double declineRate;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, List<String>> paymentsByOrder = new ConcurrentHashMap<>();
+    private final Set<String> refundedOrders = ConcurrentHashMap.newKeySet();
+    private final AtomicLong refunds = new AtomicLong();
+
+    public PaymentStandIn(double declineRate, LatencyDistribution latency, double errorRate) {
+        super(latency, errorRate, 503);
+        this.declineRate = declineRate;
+    }
+
+    @Override
+    protected void registerRoutes() {
+        route("/api/payments/refunds", this::refund);
+        route("/api/payments", this::pay);
+    }
+
+    public int getPayments(String orderId) {
+        List<String> payments = paymentsByOrder.get(orderId);
+        return payments == null ? 0 : payments.size();
+    }
+
+    public long getRefunds() { return refunds.get(); }
+
+    private Response pay(HttpExchange exchange) throws IOException {
+        String orderId = readJson(exchange).path("orderId").asText();
+        String paymentId = String.format("PAY-%08d", sequence.incrementAndGet());
+        boolean declined = refundedOrders.contains(orderId)
+                || ThreadLocalRandom.current().nextDouble() < declineRate;
+        if (!declined) {
+            paymentsByOrder.computeIfAbsent(orderId, id -> new CopyOnWriteArrayList<>())
+                    .add(paymentId);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("paymentId", paymentId);
+        body.put("status", declined ? "FAILED" : "SUCCESS");
+        return Response.ok(body);
+    }
+
+    private Response refund(HttpExchange exchange) throws IOException {
+        JsonNode request = readJson(exchange);
+        String orderId = request.path("orderId").asText(null);
+        if (orderId == null) {
+            return new Response(400, "");
+        }
+        refundedOrders.add(orderId);
+        List<String> refunded = paymentsByOrder.remove(orderId);
+        refunds.addAndGet(refunded == null ? 0 : refunded.size());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("orderId", orderId);
+        body.put("refundedPaymentIds", refunded == null ? new ArrayList<String>() : refunded);
+        return Response.ok(body);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.order.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Product Service stand-in: {@code GET /api/products/{productId}} and
+ * {@code GET /api/products?ids=...}, answered from a fixed catalogue. An unknown product is a
+ * 404 on the single lookup and a missing ID in the multi-get, as in Product Service, and a
+ * multi-get for more than {@value #MAX_BATCH_SIZE} IDs is a 400.
+ */
+public class ProductStandIn extends StandInServer {
+
+    static final int MAX_BATCH_SIZE = 100;
+
+    private final Map<String, BigDecimal> prices;
+
+    public ProductStandIn(Map<String, BigDecimal> prices, LatencyDistribution latency,
+                          double errorRate) {
+        super(latency, errorRate, 503);
+        this.prices = prices;
+    }
+
+    @Override
+    protected void registerRoutes() {
+        route("/api/products", this::lookup);
+    }
+
+    private Response lookup(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        if (path.startsWith("/api/products/")) {
+            Map<String, Object> product = product(path.substring("/api/products/".length()));
+            return product == null ? new Response(404, "") : Response.ok(product);
+        }
+        if (query != null && query.startsWith("ids=")) {
+            String[] productIds = query.substring("ids=".length()).split(",");
+            return productIds.length > MAX_BATCH_SIZE
+                    ? new Response(400, "") : Response.ok(batch(productIds));
+        }
+        return new Response(400, "");
+    }
+
+    private Map<String, Object> batch(String[] productIds) {
+        List<Map<String, Object>> products = new ArrayList<>(productIds.length);
+        List<String> missingIds = new ArrayList<>();
+        for (String productId : productIds) {
+            Map<String, Object> product = product(productId);
+            if (product == null) {
+                missingIds.add(productId);
+            } else {
+                products.add(product);
+            }
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("products", products);
+        body.put("missingIds", missingIds);
+        return body;
+    }
+
+    private Map<String, Object> product(String productId) {
+        BigDecimal price = prices.get(productId);
+        if (price == null) {
+            return null;
+        }
+        Map<String, Object> product = new LinkedHashMap<>();
+        product.put("productId", productId);
+        product.put("name", "Stand-in " + productId);
+        product.put("price", price);
+        product.put("available", true);
+        return product;
+    }
+}
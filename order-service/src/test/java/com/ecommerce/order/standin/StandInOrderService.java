@@ -0,0 +1,52 @@
+package com.ecommerce.order.standin;
+
+import com.ecommerce.order.OrderApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs order-service on its own against in-JVM stand-ins for Product, Inventory and Payment
+ * Service, so its throughput ceiling can be measured on one machine, e.g. with
+ * {@code scripts/load-test.sh}:
+ * <pre>
+ * mvn -Pstandin test-compile exec:exec \
+ *     -Dstandin.args="--standin.payment.latency=lognormal:20,0.5 --server.port=8081"
+ * </pre>
+ * {@code --standin.*} arguments configure the stand-ins (see {@link DownstreamStandIns}); all
+ * others go to order-service. Without a Kafka broker the outbox relay is effectively paused;
+ * pass {@code --order.outbox.poll-interval-ms=500} with {@code SPRING_KAFKA_BOOTSTRAP_SERVERS}
+ * to include it.
+ */
+public final class StandInOrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(StandInOrderService.class);
+
+    private StandInOrderService() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> settings = new HashMap<>();
+        List<String> serviceArgs = new ArrayList<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (arg.startsWith("--standin.") && eq > 0) {
+                settings.put(arg.substring(2, eq), arg.substring(eq + 1));
+            } else {
+                serviceArgs.add(arg);
+            }
+        }
+        DownstreamStandIns standIns = DownstreamStandIns.start(settings);
+        serviceArgs.addAll(standIns.clientUrlArguments());
+        log.info("Downstream stand-ins: {}", standIns.clientUrlArguments());
+        SpringApplication application = new SpringApplication(OrderApplication.class);
+        application.setDefaultProperties(Collections.singletonMap(
+                "order.outbox.poll-interval-ms", (Object) "3600000"));
+        application.run(serviceArgs.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,142 @@
+package com.ecommerce.order.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded HTTP server standing in for a downstream service. Every request first waits a
+ * latency drawn from the configured distribution, then fails with {@code errorStatus} at
+ * {@code errorRate}, and otherwise is answered by the route's handler. Requests are served on a
+ * cached pool, so a slow stand-in delays responses without limiting concurrency.
+ */
+public abstract class StandInServer implements AutoCloseable {
+
+    protected static final ObjectMapper JSON = new ObjectMapper();
+
+    static {
+        // Headers and body go out in separate writes; with Nagle on, the body of every response
+        // after the first on a keep-alive connection waits ~40 ms for the client's delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final int errorStatus;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    protected StandInServer(LatencyDistribution latency, double errorRate, int errorStatus) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+    }
+
+    /** Starts on an ephemeral loopback port; see {@link #getUrl()}. */
+    public StandInServer start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        registerRoutes();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, getClass().getSimpleName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getRequests() { return requests.sum(); }
+    public long getInjectedErrors() { return injectedErrors.sum(); }
+
+    protected abstract void registerRoutes();
+
+    protected void route(String path, Handler handler) {
+        server.createContext(path, exchange -> serve(exchange, handler));
+    }
+
+    protected static JsonNode readJson(HttpExchange exchange) throws IOException {
+        return JSON.readTree(exchange.getRequestBody());
+    }
+
+    private void serve(HttpExchange exchange, Handler handler) throws IOException {
+        requests.increment();
+        try {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            TimeUnit.NANOSECONDS.sleep(latency.sampleNanos(random));
+            if (random.nextDouble() < errorRate) {
+                injectedErrors.increment();
+                send(exchange, new Response(errorStatus,
+                        Collections.singletonMap("error", "injected by stand-in")));
+            } else {
+                send(exchange, handler.handle(exchange));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            send(exchange, new Response(500, Collections.singletonMap("error", e.toString())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        boolean text = response.body instanceof String;
+        byte[] body = text ? ((String) response.body).getBytes(StandardCharsets.UTF_8)
+                : JSON.writeValueAsBytes(response.body);
+        exchange.getResponseHeaders().set("Content-Type",
+                text ? "text/plain;charset=UTF-8" : "application/json");
+        if (body.length == 0) {
+            exchange.sendResponseHeaders(response.status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /** Answers one request routed to it. */
+    protected interface Handler {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    /** Status and body; a String body is sent as text, anything else as JSON. */
+    protected static final class Response {
+        final int status;
+        final Object body;
+
+        Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response ok(Object body) {
+            return new Response(200, body);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.payment.application.dto;
+
+import java.util.List;
+
+public class RefundResult {
+    private final String orderId;
+    private final List<String> refundedPaymentIds;
+
+    public RefundResult(String orderId, List<String> refundedPaymentIds) {
+        this.orderId = orderId;
+        this.refundedPaymentIds = refundedPaymentIds;
+    }
+
+    public String getOrderId() { return orderId; }
+    public List<String> getRefundedPaymentIds() { return refundedPaymentIds; }
+}
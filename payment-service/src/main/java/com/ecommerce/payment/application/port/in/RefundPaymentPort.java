@@ -0,0 +1,20 @@
+package com.ecommerce.payment.application.port.in;
+
+import com.ecommerce.payment.application.dto.RefundResult;
+
+/**
+ * Inbound port for refunding the payments of an order, used to compensate an order that could
+ * not be completed.
+ */
+public interface RefundPaymentPort {
+
+    /**
+     * Refunds every successful payment of the given order. Refunding an order with no successful
+     * payment left is a no-op, so the call is safe to repeat. A payment for the order that
+     * arrives after this call is not kept.
+     *
+     * @param orderId the order whose payments are refunded
+     * @return the result listing the payment IDs refunded by this call
+     */
+    RefundResult refundPayments(String orderId);
+}
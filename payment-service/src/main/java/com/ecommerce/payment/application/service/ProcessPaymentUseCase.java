@@ -3,32 +3,65 @@ package com.ecommerce.payment.application.service;
 import com.ecommerce.payment.application.dto.PaymentCommand;
 import com.ecommerce.payment.application.dto.PaymentResult;
 import com.ecommerce.payment.application.port.in.ProcessPaymentPort;
+import com.ecommerce.payment.domain.model.Money;
 import com.ecommerce.payment.domain.model.Payment;
+import com.ecommerce.payment.domain.model.PaymentStatus;
 import com.ecommerce.payment.domain.port.PaymentRepository;
+import com.ecommerce.payment.domain.port.RefundTombstoneRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 /**
  * Use case for processing payments. Creates a payment record with SUCCESS status (simulated).
+ *
+ * <p>A payment for an order whose refund was already requested is kept FAILED. The order
+ * service refunds an order whose payment call timed out, and that payment may still be on its
+ * way. The payment is committed before the tombstone is checked again and {@link
+ * RefundPaymentUseCase} commits the tombstone before it looks for payments, so when the two
+ * race, at least one of them sees the other and the payment ends REFUNDED.
  */
 @Service
 public class ProcessPaymentUseCase implements ProcessPaymentPort {
 
     private final PaymentRepository paymentRepository;
+    private final RefundTombstoneRepository refundTombstoneRepository;
 
-    public ProcessPaymentUseCase(PaymentRepository paymentRepository) {
+    public ProcessPaymentUseCase(PaymentRepository paymentRepository,
+                                 RefundTombstoneRepository refundTombstoneRepository) {
         this.paymentRepository = paymentRepository;
+        this.refundTombstoneRepository = refundTombstoneRepository;
     }
 
     /** {@inheritDoc} */
     @Override
-    @Transactional
     public PaymentResult processPayment(PaymentCommand command) {
         String paymentId = "PAY-" + UUID.randomUUID().toString().substring(0, 8);
-        Payment payment = Payment.createSuccess(paymentId, command.getOrderId(), command.getAmount());
+        String orderId = command.getOrderId();
+        Money amount = command.getAmount() == null ? null : Money.of(command.getAmount());
+        Payment payment = Payment.createSuccess(paymentId, orderId, amount);
+        if (refundTombstoneRepository.exists(orderId)) {
+            Payment rejected = Payment.createFailed(paymentId, orderId, amount);
+            return toResult(paymentRepository.save(rejected));
+        }
         Payment saved = paymentRepository.save(payment);
-        return new PaymentResult(saved.getPaymentId(), saved.getStatus().name());
+        if (refundTombstoneRepository.exists(orderId)) {
+            saved = refundIfSuccessful(saved);
+        }
+        return toResult(saved);
+    }
+
+    /** A concurrent refund of the order may have refunded the payment already. */
+    private Payment refundIfSuccessful(Payment payment) {
+        Payment current = paymentRepository.findByPaymentId(payment.getPaymentId()).orElse(payment);
+        if (current.getStatus() != PaymentStatus.SUCCESS) {
+            return current;
+        }
+        current.refund();
+        return paymentRepository.save(current);
+    }
+
+    private static PaymentResult toResult(Payment payment) {
+        return new PaymentResult(payment.getPaymentId(), payment.getStatus().name());
     }
 }
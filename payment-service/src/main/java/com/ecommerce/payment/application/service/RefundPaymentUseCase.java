@@ -0,0 +1,46 @@
+package com.ecommerce.payment.application.service;
+
+import com.ecommerce.payment.application.dto.RefundResult;
+import com.ecommerce.payment.application.port.in.RefundPaymentPort;
+import com.ecommerce.payment.domain.model.Payment;
+import com.ecommerce.payment.domain.model.PaymentStatus;
+import com.ecommerce.payment.domain.port.PaymentRepository;
+import com.ecommerce.payment.domain.port.RefundTombstoneRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use case for refunding payments. Marks every successful payment of an order REFUNDED (simulated).
+ *
+ * <p>The order's refund tombstone is committed first, so a payment that is still in flight when
+ * the refund arrives is kept FAILED or refunded by {@link ProcessPaymentUseCase} instead.
+ */
+@Service
+public class RefundPaymentUseCase implements RefundPaymentPort {
+
+    private final PaymentRepository paymentRepository;
+    private final RefundTombstoneRepository refundTombstoneRepository;
+
+    public RefundPaymentUseCase(PaymentRepository paymentRepository,
+                                RefundTombstoneRepository refundTombstoneRepository) {
+        this.paymentRepository = paymentRepository;
+        this.refundTombstoneRepository = refundTombstoneRepository;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RefundResult refundPayments(String orderId) {
+        refundTombstoneRepository.record(orderId);
+        List<String> refunded = new ArrayList<>();
+        for (Payment payment : paymentRepository.findByOrderId(orderId)) {
+            if (payment.getStatus() == PaymentStatus.SUCCESS) {
+                payment.refund();
+                paymentRepository.save(payment);
+                refunded.add(payment.getPaymentId());
+            }
+        }
+        return new RefundResult(orderId, refunded);
+    }
+}
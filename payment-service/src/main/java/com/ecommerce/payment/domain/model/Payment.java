@@ -1,6 +1,5 @@
 package com.ecommerce.payment.domain.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -10,27 +9,27 @@ public class Payment {
     private Long id;
     private String paymentId;
     private String orderId;
-    private BigDecimal amount;
+    private Money amount;
     private PaymentStatus status;
     private LocalDateTime createdAt;
 
     private Payment() {}
 
     /** Creates a payment with SUCCESS status. */
-    public static Payment createSuccess(String paymentId, String orderId, BigDecimal amount) {
+    public static Payment createSuccess(String paymentId, String orderId, Money amount) {
         return create(paymentId, orderId, amount, PaymentStatus.SUCCESS);
     }
 
     /** Creates a payment with FAILED status. */
-    public static Payment createFailed(String paymentId, String orderId, BigDecimal amount) {
+    public static Payment createFailed(String paymentId, String orderId, Money amount) {
         return create(paymentId, orderId, amount, PaymentStatus.FAILED);
     }
 
-    private static Payment create(String paymentId, String orderId, BigDecimal amount, PaymentStatus status) {
+    private static Payment create(String paymentId, String orderId, Money amount, PaymentStatus status) {
         if (orderId == null || orderId.isEmpty()) {
             throw new IllegalArgumentException("Order ID cannot be null or empty");
         }
-        if (amount != null && amount.compareTo(BigDecimal.ZERO) < 0) {
+        if (amount != null && amount.isNegative()) {
             throw new IllegalArgumentException("Amount cannot be negative");
         }
         Payment payment = new Payment();
@@ -42,9 +41,17 @@ public class Payment {
         return payment;
     }
 
+    /** Transitions a successful payment to REFUNDED. */
+    public void refund() {
+        if (status != PaymentStatus.SUCCESS) {
+            throw new IllegalStateException("Cannot refund payment in status: " + status);
+        }
+        this.status = PaymentStatus.REFUNDED;
+    }
+
     /** Reconstitutes a payment from persisted state. */
     public static Payment reconstitute(Long id, String paymentId, String orderId,
-            BigDecimal amount, PaymentStatus status, LocalDateTime createdAt) {
+            Money amount, PaymentStatus status, LocalDateTime createdAt) {
         Payment payment = new Payment();
         payment.id = id;
         payment.paymentId = paymentId;
@@ -58,7 +65,7 @@ public class Payment {
     public Long getId() { return id; }
     public String getPaymentId() { return paymentId; }
     public String getOrderId() { return orderId; }
-    public BigDecimal getAmount() { return amount; }
+    public Money getAmount() { return amount; }
     public PaymentStatus getStatus() { return status; }
     public LocalDateTime getCreatedAt() { return createdAt; }
 }
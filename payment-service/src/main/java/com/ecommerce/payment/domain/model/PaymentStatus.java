@@ -1,8 +1,9 @@
 package com.ecommerce.payment.domain.model;
 
 /**
- * Represents the outcome of a payment: SUCCESS or FAILED.
+ * Represents the outcome of a payment: SUCCESS or FAILED, or REFUNDED once a successful payment
+ * has been paid back.
  */
 public enum PaymentStatus {
-    SUCCESS, FAILED
+    SUCCESS, FAILED, REFUNDED
 }
@@ -1,6 +1,7 @@
 package com.ecommerce.payment.domain.port;
 
 import com.ecommerce.payment.domain.model.Payment;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,4 +14,7 @@ public interface PaymentRepository {
 
     /** Finds a payment by its business payment ID. */
     Optional<Payment> findByPaymentId(String paymentId);
+
+    /** Finds all payments made for an order, oldest first. */
+    List<Payment> findByOrderId(String orderId);
 }
@@ -0,0 +1,14 @@
+package com.ecommerce.payment.domain.port;
+
+/**
+ * Domain port for the refund tombstones of orders. A tombstone is kept once a refund has been
+ * requested for an order, so a payment for that order that lands later is not kept.
+ */
+public interface RefundTombstoneRepository {
+
+    /** Records the tombstone of an order and commits it; recording it again has no effect. */
+    void record(String orderId);
+
+    /** Returns whether a refund has been requested for the order. */
+    boolean exists(String orderId);
+}
@@ -2,15 +2,20 @@ package com.ecommerce.payment.infrastructure.adapter.in.rest;
 
 import com.ecommerce.payment.application.dto.PaymentCommand;
 import com.ecommerce.payment.application.dto.PaymentResult;
+import com.ecommerce.payment.application.dto.RefundResult;
 import com.ecommerce.payment.application.port.in.ProcessPaymentPort;
+import com.ecommerce.payment.application.port.in.RefundPaymentPort;
 import com.ecommerce.payment.infrastructure.config.DelaySimulatorConfig;
 import com.ecommerce.payment.infrastructure.dto.PaymentRequest;
 import com.ecommerce.payment.infrastructure.dto.PaymentResponse;
+import com.ecommerce.payment.infrastructure.dto.RefundRequest;
+import com.ecommerce.payment.infrastructure.dto.RefundResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 /**
- * REST controller for payment processing. Exposes POST /api/payments.
+ * REST controller for payment processing. Exposes POST /api/payments and
+ * POST /api/payments/refunds.
  * Supports configurable delay simulation for timeout testing.
  */
 @RestController
@@ -18,11 +23,14 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final ProcessPaymentPort processPaymentPort;
+    private final RefundPaymentPort refundPaymentPort;
     private final DelaySimulatorConfig delayConfig;
 
     public PaymentController(ProcessPaymentPort processPaymentPort,
+                             RefundPaymentPort refundPaymentPort,
                              DelaySimulatorConfig delayConfig) {
         this.processPaymentPort = processPaymentPort;
+        this.refundPaymentPort = refundPaymentPort;
         this.delayConfig = delayConfig;
     }
 
@@ -34,4 +42,15 @@ public class PaymentController {
                 new PaymentCommand(request.getOrderId(), request.getAmount()));
         return ResponseEntity.ok(new PaymentResponse(result.getPaymentId(), result.getStatus()));
     }
+
+    /** Refunds every successful payment of an order; repeating the call refunds nothing more. */
+    @PostMapping("/refunds")
+    public ResponseEntity<RefundResponse> refundPayments(@RequestBody RefundRequest request) {
+        if (request.getOrderId() == null || request.getOrderId().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        RefundResult result = refundPaymentPort.refundPayments(request.getOrderId());
+        return ResponseEntity.ok(
+                new RefundResponse(result.getOrderId(), result.getRefundedPaymentIds()));
+    }
 }
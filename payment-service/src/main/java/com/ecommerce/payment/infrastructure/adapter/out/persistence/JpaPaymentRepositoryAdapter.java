@@ -5,7 +5,9 @@ import com.ecommerce.payment.domain.model.PaymentStatus;
 import com.ecommerce.payment.domain.port.PaymentRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class JpaPaymentRepositoryAdapter implements PaymentRepository {
@@ -28,6 +30,13 @@ public class JpaPaymentRepositoryAdapter implements PaymentRepository {
         return springDataRepo.findByPaymentId(paymentId).map(this::toDomain);
     }
 
+    @Override
+    public List<Payment> findByOrderId(String orderId) {
+        return springDataRepo.findByOrderIdOrderByIdAsc(orderId).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
     private PaymentJpaEntity toEntity(Payment payment) {
         PaymentJpaEntity entity = new PaymentJpaEntity();
         entity.setId(payment.getId());
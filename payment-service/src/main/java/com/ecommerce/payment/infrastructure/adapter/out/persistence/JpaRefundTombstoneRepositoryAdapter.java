@@ -0,0 +1,38 @@
+package com.ecommerce.payment.infrastructure.adapter.out.persistence;
+
+import com.ecommerce.payment.domain.port.RefundTombstoneRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class JpaRefundTombstoneRepositoryAdapter implements RefundTombstoneRepository {
+
+    private final SpringDataRefundTombstoneRepository springDataRepo;
+
+    public JpaRefundTombstoneRepositoryAdapter(SpringDataRefundTombstoneRepository springDataRepo) {
+        this.springDataRepo = springDataRepo;
+    }
+
+    /** {@inheritDoc} The insert runs in its own transaction; a duplicate means it is recorded. */
+    @Override
+    public void record(String orderId) {
+        if (springDataRepo.existsById(orderId)) {
+            return;
+        }
+        RefundTombstoneJpaEntity entity = new RefundTombstoneJpaEntity();
+        entity.setOrderId(orderId);
+        entity.setCreatedAt(LocalDateTime.now());
+        try {
+            springDataRepo.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            // Recorded by an earlier or concurrent refund of the same order
+        }
+    }
+
+    @Override
+    public boolean exists(String orderId) {
+        return springDataRepo.existsById(orderId);
+    }
+}
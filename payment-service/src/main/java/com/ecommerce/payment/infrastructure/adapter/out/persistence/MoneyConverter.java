@@ -0,0 +1,25 @@
+package com.ecommerce.payment.infrastructure.adapter.out.persistence;
+
+import com.ecommerce.payment.domain.model.Money;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.math.BigDecimal;
+
+/**
+ * Stores a {@link Money} in a DECIMAL column as its amount. The columns hold no currency, so
+ * amounts are read back in {@link Money#DEFAULT_CURRENCY}.
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
@@ -1,7 +1,8 @@
 package com.ecommerce.payment.infrastructure.adapter.out.persistence;
 
+import com.ecommerce.payment.domain.model.Money;
+
 import javax.persistence.*;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -9,7 +10,8 @@ import java.time.LocalDateTime;
 public class PaymentJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "payment_id", unique = true, nullable = false)
@@ -18,8 +20,9 @@ public class PaymentJpaEntity {
     @Column(name = "order_id", nullable = false)
     private String orderId;
 
-    @Column(nullable = false)
-    private BigDecimal amount;
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money amount;
 
     @Column(nullable = false)
     private String status;
@@ -33,8 +36,8 @@ public class PaymentJpaEntity {
     public void setPaymentId(String paymentId) { this.paymentId = paymentId; }
     public String getOrderId() { return orderId; }
     public void setOrderId(String orderId) { this.orderId = orderId; }
-    public BigDecimal getAmount() { return amount; }
-    public void setAmount(BigDecimal amount) { this.amount = amount; }
+    public Money getAmount() { return amount; }
+    public void setAmount(Money amount) { this.amount = amount; }
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
     public LocalDateTime getCreatedAt() { return createdAt; }
@@ -0,0 +1,30 @@
+package com.ecommerce.payment.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "refund_tombstones")
+public class RefundTombstoneJpaEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "order_id")
+    private String orderId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Tombstones are only ever inserted, so a duplicate order ID fails instead of being merged. */
+    @Override
+    public String getId() { return orderId; }
+
+    @Override
+    public boolean isNew() { return true; }
+
+    public String getOrderId() { return orderId; }
+    public void setOrderId(String orderId) { this.orderId = orderId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
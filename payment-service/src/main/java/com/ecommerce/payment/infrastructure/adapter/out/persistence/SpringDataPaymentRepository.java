@@ -1,8 +1,10 @@
 package com.ecommerce.payment.infrastructure.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataPaymentRepository extends JpaRepository<PaymentJpaEntity, Long> {
     Optional<PaymentJpaEntity> findByPaymentId(String paymentId);
+    List<PaymentJpaEntity> findByOrderIdOrderByIdAsc(String orderId);
 }
@@ -0,0 +1,7 @@
+package com.ecommerce.payment.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringDataRefundTombstoneRepository
+        extends JpaRepository<RefundTombstoneJpaEntity, String> {
+}
@@ -0,0 +1,9 @@
+package com.ecommerce.payment.infrastructure.dto;
+
+public class RefundRequest {
+    private String orderId;
+
+    public RefundRequest() {}
+    public String getOrderId() { return orderId; }
+    public void setOrderId(String orderId) { this.orderId = orderId; }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.payment.infrastructure.dto;
+
+import java.util.List;
+
+public class RefundResponse {
+    private String orderId;
+    private List<String> refundedPaymentIds;
+
+    public RefundResponse() {}
+    public RefundResponse(String orderId, List<String> refundedPaymentIds) {
+        this.orderId = orderId;
+        this.refundedPaymentIds = refundedPaymentIds;
+    }
+    public String getOrderId() { return orderId; }
+    public void setOrderId(String orderId) { this.orderId = orderId; }
+    public List<String> getRefundedPaymentIds() { return refundedPaymentIds; }
+    public void setRefundedPaymentIds(List<String> refundedPaymentIds) {
+        this.refundedPaymentIds = refundedPaymentIds;
+    }
+}
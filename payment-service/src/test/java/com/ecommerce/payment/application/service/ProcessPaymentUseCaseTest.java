@@ -3,9 +3,11 @@ package com.ecommerce.payment.application.service;
 import com.ecommerce.payment.application.dto.PaymentCommand;
 import com.ecommerce.payment.application.dto.PaymentResult;
 import com.ecommerce.payment.application.port.in.ProcessPaymentPort;
+import com.ecommerce.payment.domain.model.Money;
 import com.ecommerce.payment.domain.model.Payment;
 import com.ecommerce.payment.domain.model.PaymentStatus;
 import com.ecommerce.payment.domain.port.PaymentRepository;
+import com.ecommerce.payment.domain.port.RefundTombstoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,11 +27,15 @@ public class ProcessPaymentUseCaseTest {
     @Mock
     private PaymentRepository paymentRepository;
 
+    @Mock
+    private RefundTombstoneRepository refundTombstoneRepository;
+
     private ProcessPaymentPort processPaymentPort;
 
     @BeforeEach
     void setUp() {
-        processPaymentPort = new ProcessPaymentUseCase(paymentRepository);
+        processPaymentPort = new ProcessPaymentUseCase(paymentRepository,
+                refundTombstoneRepository);
     }
 
     @Test
@@ -62,7 +69,51 @@ public class ProcessPaymentUseCaseTest {
         verify(paymentRepository).save(captor.capture());
         Payment saved = captor.getValue();
         assertEquals("ORD-002", saved.getOrderId());
-        assertEquals(0, new BigDecimal("500.00").compareTo(saved.getAmount()));
+        assertEquals(Money.of(new BigDecimal("500.00")), saved.getAmount());
         assertEquals(PaymentStatus.SUCCESS, saved.getStatus());
     }
+
+    @Test
+    void should_keep_payment_failed_when_order_refund_already_requested() {
+        when(refundTombstoneRepository.exists("ORD-003")).thenReturn(true);
+        when(paymentRepository.save(any(Payment.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        PaymentResult result = processPaymentPort.processPayment(
+                new PaymentCommand("ORD-003", new BigDecimal("500.00")));
+
+        assertEquals("FAILED", result.getStatus());
+        verify(paymentRepository, times(1)).save(any(Payment.class));
+    }
+
+    @Test
+    void should_refund_payment_when_order_refund_requested_while_saving() {
+        when(refundTombstoneRepository.exists("ORD-004")).thenReturn(false, true);
+        when(paymentRepository.save(any(Payment.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(paymentRepository.findByPaymentId(anyString())).thenReturn(Optional.empty());
+
+        PaymentResult result = processPaymentPort.processPayment(
+                new PaymentCommand("ORD-004", new BigDecimal("500.00")));
+
+        assertEquals("REFUNDED", result.getStatus());
+        verify(paymentRepository, times(2)).save(any(Payment.class));
+    }
+
+    @Test
+    void should_not_refund_payment_again_when_concurrent_refund_already_did() {
+        Payment refunded = Payment.createSuccess("PAY-005", "ORD-005",
+                Money.of(new BigDecimal("500.00")));
+        refunded.refund();
+        when(refundTombstoneRepository.exists("ORD-005")).thenReturn(false, true);
+        when(paymentRepository.save(any(Payment.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(paymentRepository.findByPaymentId(anyString())).thenReturn(Optional.of(refunded));
+
+        PaymentResult result = processPaymentPort.processPayment(
+                new PaymentCommand("ORD-005", new BigDecimal("500.00")));
+
+        assertEquals("REFUNDED", result.getStatus());
+        verify(paymentRepository, times(1)).save(any(Payment.class));
+    }
 }
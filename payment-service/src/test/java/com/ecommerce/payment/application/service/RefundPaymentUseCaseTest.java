@@ -0,0 +1,76 @@
+package com.ecommerce.payment.application.service;
+
+import com.ecommerce.payment.application.dto.RefundResult;
+import com.ecommerce.payment.application.port.in.RefundPaymentPort;
+import com.ecommerce.payment.domain.model.Money;
+import com.ecommerce.payment.domain.model.Payment;
+import com.ecommerce.payment.domain.model.PaymentStatus;
+import com.ecommerce.payment.domain.port.PaymentRepository;
+import com.ecommerce.payment.domain.port.RefundTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefundPaymentUseCaseTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private RefundTombstoneRepository refundTombstoneRepository;
+
+    private RefundPaymentPort refundPaymentPort;
+
+    @BeforeEach
+    void setUp() {
+        refundPaymentPort = new RefundPaymentUseCase(paymentRepository, refundTombstoneRepository);
+    }
+
+    @Test
+    void should_refund_only_successful_payments() {
+        Payment success = Payment.createSuccess("PAY-001", "ORD-001",
+                Money.of(new BigDecimal("100.00")));
+        Payment failed = Payment.createFailed("PAY-002", "ORD-001",
+                Money.of(new BigDecimal("100.00")));
+        when(paymentRepository.findByOrderId("ORD-001")).thenReturn(Arrays.asList(success, failed));
+
+        RefundResult result = refundPaymentPort.refundPayments("ORD-001");
+
+        assertEquals(Collections.singletonList("PAY-001"), result.getRefundedPaymentIds());
+        assertEquals(PaymentStatus.REFUNDED, success.getStatus());
+        verify(paymentRepository).save(success);
+        verify(paymentRepository, never()).save(failed);
+    }
+
+    @Test
+    void should_refund_nothing_when_order_has_no_payment() {
+        when(paymentRepository.findByOrderId("ORD-404")).thenReturn(Collections.emptyList());
+
+        RefundResult result = refundPaymentPort.refundPayments("ORD-404");
+
+        assertTrue(result.getRefundedPaymentIds().isEmpty());
+        verify(paymentRepository, never()).save(any(Payment.class));
+    }
+
+    @Test
+    void should_record_tombstone_before_looking_for_payments() {
+        when(paymentRepository.findByOrderId("ORD-002")).thenReturn(Collections.emptyList());
+
+        refundPaymentPort.refundPayments("ORD-002");
+
+        InOrder inOrder = inOrder(refundTombstoneRepository, paymentRepository);
+        inOrder.verify(refundTombstoneRepository).record("ORD-002");
+        inOrder.verify(paymentRepository).findByOrderId("ORD-002");
+    }
+}
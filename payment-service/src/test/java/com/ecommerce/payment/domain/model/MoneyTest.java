@@ -0,0 +1,53 @@
+package com.ecommerce.payment.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTest {
+
+    @Test
+    void should_hold_amount_in_minor_units() {
+        Money money = Money.of(new BigDecimal("999.5"));
+
+        assertEquals(99950L, money.getMinorUnits());
+        assertEquals(Money.DEFAULT_CURRENCY, money.getCurrency());
+        assertEquals(new BigDecimal("999.50"), money.toBigDecimal());
+    }
+
+    @Test
+    void should_add_and_multiply_exactly() {
+        Money price = Money.of(new BigDecimal("29.90"));
+
+        assertEquals(Money.of(new BigDecimal("89.70")), price.times(3));
+        assertEquals(Money.of(new BigDecimal("59.80")), price.plus(price));
+    }
+
+    @Test
+    void should_throw_instead_of_overflowing() {
+        Money large = Money.ofMinor(Long.MAX_VALUE / 2 + 1, Money.DEFAULT_CURRENCY);
+
+        assertThrows(ArithmeticException.class, () -> large.plus(large));
+        assertThrows(ArithmeticException.class, () -> large.times(2));
+    }
+
+    @Test
+    void should_reject_amount_with_more_decimals_than_currency() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Money.of(new BigDecimal("10.005")));
+        assertThrows(IllegalArgumentException.class,
+                () -> Money.of(new BigDecimal("1E+30")));
+    }
+
+    @Test
+    void should_not_combine_different_currencies() {
+        Money twd = Money.of(new BigDecimal("10.00"));
+        Money usd = Money.of(new BigDecimal("10.00"), Currency.getInstance("USD"));
+
+        assertThrows(IllegalArgumentException.class, () -> twd.plus(usd));
+        assertNotEquals(twd, usd);
+    }
+}
@@ -27,6 +27,43 @@ public class PaymentControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("SUCCESS"));
     }
 
+    @Test
+    void should_refund_payments_of_order_once() throws Exception {
+        mockMvc.perform(post("/api/payments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderId\":\"ORD-REFUND\",\"amount\":100.00}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/payments/refunds")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderId\":\"ORD-REFUND\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").value("ORD-REFUND"))
+                .andExpect(jsonPath("$.refundedPaymentIds.length()").value(1));
+
+        // Repeating the refund is a no-op
+        mockMvc.perform(post("/api/payments/refunds")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderId\":\"ORD-REFUND\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refundedPaymentIds.length()").value(0));
+    }
+
+    @Test
+    void should_keep_payment_failed_when_it_arrives_after_refund() throws Exception {
+        mockMvc.perform(post("/api/payments/refunds")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderId\":\"ORD-LATE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refundedPaymentIds.length()").value(0));
+
+        mockMvc.perform(post("/api/payments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderId\":\"ORD-LATE\",\"amount\":100.00}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FAILED"));
+    }
+
     @Test
     void should_set_and_clear_delay_simulation() throws Exception {
         // Set delay to 5000ms
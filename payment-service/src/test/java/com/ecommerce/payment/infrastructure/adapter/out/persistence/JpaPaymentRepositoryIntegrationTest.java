@@ -1,5 +1,6 @@
 package com.ecommerce.payment.infrastructure.adapter.out.persistence;
 
+import com.ecommerce.payment.domain.model.Money;
 import com.ecommerce.payment.domain.model.Payment;
 import com.ecommerce.payment.domain.model.PaymentStatus;
 import com.ecommerce.payment.domain.port.PaymentRepository;
@@ -9,6 +10,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,7 +24,8 @@ public class JpaPaymentRepositoryIntegrationTest {
 
     @Test
     void should_save_and_find_payment() {
-        Payment payment = Payment.createSuccess("PAY-001", "ORD-001", new BigDecimal("1990.00"));
+        Payment payment = Payment.createSuccess("PAY-001", "ORD-001",
+                Money.of(new BigDecimal("1990.00")));
         Payment saved = paymentRepository.save(payment);
         assertNotNull(saved.getId());
 
@@ -38,4 +41,20 @@ public class JpaPaymentRepositoryIntegrationTest {
         Optional<Payment> found = paymentRepository.findByPaymentId("NONEXISTENT");
         assertFalse(found.isPresent());
     }
+
+    @Test
+    void should_find_payments_by_order_id() {
+        paymentRepository.save(Payment.createFailed("PAY-010", "ORD-010",
+                Money.of(new BigDecimal("10.00"))));
+        paymentRepository.save(Payment.createSuccess("PAY-011", "ORD-010",
+                Money.of(new BigDecimal("10.00"))));
+        paymentRepository.save(Payment.createSuccess("PAY-012", "ORD-011",
+                Money.of(new BigDecimal("10.00"))));
+
+        List<Payment> found = paymentRepository.findByOrderId("ORD-010");
+
+        assertEquals(2, found.size());
+        assertEquals("PAY-010", found.get(0).getPaymentId());
+        assertEquals("PAY-011", found.get(1).getPaymentId());
+    }
 }
@@ -0,0 +1,16 @@
+package com.ecommerce.product.application.dto;
+
+import java.util.List;
+
+public class ProductBatchResult {
+    private final List<ProductResult> products;
+    private final List<String> missingIds;
+
+    public ProductBatchResult(List<ProductResult> products, List<String> missingIds) {
+        this.products = products;
+        this.missingIds = missingIds;
+    }
+
+    public List<ProductResult> getProducts() { return products; }
+    public List<String> getMissingIds() { return missingIds; }
+}
@@ -1,6 +1,9 @@
 package com.ecommerce.product.application.port.in;
 
+import com.ecommerce.product.application.dto.ProductBatchResult;
 import com.ecommerce.product.application.dto.ProductResult;
+
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -15,4 +18,12 @@ public interface QueryProductPort {
      * @return product details if found, empty otherwise
      */
     Optional<ProductResult> queryProduct(String productId);
+
+    /**
+     * Queries several products at once.
+     *
+     * @param productIds the product identifiers; duplicates are ignored
+     * @return the products found, in request order, plus the IDs that do not exist
+     */
+    ProductBatchResult queryProducts(Collection<String> productIds);
 }
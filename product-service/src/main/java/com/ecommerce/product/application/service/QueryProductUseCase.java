@@ -1,11 +1,21 @@
 package com.ecommerce.product.application.service;
 
+import com.ecommerce.product.application.dto.ProductBatchResult;
 import com.ecommerce.product.application.dto.ProductResult;
+import com.ecommerce.product.application.mapper.ProductApplicationMapper;
 import com.ecommerce.product.application.port.in.QueryProductPort;
+import com.ecommerce.product.domain.model.Product;
 import com.ecommerce.product.domain.port.ProductRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Use case for querying product information from the repository.
@@ -30,4 +40,26 @@ public class QueryProductUseCase implements QueryProductPort {
                         product.isAvailable()
                 ));
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProductBatchResult queryProducts(Collection<String> productIds) {
+        Set<String> requestedIds = new LinkedHashSet<>(productIds);
+        Map<String, Product> found = new HashMap<>();
+        for (Product product : productRepository.findByProductIds(requestedIds)) {
+            found.put(product.getProductId(), product);
+        }
+
+        List<ProductResult> products = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String productId : requestedIds) {
+            Product product = found.get(productId);
+            if (product == null) {
+                missingIds.add(productId);
+            } else {
+                products.add(ProductApplicationMapper.toResult(product));
+            }
+        }
+        return new ProductBatchResult(products, missingIds);
+    }
 }
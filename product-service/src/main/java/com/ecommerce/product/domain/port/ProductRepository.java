@@ -1,6 +1,9 @@
 package com.ecommerce.product.domain.port;
 
 import com.ecommerce.product.domain.model.Product;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -10,4 +13,7 @@ public interface ProductRepository {
 
     /** Finds a product by its business product ID. */
     Optional<Product> findByProductId(String productId);
+
+    /** Finds all products whose business product ID is in the given collection, in one query. */
+    List<Product> findByProductIds(Collection<String> productIds);
 }
@@ -1,17 +1,26 @@
 package com.ecommerce.product.infrastructure.adapter.in.rest;
 
+import com.ecommerce.product.application.dto.ProductBatchResult;
 import com.ecommerce.product.application.port.in.QueryProductPort;
+import com.ecommerce.product.infrastructure.dto.ProductBatchResponse;
 import com.ecommerce.product.infrastructure.dto.ProductResponse;
+import com.ecommerce.product.infrastructure.mapper.ProductInfraMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
- * REST controller for product queries. Exposes GET /api/products/{productId}.
+ * REST controller for product queries. Exposes GET /api/products/{productId} and the
+ * multi-get GET /api/products?ids=P001,P002.
  */
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
 
+    static final int MAX_BATCH_SIZE = 100;
+
     private final QueryProductPort queryProductPort;
 
     public ProductController(QueryProductPort queryProductPort) {
@@ -30,4 +39,20 @@ public class ProductController {
                 )))
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Returns all requested products in one response, listing unknown IDs in missingIds.
+     * Returns 400 if more than {@value #MAX_BATCH_SIZE} IDs are requested.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<ProductBatchResponse> getProducts(@RequestParam("ids") List<String> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        ProductBatchResult result = queryProductPort.queryProducts(ids);
+        List<ProductResponse> products = result.getProducts().stream()
+                .map(ProductInfraMapper::toResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new ProductBatchResponse(products, result.getMissingIds()));
+    }
 }
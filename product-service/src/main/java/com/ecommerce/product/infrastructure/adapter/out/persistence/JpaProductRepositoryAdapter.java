@@ -4,7 +4,10 @@ import com.ecommerce.product.domain.model.Product;
 import com.ecommerce.product.domain.port.ProductRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class JpaProductRepositoryAdapter implements ProductRepository {
@@ -20,6 +23,13 @@ public class JpaProductRepositoryAdapter implements ProductRepository {
         return springDataRepo.findByProductId(productId).map(this::toDomain);
     }
 
+    @Override
+    public List<Product> findByProductIds(Collection<String> productIds) {
+        return springDataRepo.findByProductIdIn(productIds).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
     private Product toDomain(ProductJpaEntity entity) {
         return new Product(
                 entity.getId(),
@@ -1,8 +1,13 @@
 package com.ecommerce.product.infrastructure.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataProductRepository extends JpaRepository<ProductJpaEntity, Long> {
     Optional<ProductJpaEntity> findByProductId(String productId);
+
+    List<ProductJpaEntity> findByProductIdIn(Collection<String> productIds);
 }
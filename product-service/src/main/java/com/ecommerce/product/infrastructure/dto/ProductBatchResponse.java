@@ -0,0 +1,20 @@
+package com.ecommerce.product.infrastructure.dto;
+
+import java.util.List;
+
+public class ProductBatchResponse {
+    private List<ProductResponse> products;
+    private List<String> missingIds;
+
+    public ProductBatchResponse() {}
+
+    public ProductBatchResponse(List<ProductResponse> products, List<String> missingIds) {
+        this.products = products;
+        this.missingIds = missingIds;
+    }
+
+    public List<ProductResponse> getProducts() { return products; }
+    public void setProducts(List<ProductResponse> products) { this.products = products; }
+    public List<String> getMissingIds() { return missingIds; }
+    public void setMissingIds(List<String> missingIds) { this.missingIds = missingIds; }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.product.application.service;
 
+import com.ecommerce.product.application.dto.ProductBatchResult;
 import com.ecommerce.product.application.dto.ProductResult;
 import com.ecommerce.product.application.port.in.QueryProductPort;
 import com.ecommerce.product.domain.model.Product;
@@ -11,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,4 +53,20 @@ public class QueryProductUseCaseTest {
 
         assertFalse(result.isPresent());
     }
+
+    @Test
+    void should_return_found_products_in_request_order_and_report_missing_ids() {
+        Product p1 = new Product(1L, "P001", "無線藍牙耳機", new BigDecimal("995.00"), true);
+        Product p2 = new Product(2L, "P002", "USB-C 充電線", new BigDecimal("299.00"), true);
+        when(productRepository.findByProductIds(anyCollection())).thenReturn(Arrays.asList(p1, p2));
+
+        ProductBatchResult result = queryProductPort.queryProducts(
+                Arrays.asList("P002", "P999", "P001", "P002"));
+
+        assertEquals(2, result.getProducts().size());
+        assertEquals("P002", result.getProducts().get(0).getProductId());
+        assertEquals("P001", result.getProducts().get(1).getProductId());
+        assertEquals(Arrays.asList("P999"), result.getMissingIds());
+        verify(productRepository, times(1)).findByProductIds(anyCollection());
+    }
 }
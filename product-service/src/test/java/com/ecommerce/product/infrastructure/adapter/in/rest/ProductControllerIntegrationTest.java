@@ -31,4 +31,25 @@ public class ProductControllerIntegrationTest {
         mockMvc.perform(get("/api/products/P999"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void should_return_requested_products_and_missing_ids_in_one_call() throws Exception {
+        mockMvc.perform(get("/api/products").param("ids", "P002,P999,P001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products.length()").value(2))
+                .andExpect(jsonPath("$.products[0].productId").value("P002"))
+                .andExpect(jsonPath("$.products[0].price").value(299.00))
+                .andExpect(jsonPath("$.products[1].productId").value("P001"))
+                .andExpect(jsonPath("$.missingIds[0]").value("P999"));
+    }
+
+    @Test
+    void should_reject_batch_larger_than_limit() throws Exception {
+        StringBuilder ids = new StringBuilder("P0");
+        for (int i = 1; i <= ProductController.MAX_BATCH_SIZE; i++) {
+            ids.append(",P").append(i);
+        }
+        mockMvc.perform(get("/api/products").param("ids", ids.toString()))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -9,6 +9,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,4 +40,11 @@ public class JpaProductRepositoryIntegrationTest {
         Optional<Product> product = productRepository.findByProductId("P999");
         assertFalse(product.isPresent());
     }
+
+    @Test
+    void should_find_products_by_product_ids() {
+        List<Product> products = productRepository.findByProductIds(
+                Arrays.asList("P001", "P002", "P999"));
+        assertEquals(2, products.size());
+    }
 }
@@ -0,0 +1,26 @@
+#!/bin/bash
+# Run the order-service JMH benchmarks with the GC profiler and keep the results as JSON,
+# so time and allocation per operation can be compared between commits.
+#
+# Usage:
+#   ./scripts/jmh-benchmark.sh                          # all benchmarks
+#   ./scripts/jmh-benchmark.sh OrderMappingBenchmark    # benchmarks matching a regex
+#   RESULT_FILE=/tmp/before.json ./scripts/jmh-benchmark.sh
+#
+# Extra JMH options can be passed after the pattern, e.g. "-wi 1 -i 3".
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+PATTERN="${1:-.*}"
+shift || true
+RESULT_FILE="${RESULT_FILE:-$SCRIPT_DIR/../order-service/target/jmh-result.json}"
+
+echo "=== Order Service JMH Benchmarks ==="
+echo "Pattern: $PATTERN"
+echo "Result:  $RESULT_FILE"
+echo ""
+
+cd "$SCRIPT_DIR/../order-service"
+mvn -B -q -Pjmh test-compile exec:exec \
+    -Djmh.args="'$PATTERN' -prof gc -rf json -rff $RESULT_FILE $*"
@@ -0,0 +1,25 @@
+#!/bin/bash
+# Open-model load test of POST /api/orders: requests arrive on schedule whatever the response
+# times, and latencies are corrected for coordinated omission (see load-generator/).
+# Percentile tables go to stdout, full .hgrm distributions and a summary.csv line to load-results/.
+#
+# Usage:
+#   ./scripts/load-test.sh [--option=value ...]      # options: ./scripts/load-test.sh --help
+#
+# Agent vs no-agent, same load:
+#   docker-compose up -d
+#   ./scripts/load-test.sh --profile=ramp:10-300/120s --duration=120s --label=agent
+#   docker-compose down && docker-compose -f docker-compose.no-agent.yml up -d
+#   ./scripts/load-test.sh --profile=ramp:10-300/120s --duration=120s --label=no-agent
+#   column -s, -t load-results/summary.csv
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+JAR="$SCRIPT_DIR/../load-generator/target/load-generator.jar"
+
+if [ ! -f "$JAR" ]; then
+    (cd "$SCRIPT_DIR/../load-generator" && mvn -B -q package -DskipTests)
+fi
+
+exec java -jar "$JAR" "$@"
@@ -103,7 +103,7 @@ phase_outage() {
   fi
 
   echo ""
-  print_info "Sending requests during outage (expect failures)..."
+  print_info "Sending requests during outage (expect failures, or success from order-service's product cache)..."
 
   local fail_count=0
   for i in 1 2 3; do
@@ -116,7 +116,7 @@ phase_outage() {
       print_pass "Outage request #${i} — HTTP ${http_code} (expected failure)"
       fail_count=$((fail_count + 1))
     elif [ "${http_code}" = "200" ] || [ "${http_code}" = "201" ]; then
-      print_warn "Outage request #${i} — HTTP ${http_code} (unexpected success — cached or delayed?)"
+      print_pass "Outage request #${i} — HTTP ${http_code} (served from product cache — stale-if-error)"
     else
       print_pass "Outage request #${i} — HTTP ${http_code} (error response)"
       fail_count=$((fail_count + 1))